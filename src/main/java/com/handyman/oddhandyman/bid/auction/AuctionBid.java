@@ -0,0 +1,98 @@
+package com.handyman.oddhandyman.bid.auction;
+
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.task.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * A pending bid as held in an {@link OrderBook}, together with the auction terms of its task.
+ * <p>
+ * Also used as the projection loaded from the database when the {@link AuctionEngine} is bootstrapped.
+ * Ordered by amount, then time placed, then bid ID, so the first bid is the best one of a reverse auction.
+ */
+public class AuctionBid implements Comparable<AuctionBid> {
+
+    private static final Comparator<AuctionBid> ORDER = Comparator.comparing(AuctionBid::getAmount)
+            .thenComparing(AuctionBid::getPlacedAt)
+            .thenComparing(AuctionBid::getBidId);
+
+    private final Long bidId;
+    private final Long taskId;
+    private final Long handymanId;
+    private final Double amount;
+    private final LocalDateTime placedAt;
+    private final LocalDateTime sealedUntil;
+    private final Double autoAcceptAmount;
+
+    public AuctionBid(Long bidId, Long taskId, Long handymanId, Double amount, LocalDateTime placedAt,
+                      LocalDateTime sealedUntil, Double autoAcceptAmount) {
+        this.bidId = bidId;
+        this.taskId = taskId;
+        this.handymanId = handymanId;
+        this.amount = amount;
+        this.placedAt = placedAt;
+        this.sealedUntil = sealedUntil;
+        this.autoAcceptAmount = autoAcceptAmount;
+    }
+
+    /**
+     * Takes a snapshot of a bid and the auction terms of its task.
+     * <p>
+     * Must be called while the bid's task and handyman can still be initialised.
+     *
+     * @param bid the saved bid
+     * @return the snapshot
+     */
+    public static AuctionBid from(Bid bid) {
+        Task task = bid.getTask();
+        return new AuctionBid(bid.getId(), task.getId(), bid.getHandyman() == null ? null : bid.getHandyman().getId(),
+                bid.getAmount(), bid.getCreatedAt(), task.getSealedUntil(), task.getAutoAcceptAmount());
+    }
+
+    public Long getBidId() {
+        return bidId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getHandymanId() {
+        return handymanId;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getPlacedAt() {
+        return placedAt;
+    }
+
+    public LocalDateTime getSealedUntil() {
+        return sealedUntil;
+    }
+
+    public Double getAutoAcceptAmount() {
+        return autoAcceptAmount;
+    }
+
+    @Override
+    public int compareTo(AuctionBid other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AuctionBid other)) return false;
+        return bidId.equals(other.bidId);
+    }
+
+    @Override
+    public int hashCode() {
+        return bidId.hashCode();
+    }
+}
@@ -0,0 +1,250 @@
+package com.handyman.oddhandyman.bid.auction;
+
+import com.handyman.oddhandyman.bid.dto.BestBidResponse;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.event.BidPlacedEvent;
+import com.handyman.oddhandyman.bid.event.BidsExpiredEvent;
+import com.handyman.oddhandyman.bid.event.BidsRejectedEvent;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.bid.service.BidService;
+import com.handyman.oddhandyman.exception.BidNotFoundException;
+import com.handyman.oddhandyman.exception.BidUnacceptableException;
+import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.TaskStateConflictException;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskBidsChangedEvent;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse auction over the pending bids of open tasks.
+ * <p>
+ * Each PENDING task with pending bids has an in-memory {@link OrderBook}, so the current best
+ * (lowest) bid of even a busy task is read without scanning its bids. The database stays the
+ * source of truth: bids are written by {@link BidService} as before, and the books are loaded once
+ * the application is ready and then maintained from committed {@link BidPlacedEvent}s,
+ * {@link BidsRejectedEvent}s, {@link BidsExpiredEvent}s and {@link TaskStatusChangedEvent}s, like the
+ * other in-memory indexes.
+ * <p>
+ * A customer may seal bidding until a given time, during which the best bid is not shown, and may
+ * set an amount at or below which the best bid is accepted automatically. Every
+ * {@code bids.auction.poll-interval-ms} the books that need attention are settled: books whose
+ * sealed window has closed publish a {@link TaskBidsChangedEvent} so cached task listings show the
+ * amounts again, and books whose best bid meets the threshold have it accepted through
+ * {@link BidService#acceptBid}, which re-checks everything in its own transaction.
+ * <p>
+ * Metrics: {@code bids.auction.books} (order books held) and {@code bids.auction.auto_accepted}
+ * (bids accepted automatically).
+ */
+@Component
+public class AuctionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionEngine.class);
+
+    private final BidRepository bidRepository;
+    private final TaskRepository taskRepository;
+    private final BidService bidService;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter autoAccepted;
+
+    /** Task ID to its order book */
+    private final Map<Long, OrderBook> books = new ConcurrentHashMap<>();
+
+    /** Tasks the next settlement must look at: sealed books, and books whose best bid meets the threshold */
+    private final Set<Long> watched = ConcurrentHashMap.newKeySet();
+
+    public AuctionEngine(BidRepository bidRepository,
+                         TaskRepository taskRepository,
+                         BidService bidService,
+                         Clock clock,
+                         ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry) {
+        this.bidRepository = bidRepository;
+        this.taskRepository = taskRepository;
+        this.bidService = bidService;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+        this.autoAccepted = Counter.builder("bids.auction.auto_accepted")
+                .description("Bids accepted automatically because they met the customer's threshold")
+                .register(meterRegistry);
+        Gauge.builder("bids.auction.books", books, Map::size)
+                .description("Number of task order books held by the auction engine")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the pending bids of all PENDING tasks once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        bidRepository.findAuctionBids(BidStatus.PENDING, TaskStatus.PENDING).forEach(this::add);
+    }
+
+    /**
+     * Adds a committed bid to its task's order book.
+     *
+     * @param event the placed bid
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        add(event.getBid());
+    }
+
+    /**
+     * Removes committed rejections from the task's order book.
+     *
+     * @param event the rejected bids
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidsRejected(BidsRejectedEvent event) {
+        OrderBook book = books.get(event.getTaskId());
+        if (book != null) {
+            event.getBidIds().forEach(book::remove);
+        }
+    }
+
+    /**
+     * Removes committed expiries from the task's order book.
+     *
+     * @param event the expired bids
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidsExpired(BidsExpiredEvent event) {
+        OrderBook book = books.get(event.getTaskId());
+        if (book != null) {
+            event.getBidIds().forEach(book::remove);
+        }
+    }
+
+    /**
+     * Drops the order book of a task that is no longer open.
+     *
+     * @param event the committed status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        if (event.getStatus() != TaskStatus.PENDING) {
+            Long taskId = event.getTask().getId();
+            books.remove(taskId);
+            watched.remove(taskId);
+        }
+    }
+
+    /**
+     * Adds a bid to its task's order book, creating the book with the task's auction terms if needed.
+     *
+     * @param bid the pending bid
+     */
+    public void add(AuctionBid bid) {
+        OrderBook book = books.computeIfAbsent(bid.getTaskId(),
+                id -> new OrderBook(id, bid.getSealedUntil(), bid.getAutoAcceptAmount()));
+        book.add(bid);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (book.isSealed(now) || book.autoAcceptable(now) != null) {
+            watched.add(book.getTaskId());
+        }
+    }
+
+    /**
+     * Returns the best pending bid on a task, without it while bidding is sealed.
+     *
+     * @param taskId the task ID
+     * @return the {@link BestBidResponse} of the task
+     * @throws TaskNotFoundException if the task is not live
+     */
+    public BestBidResponse getBestBid(Long taskId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        OrderBook book = books.get(taskId);
+        if (book != null) {
+            synchronized (book) {
+                return BestBidResponse.of(taskId, book.size(), book.getSealedUntil(), book.best(), now);
+            }
+        }
+
+        // Without a book the task has no pending bids, but it may not exist at all
+        return taskRepository.findById(taskId)
+                .map(task -> BestBidResponse.of(taskId, 0, task.getSealedUntil(), null, now))
+                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
+    }
+
+    /**
+     * @return the number of order books held
+     */
+    public int size() {
+        return books.size();
+    }
+
+    /**
+     * Settles every watched order book: announces sealed windows that have closed and accepts bids
+     * that meet their task's threshold.
+     *
+     * @return the number of bids accepted
+     */
+    @Scheduled(fixedDelayString = "${bids.auction.poll-interval-ms:1000}",
+            initialDelayString = "${bids.auction.poll-interval-ms:1000}")
+    public int settle() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int accepted = 0;
+
+        for (Long taskId : watched) {
+            OrderBook book = books.get(taskId);
+            if (book == null) {
+                watched.remove(taskId);
+                continue;
+            }
+            if (book.isSealed(now)) {
+                continue;
+            }
+
+            watched.remove(taskId);
+            if (book.getSealedUntil() != null) {
+                eventPublisher.publishEvent(new TaskBidsChangedEvent(taskId));
+            }
+            AuctionBid best = book.autoAcceptable(now);
+            if (best != null && accept(book, best)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    private boolean accept(OrderBook book, AuctionBid best) {
+        try {
+            bidService.acceptBid(best.getBidId());
+            autoAccepted.increment();
+            return true;
+        } catch (BidNotFoundException | BidUnacceptableException ex) {
+            // The bid was decided or expired meanwhile; the next best one is looked at on the next run
+            book.remove(best.getBidId());
+            if (book.autoAcceptable(LocalDateTime.now(clock)) != null) {
+                watched.add(book.getTaskId());
+            }
+        } catch (TaskStateConflictException ex) {
+            // The task is no longer open, so none of its bids can be accepted
+            books.remove(book.getTaskId(), book);
+        } catch (RuntimeException ex) {
+            log.warn("Auto-accepting bid {} failed, retrying on the next run", best.getBidId(), ex);
+            watched.add(book.getTaskId());
+        }
+        return false;
+    }
+}
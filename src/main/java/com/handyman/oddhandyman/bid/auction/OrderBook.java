@@ -0,0 +1,110 @@
+package com.handyman.oddhandyman.bid.auction;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The pending bids of one task, cheapest first, with the auction terms the customer set for it.
+ * <p>
+ * Bids are kept in a sorted set, so adding or removing a bid and reading the best one take
+ * O(log n) however many bids the task has. All methods are synchronized on the book.
+ */
+public class OrderBook {
+
+    private final Long taskId;
+    private final LocalDateTime sealedUntil;
+    private final Double autoAcceptAmount;
+
+    private final TreeSet<AuctionBid> bids = new TreeSet<>();
+
+    /** Bid ID to its entry in the sorted set, used to remove it */
+    private final Map<Long, AuctionBid> byId = new HashMap<>();
+
+    /**
+     * @param taskId           the task ID
+     * @param sealedUntil      time until which bid amounts are hidden, or {@code null} for open bidding
+     * @param autoAcceptAmount amount at or below which the best bid is accepted automatically, or {@code null}
+     */
+    public OrderBook(Long taskId, LocalDateTime sealedUntil, Double autoAcceptAmount) {
+        this.taskId = taskId;
+        this.sealedUntil = sealedUntil;
+        this.autoAcceptAmount = autoAcceptAmount;
+    }
+
+    /**
+     * Adds a bid, replacing any previous entry for the same bid ID.
+     *
+     * @param bid the pending bid
+     */
+    public synchronized void add(AuctionBid bid) {
+        AuctionBid previous = byId.put(bid.getBidId(), bid);
+        if (previous != null) {
+            bids.remove(previous);
+        }
+        bids.add(bid);
+    }
+
+    /**
+     * Removes a bid. Unknown IDs are ignored.
+     *
+     * @param bidId the bid ID
+     * @return {@code true} if the bid was in the book
+     */
+    public synchronized boolean remove(Long bidId) {
+        AuctionBid previous = byId.remove(bidId);
+        if (previous == null) {
+            return false;
+        }
+        bids.remove(previous);
+        return true;
+    }
+
+    /**
+     * @return the lowest bid, earliest first among equal amounts, or {@code null} if the book is empty
+     */
+    public synchronized AuctionBid best() {
+        return bids.isEmpty() ? null : bids.first();
+    }
+
+    /**
+     * @return the number of bids in the book
+     */
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    /**
+     * @param now the current time
+     * @return {@code true} while bid amounts are hidden
+     */
+    public boolean isSealed(LocalDateTime now) {
+        return sealedUntil != null && sealedUntil.isAfter(now);
+    }
+
+    /**
+     * @param now the current time
+     * @return the bid to accept automatically, or {@code null} if bidding is sealed, no threshold is set
+     *         or the best bid is above it
+     */
+    public synchronized AuctionBid autoAcceptable(LocalDateTime now) {
+        AuctionBid best = best();
+        if (autoAcceptAmount == null || best == null || isSealed(now) || best.getAmount() > autoAcceptAmount) {
+            return null;
+        }
+        return best;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDateTime getSealedUntil() {
+        return sealedUntil;
+    }
+
+    public Double getAutoAcceptAmount() {
+        return autoAcceptAmount;
+    }
+}
@@ -1,8 +1,18 @@
 package com.handyman.oddhandyman.bid.controller;
 
+import com.handyman.oddhandyman.bid.auction.AuctionEngine;
+import com.handyman.oddhandyman.bid.dto.BestBidResponse;
 import com.handyman.oddhandyman.bid.dto.BidRequest;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.BidSortOrder;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.ratelimit.BidRateLimiter;
 import com.handyman.oddhandyman.bid.service.BidService;
+import com.handyman.oddhandyman.common.etag.ETags;
+import com.handyman.oddhandyman.common.idempotency.IdempotentRequests;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -10,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,28 +35,96 @@ import java.util.List;
 public class BidController {
 
     private final BidService bidService;
+    private final BidRateLimiter bidRateLimiter;
+    private final AuctionEngine auctionEngine;
+    private final IdempotentRequests idempotentRequests;
 
-    public BidController(BidService bidService) {
+    public BidController(BidService bidService, BidRateLimiter bidRateLimiter, AuctionEngine auctionEngine,
+                         IdempotentRequests idempotentRequests) {
         this.bidService = bidService;
+        this.bidRateLimiter = bidRateLimiter;
+        this.auctionEngine = auctionEngine;
+        this.idempotentRequests = idempotentRequests;
     }
 
     @Operation(summary = "Place a bid on a task",
-            description = "Authenticated handyman can place a bid on a given task. The bid is created with status PENDING.",
+            description = "Authenticated handyman can place a bid on a given task. The bid is created with status PENDING. "
+                    + "Bids are rate limited per handyman and per task; over the limit the response is "
+                    + "429 Too Many Requests with a Retry-After header. Send an Idempotency-Key header to retry "
+                    + "safely: a repeated key returns the first response without placing another bid.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @PostMapping
     public ResponseEntity<Bid> placeBid(@Valid @RequestBody BidRequest req,
+                                        @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey,
                                         @AuthenticationPrincipal UserDetails user) {
-        return ResponseEntity.ok(bidService.placeBid(req, user.getUsername()));
+        // Throttled before any database work; only replays known in memory skip it, as they place no bid
+        if (!idempotentRequests.isKnownReplay("bids", user.getUsername(), idempotencyKey)) {
+            bidRateLimiter.admit(user.getUsername(), req.getTaskId());
+        }
+        return ResponseEntity.ok(idempotentRequests.execute("bids", user.getUsername(), idempotencyKey, req, Bid.class,
+                () -> bidService.placeBid(req, user.getUsername())));
+    }
+
+    @Operation(summary = "List my bids",
+            description = "Returns a page of the authenticated handyman's bids, most recently placed first, each with "
+                    + "the title and status of its task. Pass nextCursor back as cursor to get the following page.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/me")
+    public ResponseEntity<CursorPage<HandymanBidResponse>> getMyBids(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails user) {
+        return ResponseEntity.ok(bidService.getHandymanBids(user.getUsername(), cursor, size));
     }
 
     @Operation(summary = "List bids for a task",
-            description = "Returns all bids placed on the specified task. Authentication required.",
+            description = "Returns all bids placed on the specified task. While bidding is sealed the amounts are "
+                    + "left out for everyone but the task's customer. Authentication required. "
+                    + "Responses carry an ETag; send it back in If-None-Match to receive 304 Not Modified "
+                    + "while neither the task nor its bids have changed.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<Bid>> listBids(@PathVariable Long taskId) {
-        return ResponseEntity.ok(bidService.listBidsForTask(taskId));
+    public ResponseEntity<List<Bid>> listBids(@PathVariable Long taskId, WebRequest request,
+                                              @AuthenticationPrincipal UserDetails user) {
+        // A sealed listing has its own ETag, so it is not revalidated once the amounts are shown
+        String name = bidService.hidesBidAmounts(taskId, user.getUsername()) ? "sealed-bids" : "bids";
+        String etag = bidService.getBidListVersion(taskId).toETag(name, taskId);
+        if (request.checkNotModified(etag)) {
+            return ETags.notModified(etag);
+        }
+        return ETags.ok(etag, bidService.listBidsForTask(taskId, user.getUsername()));
+    }
+
+    @Operation(summary = "List bids for a task, one page at a time",
+            description = "Returns a page of the task's bids in the given status (PENDING by default), ordered by "
+                    + "LOWEST_AMOUNT (default), HIGHEST_AMOUNT or NEWEST. Pass nextCursor back as cursor to get the "
+                    + "following page. While bidding is sealed, everyone but the task's customer receives the bids "
+                    + "without amounts and must order by NEWEST. Authentication required.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/task/{taskId}/page")
+    public ResponseEntity<CursorPage<BidResponse>> getBidPage(
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "PENDING") BidStatus status,
+            @RequestParam(defaultValue = "LOWEST_AMOUNT") BidSortOrder sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails user) {
+        return ResponseEntity.ok(bidService.getBidPage(taskId, status, sort, cursor, size, user.getUsername()));
+    }
+
+    @Operation(summary = "Get the best bid on a task",
+            description = "Returns the lowest pending bid on the task and the number of pending bids, read from the "
+                    + "task's in-memory order book. While bidding is sealed only the number of bids is returned. "
+                    + "Authentication required.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/task/{taskId}/best")
+    public ResponseEntity<BestBidResponse> getBestBid(@PathVariable Long taskId) {
+        return ResponseEntity.ok(auctionEngine.getBestBid(taskId));
     }
 
     @Operation(summary = "Accept a bid",
@@ -58,7 +137,8 @@ public class BidController {
     }
 
     @Operation(summary = "Reject a bid",
-            description = "Rejects a specific bid. Only authenticated users can perform this action.",
+            description = "Rejects a specific pending bid; a bid that is no longer pending is a conflict. "
+                    + "Only authenticated users can perform this action.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @PutMapping("/{bidId}/reject")
@@ -0,0 +1,132 @@
+package com.handyman.oddhandyman.bid.dto;
+
+import com.handyman.oddhandyman.bid.auction.AuctionBid;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object representing the current best (lowest) pending bid on a task.
+ * <p>
+ * While bidding on the task is sealed only the number of bids is shown; the best bid is left out.
+ */
+@Schema(description = "Response payload representing the best pending bid on a task")
+public class BestBidResponse {
+
+    @Schema(description = "ID of the task", example = "7")
+    private Long taskId;
+
+    @Schema(description = "Number of pending bids on the task", example = "3")
+    private int bidCount;
+
+    @Schema(description = "Whether bid amounts are currently hidden", example = "false")
+    private boolean sealed;
+
+    @Schema(description = "Time until which bid amounts are hidden, if bidding is sealed", example = "2026-02-12T17:00:00")
+    private LocalDateTime sealedUntil;
+
+    @Schema(description = "ID of the best bid; null without bids or while sealed", example = "42")
+    private Long bidId;
+
+    @Schema(description = "ID of the handyman who placed the best bid; null without bids or while sealed", example = "5")
+    private Long handymanId;
+
+    @Schema(description = "Amount of the best bid; null without bids or while sealed", example = "250.0")
+    private Double amount;
+
+    @Schema(description = "Timestamp when the best bid was placed; null without bids or while sealed",
+            example = "2026-02-10T14:30:00")
+    private LocalDateTime placedAt;
+
+    public BestBidResponse() {}
+
+    /**
+     * Builds the response for a task.
+     *
+     * @param taskId      the task ID
+     * @param bidCount    number of pending bids
+     * @param sealedUntil time until which bid amounts are hidden, or {@code null}
+     * @param best        the best pending bid, or {@code null} without bids
+     * @param now         the current time
+     * @return the response, without the best bid while sealed
+     */
+    public static BestBidResponse of(Long taskId, int bidCount, LocalDateTime sealedUntil, AuctionBid best,
+                                     LocalDateTime now) {
+        BestBidResponse response = new BestBidResponse();
+        response.taskId = taskId;
+        response.bidCount = bidCount;
+        response.sealedUntil = sealedUntil;
+        response.sealed = sealedUntil != null && sealedUntil.isAfter(now);
+        if (best != null && !response.sealed) {
+            response.bidId = best.getBidId();
+            response.handymanId = best.getHandymanId();
+            response.amount = best.getAmount();
+            response.placedAt = best.getPlacedAt();
+        }
+        return response;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    public void setBidCount(int bidCount) {
+        this.bidCount = bidCount;
+    }
+
+    public boolean isSealed() {
+        return sealed;
+    }
+
+    public void setSealed(boolean sealed) {
+        this.sealed = sealed;
+    }
+
+    public LocalDateTime getSealedUntil() {
+        return sealedUntil;
+    }
+
+    public void setSealedUntil(LocalDateTime sealedUntil) {
+        this.sealedUntil = sealedUntil;
+    }
+
+    public Long getBidId() {
+        return bidId;
+    }
+
+    public void setBidId(Long bidId) {
+        this.bidId = bidId;
+    }
+
+    public Long getHandymanId() {
+        return handymanId;
+    }
+
+    public void setHandymanId(Long handymanId) {
+        this.handymanId = handymanId;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public LocalDateTime getPlacedAt() {
+        return placedAt;
+    }
+
+    public void setPlacedAt(LocalDateTime placedAt) {
+        this.placedAt = placedAt;
+    }
+}
@@ -1,10 +1,13 @@
 package com.handyman.oddhandyman.bid.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.LocalDateTime;
+
 /**
  * DTO representing a request to place or update a bid for a specific task.
  * <p>
@@ -31,6 +34,14 @@ public class BidRequest {
     )
     private Double amount;
 
+    @Future
+    @Schema(
+            description = "Time until which the bid stands; it expires if still pending by then. "
+                    + "Omit, or give a later time, to keep it until the task deadline",
+            example = "2026-02-12T17:00:00"
+    )
+    private LocalDateTime expiresAt;
+
     public Long getTaskId() {
         return taskId;
     }
@@ -46,4 +57,12 @@ public class BidRequest {
     public void setAmount(Double amount) {
         this.amount = amount;
     }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
 }
@@ -1,16 +1,19 @@
 package com.handyman.oddhandyman.bid.dto;
 
-import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.auth.dto.UserResponse;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
-import com.handyman.oddhandyman.task.entity.Task;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
 
+/**
+ * Data Transfer Object representing a bid in listings.
+ * <p>
+ * Carries the task only by ID and the bidding handyman's public columns, so a page of bids is
+ * read with one joined query instead of loading the task and user entities.
+ */
 @Schema(
-        description = "Response returned after successfully placing a bid"
+        description = "Response payload representing a bid, with the task ID and the bidding handyman"
 )
 public class BidResponse {
     @Schema(
@@ -25,12 +28,38 @@ public class BidResponse {
     )
     private Double amount;
 
+    @Schema(description = "ID of the task the bid was placed on", example = "7")
+    private Long taskId;
 
-    private Task task;
-    private User handyman;
+    @Schema(description = "Handyman who placed the bid")
+    private UserResponse handyman;
+
+    @Schema(description = "Current status of the bid", example = "PENDING")
     private BidStatus status;
+
+    @Schema(description = "Timestamp when the bid was created", example = "2026-02-10T14:30:00")
     private LocalDateTime createdAt;
 
+    public BidResponse() {}
+
+    /**
+     * Projection constructor used by JPQL {@code select new} queries in the bid repository.
+     */
+    public BidResponse(Long id, Double amount, Long taskId, Long handymanId, String handymanName,
+                       String handymanEmail, BidStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.amount = amount;
+        this.taskId = taskId;
+        this.status = status;
+        this.createdAt = createdAt;
+        if (handymanId != null) {
+            this.handyman = new UserResponse();
+            this.handyman.setId(handymanId);
+            this.handyman.setName(handymanName);
+            this.handyman.setEmail(handymanEmail);
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -47,19 +76,19 @@ public class BidResponse {
         this.amount = amount;
     }
 
-    public Task getTask() {
-        return task;
+    public Long getTaskId() {
+        return taskId;
     }
 
-    public void setTask(Task task) {
-        this.task = task;
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
     }
 
-    public User getHandyman() {
+    public UserResponse getHandyman() {
         return handyman;
     }
 
-    public void setHandyman(User handyman) {
+    public void setHandyman(UserResponse handyman) {
         this.handyman = handyman;
     }
 
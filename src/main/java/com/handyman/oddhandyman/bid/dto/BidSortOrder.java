@@ -0,0 +1,16 @@
+package com.handyman.oddhandyman.bid.dto;
+
+/**
+ * Orderings supported by the cursor-paginated bid listing.
+ * <p>
+ *  <ul>
+ *   <li>{@link #LOWEST_AMOUNT} - LOWEST_AMOUNT: Cheapest bids first (keyset on amount, then bid ID).
+ *   <li>{@link #HIGHEST_AMOUNT} - HIGHEST_AMOUNT: Most expensive bids first (keyset on amount, then bid ID).
+ *   <li>{@link #NEWEST} - NEWEST: Most recently placed bids first (keyset on creation time, then bid ID).
+ * </ul>
+ */
+public enum BidSortOrder {
+    LOWEST_AMOUNT,
+    HIGHEST_AMOUNT,
+    NEWEST
+}
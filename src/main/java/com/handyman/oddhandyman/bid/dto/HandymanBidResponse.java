@@ -0,0 +1,110 @@
+package com.handyman.oddhandyman.bid.dto;
+
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object representing a bid in a handyman's own bid history.
+ * <p>
+ * Carries the task's ID, title and status next to the bid, read with one joined query, so the
+ * history is listed without loading the task or user entities.
+ */
+@Schema(description = "Response payload representing one of the handyman's bids, with the task it was placed on")
+public class HandymanBidResponse {
+
+    @Schema(description = "Unique identifier of the bid", example = "1")
+    private Long id;
+
+    @Schema(description = "The monetary amount that was bid", example = "10.00")
+    private Double amount;
+
+    @Schema(description = "Current status of the bid", example = "PENDING")
+    private BidStatus status;
+
+    @Schema(description = "Timestamp when the bid was created", example = "2026-02-10T14:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "ID of the task the bid was placed on", example = "7")
+    private Long taskId;
+
+    @Schema(description = "Title of the task the bid was placed on", example = "Fix leaking faucet")
+    private String taskTitle;
+
+    @Schema(description = "Current status of the task the bid was placed on", example = "PENDING")
+    private TaskStatus taskStatus;
+
+    public HandymanBidResponse() {}
+
+    /**
+     * Projection constructor used by JPQL {@code select new} queries in the bid repository.
+     */
+    public HandymanBidResponse(Long id, Double amount, BidStatus status, LocalDateTime createdAt,
+                               Long taskId, String taskTitle, TaskStatus taskStatus) {
+        this.id = id;
+        this.amount = amount;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.taskId = taskId;
+        this.taskTitle = taskTitle;
+        this.taskStatus = taskStatus;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public BidStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BidStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public void setTaskTitle(String taskTitle) {
+        this.taskTitle = taskTitle;
+    }
+
+    public TaskStatus getTaskStatus() {
+        return taskStatus;
+    }
+
+    public void setTaskStatus(TaskStatus taskStatus) {
+        this.taskStatus = taskStatus;
+    }
+}
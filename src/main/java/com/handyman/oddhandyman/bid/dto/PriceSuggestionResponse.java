@@ -0,0 +1,79 @@
+package com.handyman.oddhandyman.bid.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object representing a suggested budget for a new task.
+ * <p>
+ * The percentiles are those of the bids accepted on similar tasks. Without enough accepted bids the
+ * scope and percentiles are {@code null}.
+ */
+@Schema(description = "Response payload representing the prices accepted on similar tasks")
+public class PriceSuggestionResponse {
+
+    @Schema(description = "Which tasks the suggestion is drawn from; null without enough accepted bids",
+            example = "CATEGORY_REGION")
+    private PriceSuggestionScope scope;
+
+    @Schema(description = "Number of accepted bids the suggestion is drawn from", example = "48")
+    private long sampleCount;
+
+    @Schema(description = "25th percentile of the accepted amounts", example = "120.0")
+    private Double p25;
+
+    @Schema(description = "Median of the accepted amounts", example = "180.0")
+    private Double p50;
+
+    @Schema(description = "90th percentile of the accepted amounts", example = "320.0")
+    private Double p90;
+
+    public PriceSuggestionResponse() {}
+
+    public PriceSuggestionResponse(PriceSuggestionScope scope, long sampleCount, Double p25, Double p50, Double p90) {
+        this.scope = scope;
+        this.sampleCount = sampleCount;
+        this.p25 = p25;
+        this.p50 = p50;
+        this.p90 = p90;
+    }
+
+    public PriceSuggestionScope getScope() {
+        return scope;
+    }
+
+    public void setScope(PriceSuggestionScope scope) {
+        this.scope = scope;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(long sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public Double getP25() {
+        return p25;
+    }
+
+    public void setP25(Double p25) {
+        this.p25 = p25;
+    }
+
+    public Double getP50() {
+        return p50;
+    }
+
+    public void setP50(Double p50) {
+        this.p50 = p50;
+    }
+
+    public Double getP90() {
+        return p90;
+    }
+
+    public void setP90(Double p90) {
+        this.p90 = p90;
+    }
+}
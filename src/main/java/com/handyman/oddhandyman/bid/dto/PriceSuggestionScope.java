@@ -0,0 +1,18 @@
+package com.handyman.oddhandyman.bid.dto;
+
+/**
+ * Accepted bids a price suggestion is drawn from, most specific first.
+ * <p>
+ *  <ul>
+ *   <li>{@link #CATEGORY_REGION} - CATEGORY_REGION: Tasks of the same category in the same region.
+ *   <li>{@link #CATEGORY} - CATEGORY: Tasks of the same category anywhere.
+ *   <li>{@link #REGION} - REGION: Tasks of any category in the same region.
+ *   <li>{@link #ALL} - ALL: All tasks.
+ * </ul>
+ */
+public enum PriceSuggestionScope {
+    CATEGORY_REGION,
+    CATEGORY,
+    REGION,
+    ALL
+}
@@ -5,6 +5,7 @@ import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
 import com.handyman.oddhandyman.task.entity.Task;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 /**
@@ -13,11 +14,32 @@ import java.time.LocalDateTime;
  * Each bid is associated with a task and a handyman (user), has a monetary amount,
  * a status, and a creation timestamp. The status tracks whether the bid is pending,
  * accepted, or rejected by the task owner.
+ * <p>
+ * A bid is valid until its expiry time, at the latest the task deadline. Bids still pending by
+ * then are moved to {@link BidStatus#EXPIRED} in batches by the bid expiry scheduler.
  */
 @Entity
-@Table(name = "bids")
+@NamedEntityGraph(name = Bid.WITH_TASK_AND_HANDYMAN,
+        attributeNodes = {
+                @NamedAttributeNode(value = "task", subgraph = "task.participants"),
+                @NamedAttributeNode("handyman")
+        },
+        subgraphs = @NamedSubgraph(name = "task.participants", attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("assignedHandyman")
+        }))
+@Table(name = "bids", indexes = {
+        @Index(name = "idx_bids_task_id", columnList = "task_id, id"),
+        @Index(name = "idx_bids_task_status_amount", columnList = "task_id, status, amount, id"),
+        @Index(name = "idx_bids_task_status_created_at", columnList = "task_id, status, createdAt, id"),
+        @Index(name = "idx_bids_handyman_created_at", columnList = "handyman_id, createdAt, id"),
+        @Index(name = "idx_bids_status_expires_at", columnList = "status, expiresAt")
+})
 public class Bid {
 
+    /** Entity graph fetching the task (with its participants) and the bidding handyman */
+    public static final String WITH_TASK_AND_HANDYMAN = "Bid.withTaskAndHandyman";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Schema(description = "Unique identifier of the bid", example = "1")
@@ -26,11 +48,11 @@ public class Bid {
     @Schema(description = "Monetary amount proposed by the handyman", example = "50.00")
     private Double amount;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "Task for which this bid is placed")
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "Handyman (user) who placed the bid")
     private User handyman;
 
@@ -38,13 +60,23 @@ public class Bid {
     @Schema(
             description = "Current status of the bid",
             example = "PENDING",
-            allowableValues = { "PENDING", "ACCEPTED", "REJECTED" }
+            allowableValues = { "PENDING", "ACCEPTED", "REJECTED", "EXPIRED" }
     )
     private BidStatus status = BidStatus.PENDING;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Schema(description = "Version of the bid, incremented on every change", example = "0")
+    private Long version;
+
     @Schema(description = "Timestamp when the bid was created", example = "2026-02-10T14:30:00")
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Schema(description = "Time at which the bid expires if still pending (nullable without a deadline)",
+            example = "2026-02-15T17:00:00")
+    private LocalDateTime expiresAt;
+
     public Long getId() {
         return id;
     }
@@ -92,4 +124,20 @@ public class Bid {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
 }
@@ -8,10 +8,12 @@ package com.handyman.oddhandyman.bid.entity.enums;
  *     <li>{@link #PENDING} — Bid has been submitted but not yet reviewed or accepted.</li>
  *     <li>{@link #ACCEPTED} — Bid has been approved by the task owner.</li>
  *     <li>{@link #REJECTED} — Bid has been declined by the task owner.</li>
+ *     <li>{@link #EXPIRED} — Bid was still pending when its validity window ended.</li>
  * </ul>
  */
 public enum BidStatus {
     PENDING,
     ACCEPTED,
-    REJECTED
+    REJECTED,
+    EXPIRED
 }
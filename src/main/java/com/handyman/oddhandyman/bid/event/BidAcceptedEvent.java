@@ -0,0 +1,22 @@
+package com.handyman.oddhandyman.bid.event;
+
+import com.handyman.oddhandyman.bid.pricing.AcceptedPrice;
+
+/**
+ * Application event published when a bid is accepted.
+ * <p>
+ * Carries an {@link AcceptedPrice} snapshot of the bid and its task, taken inside the publishing
+ * transaction, so listeners running after commit never touch lazy entity state.
+ */
+public class BidAcceptedEvent {
+
+    private final AcceptedPrice price;
+
+    public BidAcceptedEvent(AcceptedPrice price) {
+        this.price = price;
+    }
+
+    public AcceptedPrice getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,22 @@
+package com.handyman.oddhandyman.bid.event;
+
+import com.handyman.oddhandyman.bid.auction.AuctionBid;
+
+/**
+ * Application event published when a handyman places a bid.
+ * <p>
+ * Carries an {@link AuctionBid} snapshot of the bid and its task's auction terms, taken inside the
+ * publishing transaction, so listeners running after commit never touch lazy entity state.
+ */
+public class BidPlacedEvent {
+
+    private final AuctionBid bid;
+
+    public BidPlacedEvent(AuctionBid bid) {
+        this.bid = bid;
+    }
+
+    public AuctionBid getBid() {
+        return bid;
+    }
+}
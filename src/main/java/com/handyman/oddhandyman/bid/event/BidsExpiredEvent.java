@@ -0,0 +1,28 @@
+package com.handyman.oddhandyman.bid.event;
+
+import java.util.List;
+
+/**
+ * Application event published when pending bids on a task expire.
+ * <p>
+ * Carries the task ID and the IDs of the expired bids, so listeners can drop them and tell the
+ * handymen who placed them.
+ */
+public class BidsExpiredEvent {
+
+    private final Long taskId;
+    private final List<Long> bidIds;
+
+    public BidsExpiredEvent(Long taskId, List<Long> bidIds) {
+        this.taskId = taskId;
+        this.bidIds = List.copyOf(bidIds);
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public List<Long> getBidIds() {
+        return bidIds;
+    }
+}
@@ -0,0 +1,29 @@
+package com.handyman.oddhandyman.bid.event;
+
+import java.util.List;
+
+/**
+ * Application event published when bids on a task are rejected, either one at a time by the
+ * customer or all competing bids together because another bid was accepted.
+ * <p>
+ * Carries the IDs of the rejected bids so listeners can notify the handymen who placed them, or
+ * drop them from the task's order book, without reloading the task's bids.
+ */
+public class BidsRejectedEvent {
+
+    private final Long taskId;
+    private final List<Long> bidIds;
+
+    public BidsRejectedEvent(Long taskId, List<Long> bidIds) {
+        this.taskId = taskId;
+        this.bidIds = List.copyOf(bidIds);
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public List<Long> getBidIds() {
+        return bidIds;
+    }
+}
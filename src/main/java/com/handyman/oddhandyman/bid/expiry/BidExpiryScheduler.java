@@ -0,0 +1,77 @@
+package com.handyman.oddhandyman.bid.expiry;
+
+import com.handyman.oddhandyman.bid.event.BidsExpiredEvent;
+import com.handyman.oddhandyman.bid.service.BidService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Background scheduler that expires pending bids once their validity window has passed.
+ * <p>
+ * Every {@code bids.expiry.poll-interval-ms} the due bids are read from the status and expiry index
+ * and handed to {@link BidService#expireBids} in batches of {@code bids.expiry.batch-size}, each of
+ * which is expired with one set-based update in its own transaction, until a batch comes back short.
+ * Nothing is held in memory, so bids placed on other instances expire as well. A failed batch is
+ * retried on the next run. Handymen and the auction engine learn of expiries from the published
+ * {@link BidsExpiredEvent}s.
+ * <p>
+ * Metrics: {@code bids.expired} (bids expired).
+ */
+@Component
+public class BidExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BidExpiryScheduler.class);
+
+    private final BidService bidService;
+    private final Clock clock;
+    private final int batchSize;
+    private final Counter expired;
+
+    public BidExpiryScheduler(BidService bidService,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${bids.expiry.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid Bid Expiry Batch Size");
+        }
+        this.bidService = bidService;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.expired = Counter.builder("bids.expired")
+                .description("Pending bids expired because their validity window passed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Expires every pending bid whose expiry time has passed, one batch at a time.
+     *
+     * @return the number of bids expired
+     */
+    @Scheduled(fixedDelayString = "${bids.expiry.poll-interval-ms:5000}",
+            initialDelayString = "${bids.expiry.poll-interval-ms:5000}")
+    public int expireDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int total = 0;
+
+        int batch;
+        do {
+            try {
+                batch = bidService.expireBids(now, batchSize);
+            } catch (RuntimeException ex) {
+                log.warn("Bid expiry batch failed, retrying on the next run", ex);
+                break;
+            }
+            expired.increment(batch);
+            total += batch;
+        } while (batch == batchSize);
+        return total;
+    }
+}
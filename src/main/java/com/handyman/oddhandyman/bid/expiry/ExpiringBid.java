@@ -0,0 +1,25 @@
+package com.handyman.oddhandyman.bid.expiry;
+
+/**
+ * A pending bid whose expiry time has passed, with the task it was placed on.
+ * <p>
+ * Projection locked by the bid repository for {@link BidExpiryScheduler} batches.
+ */
+public class ExpiringBid {
+
+    private final Long bidId;
+    private final Long taskId;
+
+    public ExpiringBid(Long bidId, Long taskId) {
+        this.bidId = bidId;
+        this.taskId = taskId;
+    }
+
+    public Long getBidId() {
+        return bidId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+}
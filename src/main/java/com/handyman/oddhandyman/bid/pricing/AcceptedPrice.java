@@ -0,0 +1,53 @@
+package com.handyman.oddhandyman.bid.pricing;
+
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.task.entity.Task;
+
+/**
+ * The amount of an accepted bid, with the category and location of its task.
+ * <p>
+ * Also used as the projection loaded from the database when the {@link BidPriceAnalytics} are bootstrapped.
+ */
+public class AcceptedPrice {
+
+    private final Double amount;
+    private final String category;
+    private final Double latitude;
+    private final Double longitude;
+
+    public AcceptedPrice(Double amount, String category, Double latitude, Double longitude) {
+        this.amount = amount;
+        this.category = category;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    /**
+     * Takes a snapshot of an accepted bid and its task.
+     * <p>
+     * Must be called while the bid's task can still be initialised.
+     *
+     * @param bid the accepted bid
+     * @return the snapshot
+     */
+    public static AcceptedPrice from(Bid bid) {
+        Task task = bid.getTask();
+        return new AcceptedPrice(bid.getAmount(), task.getCategory(), task.getLatitude(), task.getLongitude());
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+}
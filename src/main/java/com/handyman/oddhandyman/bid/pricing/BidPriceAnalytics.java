@@ -0,0 +1,185 @@
+package com.handyman.oddhandyman.bid.pricing;
+
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionResponse;
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionScope;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.event.BidAcceptedEvent;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Price suggestions for new tasks, drawn from the amounts of accepted bids.
+ * <p>
+ * Accepted amounts are summarised in a {@link QuantileSketch} per task category and region, per
+ * category, per region and overall, so each summary takes bounded memory however many bids it has
+ * seen and a suggestion is read without querying the bids. A region is a cell of a
+ * {@code bids.pricing.region-degrees} sized grid over the task's coordinates; tasks without a category
+ * or coordinates only count towards the coarser summaries.
+ * <p>
+ * A suggestion comes from the most specific summary with at least {@code bids.pricing.min-samples}
+ * accepted bids. The sketches are loaded from the accepted bids once the application is ready and
+ * then updated from committed {@link BidAcceptedEvent}s, like the other in-memory indexes.
+ * <p>
+ * Metrics: {@code bids.pricing.sketches} (summaries held).
+ */
+@Component
+public class BidPriceAnalytics {
+
+    private final BidRepository bidRepository;
+    private final double regionDegrees;
+    private final int lonCells;
+    private final int latCells;
+    private final int minSamples;
+
+    /** Scope, category and region to the sketch of their accepted amounts */
+    private final Map<String, QuantileSketch> sketches = new ConcurrentHashMap<>();
+
+    public BidPriceAnalytics(BidRepository bidRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${bids.pricing.region-degrees:1.0}") double regionDegrees,
+                             @Value("${bids.pricing.min-samples:5}") int minSamples) {
+        if (regionDegrees <= 0 || regionDegrees > 90) {
+            throw new IllegalArgumentException("Invalid Pricing Region Size");
+        }
+        this.bidRepository = bidRepository;
+        this.regionDegrees = regionDegrees;
+        this.latCells = (int) Math.ceil(180.0 / regionDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / regionDegrees);
+        this.minSamples = Math.max(1, minSamples);
+        Gauge.builder("bids.pricing.sketches", sketches, Map::size)
+                .description("Number of accepted bid amount summaries held for price suggestions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Normalises a task category, so categories differing only in case or surrounding blanks match.
+     *
+     * @param category the category as entered
+     * @return the category in lower case without surrounding blanks, or {@code null} if blank
+     */
+    public static String normalizeCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Loads the amounts of all accepted bids once the application has started.
+     * <p>
+     * The amounts are summarised apart and then merged in, so acceptances committed meanwhile are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        Map<String, QuantileSketch> loaded = new HashMap<>();
+        bidRepository.findAcceptedPrices(BidStatus.ACCEPTED).forEach(price -> record(price, loaded));
+        loaded.forEach((key, sketch) -> sketches.computeIfAbsent(key, k -> new QuantileSketch()).merge(sketch));
+    }
+
+    /**
+     * Adds a committed acceptance to the summaries.
+     *
+     * @param event the accepted bid
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidAccepted(BidAcceptedEvent event) {
+        record(event.getPrice());
+    }
+
+    /**
+     * Adds an accepted amount to the summaries of its task's category and region.
+     *
+     * @param price the accepted amount
+     */
+    public void record(AcceptedPrice price) {
+        record(price, sketches);
+    }
+
+    private void record(AcceptedPrice price, Map<String, QuantileSketch> target) {
+        if (price.getAmount() == null) {
+            return;
+        }
+        String category = normalizeCategory(price.getCategory());
+        String region = regionOf(price.getLatitude(), price.getLongitude());
+        for (PriceSuggestionScope scope : PriceSuggestionScope.values()) {
+            String key = key(scope, category, region);
+            if (key != null) {
+                target.computeIfAbsent(key, k -> new QuantileSketch()).update(price.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Suggests a budget for a new task from the bids accepted on similar tasks.
+     *
+     * @param category  the task category, or {@code null}
+     * @param latitude  the task latitude, or {@code null}
+     * @param longitude the task longitude, or {@code null}
+     * @return the 25th, 50th and 90th percentile of the accepted amounts, without them if too few
+     *         bids have been accepted
+     * @throws IllegalArgumentException if only one of latitude and longitude is given
+     */
+    public PriceSuggestionResponse suggest(String category, Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude And Longitude Must Be Provided Together");
+        }
+        String normalized = normalizeCategory(category);
+        String region = regionOf(latitude, longitude);
+
+        long seen = 0;
+        for (PriceSuggestionScope scope : PriceSuggestionScope.values()) {
+            String key = key(scope, normalized, region);
+            QuantileSketch sketch = key == null ? null : sketches.get(key);
+            if (sketch == null) {
+                continue;
+            }
+            long count = sketch.count();
+            if (count >= minSamples) {
+                return new PriceSuggestionResponse(scope, count,
+                        round(sketch.quantile(0.25)), round(sketch.quantile(0.5)), round(sketch.quantile(0.9)));
+            }
+            seen = Math.max(seen, count);
+        }
+        return new PriceSuggestionResponse(null, seen, null, null, null);
+    }
+
+    /**
+     * @return the number of summaries held
+     */
+    public int size() {
+        return sketches.size();
+    }
+
+    private String key(PriceSuggestionScope scope, String category, String region) {
+        return switch (scope) {
+            case CATEGORY_REGION -> category == null || region == null ? null : scope + "|" + category + "|" + region;
+            case CATEGORY -> category == null ? null : scope + "|" + category;
+            case REGION -> region == null ? null : scope + "|" + region;
+            case ALL -> scope.name();
+        };
+    }
+
+    private String regionOf(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        int latCell = Math.min(latCells - 1, (int) Math.floor((latitude + 90.0) / regionDegrees));
+        int lonCell = Math.floorMod((int) Math.floor((longitude + 180.0) / regionDegrees), lonCells);
+        return latCell + ":" + lonCell;
+    }
+
+    private static Double round(double amount) {
+        return Math.round(amount * 100) / 100.0;
+    }
+}
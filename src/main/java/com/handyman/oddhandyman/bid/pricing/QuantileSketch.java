@@ -0,0 +1,219 @@
+package com.handyman.oddhandyman.bid.pricing;
+
+import java.util.Arrays;
+
+/**
+ * Streaming, mergeable estimate of the quantiles of a stream of values, in bounded memory.
+ * <p>
+ * This is a KLL sketch: values are kept in levels, each value at level {@code h} standing for
+ * {@code 2^h} of the values seen. New values go into level 0. When the sketch holds more than its
+ * capacity, the lowest full level is sorted and every other value of it is promoted to the next level,
+ * halving it. Level capacities shrink geometrically from the top level down, so the sketch holds at
+ * most about {@code 3k} values however many it has seen, and a quantile is off by roughly
+ * {@code 1.7 / k} in rank. Sketches built separately can be merged, as if one had seen both streams.
+ * <p>
+ * Which half of a level is promoted alternates from one compaction to the next, so results are
+ * repeatable. All methods are synchronized on the sketch.
+ */
+public class QuantileSketch {
+
+    static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+    private final int k;
+    private double[][] levels = new double[1][8];
+    private int[] sizes = new int[1];
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private boolean promoteOdd;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k accuracy parameter; the capacity of the top level. At least 8
+     */
+    public QuantileSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("Invalid Sketch Size");
+        }
+        this.k = k;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value; NaN is ignored
+     */
+    public synchronized void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        append(0, value);
+        count++;
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+        compress();
+    }
+
+    /**
+     * Adds the values seen by another sketch.
+     *
+     * @param other the sketch to merge in; not changed
+     */
+    public void merge(QuantileSketch other) {
+        double[][] otherLevels;
+        int[] otherSizes;
+        long otherCount;
+        double otherMin;
+        double otherMax;
+        synchronized (other) {
+            otherLevels = new double[other.sizes.length][];
+            for (int h = 0; h < other.sizes.length; h++) {
+                otherLevels[h] = Arrays.copyOf(other.levels[h], other.sizes[h]);
+            }
+            otherSizes = other.sizes.clone();
+            otherCount = other.count;
+            otherMin = other.min;
+            otherMax = other.max;
+        }
+        if (otherCount == 0) {
+            return;
+        }
+
+        synchronized (this) {
+            for (int h = 0; h < otherSizes.length; h++) {
+                for (int i = 0; i < otherSizes[h]; i++) {
+                    append(h, otherLevels[h][i]);
+                }
+            }
+            count += otherCount;
+            min = Double.isNaN(min) ? otherMin : Math.min(min, otherMin);
+            max = Double.isNaN(max) ? otherMax : Math.max(max, otherMax);
+            compress();
+        }
+    }
+
+    /**
+     * Estimates a quantile.
+     *
+     * @param fraction the quantile, between 0 and 1, such as 0.5 for the median
+     * @return the estimated value, or NaN if no value has been added
+     */
+    public synchronized double quantile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Invalid Quantile");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (fraction == 0) {
+            return min;
+        }
+        if (fraction == 1) {
+            return max;
+        }
+
+        // Every retained value with the weight of its level, in ascending order
+        int retained = retained();
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int at = 0;
+        for (int h = 0; h < sizes.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                values[at] = levels[h][i];
+                weights[at] = 1L << h;
+                order[at] = at;
+                at++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double target = fraction * count;
+        long cumulative = 0;
+        for (int i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return the number of values added
+     */
+    public synchronized long count() {
+        return count;
+    }
+
+    /**
+     * @return the number of values held, which stays bounded however many are added
+     */
+    public synchronized int retained() {
+        int retained = 0;
+        for (int size : sizes) {
+            retained += size;
+        }
+        return retained;
+    }
+
+    private void append(int level, double value) {
+        while (level >= sizes.length) {
+            levels = Arrays.copyOf(levels, sizes.length + 1);
+            levels[sizes.length] = new double[8];
+            sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private int capacity(int level) {
+        int depth = sizes.length - level - 1;
+        return Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    private void compress() {
+        while (true) {
+            int total = 0;
+            for (int h = 0; h < sizes.length; h++) {
+                total += capacity(h);
+            }
+            if (retained() <= total) {
+                return;
+            }
+
+            int level = 0;
+            while (sizes[level] < capacity(level)) {
+                level++;
+            }
+            compact(level);
+        }
+    }
+
+    /** Promotes every other value of a level to the next one, keeping an odd one out at its level */
+    private void compact(int level) {
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        int pairs = size / 2;
+        int start = promoteOdd ? 1 : 0;
+        promoteOdd = !promoteOdd;
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, items[start + 2 * i]);
+        }
+        if (size % 2 == 1) {
+            levels[level][0] = items[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.handyman.oddhandyman.bid.ratelimit;
+
+import com.handyman.oddhandyman.common.ratelimit.TokenBuckets;
+import com.handyman.oddhandyman.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Admission control for bid placement, checked before any database work.
+ * <p>
+ * A handyman has one token bucket for all their bids ({@code bids.rate-limit.handyman-*}) and one
+ * per task they bid on ({@code bids.rate-limit.task-*}), which stops repeated bids on the same task
+ * long before the overall limit is reached. Both are held in memory, bounded by
+ * {@code bids.rate-limit.max-keys} each. Rejections are counted as {@code bids.rate_limited},
+ * tagged with the limit that was hit.
+ */
+@Component
+public class BidRateLimiter {
+
+    private final TokenBuckets handymanBuckets;
+    private final TokenBuckets taskBuckets;
+    private final Counter handymanRejections;
+    private final Counter taskRejections;
+
+    public BidRateLimiter(Clock clock,
+                          MeterRegistry meterRegistry,
+                          @Value("${bids.rate-limit.handyman-burst:10}") int handymanBurst,
+                          @Value("${bids.rate-limit.handyman-per-minute:10}") double handymanPerMinute,
+                          @Value("${bids.rate-limit.task-burst:2}") int taskBurst,
+                          @Value("${bids.rate-limit.task-per-minute:1}") double taskPerMinute,
+                          @Value("${bids.rate-limit.max-keys:100000}") int maxKeys) {
+        this.handymanBuckets = new TokenBuckets(handymanBurst, handymanPerMinute, maxKeys, clock);
+        this.taskBuckets = new TokenBuckets(taskBurst, taskPerMinute, maxKeys, clock);
+        this.handymanRejections = Counter.builder("bids.rate_limited")
+                .tag("limit", "handyman")
+                .description("Bids rejected because the handyman placed too many bids")
+                .register(meterRegistry);
+        this.taskRejections = Counter.builder("bids.rate_limited")
+                .tag("limit", "task")
+                .description("Bids rejected because the handyman bid on the same task too often")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits a bid or rejects it when the handyman is over either limit.
+     *
+     * @param handymanEmail the email of the handyman placing the bid
+     * @param taskId        the ID of the task being bid on
+     * @throws TooManyRequestsException if a limit is exceeded
+     */
+    public void admit(String handymanEmail, Long taskId) {
+        long wait = taskBuckets.tryAcquire(taskId + ":" + handymanEmail);
+        if (wait > 0) {
+            taskRejections.increment();
+            throw new TooManyRequestsException("Too Many Bids On This Task", toSeconds(wait));
+        }
+        wait = handymanBuckets.tryAcquire(handymanEmail);
+        if (wait > 0) {
+            handymanRejections.increment();
+            throw new TooManyRequestsException("Too Many Bids", toSeconds(wait));
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -1,25 +1,77 @@
 package com.handyman.oddhandyman.bid.repository;
 
+import com.handyman.oddhandyman.bid.auction.AuctionBid;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.expiry.ExpiringBid;
+import com.handyman.oddhandyman.bid.pricing.AcceptedPrice;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for performing CRUD operations on {@link Bid} entities.
  * <p>
  * Extends {@link JpaRepository} to provide standard JPA operations (save, findById, delete, etc.)
  * and declares custom query methods specific to bids.
+ * Bid lookups fetch the lazy task and handyman through the {@link Bid#WITH_TASK_AND_HANDYMAN} entity graph.
  */
 public interface BidRepository extends JpaRepository<Bid, Long> {
 
+    /**
+     * Select clause shared by the {@link BidResponse} projection queries.
+     * The bidding handyman is outer joined, selecting only their public columns.
+     */
+    String BID_RESPONSE_SELECT = """
+            select new com.handyman.oddhandyman.bid.dto.BidResponse(
+                b.id, b.amount, b.task.id, h.id, h.name, h.email, b.status, b.createdAt)
+            from Bid b
+            left join b.handyman h
+            """;
+
+    /**
+     * Select clause shared by the {@link HandymanBidResponse} projection queries.
+     * Only the title and status of the task are read next to the bid.
+     */
+    String HANDYMAN_BID_SELECT = """
+            select new com.handyman.oddhandyman.bid.dto.HandymanBidResponse(
+                b.id, b.amount, b.status, b.createdAt, t.id, t.title, t.status)
+            from Bid b
+            join b.task t
+            """;
+
+    /**
+     * Retrieves a bid by ID together with its task and the bidding handyman.
+     *
+     * @param id the bid ID
+     * @return the bid, if found
+     */
+    @Override
+    @EntityGraph(Bid.WITH_TASK_AND_HANDYMAN)
+    Optional<Bid> findById(Long id);
+
     /**
      * Retrieves all bids associated with a given task.
      *
      * @param task the task for which bids should be retrieved
      * @return a list of {@link Bid} entities associated with the task
      */
+    @EntityGraph(Bid.WITH_TASK_AND_HANDYMAN)
     List<Bid> findByTask(Task task);
 
     /**
@@ -29,5 +81,395 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
      * @param status the {@link BidStatus} to filter by
      * @return a list of {@link Bid} entities matching the task and status
      */
+    @EntityGraph(Bid.WITH_TASK_AND_HANDYMAN)
     List<Bid> findByTaskAndStatus(Task task, BidStatus status);
+
+    /**
+     * Computes the version of a task's bid list in one aggregate query, without loading any bid.
+     *
+     * @param taskId the task ID
+     * @return the {@link CollectionVersion} of the task's bids, or empty if the task does not exist
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.common.etag.CollectionVersion(
+                t.version, count(b), max(b.id), sum(b.version))
+            from Task t
+            left join Bid b on b.task = t
+            where t.id = :taskId
+            group by t.version
+            """)
+    Optional<CollectionVersion> findListVersionByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Retrieves the ID of a bid's task without loading the bid, so the task can be locked before
+     * the bid is read.
+     *
+     * @param bidId the bid ID
+     * @return the task ID, or empty if the bid does not exist
+     */
+    @Query("select b.task.id from Bid b where b.id = :bidId")
+    Optional<Long> findTaskIdById(@Param("bidId") Long bidId);
+
+    /**
+     * Retrieves and locks the IDs of a task's bids in a status, except one bid, in ID order.
+     * <p>
+     * The rows stay locked until the transaction ends, so a following
+     * {@link #transitionStatus(Collection, BidStatus, BidStatus)} changes exactly these bids.
+     *
+     * @param taskId        the task ID
+     * @param status        the status the bids are in
+     * @param excludedBidId the bid to leave out
+     * @return the locked bid IDs
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Bid b where b.task.id = :taskId and b.status = :status and b.id <> :excludedBidId order by b.id")
+    List<Long> lockIdsByTaskIdAndStatus(@Param("taskId") Long taskId,
+                                        @Param("status") BidStatus status,
+                                        @Param("excludedBidId") Long excludedBidId);
+
+    /**
+     * Moves the given bids from one status to another as a single set-based update.
+     * <p>
+     * Bids no longer in the expected status are left alone. Versions are incremented; pending
+     * changes are flushed first and the persistence context is cleared, so loaded bids must be re-read.
+     *
+     * @param ids  the bid IDs; must not be empty
+     * @param from the status the bids must still be in
+     * @param to   the new status
+     * @return the number of bids updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Bid b
+            set b.status = :to,
+                b.version = b.version + 1
+            where b.id in :ids and b.status = :from
+            """)
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") BidStatus from,
+                         @Param("to") BidStatus to);
+
+    /**
+     * Adds a new bid's amount to its task's bid summary, provided the task is still open, as one
+     * conditional update.
+     * <p>
+     * The task row stays locked until the bid is committed, so concurrent bids on the same task
+     * are counted one after the other, and a task assigned concurrently no longer matches.
+     * The task version is incremented and the persistence context cleared.
+     *
+     * @param taskId the task ID
+     * @param amount the bid amount
+     * @return 1 if the summary was updated, 0 if the task does not exist or is not PENDING
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.bidCount = t.bidCount + 1,
+                t.bidTotal = t.bidTotal + :amount,
+                t.lowestBid = case when t.lowestBid is null or :amount < t.lowestBid then :amount else t.lowestBid end,
+                t.highestBid = case when t.highestBid is null or :amount > t.highestBid then :amount else t.highestBid end,
+                t.version = t.version + 1
+            where t.id = :taskId
+              and t.status = com.handyman.oddhandyman.task.entity.enums.TaskStatus.PENDING
+            """)
+    int addToTaskSummary(@Param("taskId") Long taskId, @Param("amount") Double amount);
+
+    /**
+     * Recomputes a task's bid summary from its active (PENDING or ACCEPTED) bids, as one update.
+     * <p>
+     * Used when bids leave the summary, since the lowest and highest amount cannot be maintained
+     * incrementally on removal. Pending bid changes are flushed first; the task version is
+     * incremented and the persistence context cleared.
+     *
+     * @param taskId the task ID
+     * @return 1 if the task exists, 0 otherwise
+     */
+    default int refreshTaskSummary(Long taskId) {
+        return refreshTaskSummaries(List.of(taskId));
+    }
+
+    /**
+     * Recomputes the bid summaries of several tasks from their active (PENDING or ACCEPTED) bids,
+     * as one update.
+     * <p>
+     * Pending bid changes are flushed first; the task versions are incremented and the persistence
+     * context cleared.
+     *
+     * @param taskIds the task IDs; must not be empty
+     * @return the number of tasks updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.bidCount = (select cast(count(b) as Integer) from Bid b where b.task.id = t.id
+                              and b.status in (com.handyman.oddhandyman.bid.entity.enums.BidStatus.PENDING,
+                                               com.handyman.oddhandyman.bid.entity.enums.BidStatus.ACCEPTED)),
+                t.bidTotal = coalesce((select sum(b.amount) from Bid b where b.task.id = t.id
+                              and b.status in (com.handyman.oddhandyman.bid.entity.enums.BidStatus.PENDING,
+                                               com.handyman.oddhandyman.bid.entity.enums.BidStatus.ACCEPTED)), 0),
+                t.lowestBid = (select min(b.amount) from Bid b where b.task.id = t.id
+                              and b.status in (com.handyman.oddhandyman.bid.entity.enums.BidStatus.PENDING,
+                                               com.handyman.oddhandyman.bid.entity.enums.BidStatus.ACCEPTED)),
+                t.highestBid = (select max(b.amount) from Bid b where b.task.id = t.id
+                              and b.status in (com.handyman.oddhandyman.bid.entity.enums.BidStatus.PENDING,
+                                               com.handyman.oddhandyman.bid.entity.enums.BidStatus.ACCEPTED)),
+                t.version = t.version + 1
+            where t.id in :taskIds
+            """)
+    int refreshTaskSummaries(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Retrieves a batch of the bids in a status whose expiry time is at or before a given time,
+     * soonest first.
+     * <p>
+     * Read from the status and expiry index without locking, so the bids' tasks can be locked
+     * before the bids themselves with {@link #lockExpired(Collection, BidStatus, LocalDateTime)}.
+     *
+     * @param status   the status the bids are in
+     * @param now      the current time
+     * @param pageable the batch size
+     * @return the bids with their task IDs
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.bid.expiry.ExpiringBid(b.id, b.task.id)
+            from Bid b
+            where b.status = :status and b.expiresAt <= :now
+            order by b.expiresAt, b.id
+            """)
+    List<ExpiringBid> findExpired(@Param("status") BidStatus status,
+                                  @Param("now") LocalDateTime now,
+                                  Pageable pageable);
+
+    /**
+     * Locks those of the given bids that are still in a status and expired at a given time, in ID order.
+     * <p>
+     * The rows stay locked until the transaction ends, so a following
+     * {@link #transitionStatus(Collection, BidStatus, BidStatus)} changes exactly these bids.
+     *
+     * @param ids    the bid IDs
+     * @param status the status the bids are in
+     * @param now    the current time
+     * @return the locked bids with their task IDs
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new com.handyman.oddhandyman.bid.expiry.ExpiringBid(b.id, b.task.id)
+            from Bid b
+            where b.id in :ids and b.status = :status and b.expiresAt <= :now
+            order by b.id
+            """)
+    List<ExpiringBid> lockExpired(@Param("ids") Collection<Long> ids,
+                                  @Param("status") BidStatus status,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * Retrieves the bids of several tasks at once, together with their task and handyman.
+     * <p>
+     * Used to snapshot the bids of tasks that are being archived.
+     *
+     * @param taskIds the task IDs
+     * @return a list of {@link Bid} entities of the given tasks
+     */
+    @EntityGraph(Bid.WITH_TASK_AND_HANDYMAN)
+    List<Bid> findByTaskIdIn(Collection<Long> taskIds);
+
+    /**
+     * Retrieves the bids in a status on tasks in a status as {@link AuctionBid} projections, together
+     * with the auction terms of their task.
+     * <p>
+     * Used to load the order books of the auction engine. Bids without an amount cannot be ranked
+     * and are excluded.
+     *
+     * @param status     the status of the bids
+     * @param taskStatus the status of their tasks
+     * @return list of bid projections
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.bid.auction.AuctionBid(
+                b.id, t.id, b.handyman.id, b.amount, b.createdAt, t.sealedUntil, t.autoAcceptAmount)
+            from Bid b
+            join b.task t
+            where b.status = :status and t.status = :taskStatus and b.amount is not null
+            """)
+    List<AuctionBid> findAuctionBids(@Param("status") BidStatus status, @Param("taskStatus") TaskStatus taskStatus);
+
+    /**
+     * Retrieves the amounts of the bids in a status, with the category and location of their tasks.
+     * <p>
+     * Used to load the price suggestions. Bids without an amount are excluded.
+     *
+     * @param status the status of the bids
+     * @return list of price projections
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.bid.pricing.AcceptedPrice(b.amount, t.category, t.latitude, t.longitude)
+            from Bid b
+            join b.task t
+            where b.status = :status and b.amount is not null
+            """)
+    List<AcceptedPrice> findAcceptedPrices(@Param("status") BidStatus status);
+
+    /**
+     * Deletes the bids of the given tasks in one statement.
+     *
+     * @param taskIds the task IDs
+     * @return the number of bids deleted
+     */
+    @Modifying
+    @Query("delete from Bid b where b.task.id in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Retrieves the first page of a task's bids in a status, cheapest first.
+     * <p>
+     * Bids without an amount cannot take part in the amount keyset and are excluded.
+     *
+     * @param taskId   the task ID
+     * @param status   the status of the bids to list
+     * @param pageable page size limit
+     * @return list of bid projections ordered by amount, then ID
+     */
+    @Query(BID_RESPONSE_SELECT + """
+            where b.task.id = :taskId and b.status = :status and b.amount is not null
+            order by b.amount asc, b.id asc
+            """)
+    List<BidResponse> findTaskBidsByLowestAmount(@Param("taskId") Long taskId,
+                                                 @Param("status") BidStatus status,
+                                                 Pageable pageable);
+
+    /**
+     * Retrieves the page of a task's bids in a status that follows the given {@code (amount, id)} key,
+     * cheapest first.
+     *
+     * @param taskId      the task ID
+     * @param status      the status of the bids to list
+     * @param afterAmount amount of the last bid on the previous page
+     * @param afterId     ID of the last bid on the previous page
+     * @param pageable    page size limit
+     * @return list of bid projections ordered by amount, then ID
+     */
+    @Query(BID_RESPONSE_SELECT + """
+            where b.task.id = :taskId and b.status = :status
+              and (b.amount > :afterAmount or (b.amount = :afterAmount and b.id > :afterId))
+            order by b.amount asc, b.id asc
+            """)
+    List<BidResponse> findTaskBidsByLowestAmountAfter(@Param("taskId") Long taskId,
+                                                      @Param("status") BidStatus status,
+                                                      @Param("afterAmount") Double afterAmount,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
+    /**
+     * Retrieves the first page of a task's bids in a status, most expensive first.
+     * <p>
+     * Bids without an amount cannot take part in the amount keyset and are excluded.
+     *
+     * @param taskId   the task ID
+     * @param status   the status of the bids to list
+     * @param pageable page size limit
+     * @return list of bid projections ordered by amount, then ID, both descending
+     */
+    @Query(BID_RESPONSE_SELECT + """
+            where b.task.id = :taskId and b.status = :status and b.amount is not null
+            order by b.amount desc, b.id desc
+            """)
+    List<BidResponse> findTaskBidsByHighestAmount(@Param("taskId") Long taskId,
+                                                  @Param("status") BidStatus status,
+                                                  Pageable pageable);
+
+    /**
+     * Retrieves the page of a task's bids in a status that follows the given {@code (amount, id)} key,
+     * most expensive first.
+     *
+     * @param taskId       the task ID
+     * @param status       the status of the bids to list
+     * @param beforeAmount amount of the last bid on the previous page
+     * @param beforeId     ID of the last bid on the previous page
+     * @param pageable     page size limit
+     * @return list of bid projections ordered by amount, then ID, both descending
+     */
+    @Query(BID_RESPONSE_SELECT + """
+            where b.task.id = :taskId and b.status = :status
+              and (b.amount < :beforeAmount or (b.amount = :beforeAmount and b.id < :beforeId))
+            order by b.amount desc, b.id desc
+            """)
+    List<BidResponse> findTaskBidsByHighestAmountBefore(@Param("taskId") Long taskId,
+                                                        @Param("status") BidStatus status,
+                                                        @Param("beforeAmount") Double beforeAmount,
+                                                        @Param("beforeId") Long beforeId,
+                                                        Pageable pageable);
+
+    /**
+     * Retrieves the first page of a task's bids in a status, most recently placed first.
+     * <p>
+     * Bids without a creation time cannot take part in the keyset and are excluded.
+     *
+     * @param taskId   the task ID
+     * @param status   the status of the bids to list
+     * @param pageable page size limit
+     * @return list of bid projections ordered by creation time, then ID, both descending
+     */
+    @Query(BID_RESPONSE_SELECT + """
+            where b.task.id = :taskId and b.status = :status and b.createdAt is not null
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BidResponse> findNewestTaskBids(@Param("taskId") Long taskId,
+                                         @Param("status") BidStatus status,
+                                         Pageable pageable);
+
+    /**
+     * Retrieves the page of a task's bids in a status that follows the given {@code (createdAt, id)} key,
+     * most recently placed first.
+     *
+     * @param taskId          the task ID
+     * @param status          the status of the bids to list
+     * @param beforeCreatedAt creation time of the last bid on the previous page
+     * @param beforeId        ID of the last bid on the previous page
+     * @param pageable        page size limit
+     * @return list of bid projections ordered by creation time, then ID, both descending
+     */
+    @Query(BID_RESPONSE_SELECT + """
+            where b.task.id = :taskId and b.status = :status
+              and (b.createdAt < :beforeCreatedAt or (b.createdAt = :beforeCreatedAt and b.id < :beforeId))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<BidResponse> findNewestTaskBidsBefore(@Param("taskId") Long taskId,
+                                               @Param("status") BidStatus status,
+                                               @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                               @Param("beforeId") Long beforeId,
+                                               Pageable pageable);
+
+    /**
+     * Retrieves the first page of a handyman's bids, most recently placed first, with the title and
+     * status of each bid's task.
+     *
+     * @param handymanId the handyman's user ID
+     * @param pageable   page size limit
+     * @return list of bid projections ordered by creation time, then ID, both descending
+     */
+    @Query(HANDYMAN_BID_SELECT + """
+            where b.handyman.id = :handymanId
+            order by b.createdAt desc, b.id desc
+            """)
+    List<HandymanBidResponse> findHandymanBids(@Param("handymanId") Long handymanId, Pageable pageable);
+
+    /**
+     * Retrieves the page of a handyman's bids placed before the last bid of the previous page,
+     * most recently placed first.
+     *
+     * @param handymanId      the handyman's user ID
+     * @param beforeCreatedAt creation time of the last bid on the previous page
+     * @param beforeId        ID of the last bid on the previous page
+     * @param pageable        page size limit
+     * @return list of bid projections ordered by creation time, then ID, both descending
+     */
+    @Query(HANDYMAN_BID_SELECT + """
+            where b.handyman.id = :handymanId
+              and (b.createdAt < :beforeCreatedAt or (b.createdAt = :beforeCreatedAt and b.id < :beforeId))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<HandymanBidResponse> findHandymanBidsBefore(@Param("handymanId") Long handymanId,
+                                                     @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                                     @Param("beforeId") Long beforeId,
+                                                     Pageable pageable);
 }
@@ -1,9 +1,15 @@
 package com.handyman.oddhandyman.bid.service;
 
 import com.handyman.oddhandyman.bid.dto.BidRequest;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.BidSortOrder;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,11 +35,60 @@ public interface BidService {
 
     /**
      * Retrieves all bids placed for a specific task.
+     * <p>
+     * While bidding on the task is sealed, the amounts are left out for everyone but the task's customer.
      *
-     * @param taskId the ID of the task
+     * @param taskId      the ID of the task
+     * @param viewerEmail the email of the user listing the bids
      * @return a list of {@link Bid} entities associated with the task
      */
-    List<Bid> listBidsForTask(Long taskId);
+    List<Bid> listBidsForTask(Long taskId, String viewerEmail);
+
+    /**
+     * Retrieves one page of a task's bids in a status, in the requested order, using keyset pagination.
+     * <p>
+     * Only the bids on the requested page are read, so the cost does not grow with the number of
+     * bids on the task. While bidding on the task is sealed, everyone but the task's customer gets the
+     * bids without their amounts, and only in {@link BidSortOrder#NEWEST} order.
+     *
+     * @param taskId      the ID of the task
+     * @param status      the status of the bids to list
+     * @param sort        the ordering of the listing
+     * @param cursor      the cursor returned with the previous page, or {@code null} for the first page
+     * @param size        the requested page size, or {@code null} for the default
+     * @param viewerEmail the email of the user listing the bids
+     * @return a {@link CursorPage} of {@link BidResponse} DTOs
+     */
+    CursorPage<BidResponse> getBidPage(Long taskId, BidStatus status, BidSortOrder sort, String cursor, Integer size,
+                                       String viewerEmail);
+
+    /**
+     * Retrieves one page of a handyman's own bids, most recently placed first, using keyset pagination.
+     *
+     * @param handymanEmail the email of the handyman
+     * @param cursor        the cursor returned with the previous page, or {@code null} for the first page
+     * @param size          the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of {@link HandymanBidResponse} DTOs
+     */
+    CursorPage<HandymanBidResponse> getHandymanBids(String handymanEmail, String cursor, Integer size);
+
+    /**
+     * Checks whether the amounts of a task's bids are hidden from a user, because bidding on the task
+     * is sealed and the user is not its customer.
+     *
+     * @param taskId      the ID of the task
+     * @param viewerEmail the email of the user listing the bids
+     * @return {@code true} if the bid amounts are left out for this user
+     */
+    boolean hidesBidAmounts(Long taskId, String viewerEmail);
+
+    /**
+     * Returns the current version of a task's bid list without loading the bids.
+     *
+     * @param taskId the ID of the task
+     * @return the {@link CollectionVersion} of the task's bids
+     */
+    CollectionVersion getBidListVersion(Long taskId);
 
     /**
      * Accepts a bid, marking its status as {@link com.handyman.oddhandyman.bid.entity.enums.BidStatus#ACCEPTED}.
@@ -46,10 +101,20 @@ public interface BidService {
     Bid acceptBid(Long bidId);
 
     /**
-     * Rejects a bid, marking its status as {@link com.handyman.oddhandyman.bid.entity.enums.BidStatus#REJECTED}.
+     * Rejects a pending bid, marking its status as {@link com.handyman.oddhandyman.bid.entity.enums.BidStatus#REJECTED}.
      *
      * @param bidId the ID of the bid to reject
      * @return the updated {@link Bid} entity with status REJECTED
      */
     Bid rejectBid(Long bidId);
+
+    /**
+     * Expires one batch of pending bids whose expiry time has passed, marking them
+     * {@link com.handyman.oddhandyman.bid.entity.enums.BidStatus#EXPIRED}.
+     *
+     * @param now   the current time
+     * @param limit the maximum number of bids to expire
+     * @return the number of bids expired
+     */
+    int expireBids(LocalDateTime now, int limit);
 }
@@ -2,22 +2,51 @@ package com.handyman.oddhandyman.bid.service.impl;
 
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.auth.repository.UserRepository;
+import com.handyman.oddhandyman.bid.auction.AuctionBid;
 import com.handyman.oddhandyman.bid.dto.BidRequest;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.BidSortOrder;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.event.BidAcceptedEvent;
+import com.handyman.oddhandyman.bid.event.BidPlacedEvent;
+import com.handyman.oddhandyman.bid.event.BidsExpiredEvent;
+import com.handyman.oddhandyman.bid.event.BidsRejectedEvent;
+import com.handyman.oddhandyman.bid.expiry.ExpiringBid;
+import com.handyman.oddhandyman.bid.pricing.AcceptedPrice;
 import com.handyman.oddhandyman.bid.repository.BidRepository;
 import com.handyman.oddhandyman.bid.service.BidService;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
+import com.handyman.oddhandyman.common.pagination.CursorCodec;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
 import com.handyman.oddhandyman.exception.BidNotFoundException;
+import com.handyman.oddhandyman.exception.BidStateConflictException;
 import com.handyman.oddhandyman.exception.BidUnacceptableException;
 import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.TaskStateConflictException;
+import com.handyman.oddhandyman.exception.UnacceptableOperationException;
 import com.handyman.oddhandyman.exception.UserNotFoundException;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskBidsChangedEvent;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Implementation of {@link BidService} providing business logic for managing bids.
@@ -25,6 +54,8 @@ import java.util.List;
  * This service handles placing bids, listing bids for a task, and updating bid statuses
  * (accepting or rejecting). It ensures transactional integrity when modifying multiple entities,
  * such as when accepting a bid and rejecting other pending bids for the same task.
+ * Every change keeps the bid summary on the task (count, lowest, highest and total amount of the
+ * active bids) up to date in the same transaction.
  */
 @Service
 public class BidServiceImpl implements BidService {
@@ -32,18 +63,31 @@ public class BidServiceImpl implements BidService {
     private final BidRepository bidRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskArchive taskArchive;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
-    public BidServiceImpl(BidRepository bidRepository, TaskRepository taskRepository, UserRepository userRepository) {
+    public BidServiceImpl(BidRepository bidRepository, TaskRepository taskRepository, UserRepository userRepository,
+                          TaskArchive taskArchive, ApplicationEventPublisher eventPublisher, Clock clock) {
         this.bidRepository = bidRepository;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.taskArchive = taskArchive;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     /**
      * Places a bid on a task by a specific handyman.
      * <p>
      * Validates that the handyman exists, the task exists, and the task is still PENDING.
-     * The new bid is created with status {@link BidStatus#PENDING}.
+     * The new bid is created with status {@link BidStatus#PENDING}. Its amount is added to the task's
+     * bid summary by a conditional update that only matches an open task, which also keeps a bid
+     * from landing on a task that is being assigned concurrently. A {@link BidPlacedEvent} is published
+     * for the auction engine.
+     * <p>
+     * The bid expires at the requested time, but never after the task's deadline; without a requested
+     * time it stays valid until the deadline.
      *
      * @param req           the {@link BidRequest} containing task ID and bid amount
      * @param handymanEmail the email of the handyman placing the bid
@@ -57,85 +101,394 @@ public class BidServiceImpl implements BidService {
         User handyman = userRepository.findByEmail(handymanEmail)
                 .orElseThrow(() -> new UserNotFoundException("Handyman Not Found"));
 
-        Task task = taskRepository.findById(req.getTaskId())
-                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
-
-        if (task.getStatus() != TaskStatus.PENDING) {
+        if (bidRepository.addToTaskSummary(req.getTaskId(), req.getAmount()) == 0) {
+            if (!taskRepository.existsById(req.getTaskId())) {
+                throw new TaskNotFoundException("Task Not Found");
+            }
             throw new BidUnacceptableException("Cannot Bid On This Task");
         }
 
+        // The summary update cleared the persistence context, so the task is read with its new summary
+        Task task = taskRepository.findById(req.getTaskId())
+                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
+
         Bid bid = new Bid();
         bid.setTask(task);
         bid.setHandyman(handyman);
         bid.setAmount(req.getAmount());
         bid.setStatus(BidStatus.PENDING);
+        bid.setExpiresAt(expiresAt(req.getExpiresAt(), task.getDeadline()));
 
-        return bidRepository.save(bid);
+        Bid saved = bidRepository.save(bid);
+        eventPublisher.publishEvent(new TaskBidsChangedEvent(task.getId()));
+        eventPublisher.publishEvent(new BidPlacedEvent(AuctionBid.from(saved)));
+        return saved;
     }
 
     /**
-     * Retrieves all bids for a given task.
+     * Retrieves all bids for a given task, falling back to the archive for finished tasks.
+     * <p>
+     * While bidding on the task is sealed, everyone but the task's customer receives copies of the
+     * bids without their amounts; archived tasks are finished, so their bids are never sealed.
      *
-     * @param taskId the ID of the task
+     * @param taskId      the ID of the task
+     * @param viewerEmail the email of the user listing the bids
      * @return a list of {@link Bid} entities associated with the task
      * @throws TaskNotFoundException if the task does not exist
      */
-    public List<Bid> listBidsForTask(Long taskId) {
-        Task task = taskRepository.findById(taskId)
+    public List<Bid> listBidsForTask(Long taskId, String viewerEmail) {
+        return taskRepository.findById(taskId)
+                .map(task -> {
+                    List<Bid> bids = bidRepository.findByTask(task);
+                    return hidesBidAmounts(task, viewerEmail) ? bids.stream().map(this::withoutAmount).toList() : bids;
+                })
+                .or(() -> taskArchive.findBids(taskId))
+                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
+    }
+
+    /**
+     * Checks whether the amounts of a task's bids are hidden from a user: bidding on the task is
+     * sealed at the clock's current time and the user is not the task's customer.
+     *
+     * @param taskId      the ID of the task
+     * @param viewerEmail the email of the user listing the bids
+     * @return {@code true} if the bid amounts are left out for this user
+     */
+    public boolean hidesBidAmounts(Long taskId, String viewerEmail) {
+        return taskRepository.existsByIdAndSealedUntilAfterAndCustomerEmailNot(taskId, LocalDateTime.now(clock),
+                viewerEmail);
+    }
+
+    private boolean hidesBidAmounts(Task task, String viewerEmail) {
+        return task.getSealedUntil() != null && task.getSealedUntil().isAfter(LocalDateTime.now(clock))
+                && !task.getCustomer().getEmail().equals(viewerEmail);
+    }
+
+    /**
+     * Copies a bid without its amount, leaving the managed entity untouched.
+     */
+    private Bid withoutAmount(Bid bid) {
+        Bid copy = new Bid();
+        copy.setId(bid.getId());
+        copy.setTask(bid.getTask());
+        copy.setHandyman(bid.getHandyman());
+        copy.setStatus(bid.getStatus());
+        copy.setCreatedAt(bid.getCreatedAt());
+        copy.setExpiresAt(bid.getExpiresAt());
+        copy.setVersion(bid.getVersion());
+        return copy;
+    }
+
+    /**
+     * Retrieves one page of a task's bids in a status, in the requested order, using keyset pagination.
+     * <p>
+     * Each ordering is served by a composite index on the task, status and sort key, so only the
+     * rows of the page (plus one, to detect a following page) are read. Only live tasks are listed;
+     * the bids of archived tasks are available from {@link #listBidsForTask(Long, String)}.
+     * <p>
+     * While bidding is sealed, everyone but the task's customer gets the page without amounts and may
+     * only list it newest first, as an ordering by amount would reveal the ranking of the bids.
+     *
+     * @param taskId      the ID of the task
+     * @param status      the status of the bids to list
+     * @param sort        the ordering of the listing
+     * @param cursor      the cursor returned with the previous page, or {@code null} for the first page
+     * @param size        the requested page size, or {@code null} for the default
+     * @param viewerEmail the email of the user listing the bids
+     * @return a {@link CursorPage} of {@link BidResponse} DTOs
+     * @throws TaskNotFoundException    if the task does not exist
+     * @throws IllegalArgumentException if the cursor is malformed, or bids are sorted by amount while sealed
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BidResponse> getBidPage(Long taskId, BidStatus status, BidSortOrder sort,
+                                              String cursor, Integer size, String viewerEmail) {
+        boolean hideAmounts = hidesBidAmounts(taskId, viewerEmail);
+        if (hideAmounts && sort != BidSortOrder.NEWEST) {
+            throw new IllegalArgumentException("Bids Can Only Be Sorted By Newest While Bidding Is Sealed");
+        }
+
+        boolean firstPage = cursor == null || cursor.isBlank();
+        int pageSize = CursorCodec.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<BidResponse> bids;
+        Function<BidResponse, String> cursorOf;
+        if (sort == BidSortOrder.NEWEST) {
+            if (firstPage) {
+                bids = bidRepository.findNewestTaskBids(taskId, status, limit);
+            } else {
+                String[] key = CursorCodec.decode(cursor, 2);
+                bids = bidRepository.findNewestTaskBidsBefore(taskId, status, parseCreatedAt(key[0]),
+                        parseId(key[1]), limit);
+            }
+            cursorOf = last -> CursorCodec.encode(last.getCreatedAt(), last.getId());
+        } else if (sort == BidSortOrder.HIGHEST_AMOUNT) {
+            if (firstPage) {
+                bids = bidRepository.findTaskBidsByHighestAmount(taskId, status, limit);
+            } else {
+                String[] key = CursorCodec.decode(cursor, 2);
+                bids = bidRepository.findTaskBidsByHighestAmountBefore(taskId, status, parseAmount(key[0]),
+                        parseId(key[1]), limit);
+            }
+            cursorOf = last -> CursorCodec.encode(last.getAmount(), last.getId());
+        } else {
+            if (firstPage) {
+                bids = bidRepository.findTaskBidsByLowestAmount(taskId, status, limit);
+            } else {
+                String[] key = CursorCodec.decode(cursor, 2);
+                bids = bidRepository.findTaskBidsByLowestAmountAfter(taskId, status, parseAmount(key[0]),
+                        parseId(key[1]), limit);
+            }
+            cursorOf = last -> CursorCodec.encode(last.getAmount(), last.getId());
+        }
+
+        // An empty page is only worth a second look when the task itself may be missing
+        if (bids.isEmpty() && !taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException("Task Not Found");
+        }
+
+        boolean hasMore = bids.size() > pageSize;
+        List<BidResponse> page = hasMore ? List.copyOf(bids.subList(0, pageSize)) : bids;
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        if (hideAmounts) {
+            page.forEach(bid -> bid.setAmount(null));
+        }
+        return new CursorPage<>(page, nextCursor);
+    }
+
+    /**
+     * Retrieves one page of a handyman's own bids, most recently placed first, using keyset pagination.
+     * <p>
+     * The page is read as projections of the bid and its task's title and status with one joined
+     * query, walking the handyman's creation-time index, so only the rows of the page (plus one, to
+     * detect a following page) are read however many bids the handyman has placed. Bids on archived
+     * tasks are kept in the archive snapshot of their task and are not listed.
+     *
+     * @param handymanEmail the email of the handyman
+     * @param cursor        the cursor returned with the previous page, or {@code null} for the first page
+     * @param size          the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of {@link HandymanBidResponse} DTOs
+     * @throws UserNotFoundException          if the handyman does not exist
+     * @throws UnacceptableOperationException if the user is not a handyman
+     * @throws IllegalArgumentException       if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<HandymanBidResponse> getHandymanBids(String handymanEmail, String cursor, Integer size) {
+        User handyman = userRepository.findByEmail(handymanEmail)
+                .orElseThrow(() -> new UserNotFoundException("Handyman Not Found"));
+        if (!handyman.getRole().name().equals("HANDYMAN")) {
+            throw new UnacceptableOperationException("Only Handymen Have Bids");
+        }
+
+        int pageSize = CursorCodec.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<HandymanBidResponse> bids;
+        if (cursor == null || cursor.isBlank()) {
+            bids = bidRepository.findHandymanBids(handyman.getId(), limit);
+        } else {
+            String[] key = CursorCodec.decode(cursor, 2);
+            bids = bidRepository.findHandymanBidsBefore(handyman.getId(), parseCreatedAt(key[0]), parseId(key[1]), limit);
+        }
+
+        boolean hasMore = bids.size() > pageSize;
+        List<HandymanBidResponse> page = hasMore ? List.copyOf(bids.subList(0, pageSize)) : bids;
+        HandymanBidResponse last = hasMore ? page.get(page.size() - 1) : null;
+        return new CursorPage<>(page, last == null ? null : CursorCodec.encode(last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * Returns the current version of a task's bid list from a single aggregate query,
+     * or from the archive for finished tasks.
+     *
+     * @param taskId the ID of the task
+     * @return the {@link CollectionVersion} of the task's bids
+     * @throws TaskNotFoundException if the task does not exist
+     */
+    public CollectionVersion getBidListVersion(Long taskId) {
+        return bidRepository.findListVersionByTaskId(taskId)
+                .or(() -> taskArchive.findBidListVersion(taskId))
                 .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
-        return bidRepository.findByTask(task);
     }
 
     /**
      * Accepts a bid, marking its status as {@link BidStatus#ACCEPTED} and
      * automatically rejecting other pending bids for the same task.
      * <p>
+     * The competing bids are rejected with a single set-based update, however many there are,
+     * and their IDs are published in a {@link BidsRejectedEvent}.
+     * <p>
      * Also updates the associated task by assigning the handyman and setting its
-     * status to {@link TaskStatus#ASSIGNED}.
+     * status to {@link TaskStatus#ASSIGNED}, publishing a {@link TaskStatusChangedEvent}, and
+     * publishes the accepted amount in a {@link BidAcceptedEvent}.
+     * The task is claimed first with a single conditional update, so when several bids on
+     * the same task are accepted concurrently exactly one acceptance wins.
      *
      * @param bidId the ID of the bid to accept
      * @return the updated {@link Bid} entity
-     * @throws BidNotFoundException if the bid does not exist
+     * @throws BidNotFoundException       if the bid does not exist
+     * @throws BidUnacceptableException   if the bid is no longer pending or has expired
+     * @throws TaskStateConflictException if the task is not open or was assigned concurrently
      */
     @Transactional
     public Bid acceptBid(Long bidId) {
         Bid bid = bidRepository.findById(bidId)
                 .orElseThrow(() -> new BidNotFoundException("Bid Not Found"));
 
+        if (bid.getStatus() != BidStatus.PENDING) {
+            throw new BidUnacceptableException("Bid Is Not Pending");
+        }
+        // A bid past its expiry time is no longer on offer, even before the expiry job has moved it
+        if (bid.getExpiresAt() != null && !bid.getExpiresAt().isAfter(LocalDateTime.now(clock))) {
+            throw new BidUnacceptableException("Bid Has Expired");
+        }
+
+        // Claim the task; only one concurrent acceptance can match the expected status
         Task task = bid.getTask();
+        TaskStatus previousStatus = task.getStatus();
+        if (!previousStatus.canTransitionTo(TaskStatus.ASSIGNED)) {
+            throw new TaskStateConflictException("Task Cannot Move From " + previousStatus + " To " + TaskStatus.ASSIGNED);
+        }
+        if (taskRepository.compareAndAssign(task.getId(), previousStatus, bid.getHandyman()) == 0) {
+            throw new TaskStateConflictException("Task Was Modified Concurrently");
+        }
+
+        // The conditional update cleared the persistence context, so re-read the bid and its task
+        Bid accepted = bidRepository.findById(bidId)
+                .orElseThrow(() -> new BidNotFoundException("Bid Not Found"));
 
         // Accept this bid
-        bid.setStatus(BidStatus.ACCEPTED);
-        bidRepository.save(bid);
+        accepted.setStatus(BidStatus.ACCEPTED);
+        bidRepository.save(accepted);
 
-        // Reject other bids
-        bidRepository.findByTaskAndStatus(task, BidStatus.PENDING).forEach(b -> {
-            if (!b.getId().equals(bid.getId())) {
-                b.setStatus(BidStatus.REJECTED);
-                bidRepository.save(b);
-            }
-        });
+        // Reject the other pending bids in one update; the locked IDs are exactly the rows it changes
+        Long taskId = accepted.getTask().getId();
+        List<Long> rejected = bidRepository.lockIdsByTaskIdAndStatus(taskId, BidStatus.PENDING, bidId);
+        if (!rejected.isEmpty()) {
+            bidRepository.transitionStatus(rejected, BidStatus.PENDING, BidStatus.REJECTED);
+        }
 
-        // Assign handyman and update task status
-        task.setAssignedHandyman(bid.getHandyman());
-        task.setStatus(TaskStatus.ASSIGNED);
-        taskRepository.save(task);
+        // Only the accepted bid stays active; re-read the bid and task the bulk updates cleared
+        bidRepository.refreshTaskSummary(taskId);
+        Bid result = bidRepository.findById(bidId)
+                .orElseThrow(() -> new BidNotFoundException("Bid Not Found"));
 
-        return bid;
+        eventPublisher.publishEvent(TaskStatusChangedEvent.of(result.getTask(), previousStatus));
+        eventPublisher.publishEvent(new BidAcceptedEvent(AcceptedPrice.from(result)));
+        if (!rejected.isEmpty()) {
+            eventPublisher.publishEvent(new BidsRejectedEvent(taskId, rejected));
+        }
+
+        return result;
     }
 
     /**
-     * Rejects a bid by setting its status to {@link BidStatus#REJECTED}.
+     * Rejects a pending bid by setting its status to {@link BidStatus#REJECTED}.
+     * <p>
+     * The bid's task is locked before the bid is read, in the same order as placing and accepting a
+     * bid take their locks, so the status checked is current and a concurrent acceptance cannot
+     * deadlock with the rejection. The task's bid summary is recomputed without the bid and the
+     * rejection is published in a {@link BidsRejectedEvent}.
      *
      * @param bidId the ID of the bid to reject
      * @return the updated {@link Bid} entity
-     * @throws BidNotFoundException if the bid does not exist
+     * @throws BidNotFoundException      if the bid does not exist
+     * @throws BidStateConflictException if the bid is no longer pending
      */
     @Transactional
     public Bid rejectBid(Long bidId) {
+        Long taskId = bidRepository.findTaskIdById(bidId)
+                .orElseThrow(() -> new BidNotFoundException("Bid Not Found"));
+        taskRepository.lockIds(List.of(taskId));
+
         Bid bid = bidRepository.findById(bidId)
                 .orElseThrow(() -> new BidNotFoundException("Bid Not Found"));
+        if (bid.getStatus() != BidStatus.PENDING) {
+            throw new BidStateConflictException("Bid Cannot Move From " + bid.getStatus() + " To " + BidStatus.REJECTED);
+        }
         bid.setStatus(BidStatus.REJECTED);
-        return bidRepository.save(bid);
+        bidRepository.save(bid);
+
+        bidRepository.refreshTaskSummary(taskId);
+        eventPublisher.publishEvent(new TaskBidsChangedEvent(taskId));
+        eventPublisher.publishEvent(new BidsRejectedEvent(taskId, List.of(bidId)));
+
+        // The recomputation cleared the persistence context; re-read the bid with the task's new summary
+        return bidRepository.findById(bidId)
+                .orElseThrow(() -> new BidNotFoundException("Bid Not Found"));
+    }
+
+    /**
+     * Expires one batch of pending bids whose expiry time has passed, soonest first.
+     * <p>
+     * The affected tasks are locked in ID order before the bids, in the same order as the other bid
+     * changes take their locks, so expiry cannot deadlock with them. The bids are then locked,
+     * leaving out any accepted or rejected meanwhile, and moved to {@link BidStatus#EXPIRED} with a
+     * single set-based update, and the bid summaries of all affected tasks are recomputed with one
+     * more. For each task a {@link TaskBidsChangedEvent} and a {@link BidsExpiredEvent} with its
+     * expired bids are published.
+     *
+     * @param now   the current time
+     * @param limit the maximum number of bids to expire
+     * @return the number of bids expired
+     */
+    @Transactional
+    public int expireBids(LocalDateTime now, int limit) {
+        List<ExpiringBid> candidates = bidRepository.findExpired(BidStatus.PENDING, now, PageRequest.of(0, limit));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        taskRepository.lockIds(candidates.stream().map(ExpiringBid::getTaskId).distinct().toList());
+        List<ExpiringBid> due = bidRepository.lockExpired(candidates.stream().map(ExpiringBid::getBidId).toList(),
+                BidStatus.PENDING, now);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // The locked IDs are exactly the rows the update changes
+        Map<Long, List<Long>> byTask = new LinkedHashMap<>();
+        for (ExpiringBid bid : due) {
+            byTask.computeIfAbsent(bid.getTaskId(), id -> new ArrayList<>()).add(bid.getBidId());
+        }
+        int expired = bidRepository.transitionStatus(due.stream().map(ExpiringBid::getBidId).toList(),
+                BidStatus.PENDING, BidStatus.EXPIRED);
+        bidRepository.refreshTaskSummaries(byTask.keySet());
+
+        byTask.forEach((taskId, bidIds) -> {
+            eventPublisher.publishEvent(new TaskBidsChangedEvent(taskId));
+            eventPublisher.publishEvent(new BidsExpiredEvent(taskId, bidIds));
+        });
+        return expired;
+    }
+
+    /** Caps a requested expiry time at the task deadline */
+    private static LocalDateTime expiresAt(LocalDateTime requested, LocalDateTime deadline) {
+        if (requested == null || (deadline != null && deadline.isBefore(requested))) {
+            return deadline;
+        }
+        return requested;
+    }
+
+    private Double parseAmount(String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+    }
+
+    private LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+    }
+
+    private Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
     }
 }
@@ -4,6 +4,8 @@ import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.chat.dto.ChatMessageRequest;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
 import com.handyman.oddhandyman.chat.service.ChatService;
+import com.handyman.oddhandyman.common.etag.ETags;
+import com.handyman.oddhandyman.common.idempotency.IdempotentRequests;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -26,26 +29,39 @@ import java.util.Map;
 public class ChatController {
 
     private final ChatService chatService;
+    private final IdempotentRequests idempotentRequests;
 
-    public ChatController(ChatService chatService) {
+    public ChatController(ChatService chatService, IdempotentRequests idempotentRequests) {
         this.chatService = chatService;
+        this.idempotentRequests = idempotentRequests;
     }
 
-    @Operation(summary = "Send a message in a task chat", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Send a message in a task chat",
+            description = "Sends a message to the other party of the task. Send an Idempotency-Key header to retry "
+                    + "safely: a repeated key returns the first response without sending the message again.",
+            security = @SecurityRequirement(name = "bearerAuth"))
     @PostMapping
     public ResponseEntity<ChatMessage> sendMessage(
             @Valid @RequestBody ChatMessageRequest req,
+            @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails user
     ) {
-        return ResponseEntity.ok(chatService.sendMessage(req, user.getUsername()));
+        return ResponseEntity.ok(idempotentRequests.execute("chat", user.getUsername(), idempotencyKey, req,
+                ChatMessage.class, () -> chatService.sendMessage(req, user.getUsername())));
     }
 
     @Operation(summary = "Get all messages for a task",
-            description = "Retrieves all chat messages for a specific task, ordered by timestamp ascending.",
+            description = "Retrieves all chat messages for a specific task, ordered by timestamp ascending. "
+                    + "Responses carry an ETag; send it back in If-None-Match to receive 304 Not Modified "
+                    + "while no message has been sent or read.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<ChatMessage>> getMessages(@PathVariable Long taskId) {
-        return ResponseEntity.ok(chatService.getMessagesForTask(taskId));
+    public ResponseEntity<List<ChatMessage>> getMessages(@PathVariable Long taskId, WebRequest request) {
+        String etag = chatService.getMessageListVersion(taskId).toETag("chat", taskId);
+        if (request.checkNotModified(etag)) {
+            return ETags.notModified(etag);
+        }
+        return ETags.ok(etag, chatService.getMessagesForTask(taskId));
     }
 
     @Operation(summary = "Mark all messages as read for a task", security = @SecurityRequirement(name = "bearerAuth"))
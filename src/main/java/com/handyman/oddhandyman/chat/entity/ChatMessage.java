@@ -4,26 +4,43 @@ import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.task.entity.Task;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.PartitionKey;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Entity representing a chat message exchanged between customer and handyman for a specific task.
+ * <p>
+ * On Postgres the table is range-partitioned by month of {@code timestamp}, which is therefore
+ * fixed once the message is written. Updates match on it, so it is kept at the microsecond
+ * precision the column stores.
  */
 @Entity
-@Table(name = "chat_messages")
+@NamedEntityGraph(name = ChatMessage.WITH_TASK_AND_SENDER, attributeNodes = {
+        @NamedAttributeNode(value = "task", subgraph = "task.participants"),
+        @NamedAttributeNode("sender")
+}, subgraphs = @NamedSubgraph(name = "task.participants", attributeNodes = {
+        @NamedAttributeNode("customer"),
+        @NamedAttributeNode("assignedHandyman")
+}))
+@Table(name = "chat_messages", indexes = @Index(name = "idx_chat_messages_task_id", columnList = "task_id, id"))
 @Schema(description = "Entity representing a chat message exchanged between a customer and handyman for a task")
 public class ChatMessage {
 
+    /** Entity graph fetching the task (with its participants) and the sender of the message */
+    public static final String WITH_TASK_AND_SENDER = "ChatMessage.withTaskAndSender";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Schema(description = "Unique identifier of the chat message", example = "1")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "Task associated with this chat message")
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "User who sent the message")
     private User sender;
 
@@ -31,8 +48,10 @@ public class ChatMessage {
     @Schema(description = "Content of the message", example = "Hello, I have completed the task.")
     private String message;
 
+    @PartitionKey
+    @Column(nullable = false, updatable = false)
     @Schema(description = "Timestamp when the message was sent")
-    private LocalDateTime timestamp = LocalDateTime.now();
+    private LocalDateTime timestamp = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 
     @Schema(description = "Indicates if the customer has read the message", example = "false")
     private boolean readByCustomer = false;
@@ -40,6 +59,12 @@ public class ChatMessage {
     @Schema(description = "Indicates if the handyman has read the message", example = "false")
     private boolean readByHandyman = false;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Schema(description = "Version of the message, incremented on every change such as being read", example = "0")
+    private Long version;
+
     // ===== Getters & Setters =====
 
     public Long getId() {
@@ -79,7 +104,7 @@ public class ChatMessage {
     }
 
     public void setTimestamp(LocalDateTime timestamp) {
-        this.timestamp = timestamp;
+        this.timestamp = timestamp == null ? null : timestamp.truncatedTo(ChronoUnit.MICROS);
     }
 
     public boolean isReadByCustomer() {
@@ -97,4 +122,12 @@ public class ChatMessage {
     public void setReadByHandyman(boolean readByHandyman) {
         this.readByHandyman = readByHandyman;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
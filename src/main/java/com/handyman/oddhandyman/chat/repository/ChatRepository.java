@@ -2,10 +2,18 @@ package com.handyman.oddhandyman.chat.repository;
 
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 import com.handyman.oddhandyman.task.entity.Task;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for performing CRUD operations on {@link ChatMessage} entities.
@@ -18,11 +26,32 @@ public interface ChatRepository extends JpaRepository<ChatMessage, Long> {
     /**
      * Retrieves all chat messages associated with a specific task,
      * ordered by timestamp ascending.
+     * <p>
+     * No message is older than its task, so passing the task's creation time as {@code since}
+     * returns the whole chat while letting Postgres skip the monthly partitions before it.
      *
-     * @param task the task whose chat messages should be retrieved
+     * @param task  the task whose chat messages should be retrieved
+     * @param since lower bound on the message timestamp, normally {@link Task#getCreatedAt()}
      * @return list of {@link ChatMessage} for the task, oldest first
      */
-    List<ChatMessage> findByTaskOrderByTimestampAsc(Task task);
+    @EntityGraph(ChatMessage.WITH_TASK_AND_SENDER)
+    List<ChatMessage> findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(Task task, LocalDateTime since);
+
+    /**
+     * Computes the version of a task's chat in one aggregate query, without loading any message.
+     *
+     * @param taskId the task ID
+     * @return the {@link CollectionVersion} of the task's messages, or empty if the task does not exist
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.common.etag.CollectionVersion(
+                t.version, count(m), max(m.id), sum(m.version))
+            from Task t
+            left join ChatMessage m on m.task = t
+            where t.id = :taskId
+            group by t.version
+            """)
+    Optional<CollectionVersion> findListVersionByTaskId(@Param("taskId") Long taskId);
 
     /**
      * Retrieves unread messages sent by a handyman to the customer.
@@ -41,4 +70,25 @@ public interface ChatRepository extends JpaRepository<ChatMessage, Long> {
      * @return list of {@link ChatMessage} unread by the handyman
      */
     List<ChatMessage> findByTaskAssignedHandymanEmailAndSenderRoleAndReadByHandymanFalse(String email, Role senderRole);
+
+    /**
+     * Retrieves the chat messages of several tasks at once, together with their task and sender.
+     * <p>
+     * Used to snapshot the chats of tasks that are being archived.
+     *
+     * @param taskIds the task IDs
+     * @return list of {@link ChatMessage} of the given tasks
+     */
+    @EntityGraph(ChatMessage.WITH_TASK_AND_SENDER)
+    List<ChatMessage> findByTaskIdIn(Collection<Long> taskIds);
+
+    /**
+     * Deletes the chat messages of the given tasks in one statement.
+     *
+     * @param taskIds the task IDs
+     * @return the number of messages deleted
+     */
+    @Modifying
+    @Query("delete from ChatMessage m where m.task.id in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -3,6 +3,7 @@ package com.handyman.oddhandyman.chat.service;
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.chat.dto.ChatMessageRequest;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,14 @@ public interface ChatService {
      */
     List<ChatMessage> getMessagesForTask(Long taskId);
 
+    /**
+     * Returns the current version of a task's chat without loading the messages.
+     *
+     * @param taskId the ID of the task
+     * @return the {@link CollectionVersion} of the task's messages
+     */
+    CollectionVersion getMessageListVersion(Long taskId);
+
     /**
      * Marks messages as read for a specific task and user.
      * <p>
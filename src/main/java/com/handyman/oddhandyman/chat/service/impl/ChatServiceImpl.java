@@ -7,8 +7,10 @@ import com.handyman.oddhandyman.chat.dto.ChatMessageRequest;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
 import com.handyman.oddhandyman.chat.repository.ChatRepository;
 import com.handyman.oddhandyman.chat.service.ChatService;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 import com.handyman.oddhandyman.exception.TaskNotFoundException;
 import com.handyman.oddhandyman.exception.UserNotFoundException;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
 import org.springframework.stereotype.Service;
@@ -27,11 +29,14 @@ public class ChatServiceImpl implements ChatService {
     private final ChatRepository chatRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskArchive taskArchive;
 
-    public ChatServiceImpl(ChatRepository chatRepository, TaskRepository taskRepository, UserRepository userRepository) {
+    public ChatServiceImpl(ChatRepository chatRepository, TaskRepository taskRepository, UserRepository userRepository,
+                           TaskArchive taskArchive) {
         this.chatRepository = chatRepository;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.taskArchive = taskArchive;
     }
 
     /**
@@ -78,15 +83,31 @@ public class ChatServiceImpl implements ChatService {
 
     /**
      * Retrieves all chat messages for a given task, ordered by timestamp ascending.
+     * Finished tasks that were archived are read from the archive.
      *
      * @param taskId the ID of the task
      * @return list of {@link ChatMessage} for the task
      */
     @Override
     public List<ChatMessage> getMessagesForTask(Long taskId) {
-        Task task = taskRepository.findById(taskId)
+        return taskRepository.findById(taskId)
+                .map(task -> chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(task, task.getCreatedAt()))
+                .or(() -> taskArchive.findMessages(taskId))
+                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
+    }
+
+    /**
+     * Returns the current version of a task's chat from a single aggregate query,
+     * or from the archive for finished tasks.
+     *
+     * @param taskId the ID of the task
+     * @return the {@link CollectionVersion} of the task's messages
+     */
+    @Override
+    public CollectionVersion getMessageListVersion(Long taskId) {
+        return chatRepository.findListVersionByTaskId(taskId)
+                .or(() -> taskArchive.findMessageListVersion(taskId))
                 .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
-        return chatRepository.findByTaskOrderByTimestampAsc(task);
     }
 
     /**
@@ -110,7 +131,7 @@ public class ChatServiceImpl implements ChatService {
 
         boolean isCustomer = user.getId().equals(task.getCustomer().getId());
 
-        List<ChatMessage> messages = chatRepository.findByTaskOrderByTimestampAsc(task);
+        List<ChatMessage> messages = chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(task, task.getCreatedAt());
 
         for (ChatMessage msg : messages) {
             if (isCustomer) {
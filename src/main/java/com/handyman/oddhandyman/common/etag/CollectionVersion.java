@@ -0,0 +1,50 @@
+package com.handyman.oddhandyman.common.etag;
+
+/**
+ * Version of a task's child collection (bids or chat messages), computed by one aggregate query.
+ * <p>
+ * Combines the task's own version with the number of children, the highest child ID and the sum
+ * of the children's versions. Adding, removing or updating any child, or updating the task,
+ * changes at least one of them.
+ */
+public class CollectionVersion {
+
+    private final long ownerVersion;
+    private final long count;
+    private final long maxId;
+    private final long versionSum;
+
+    public CollectionVersion(Long ownerVersion, Long count, Long maxId, Long versionSum) {
+        this.ownerVersion = ownerVersion == null ? 0 : ownerVersion;
+        this.count = count == null ? 0 : count;
+        this.maxId = maxId == null ? 0 : maxId;
+        this.versionSum = versionSum == null ? 0 : versionSum;
+    }
+
+    /**
+     * Builds the weak ETag of the collection.
+     *
+     * @param name    the kind of collection, e.g. {@code bids}
+     * @param ownerId the ID of the task owning the collection
+     * @return the ETag header value
+     */
+    public String toETag(String name, Long ownerId) {
+        return ETags.weak(name, ownerId, ownerVersion, count, maxId, versionSum);
+    }
+
+    public long getOwnerVersion() {
+        return ownerVersion;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+}
@@ -0,0 +1,57 @@
+package com.handyman.oddhandyman.common.etag;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for answering conditional GET requests with version-based ETags.
+ * <p>
+ * Controllers build the ETag from version columns only and call
+ * {@code WebRequest.checkNotModified(etag)} before loading anything else:
+ * <pre>{@code
+ * String etag = ETags.weak("task", id, version);
+ * if (request.checkNotModified(etag)) {
+ *     return ETags.notModified(etag);
+ * }
+ * return ETags.ok(etag, body);
+ * }</pre>
+ * Tags are weak because they track the aggregate's own versions, not every byte of the
+ * serialized participants. Responses are marked {@code private, no-cache} so clients keep
+ * them but revalidate on every poll.
+ */
+public final class ETags {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {}
+
+    /**
+     * Builds a weak ETag such as {@code W/"task-7-3"}.
+     *
+     * @param name  the kind of resource
+     * @param parts the IDs and versions identifying the representation
+     * @return the ETag header value
+     */
+    public static String weak(String name, Object... parts) {
+        String suffix = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("-"));
+        return "W/\"" + name + "-" + suffix + "\"";
+    }
+
+    /**
+     * @return a 304 response carrying the current ETag
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * @return a 200 response with the body and its ETag
+     */
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+}
@@ -0,0 +1,75 @@
+package com.handyman.oddhandyman.common.idempotency;
+
+import jakarta.persistence.*;
+import org.hibernate.Length;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding the response stored for one idempotency key.
+ * <p>
+ * The ID is a hash of the scope, the user and the client's key, so rows stay the same size
+ * however long the keys are, and the request hash lets a reused key with a different payload be
+ * told apart from a retry. Rows are written once and deleted when they expire.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(length = Length.LONG32)
+    private String response;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Rows get their ID from the key, so saving must not first look the ID up */
+    @Transient
+    private boolean isNew = true;
+
+    protected IdempotencyRecord() {}
+
+    public IdempotencyRecord(String id, String requestHash, String response, LocalDateTime createdAt) {
+        this.id = id;
+        this.requestHash = requestHash;
+        this.response = response;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,24 @@
+package com.handyman.oddhandyman.common.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for reading and writing {@link IdempotencyRecord} rows.
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Deletes the records created before a point in time in one statement.
+     *
+     * @param cutoff records created before this time are deleted
+     * @return the number of records deleted
+     */
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,263 @@
+package com.handyman.oddhandyman.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handyman.oddhandyman.exception.IdempotencyConflictException;
+import com.handyman.oddhandyman.exception.UnacceptableOperationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Makes create requests safe to retry by remembering the response sent for each {@value #HEADER}.
+ * <p>
+ * The first request with a key runs as usual, and its response is stored in the
+ * {@link IdempotencyRecord} table in the same transaction as the work it did, so either both commit
+ * or neither does. A retry with the same key, from the same user and with the same payload, gets the
+ * stored response back without running the service logic again. Reusing a key for a different
+ * payload is rejected, as is a retry that arrives while the first request is still running.
+ * <p>
+ * Recent records are also kept in a bounded, access-ordered map of at most
+ * {@code idempotency.max-entries} entries, so most retries are answered without a query. Records are
+ * honoured for {@code idempotency.ttl-hours} and deleted every {@code idempotency.purge-interval-ms}.
+ * Two instances that race on the same key both try to insert its record; the loser's transaction
+ * rolls back on the primary key and it replays the winner's response.
+ * <p>
+ * {@link #isKnownReplay} answers from the in-memory records alone, so callers that shed load, such
+ * as a rate limiter, can do so before {@link #execute} queries the table.
+ * <p>
+ * Metrics: {@code idempotency.replays} (responses replayed, tagged by scope).
+ */
+@Component
+public class IdempotentRequests {
+
+    /** Request header carrying the client's idempotency key */
+    public static final String HEADER = "Idempotency-Key";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+
+    /** Recent records by ID, least recently used first */
+    private final Map<String, IdempotencyRecord> recent;
+
+    /** IDs of the records whose first request is still running on this instance */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public IdempotentRequests(IdempotencyRecordRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Runs a create request once per idempotency key.
+     *
+     * @param scope        the kind of request, such as {@code "bids"}; keys are only unique within a scope
+     * @param principal    the user making the request; keys are only unique per user
+     * @param key          the client's idempotency key, or {@code null} to run the request as usual
+     * @param request      the request payload, compared with the payload first sent with the key
+     * @param responseType the type of the response
+     * @param action       the request's work, run in a transaction together with storing its response
+     * @return the response of the action, or the stored response of an earlier request with the same key
+     * @throws IllegalArgumentException       if the key is blank or too long
+     * @throws UnacceptableOperationException if the key was used for a different payload
+     * @throws IdempotencyConflictException   if the first request with the key is still running
+     */
+    public <T> T execute(String scope, String principal, String key, Object request, Class<T> responseType,
+                         Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Invalid Idempotency Key");
+        }
+
+        String id = id(scope, principal, key);
+        String requestHash = sha256(write(request));
+
+        IdempotencyRecord stored = find(id);
+        if (stored != null && !isExpired(stored)) {
+            return replay(scope, stored, requestHash, responseType);
+        }
+
+        if (!inFlight.add(id)) {
+            throw new IdempotencyConflictException("A Request With This Idempotency Key Is In Progress");
+        }
+        try {
+            AtomicReference<IdempotencyRecord> record = new AtomicReference<>();
+            T response = transactionTemplate.execute(status -> {
+                T result = action.get();
+                if (stored != null) {
+                    // An expired record not purged yet would block the new one
+                    repository.delete(stored);
+                    repository.flush();
+                }
+                record.set(repository.saveAndFlush(
+                        new IdempotencyRecord(id, requestHash, write(result), LocalDateTime.now(clock))));
+                return result;
+            });
+            // Only remembered once committed; the first request gets the action's own result, not a copy
+            remember(record.get());
+            return response;
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance stored a response for the key first
+            IdempotencyRecord winner = find(id);
+            if (winner == null || isExpired(winner)) {
+                throw ex;
+            }
+            return replay(scope, winner, requestHash, responseType);
+        } finally {
+            inFlight.remove(id);
+        }
+    }
+
+    /**
+     * Tells whether a request would be answered from a record held in memory, without querying the
+     * table. A key whose record is only in the table is reported as unknown.
+     *
+     * @param scope     the kind of request, as passed to {@link #execute}
+     * @param principal the user making the request
+     * @param key       the client's idempotency key, or {@code null}
+     * @return {@code true} if an unexpired record for the key is held in memory
+     */
+    public boolean isKnownReplay(String scope, String principal, String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        IdempotencyRecord record;
+        synchronized (recent) {
+            record = recent.get(id(scope, principal, key));
+        }
+        return record != null && !isExpired(record);
+    }
+
+    /**
+     * Deletes the records that have expired.
+     *
+     * @return the number of records deleted
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}",
+            initialDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(ttl);
+        synchronized (recent) {
+            recent.values().removeIf(r -> r.getCreatedAt().isBefore(cutoff));
+        }
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteByCreatedAtBefore(cutoff));
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * @return the number of records held in memory
+     */
+    public int size() {
+        synchronized (recent) {
+            return recent.size();
+        }
+    }
+
+    private static String id(String scope, String principal, String key) {
+        return sha256(scope + "\n" + principal + "\n" + key);
+    }
+
+    private IdempotencyRecord find(String id) {
+        IdempotencyRecord record;
+        synchronized (recent) {
+            record = recent.get(id);
+        }
+        if (record == null) {
+            record = repository.findById(id).orElse(null);
+            if (record != null) {
+                remember(record);
+            }
+        }
+        return record;
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getCreatedAt().isBefore(LocalDateTime.now(clock).minus(ttl));
+    }
+
+    private void remember(IdempotencyRecord record) {
+        synchronized (recent) {
+            recent.put(record.getId(), record);
+        }
+    }
+
+    private <T> T replay(String scope, IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new UnacceptableOperationException("Idempotency Key Was Used For A Different Request");
+        }
+        Counter.builder("idempotency.replays")
+                .description("Responses replayed for a repeated idempotency key")
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+        return read(record, responseType);
+    }
+
+    private <T> T read(IdempotencyRecord record, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(record.getResponse(), responseType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored Response Could Not Be Read", ex);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Response Could Not Be Stored", ex);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.handyman.oddhandyman.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes opaque keyset pagination cursors.
+ * <p>
+ * A cursor is the sort key of the last row returned on a page (for example the task ID,
+ * or a deadline and ID pair). The parts are joined and Base64 URL-encoded so that clients
+ * treat the token as opaque and do not build queries around its contents.
+ */
+public final class CursorCodec {
+
+    /** Default number of items returned when the client does not request a page size */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Upper bound on the page size a client may request */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {}
+
+    /**
+     * Encodes the given sort key parts into an opaque cursor token.
+     *
+     * @param parts the sort key values of the last row on the page
+     * @return the encoded cursor token
+     */
+    public static String encode(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token into its sort key parts.
+     *
+     * @param cursor        the cursor token supplied by the client
+     * @param expectedParts the number of parts the cursor must contain
+     * @return the decoded parts, in the order they were encoded
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Invalid Cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+    }
+
+    /**
+     * Decodes a single-part cursor holding a numeric ID.
+     *
+     * @param cursor the cursor token supplied by the client
+     * @return the decoded ID
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Long decodeId(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor, 1)[0]);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+    }
+
+    /**
+     * Clamps a client-requested page size to the range {@code [1, MAX_PAGE_SIZE]},
+     * falling back to {@link #DEFAULT_PAGE_SIZE} when none was supplied.
+     *
+     * @param size the requested page size, may be {@code null}
+     * @return the effective page size
+     */
+    public static int pageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
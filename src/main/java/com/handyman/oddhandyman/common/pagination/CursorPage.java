@@ -0,0 +1,60 @@
+package com.handyman.oddhandyman.common.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * A single page of results from a keyset (cursor) paginated query.
+ * <p>
+ * Clients pass {@link #getNextCursor()} back unchanged to fetch the following page.
+ * When {@link #isHasMore()} is {@code false} the end of the result set has been reached
+ * and {@code nextCursor} is {@code null}.
+ *
+ * @param <T> the type of the items in the page
+ */
+@Schema(description = "A page of results from a cursor-paginated listing")
+public class CursorPage<T> {
+
+    @Schema(description = "Items in this page, in listing order")
+    private List<T> items;
+
+    @Schema(description = "Opaque token used to request the next page; null on the last page",
+            example = "MTIz")
+    private String nextCursor;
+
+    @Schema(description = "Indicates whether more items are available after this page", example = "true")
+    private boolean hasMore;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
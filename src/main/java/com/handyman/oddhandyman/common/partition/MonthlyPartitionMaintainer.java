@@ -0,0 +1,92 @@
+package com.handyman.oddhandyman.common.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Background job that creates the monthly partitions of the range-partitioned tables ahead of time.
+ * <p>
+ * On Postgres, {@code chat_messages} is partitioned by message month and {@code task_archive} and
+ * {@code review_archive} by finish month (see {@code db/migration/postgresql}). Rows for a month
+ * without a partition land in the default partition, which every query has to scan, so every
+ * {@code partitions.maintenance-interval-ms} this job creates the partitions for the current month
+ * and the next {@code partitions.months-ahead - 1} through the {@code create_month_partitions}
+ * database function. Existing partitions are left alone. Other databases are not partitioned and
+ * the job does nothing.
+ */
+@Component
+public class MonthlyPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyPartitionMaintainer.class);
+
+    /** Tables partitioned by timestamp month */
+    static final List<String> TIMESTAMP_TABLES = List.of("chat_messages");
+
+    /** Tables partitioned by an integer {@code yyyymm} month */
+    static final List<String> YYYYMM_TABLES = List.of("task_archive", "review_archive");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private Boolean partitioned;
+
+    public MonthlyPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                      Clock clock,
+                                      @Value("${partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates the missing monthly partitions from the current month on.
+     *
+     * @return the number of tables checked, 0 when the database is not partitioned
+     */
+    @Scheduled(fixedDelayString = "${partitions.maintenance-interval-ms:86400000}")
+    public int createUpcomingPartitions() {
+        if (!isPartitioned()) {
+            return 0;
+        }
+
+        LocalDate month = LocalDate.now(clock).withDayOfMonth(1);
+        int checked = 0;
+        for (String table : TIMESTAMP_TABLES) {
+            checked += create(table, month, false);
+        }
+        for (String table : YYYYMM_TABLES) {
+            checked += create(table, month, true);
+        }
+        return checked;
+    }
+
+    private int create(String table, LocalDate month, boolean yyyymmKey) {
+        try {
+            jdbcTemplate.queryForList("select create_month_partitions(?, ?, ?, ?)",
+                    table, month, monthsAhead, yyyymmKey);
+            return 1;
+        } catch (DataAccessException ex) {
+            // Typically rows for the month already sit in the default partition; the next run retries
+            log.warn("Could not create monthly partitions of {}", table, ex);
+            return 0;
+        }
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            partitioned = "PostgreSQL".equals(product);
+        }
+        return partitioned;
+    }
+}
@@ -0,0 +1,106 @@
+package com.handyman.oddhandyman.common.ratelimit;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket rate limits for many keys, such as one bucket per user, held in bounded memory.
+ * <p>
+ * Each bucket holds up to {@code burst} tokens and earns them back at {@code perMinute}. It is kept
+ * as a single {@link AtomicLong}: the time at which the bucket will be full again (the "theoretical
+ * arrival time" of the generic cell rate algorithm). Taking a token is one compare-and-set that
+ * moves that time forward by one token's worth, so concurrent requests for the same key never block.
+ * <p>
+ * Buckets are found in {@value #SEGMENTS} independently locked, access-ordered maps, each holding at
+ * most its share of {@code maxKeys}. A lock is only held to look a bucket up; when a segment is full
+ * its least recently used bucket is dropped, which at worst lets that idle key start with a full
+ * bucket again.
+ */
+public class TokenBuckets {
+
+    static final int SEGMENTS = 16;
+
+    private final long intervalMillis;
+    private final long burstMillis;
+    private final Clock clock;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * @param burst     tokens a new or idle key may spend at once; at least 1
+     * @param perMinute tokens earned back per minute; greater than 0
+     * @param maxKeys   upper bound on the number of buckets held
+     * @param clock     source of the current time
+     */
+    public TokenBuckets(int burst, double perMinute, int maxKeys, Clock clock) {
+        if (burst < 1 || perMinute <= 0 || maxKeys < SEGMENTS) {
+            throw new IllegalArgumentException("Invalid Rate Limit");
+        }
+        this.intervalMillis = Math.max(1, Math.round(60_000 / perMinute));
+        this.burstMillis = (burst - 1) * intervalMillis;
+        this.clock = clock;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxKeys / SEGMENTS);
+        }
+    }
+
+    /**
+     * Takes a token from the key's bucket if one is available.
+     *
+     * @param key the key being limited
+     * @return 0 if a token was taken, otherwise the milliseconds until the next token is earned
+     */
+    public long tryAcquire(Object key) {
+        long now = clock.millis();
+        AtomicLong fullAt = bucket(key, now);
+        while (true) {
+            long current = fullAt.get();
+            long from = Math.max(current, now);
+            long wait = from - burstMillis - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, from + intervalMillis)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of buckets held
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(Object key, long now) {
+        int hash = key.hashCode();
+        Segment segment = segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            return segment.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+    }
+
+    /** Access-ordered map dropping its least recently used bucket once over capacity */
+    private static final class Segment extends LinkedHashMap<Object, AtomicLong> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, AtomicLong> eldest) {
+            return size() > capacity;
+        }
+    }
+}
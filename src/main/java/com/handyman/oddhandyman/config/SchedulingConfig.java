@@ -0,0 +1,25 @@
+package com.handyman.oddhandyman.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+/**
+ * Enables scheduled background jobs and provides the {@link Clock} they read the time from.
+ * <p>
+ * Injecting the clock keeps time-based jobs testable with a fixed clock.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * @return the system clock in the default time zone, matching the zone-less task deadlines
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
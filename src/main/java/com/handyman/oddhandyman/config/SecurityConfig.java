@@ -3,6 +3,7 @@ package com.handyman.oddhandyman.config;
 import com.handyman.oddhandyman.auth.security.CustomUserDetailsService;
 import com.handyman.oddhandyman.auth.security.JwtAuthenticationFilter;
 import com.handyman.oddhandyman.auth.security.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -55,6 +56,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses finish in an async dispatch of a request already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/h2-console/**",
@@ -0,0 +1,7 @@
+package com.handyman.oddhandyman.exception;
+
+public class BidStateConflictException extends RuntimeException {
+    public BidStateConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.handyman.oddhandyman.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
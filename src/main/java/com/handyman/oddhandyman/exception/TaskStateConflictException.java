@@ -0,0 +1,7 @@
+package com.handyman.oddhandyman.exception;
+
+public class TaskStateConflictException extends RuntimeException {
+    public TaskStateConflictException(String message) {
+        super(message);
+    }
+}
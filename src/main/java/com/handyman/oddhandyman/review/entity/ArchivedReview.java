@@ -0,0 +1,113 @@
+package com.handyman.oddhandyman.review.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.PartitionKey;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a review moved to the archive together with its task.
+ * <p>
+ * The review, its participants and its task are kept as a JSON snapshot; the handyman and task IDs
+ * are columns so the review lookups can still find it. Rows are written once and never updated.
+ */
+@Entity
+@Table(name = "review_archive", indexes = {
+        @Index(name = "idx_review_archive_handyman", columnList = "reviewed_handyman_id, id"),
+        @Index(name = "idx_review_archive_task", columnList = "task_id"),
+        @Index(name = "idx_review_archive_partition_month", columnList = "partition_month")
+})
+@Schema(description = "Archived review of a task that was moved out of the reviews table")
+public class ArchivedReview implements Persistable<Long> {
+
+    @Id
+    @Schema(description = "ID the review had in the reviews table", example = "1")
+    private Long id;
+
+    @PartitionKey
+    @Column(name = "partition_month", nullable = false)
+    @Schema(description = "Month the reviewed task finished in, as yyyymm", example = "202603")
+    private Integer partitionMonth;
+
+    @Column(name = "task_id")
+    @Schema(description = "ID of the reviewed task")
+    private Long taskId;
+
+    @Column(name = "reviewed_handyman_id")
+    @Schema(description = "ID of the handyman being reviewed")
+    private Long reviewedHandymanId;
+
+    @Schema(description = "Timestamp when the review was archived")
+    private LocalDateTime archivedAt;
+
+    @Column(length = Length.LONG32)
+    @Schema(description = "JSON snapshot of the review with its participants and task")
+    private String snapshot;
+
+    /** Rows get their ID from the archived row, so saving must not first look the ID up */
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getPartitionMonth() {
+        return partitionMonth;
+    }
+
+    public void setPartitionMonth(Integer partitionMonth) {
+        this.partitionMonth = partitionMonth;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getReviewedHandymanId() {
+        return reviewedHandymanId;
+    }
+
+    public void setReviewedHandymanId(Long reviewedHandymanId) {
+        this.reviewedHandymanId = reviewedHandymanId;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(String snapshot) {
+        this.snapshot = snapshot;
+    }
+}
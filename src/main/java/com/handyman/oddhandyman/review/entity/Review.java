@@ -7,10 +7,18 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = Review.WITH_PARTICIPANTS, attributeNodes = {
+        @NamedAttributeNode("reviewer"),
+        @NamedAttributeNode("reviewedHandyman"),
+        @NamedAttributeNode("task")
+})
 @Table(name = "reviews")
 @Schema(description = "Represents a review submitted by a customer for a handyman after completing a task")
 public class Review {
 
+    /** Entity graph fetching the reviewer, reviewed handyman and task together with the review */
+    public static final String WITH_PARTICIPANTS = "Review.withParticipants";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Schema(description = "Unique identifier of the review", example = "1")
@@ -23,15 +31,15 @@ public class Review {
     @Schema(description = "Optional textual comment provided by the reviewer", example = "Excellent work, very professional!")
     private String comment;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "User who submitted the review (customer)")
     private User reviewer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "Handyman being reviewed")
     private User reviewedHandyman;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @Schema(description = "Task associated with this review")
     private Task task;
 
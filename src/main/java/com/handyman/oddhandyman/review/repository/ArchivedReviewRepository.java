@@ -0,0 +1,30 @@
+package com.handyman.oddhandyman.review.repository;
+
+import com.handyman.oddhandyman.review.entity.ArchivedReview;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for reading and writing {@link ArchivedReview} rows.
+ */
+@Repository
+public interface ArchivedReviewRepository extends JpaRepository<ArchivedReview, Long> {
+
+    /**
+     * Retrieves the archived reviews of a specific task.
+     *
+     * @param taskId ID of the task
+     * @return a list of {@link ArchivedReview} rows for the task
+     */
+    List<ArchivedReview> findByTaskId(Long taskId);
+
+    /**
+     * Retrieves the archived reviews written about a specific handyman.
+     *
+     * @param userId ID of the handyman
+     * @return a list of {@link ArchivedReview} rows for the handyman
+     */
+    List<ArchivedReview> findByReviewedHandymanId(Long userId);
+}
@@ -1,9 +1,14 @@
 package com.handyman.oddhandyman.review.repository;
 
 import com.handyman.oddhandyman.review.entity.Review;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,6 +35,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @param taskId ID of the task
      * @return a list of {@link Review} entities for the specified task
      */
+    @EntityGraph(Review.WITH_PARTICIPANTS)
     List<Review> findByTaskId(Long taskId);
 
     /**
@@ -38,6 +44,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @param userId ID of the handyman
      * @return a list of {@link Review} entities written for the handyman
      */
+    @EntityGraph(Review.WITH_PARTICIPANTS)
     List<Review> findByReviewedHandymanId(Long userId);
 
     /**
@@ -49,4 +56,25 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      * @return the {@link Review} entity if it exists, or {@code null} otherwise
      */
     Review findByTaskIdAndReviewerId(Long taskId, Long reviewerId);
+
+    /**
+     * Retrieves the reviews of several tasks at once, together with their participants and task.
+     * <p>
+     * Used to snapshot the reviews of tasks that are being archived.
+     *
+     * @param taskIds IDs of the tasks
+     * @return a list of {@link Review} entities for the given tasks
+     */
+    @EntityGraph(Review.WITH_PARTICIPANTS)
+    List<Review> findByTaskIdIn(Collection<Long> taskIds);
+
+    /**
+     * Deletes the reviews of the given tasks in one statement.
+     *
+     * @param taskIds IDs of the tasks
+     * @return the number of reviews deleted
+     */
+    @Modifying
+    @Query("delete from Review r where r.task.id in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
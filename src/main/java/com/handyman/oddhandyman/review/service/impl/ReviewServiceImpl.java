@@ -10,11 +10,13 @@ import com.handyman.oddhandyman.review.dto.ReviewResponse;
 import com.handyman.oddhandyman.review.entity.Review;
 import com.handyman.oddhandyman.review.repository.ReviewRepository;
 import com.handyman.oddhandyman.review.service.ReviewService;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,11 +31,14 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepo;
     private final TaskRepository taskRepo;
     private final UserRepository userRepo;
+    private final TaskArchive taskArchive;
 
-    public ReviewServiceImpl(ReviewRepository reviewRepo, TaskRepository taskRepo, UserRepository userRepo) {
+    public ReviewServiceImpl(ReviewRepository reviewRepo, TaskRepository taskRepo, UserRepository userRepo,
+                             TaskArchive taskArchive) {
         this.reviewRepo = reviewRepo;
         this.taskRepo = taskRepo;
         this.userRepo = userRepo;
+        this.taskArchive = taskArchive;
     }
 
     /**
@@ -78,13 +83,15 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     /**
-     * Retrieves all reviews written about a specific handyman.
+     * Retrieves all reviews written about a specific handyman, including archived ones.
      *
      * @param userId ID of the handyman
-     * @return a list of {@link Review} entities for the handyman
+     * @return a list of {@link Review} entities for the handyman, live reviews first
      */
     public List<Review> getReviewsForUser(Long userId) {
-        return reviewRepo.findByReviewedHandymanId(userId);
+        List<Review> reviews = new ArrayList<>(reviewRepo.findByReviewedHandymanId(userId));
+        reviews.addAll(taskArchive.findReviewsForHandyman(userId));
+        return reviews;
     }
 
     /**
@@ -107,12 +114,16 @@ public class ReviewServiceImpl implements ReviewService {
 
     /**
      * Retrieves all reviews associated with a specific task.
+     * Reviews of archived tasks are read from the archive.
      *
      * @param taskId ID of the task
      * @return a list of {@link ReviewResponse} DTOs
      */
     public List<ReviewResponse> getReviewsForTask(Long taskId) {
         List<Review> reviews = reviewRepo.findByTaskId(taskId);
+        if (reviews.isEmpty()) {
+            reviews = taskArchive.findReviewsForTask(taskId);
+        }
         return reviews.stream()
                 .map(this::mapToDto)
                 .toList();
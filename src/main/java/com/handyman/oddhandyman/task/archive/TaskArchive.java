@@ -0,0 +1,269 @@
+package com.handyman.oddhandyman.task.archive;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
+import com.handyman.oddhandyman.review.entity.ArchivedReview;
+import com.handyman.oddhandyman.review.entity.Review;
+import com.handyman.oddhandyman.review.repository.ArchivedReviewRepository;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.ArchivedTask;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.repository.ArchivedTaskRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Read access to finished tasks that {@link TaskArchiver} moved out of the hot tables.
+ * <p>
+ * The task, bid, chat and review services fall back to these lookups when a task is no longer in
+ * the {@code tasks} table, so historical reads keep working after archiving. Snapshots are read
+ * back into detached entities, which serialize exactly like the live ones did. Versions are taken
+ * from the snapshot, so ETags issued before a task was archived stay valid afterwards.
+ * <p>
+ * The same JSON mapping is used to write the snapshots; user passwords are never stored, while the
+ * task's bid aggregates, hidden from the API, are kept.
+ */
+@Component
+public class TaskArchive {
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedReviewRepository archivedReviewRepository;
+    private final ObjectMapper objectMapper;
+
+    public TaskArchive(ArchivedTaskRepository archivedTaskRepository,
+                       ArchivedReviewRepository archivedReviewRepository,
+                       ObjectMapper objectMapper) {
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedReviewRepository = archivedReviewRepository;
+        this.objectMapper = objectMapper.copy()
+                .addMixIn(User.class, ArchivedUser.class)
+                .addMixIn(Task.class, ArchivedTaskFields.class)
+                .addMixIn(Bid.class, ArchivedTaskChild.class)
+                .addMixIn(ChatMessage.class, ArchivedTaskChild.class);
+    }
+
+    /**
+     * Retrieves an archived task.
+     *
+     * @param taskId the task ID
+     * @return the task as it was archived, if it is archived
+     */
+    public Optional<Task> findTask(Long taskId) {
+        return findSnapshot(taskId).map(TaskSnapshot::getTask);
+    }
+
+    /**
+     * Retrieves only the version of an archived task, without reading its snapshot.
+     *
+     * @param taskId the task ID
+     * @return the task version, if the task is archived
+     */
+    public Optional<Long> findVersion(Long taskId) {
+        return archivedTaskRepository.findVersionById(taskId);
+    }
+
+    /**
+     * Retrieves the bids of an archived task.
+     *
+     * @param taskId the task ID
+     * @return the task's bids, if the task is archived
+     */
+    public Optional<List<Bid>> findBids(Long taskId) {
+        return findSnapshot(taskId).map(TaskSnapshot::getBids);
+    }
+
+    /**
+     * Retrieves the chat messages of an archived task, oldest first.
+     *
+     * @param taskId the task ID
+     * @return the task's messages, if the task is archived
+     */
+    public Optional<List<ChatMessage>> findMessages(Long taskId) {
+        return findSnapshot(taskId).map(TaskSnapshot::getMessages);
+    }
+
+    /**
+     * Computes the version of an archived task's bid list, matching the live bid list version.
+     *
+     * @param taskId the task ID
+     * @return the {@link CollectionVersion} of the task's bids, if the task is archived
+     */
+    public Optional<CollectionVersion> findBidListVersion(Long taskId) {
+        return findSnapshot(taskId).map(s -> collectionVersion(s.getTask(),
+                s.getBids().stream().map(Bid::getId).toList(),
+                s.getBids().stream().map(Bid::getVersion).toList()));
+    }
+
+    /**
+     * Computes the version of an archived task's chat, matching the live chat version.
+     *
+     * @param taskId the task ID
+     * @return the {@link CollectionVersion} of the task's messages, if the task is archived
+     */
+    public Optional<CollectionVersion> findMessageListVersion(Long taskId) {
+        return findSnapshot(taskId).map(s -> collectionVersion(s.getTask(),
+                s.getMessages().stream().map(ChatMessage::getId).toList(),
+                s.getMessages().stream().map(ChatMessage::getVersion).toList()));
+    }
+
+    /**
+     * Streams a customer's archived tasks, oldest first, reading one snapshot at a time.
+     * Must be consumed, and closed, inside a transaction.
+     *
+     * @param customerId ID of the customer who created the tasks
+     * @return stream of {@link TaskResponse}s of the customer's archived tasks
+     */
+    public Stream<TaskResponse> streamTasksForCustomer(Long customerId) {
+        return archivedTaskRepository.streamSnapshotsByCustomerId(customerId)
+                .map(json -> TaskResponse.from(read(json, TaskSnapshot.class, null).getTask()));
+    }
+
+    /**
+     * Retrieves the archived reviews written about a handyman.
+     *
+     * @param handymanId ID of the handyman
+     * @return a list of archived {@link Review}s, empty if there are none
+     */
+    public List<Review> findReviewsForHandyman(Long handymanId) {
+        return archivedReviewRepository.findByReviewedHandymanId(handymanId).stream()
+                .map(this::readReview)
+                .toList();
+    }
+
+    /**
+     * Retrieves the archived reviews of a task.
+     *
+     * @param taskId ID of the task
+     * @return a list of archived {@link Review}s, empty if there are none
+     */
+    public List<Review> findReviewsForTask(Long taskId) {
+        return archivedReviewRepository.findByTaskId(taskId).stream()
+                .map(this::readReview)
+                .toList();
+    }
+
+    /**
+     * Builds the archive row of a finished task.
+     *
+     * @param task       the task, with its customer and assigned handyman loaded
+     * @param bids       the task's bids, with their handymen loaded
+     * @param messages   the task's chat messages, with their senders loaded
+     * @param finishedAt when the task finished, which selects its partition
+     * @param archivedAt the current time
+     * @return the unsaved archive row
+     */
+    ArchivedTask toArchivedTask(Task task, List<Bid> bids, List<ChatMessage> messages,
+                                LocalDateTime finishedAt, LocalDateTime archivedAt) {
+        List<Bid> sortedBids = bids.stream().sorted(Comparator.comparing(Bid::getId)).toList();
+        List<ChatMessage> sortedMessages = messages.stream()
+                .sorted(Comparator.comparing(ChatMessage::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ChatMessage::getId))
+                .toList();
+
+        ArchivedTask archived = new ArchivedTask();
+        archived.setId(task.getId());
+        archived.setPartitionMonth(partitionMonth(finishedAt));
+        archived.setStatus(task.getStatus());
+        archived.setCustomerId(task.getCustomer() == null ? null : task.getCustomer().getId());
+        archived.setAssignedHandymanId(task.getAssignedHandyman() == null ? null : task.getAssignedHandyman().getId());
+        archived.setVersion(task.getVersion());
+        archived.setFinishedAt(finishedAt);
+        archived.setArchivedAt(archivedAt);
+        archived.setSnapshot(write(new TaskSnapshot(task, sortedBids, sortedMessages)));
+        return archived;
+    }
+
+    /**
+     * Builds the archive row of a review whose task is being archived.
+     *
+     * @param review     the review, with its participants and task loaded
+     * @param finishedAt when the reviewed task finished, which selects the partition
+     * @param archivedAt the current time
+     * @return the unsaved archive row
+     */
+    ArchivedReview toArchivedReview(Review review, LocalDateTime finishedAt, LocalDateTime archivedAt) {
+        ArchivedReview archived = new ArchivedReview();
+        archived.setId(review.getId());
+        archived.setPartitionMonth(partitionMonth(finishedAt));
+        archived.setTaskId(review.getTask() == null ? null : review.getTask().getId());
+        archived.setReviewedHandymanId(review.getReviewedHandyman() == null ? null : review.getReviewedHandyman().getId());
+        archived.setArchivedAt(archivedAt);
+        archived.setSnapshot(write(review));
+        return archived;
+    }
+
+    /**
+     * @return the {@code yyyymm} partition key of a finish time
+     */
+    static int partitionMonth(LocalDateTime finishedAt) {
+        return finishedAt.getYear() * 100 + finishedAt.getMonthValue();
+    }
+
+    private Optional<TaskSnapshot> findSnapshot(Long taskId) {
+        return archivedTaskRepository.findById(taskId).map(archived -> {
+            TaskSnapshot snapshot = read(archived.getSnapshot(), TaskSnapshot.class, archived.getId());
+            snapshot.getBids().forEach(b -> b.setTask(snapshot.getTask()));
+            snapshot.getMessages().forEach(m -> m.setTask(snapshot.getTask()));
+            return snapshot;
+        });
+    }
+
+    private Review readReview(ArchivedReview archived) {
+        return read(archived.getSnapshot(), Review.class, archived.getId());
+    }
+
+    private CollectionVersion collectionVersion(Task task, List<Long> ids, List<Long> versions) {
+        return new CollectionVersion(
+                task.getVersion(),
+                (long) ids.size(),
+                ids.stream().max(Long::compare).orElse(null),
+                versions.stream().mapToLong(v -> v == null ? 0 : v).sum());
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Archive Snapshot Could Not Be Written", ex);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type, Long id) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(id == null
+                    ? "Archive Snapshot Could Not Be Read"
+                    : "Archive Snapshot " + id + " Could Not Be Read", ex);
+        }
+    }
+
+    /** Keeps passwords out of archive snapshots */
+    @JsonIgnoreProperties(value = {"hibernateLazyInitializer", "handler", "password"}, ignoreUnknown = true)
+    private abstract static class ArchivedUser {
+    }
+
+    /** Keeps the bid aggregates the API leaves out, so an archived task is read back with them */
+    @JsonIgnoreProperties(value = {"hibernateLazyInitializer", "handler"}, ignoreUnknown = true)
+    private abstract static class ArchivedTaskFields {
+        @JsonIgnore(false) private Double lowestBid;
+        @JsonIgnore(false) private Double highestBid;
+        @JsonIgnore(false) private double bidTotal;
+    }
+
+    /** Stores bids and messages without their task, which the snapshot already holds */
+    @JsonIgnoreProperties(value = {"hibernateLazyInitializer", "handler", "task"}, ignoreUnknown = true)
+    private abstract static class ArchivedTaskChild {
+    }
+}
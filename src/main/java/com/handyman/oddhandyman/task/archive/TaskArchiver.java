@@ -0,0 +1,178 @@
+package com.handyman.oddhandyman.task.archive;
+
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.chat.repository.ChatRepository;
+import com.handyman.oddhandyman.review.entity.ArchivedReview;
+import com.handyman.oddhandyman.review.entity.Review;
+import com.handyman.oddhandyman.review.repository.ArchivedReviewRepository;
+import com.handyman.oddhandyman.review.repository.ReviewRepository;
+import com.handyman.oddhandyman.task.entity.ArchivedTask;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.ArchivedTaskRepository;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Background job that moves finished tasks out of the hot tables into the archive tables.
+ * <p>
+ * Every {@code tasks.archive.interval-ms}, COMPLETED and CANCELLED tasks that finished more than
+ * {@code tasks.archive.retention-days} ago are moved in batches of {@code tasks.archive.batch-size},
+ * oldest first. Each batch is one transaction: the tasks, bids, chat messages and reviews are read
+ * with a few set-based queries, written to {@code task_archive} and {@code review_archive}, and
+ * deleted with one statement per table. Terminal tasks no longer change, so no row lock is taken;
+ * if a review, message or bid is added to a task while its batch runs, the deletes remove more rows
+ * than were archived, the batch rolls back and the task is archived on the next run. One added
+ * after the deletes fails the delete of its task on the foreign key instead, with the same outcome.
+ * <p>
+ * Reads fall back to {@link TaskArchive} once a task is gone from the hot tables.
+ * Metric: {@code tasks.archive.batch.size} (tasks archived per batch).
+ */
+@Component
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    /** Statuses of tasks that are finished and can be archived */
+    static final List<TaskStatus> ARCHIVABLE_STATUSES = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private final TaskRepository taskRepository;
+    private final BidRepository bidRepository;
+    private final ChatRepository chatRepository;
+    private final ReviewRepository reviewRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedReviewRepository archivedReviewRepository;
+    private final TaskArchive taskArchive;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int retentionDays;
+    private final int batchSize;
+    private final DistributionSummary batchSizes;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        BidRepository bidRepository,
+                        ChatRepository chatRepository,
+                        ReviewRepository reviewRepository,
+                        ArchivedTaskRepository archivedTaskRepository,
+                        ArchivedReviewRepository archivedReviewRepository,
+                        TaskArchive taskArchive,
+                        PlatformTransactionManager transactionManager,
+                        Clock clock,
+                        MeterRegistry meterRegistry,
+                        @Value("${tasks.archive.retention-days:30}") int retentionDays,
+                        @Value("${tasks.archive.batch-size:100}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.bidRepository = bidRepository;
+        this.chatRepository = chatRepository;
+        this.reviewRepository = reviewRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedReviewRepository = archivedReviewRepository;
+        this.taskArchive = taskArchive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.batchSizes = DistributionSummary.builder("tasks.archive.batch.size")
+                .description("Number of tasks moved to the archive per batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives every finished task past its retention period, one batch at a time.
+     *
+     * @return the number of tasks archived
+     */
+    @Scheduled(fixedDelayString = "${tasks.archive.interval-ms:3600000}",
+            initialDelayString = "${tasks.archive.interval-ms:3600000}")
+    public int archiveDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+        int archived = 0;
+
+        while (true) {
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveBatch(cutoff, now));
+            } catch (RuntimeException ex) {
+                log.warn("Task archive batch failed, retrying on the next run", ex);
+                break;
+            }
+
+            if (moved == null || moved == 0) {
+                break;
+            }
+            batchSizes.record(moved);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff, LocalDateTime now) {
+        List<Long> ids = taskRepository.findArchivableIds(ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Bid>> bids = bidRepository.findByTaskIdIn(ids).stream()
+                .collect(Collectors.groupingBy(b -> b.getTask().getId()));
+        Map<Long, List<ChatMessage>> messages = chatRepository.findByTaskIdIn(ids).stream()
+                .collect(Collectors.groupingBy(m -> m.getTask().getId()));
+
+        List<ArchivedTask> archivedTasks = new ArrayList<>();
+        Map<Long, LocalDateTime> finishedAt = new HashMap<>();
+        for (Task task : taskRepository.findByIdIn(ids)) {
+            LocalDateTime finished = task.getFinishedAt() != null ? task.getFinishedAt() : task.getDeadline();
+            finishedAt.put(task.getId(), finished);
+            archivedTasks.add(taskArchive.toArchivedTask(task,
+                    bids.getOrDefault(task.getId(), List.of()),
+                    messages.getOrDefault(task.getId(), List.of()),
+                    finished, now));
+        }
+
+        List<ArchivedReview> archivedReviews = new ArrayList<>();
+        for (Review review : reviewRepository.findByTaskIdIn(ids)) {
+            archivedReviews.add(taskArchive.toArchivedReview(review, finishedAt.get(review.getTask().getId()), now));
+        }
+
+        archivedTaskRepository.saveAll(archivedTasks);
+        archivedReviewRepository.saveAll(archivedReviews);
+
+        // Children first, so the foreign keys to tasks are gone before the tasks are deleted
+        int deletedReviews = reviewRepository.deleteByTaskIdIn(ids);
+        int deletedMessages = chatRepository.deleteByTaskIdIn(ids);
+        int deletedBids = bidRepository.deleteByTaskIdIn(ids);
+        if (deletedReviews != archivedReviews.size()
+                || deletedMessages != count(messages)
+                || deletedBids != count(bids)) {
+            throw new IllegalStateException("Archived Tasks Changed While Being Archived");
+        }
+        taskRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    private static int count(Map<Long, ? extends List<?>> children) {
+        return children.values().stream().mapToInt(List::size).sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.handyman.oddhandyman.task.archive;
+
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.task.entity.ArchivedTask;
+import com.handyman.oddhandyman.task.entity.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON document stored in {@link ArchivedTask#getSnapshot()}: a finished task with its bids and chat.
+ * <p>
+ * Bids and messages are stored without their task, which is set back on them when the snapshot is read.
+ */
+public class TaskSnapshot {
+
+    private Task task;
+    private List<Bid> bids = new ArrayList<>();
+    private List<ChatMessage> messages = new ArrayList<>();
+
+    public TaskSnapshot() {
+    }
+
+    public TaskSnapshot(Task task, List<Bid> bids, List<ChatMessage> messages) {
+        this.task = task;
+        this.bids = bids;
+        this.messages = messages;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public void setTask(Task task) {
+        this.task = task;
+    }
+
+    public List<Bid> getBids() {
+        return bids;
+    }
+
+    public void setBids(List<Bid> bids) {
+        this.bids = bids;
+    }
+
+    public List<ChatMessage> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<ChatMessage> messages) {
+        this.messages = messages;
+    }
+}
@@ -0,0 +1,155 @@
+package com.handyman.oddhandyman.task.cache;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskBidsChangedEvent;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process read-through cache of the open (PENDING) task marketplace.
+ * <p>
+ * The open set is loaded from the database on the first read and then kept current
+ * incrementally from {@link TaskStatusChangedEvent}s published after each committing
+ * transaction, so it is never reloaded wholesale while it stays valid. Tasks whose bid summary
+ * changed ({@link TaskBidsChangedEvent}) are re-read one by one.
+ * <p>
+ * Memory is bounded by {@code tasks.open-cache.max-entries}: when the open set grows past the
+ * bound the cache drops its contents and reads fall through to the database until the set
+ * fits again. Hits and misses are recorded as {@code cache.gets} and the current size as
+ * {@code cache.size}, tagged {@code cache=openTasks}.
+ */
+@Component
+public class OpenTaskCache {
+
+    static final String CACHE_NAME = "openTasks";
+
+    private final TaskRepository taskRepository;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    /** Open tasks keyed by ID, newest first */
+    private final ConcurrentSkipListMap<Long, TaskResponse> openTasks =
+            new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    private volatile boolean loaded;
+
+    /** Bumped by every status or bid summary change; a load is only installed if no change happened while it ran */
+    private long generation;
+
+    public OpenTaskCache(TaskRepository taskRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${tasks.open-cache.max-entries:10000}") int maxEntries) {
+        this.taskRepository = taskRepository;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("Open task cache reads served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Open task cache reads served from the database")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", openTasks, ConcurrentSkipListMap::size)
+                .tag("cache", CACHE_NAME)
+                .description("Number of open tasks held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns all open tasks, newest first, loading them from the database on a miss.
+     *
+     * @return list of open task snapshots
+     */
+    public List<TaskResponse> getOpenTasks() {
+        if (loaded) {
+            hits.increment();
+            return List.copyOf(openTasks.values());
+        }
+
+        misses.increment();
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+
+        List<TaskResponse> tasks = taskRepository.findOpenTasks(TaskStatus.PENDING);
+
+        synchronized (this) {
+            if (!loaded && loadGeneration == generation && tasks.size() <= maxEntries) {
+                openTasks.clear();
+                tasks.forEach(t -> openTasks.put(t.getId(), t));
+                loaded = true;
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Applies a committed task status change to the cached open set.
+     * <p>
+     * Runs after the publishing transaction commits, so uncommitted or rolled-back changes
+     * are never visible to readers. Events published outside a transaction are applied immediately.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        generation++;
+        if (!loaded) {
+            return;
+        }
+
+        TaskResponse task = event.getTask();
+        if (event.getStatus() != TaskStatus.PENDING) {
+            openTasks.remove(task.getId());
+        } else if (openTasks.containsKey(task.getId()) || openTasks.size() < maxEntries) {
+            openTasks.put(task.getId(), task);
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * Refreshes a cached open task after its bid summary changed.
+     * <p>
+     * The task is re-read under the cache lock, so whichever refresh runs last installs the latest
+     * committed summary even when the events of concurrent bids are handled out of order.
+     *
+     * @param event the bid summary change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskBidsChanged(TaskBidsChangedEvent event) {
+        generation++;
+        if (!loaded || !openTasks.containsKey(event.getTaskId())) {
+            return;
+        }
+
+        List<TaskResponse> current = taskRepository.findResponsesByIdInAndStatus(List.of(event.getTaskId()), TaskStatus.PENDING);
+        if (current.isEmpty()) {
+            openTasks.remove(event.getTaskId());
+        } else {
+            openTasks.put(event.getTaskId(), current.get(0));
+        }
+    }
+
+    /**
+     * Drops the cached open set; the next read reloads it from the database.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        loaded = false;
+        openTasks.clear();
+    }
+}
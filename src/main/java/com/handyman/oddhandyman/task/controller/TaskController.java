@@ -2,18 +2,34 @@ package com.handyman.oddhandyman.task.controller;
 
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.auth.service.UserService;
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionResponse;
+import com.handyman.oddhandyman.bid.pricing.BidPriceAnalytics;
+import com.handyman.oddhandyman.common.etag.ETags;
+import com.handyman.oddhandyman.common.idempotency.IdempotentRequests;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
+import com.handyman.oddhandyman.task.dto.BulkTaskRequest;
+import com.handyman.oddhandyman.task.dto.NearbyTaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
+import com.handyman.oddhandyman.task.dto.TaskFeedMode;
 import com.handyman.oddhandyman.task.dto.TaskRequest;
 import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskSortOrder;
+import com.handyman.oddhandyman.task.dto.TaskStatsResponse;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,25 +46,44 @@ public class TaskController {
 
     private final TaskService taskService;
     private final UserService userService;
+    private final IdempotentRequests idempotentRequests;
+    private final BidPriceAnalytics bidPriceAnalytics;
 
-    public TaskController(TaskService taskService, UserService userService) {
+    public TaskController(TaskService taskService, UserService userService, IdempotentRequests idempotentRequests,
+                          BidPriceAnalytics bidPriceAnalytics) {
         this.taskService = taskService;
         this.userService = userService;
-
+        this.idempotentRequests = idempotentRequests;
+        this.bidPriceAnalytics = bidPriceAnalytics;
     }
 
     @Operation(summary = "Create a new task",
-            description = "Create New Task",
+            description = "Create New Task. Send an Idempotency-Key header to retry safely: a repeated key "
+                    + "returns the first response without creating another task.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @PostMapping
-    public ResponseEntity<?> createTask(
+    public ResponseEntity<Task> createTask(
             @Valid @RequestBody TaskRequest req,
+            @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails user
     ) {
-        Task t = taskService.createTask(req, user.getUsername());
+        Task t = idempotentRequests.execute("tasks", user.getUsername(), idempotencyKey, req, Task.class,
+                () -> taskService.createTask(req, user.getUsername()));
         return ResponseEntity.ok(t);
     }
 
+    @Operation(summary = "Create many tasks",
+            description = "Creates up to 500 tasks for the authenticated customer in one transaction. "
+                    + "Either all tasks are created or, if any item is invalid, none.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping("/bulk")
+    public List<TaskResponse> createTasks(
+            @Valid @RequestBody BulkTaskRequest req,
+            @AuthenticationPrincipal UserDetails user
+    ) {
+        return taskService.createTasks(req.getTasks(), user.getUsername());
+    }
+
     @Operation(summary = "List all tasks",
             description =  "Retrieves all tasks relevant to the userenticated user.",
             security = @SecurityRequirement(name = "bearerAuth"))
@@ -60,14 +95,135 @@ public class TaskController {
         return taskService.getTasksForUser(user);
     }
 
+    @Operation(summary = "List tasks page by page",
+            description = "Cursor-paginated version of the task listing. Customers may order by NEWEST or DEADLINE; "
+                    + "handymen receive their task feed. Pass the returned nextCursor to fetch the following page.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/page")
+    public CursorPage<TaskResponse> getTaskPage(
+            @RequestParam(defaultValue = "NEWEST") TaskSortOrder sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails userAuth
+    ) {
+        User user = userService.findByEmail(userAuth.getUsername());
+        return taskService.getTaskPage(user, sort, cursor, size);
+    }
+
+    @Operation(summary = "Handyman task feed",
+            description = "LATEST (default) returns one page of open tasks plus the handyman's assigned and completed "
+                    + "tasks, newest first. RECOMMENDED returns open tasks ranked by match with the skills and location "
+                    + "in the handyman's profile, budget and deadline urgency; lat and lon optionally give the "
+                    + "handyman's current position. Pass the returned nextCursor to fetch the following page.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/feed")
+    public CursorPage<TaskResponse> getFeed(
+            @RequestParam(defaultValue = "LATEST") TaskFeedMode mode,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails userAuth
+    ) {
+        User user = userService.findByEmail(userAuth.getUsername());
+        if (mode == TaskFeedMode.RECOMMENDED) {
+            return taskService.getRecommendedFeed(user, lat, lon, cursor, size);
+        }
+        return taskService.getHandymanFeed(user, cursor, size);
+    }
+
+    @Operation(summary = "Search open tasks",
+            description = "Full-text search over the title and description of open tasks, best match first. "
+                    + "Pass the returned nextCursor to fetch the following page.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/search")
+    public CursorPage<TaskResponse> searchTasks(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return taskService.searchTasks(query, cursor, size);
+    }
+
+    @Operation(summary = "Nearby open tasks",
+            description = "Returns the open tasks within radiusKm (default 10, max 200) of the given location, "
+                    + "nearest first, each with its distance in kilometres. Only tasks created with coordinates are found.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/nearby")
+    public List<NearbyTaskResponse> getNearbyTasks(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userAuth
+    ) {
+        User user = userService.findByEmail(userAuth.getUsername());
+        return taskService.findNearbyTasks(user, lat, lon, radiusKm, limit);
+    }
+
+    @Operation(summary = "Task statistics",
+            description = "Admin only. Returns the number of tasks in each status, overall or for one customer "
+                    + "or handyman. Served from incrementally maintained counters reconciled with the database.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/stats")
+    public TaskStatsResponse getTaskStats(
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Long handymanId,
+            @AuthenticationPrincipal UserDetails userAuth
+    ) {
+        User user = userService.findByEmail(userAuth.getUsername());
+        return taskService.getTaskStats(user, customerId, handymanId);
+    }
+
+    @Operation(summary = "Suggest a task budget",
+            description = "Returns the 25th, 50th and 90th percentile of the bids accepted on similar tasks: the same "
+                    + "category in the same region if enough bids were accepted there, otherwise the same category, "
+                    + "the same region or all tasks. Meant for the task creation form; read from in-memory summaries.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/price-suggestion")
+    public PriceSuggestionResponse getPriceSuggestion(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude
+    ) {
+        return bidPriceAnalytics.suggest(category, latitude, longitude);
+    }
+
+    @Operation(summary = "Export task history",
+            description = "Customer only. Downloads every task the customer created, including archived ones, "
+                    + "as NDJSON (one task per line, default) or CSV. The file is streamed as it is read.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+            @AuthenticationPrincipal UserDetails userAuth
+    ) {
+        User user = userService.findByEmail(userAuth.getUsername());
+        StreamingResponseBody body = taskService.exportTasks(user, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @Operation(summary = "Get task by ID",
-            description = "Retrieves a task by its ID.",
+            description = "Retrieves a task by its ID. Responses carry an ETag; send it back in If-None-Match "
+                    + "to receive 304 Not Modified while the task is unchanged.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTask(
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(taskService.getTask(id));
+        // The version is read before the task, so a body is never older than its ETag
+        String etag = ETags.weak("task", id, taskService.getTaskVersion(id));
+        if (request.checkNotModified(etag)) {
+            return ETags.notModified(etag);
+        }
+        return ETags.ok(etag, taskService.getTask(id));
     }
 
     @Operation(summary = "Assign handyman to task",
@@ -0,0 +1,88 @@
+package com.handyman.oddhandyman.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Summary of the active (pending or accepted) bids on a task, returned with every {@link TaskResponse}
+ * so clients can show "3 bids, lowest R250" without listing the bids of each task. While bidding on
+ * the task is sealed only the count is shown.
+ */
+@Schema(description = "Summary of the active bids on a task")
+public class BidSummary {
+
+    @Schema(description = "Number of active bids", example = "3")
+    private int count;
+
+    @Schema(description = "Lowest bid amount, or null without bids", example = "250.0")
+    private Double lowest;
+
+    @Schema(description = "Highest bid amount, or null without bids", example = "400.0")
+    private Double highest;
+
+    @Schema(description = "Average bid amount, or null without bids", example = "310.0")
+    private Double average;
+
+    public BidSummary() {}
+
+    /**
+     * Builds a summary from the aggregates kept on a task.
+     *
+     * @param count   number of active bids
+     * @param lowest  lowest amount, or {@code null} without bids
+     * @param highest highest amount, or {@code null} without bids
+     * @param total   sum of the amounts
+     * @return the summary, with the average derived from the total
+     */
+    public static BidSummary of(int count, Double lowest, Double highest, double total) {
+        BidSummary summary = new BidSummary();
+        summary.count = count;
+        summary.lowest = lowest;
+        summary.highest = highest;
+        summary.average = count == 0 ? null : total / count;
+        return summary;
+    }
+
+    /**
+     * Builds the summary shown while bidding is sealed: the number of bids without their amounts.
+     *
+     * @param count number of active bids
+     * @return the summary, with every amount {@code null}
+     */
+    public static BidSummary sealed(int count) {
+        BidSummary summary = new BidSummary();
+        summary.count = count;
+        return summary;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Double getLowest() {
+        return lowest;
+    }
+
+    public void setLowest(Double lowest) {
+        this.lowest = lowest;
+    }
+
+    public Double getHighest() {
+        return highest;
+    }
+
+    public void setHighest(Double highest) {
+        this.highest = highest;
+    }
+
+    public Double getAverage() {
+        return average;
+    }
+
+    public void setAverage(Double average) {
+        this.average = average;
+    }
+}
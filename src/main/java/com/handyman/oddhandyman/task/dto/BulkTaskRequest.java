@@ -0,0 +1,35 @@
+package com.handyman.oddhandyman.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for creating many tasks in one request.
+ * <p>
+ * Every item is validated like a single {@link TaskRequest}; the whole request is rejected
+ * if any item is invalid.
+ */
+@Schema(description = "Request payload used to create several tasks at once")
+public class BulkTaskRequest {
+
+    /** Largest number of tasks accepted in one bulk request */
+    public static final int MAX_TASKS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_TASKS)
+    @Valid
+    @Schema(description = "Tasks to create, at most 500", required = true)
+    private List<TaskRequest> tasks;
+
+    public List<TaskRequest> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskRequest> tasks) {
+        this.tasks = tasks;
+    }
+}
@@ -0,0 +1,41 @@
+package com.handyman.oddhandyman.task.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object representing an open task found by a nearby search.
+ * <p>
+ * Wraps the {@link TaskResponse} together with its distance from the search location.
+ */
+@Schema(description = "Open task found near a location, with its distance from that location")
+public class NearbyTaskResponse {
+
+    @Schema(description = "The task")
+    private TaskResponse task;
+
+    @Schema(description = "Great-circle distance from the search location in kilometres", example = "2.4")
+    private double distanceKm;
+
+    public NearbyTaskResponse() {}
+
+    public NearbyTaskResponse(TaskResponse task, double distanceKm) {
+        this.task = task;
+        this.distanceKm = distanceKm;
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,30 @@
+package com.handyman.oddhandyman.task.dto;
+
+/**
+ * File formats supported by the task export.
+ * <p>
+ *  <ul>
+ *   <li>{@link #NDJSON} - NDJSON: One JSON task per line, shaped like {@link TaskResponse}.
+ *   <li>{@link #CSV} - CSV: A header row followed by one row per task (RFC 4180 quoting).
+ * </ul>
+ */
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    TaskExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,14 @@
+package com.handyman.oddhandyman.task.dto;
+
+/**
+ * Modes of the handyman task feed.
+ * <p>
+ *  <ul>
+ *   <li>{@link #LATEST} - LATEST: Open tasks and the handyman's own tasks, newest first (keyset on task ID).
+ *   <li>{@link #RECOMMENDED} - RECOMMENDED: Open tasks only, best suited to the handyman first.
+ * </ul>
+ */
+public enum TaskFeedMode {
+    LATEST,
+    RECOMMENDED
+}
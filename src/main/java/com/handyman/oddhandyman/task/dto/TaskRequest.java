@@ -3,8 +3,12 @@ package com.handyman.oddhandyman.task.dto;
 import java.time.LocalDateTime;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 /**
  * Data Transfer Object for creating a task.
@@ -55,6 +59,45 @@ public class TaskRequest {
     )
     private LocalDateTime deadline;
 
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    @Schema(
+            description = "Latitude of the task location in decimal degrees; required together with longitude "
+                    + "for the task to appear in nearby searches",
+            example = "-24.5167"
+    )
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    @Schema(
+            description = "Longitude of the task location in decimal degrees; required together with latitude",
+            example = "28.7000"
+    )
+    private Double longitude;
+
+    @Size(max = 50)
+    @Schema(
+            description = "Kind of work, such as plumbing or electrical; used for price suggestions. Stored in lower case",
+            example = "Plumbing"
+    )
+    private String category;
+
+    @Schema(
+            description = "Time until which bid amounts are hidden from everyone; must not be after the deadline. "
+                    + "Omit for open bidding",
+            example = "2026-02-12T17:00:00"
+    )
+    private LocalDateTime sealedUntil;
+
+    @Positive
+    @Schema(
+            description = "Bid amount at or below which the lowest bid is accepted automatically, "
+                    + "once bidding is no longer sealed. Omit to accept bids manually",
+            example = "120.00"
+    )
+    private Double autoAcceptAmount;
+
     public String getTitle() {
         return title;
     }
@@ -94,5 +137,44 @@ public class TaskRequest {
     public void setDeadline(LocalDateTime deadline) {
         this.deadline = deadline;
     }
-}
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public LocalDateTime getSealedUntil() {
+        return sealedUntil;
+    }
+
+    public void setSealedUntil(LocalDateTime sealedUntil) {
+        this.sealedUntil = sealedUntil;
+    }
+
+    public Double getAutoAcceptAmount() {
+        return autoAcceptAmount;
+    }
+
+    public void setAutoAcceptAmount(Double autoAcceptAmount) {
+        this.autoAcceptAmount = autoAcceptAmount;
+    }
+}
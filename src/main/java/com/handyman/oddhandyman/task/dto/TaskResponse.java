@@ -1,6 +1,8 @@
 package com.handyman.oddhandyman.task.dto;
 
 import com.handyman.oddhandyman.auth.dto.UserResponse;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
 import java.time.LocalDateTime;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -32,6 +34,12 @@ public class TaskResponse {
     @Schema(description = "Deadline for task completion", example = "2026-02-15T17:00:00")
     private LocalDateTime deadline;
 
+    @Schema(description = "Latitude of the task location, if known", example = "-24.5167")
+    private Double latitude;
+
+    @Schema(description = "Longitude of the task location, if known", example = "28.7000")
+    private Double longitude;
+
     @Schema(description = "Current status of the task", example = "PENDING")
     private TaskStatus status;
 
@@ -41,6 +49,107 @@ public class TaskResponse {
     @Schema(description = "Handyman assigned to the task, if any")
     private UserResponse assignedHandyman;
 
+    @Schema(description = "Time until which bid amounts are hidden, if bidding is sealed", example = "2026-02-12T17:00:00")
+    private LocalDateTime sealedUntil;
+
+    @Schema(description = "Count, lowest, highest and average amount of the task's active bids; "
+            + "only the count while bidding is sealed")
+    private BidSummary bids = new BidSummary();
+
+    public TaskResponse() {}
+
+    /**
+     * Projection constructor used by JPQL {@code select new} queries in the task repository.
+     * <p>
+     * User columns come from outer joins, so a {@code null} user ID means the association is absent.
+     * The bid summary holds the amounts even while bidding is sealed; see {@link #asSeenAt}.
+     */
+    public TaskResponse(Long id, String title, String description, String address, Double budget,
+                        LocalDateTime deadline, Double latitude, Double longitude, TaskStatus status,
+                        Long customerId, String customerName, String customerEmail,
+                        Long handymanId, String handymanName, String handymanEmail,
+                        int bidCount, Double lowestBid, Double highestBid, double bidTotal,
+                        LocalDateTime sealedUntil) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.address = address;
+        this.budget = budget;
+        this.deadline = deadline;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.status = status;
+        this.customer = userOrNull(customerId, customerName, customerEmail);
+        this.assignedHandyman = userOrNull(handymanId, handymanName, handymanEmail);
+        this.sealedUntil = sealedUntil;
+        this.bids = BidSummary.of(bidCount, lowestBid, highestBid, bidTotal);
+    }
+
+    private TaskResponse(TaskResponse other, BidSummary bids) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.address = other.address;
+        this.budget = other.budget;
+        this.deadline = other.deadline;
+        this.latitude = other.latitude;
+        this.longitude = other.longitude;
+        this.status = other.status;
+        this.customer = other.customer;
+        this.assignedHandyman = other.assignedHandyman;
+        this.sealedUntil = other.sealedUntil;
+        this.bids = bids;
+    }
+
+    /**
+     * Returns the response as it may be shown at the given time. While bidding is sealed that is a
+     * copy whose bid summary holds only the count; otherwise it is this response.
+     * <p>
+     * Responses are cached and shared, so the seal is applied to a copy when the response is
+     * returned rather than when it is built.
+     *
+     * @param now the current time, from the same clock the auction engine settles with
+     * @return this response, or a copy with the bid amounts left out
+     */
+    public TaskResponse asSeenAt(LocalDateTime now) {
+        if (sealedUntil == null || !sealedUntil.isAfter(now)) {
+            return this;
+        }
+        return new TaskResponse(this, BidSummary.sealed(bids.getCount()));
+    }
+
+    /**
+     * Builds a response from a task entity.
+     * <p>
+     * Must be called while the task's customer and assigned handyman can still be initialised.
+     *
+     * @param task the task to convert
+     * @return the {@link TaskResponse} snapshot of the task
+     */
+    public static TaskResponse from(Task task) {
+        User customer = task.getCustomer();
+        User handyman = task.getAssignedHandyman();
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getAddress(),
+                task.getBudget(), task.getDeadline(), task.getLatitude(), task.getLongitude(), task.getStatus(),
+                customer == null ? null : customer.getId(),
+                customer == null ? null : customer.getName(),
+                customer == null ? null : customer.getEmail(),
+                handyman == null ? null : handyman.getId(),
+                handyman == null ? null : handyman.getName(),
+                handyman == null ? null : handyman.getEmail(),
+                task.getBidCount(), task.getLowestBid(), task.getHighestBid(), task.getBidTotal(),
+                task.getSealedUntil());
+    }
+
+    private static UserResponse userOrNull(Long id, String name, String email) {
+        if (id == null) return null;
+        UserResponse user = new UserResponse();
+        user.setId(id);
+        user.setName(name);
+        user.setEmail(email);
+        return user;
+    }
+
     // Getters and Setters
 
     public Long getId() {
@@ -91,6 +200,22 @@ public class TaskResponse {
         this.deadline = deadline;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public TaskStatus getStatus() {
         return status;
     }
@@ -114,4 +239,20 @@ public class TaskResponse {
     public void setAssignedHandyman(UserResponse assignedHandyman) {
         this.assignedHandyman = assignedHandyman;
     }
+
+    public LocalDateTime getSealedUntil() {
+        return sealedUntil;
+    }
+
+    public void setSealedUntil(LocalDateTime sealedUntil) {
+        this.sealedUntil = sealedUntil;
+    }
+
+    public BidSummary getBids() {
+        return bids;
+    }
+
+    public void setBids(BidSummary bids) {
+        this.bids = bids;
+    }
 }
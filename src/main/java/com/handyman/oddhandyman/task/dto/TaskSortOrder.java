@@ -0,0 +1,14 @@
+package com.handyman.oddhandyman.task.dto;
+
+/**
+ * Orderings supported by the cursor-paginated task listing.
+ * <p>
+ *  <ul>
+ *   <li>{@link #NEWEST} - NEWEST: Most recently created tasks first (keyset on task ID).
+ *   <li>{@link #DEADLINE} - DEADLINE: Earliest deadline first (keyset on deadline, then task ID).
+ * </ul>
+ */
+public enum TaskSortOrder {
+    NEWEST,
+    DEADLINE
+}
@@ -0,0 +1,67 @@
+package com.handyman.oddhandyman.task.dto;
+
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object representing task counts per status, overall or for one customer or handyman.
+ */
+@Schema(description = "Number of tasks in each status, overall or for one customer or handyman")
+public class TaskStatsResponse {
+
+    @Schema(description = "Scope of the counts", example = "ALL")
+    private TaskStatsScope scope;
+
+    @Schema(description = "ID of the customer or handyman the counts belong to; absent for ALL", example = "42")
+    private Long ownerId;
+
+    @Schema(description = "Number of tasks in each status")
+    private Map<TaskStatus, Long> counts;
+
+    @Schema(description = "Number of tasks across all statuses", example = "128")
+    private long total;
+
+    public TaskStatsResponse() {}
+
+    public TaskStatsResponse(TaskStatsScope scope, Long ownerId, Map<TaskStatus, Long> counts) {
+        this.scope = scope;
+        this.ownerId = ownerId;
+        this.counts = counts;
+        this.total = counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public TaskStatsScope getScope() {
+        return scope;
+    }
+
+    public void setScope(TaskStatsScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public Map<TaskStatus, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<TaskStatus, Long> counts) {
+        this.counts = counts;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,149 @@
+package com.handyman.oddhandyman.task.entity;
+
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.PartitionKey;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a finished task moved out of the {@code tasks} table.
+ * <p>
+ * A row keeps the task ID and the columns historical lookups filter or count by, plus a JSON
+ * snapshot of the task with its bids and chat messages as they were when archived. Rows are
+ * written once and never updated. The {@code partitionMonth} ({@code yyyymm} of the finish time)
+ * is the partition key of the archive table.
+ */
+@Entity
+@Table(name = "task_archive", indexes = {
+        @Index(name = "idx_task_archive_customer", columnList = "customer_id, id"),
+        @Index(name = "idx_task_archive_handyman", columnList = "assigned_handyman_id, id"),
+        @Index(name = "idx_task_archive_partition_month", columnList = "partition_month")
+})
+public class ArchivedTask implements Persistable<Long> {
+
+    @Id
+    @Schema(description = "ID the task had in the tasks table")
+    private Long id;
+
+    @PartitionKey
+    @Column(name = "partition_month", nullable = false)
+    @Schema(description = "Month the task finished in, as yyyymm", example = "202603")
+    private Integer partitionMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Schema(description = "Terminal status of the task (COMPLETED or CANCELLED)")
+    private TaskStatus status;
+
+    @Column(name = "customer_id")
+    @Schema(description = "ID of the customer who created the task")
+    private Long customerId;
+
+    @Column(name = "assigned_handyman_id")
+    @Schema(description = "ID of the handyman assigned to the task (nullable)")
+    private Long assignedHandymanId;
+
+    @Schema(description = "Version of the task when it was archived")
+    private Long version;
+
+    @Schema(description = "Timestamp when the task was completed or cancelled")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Timestamp when the task was archived")
+    private LocalDateTime archivedAt;
+
+    @Column(length = Length.LONG32)
+    @Schema(description = "JSON snapshot of the task with its bids and chat messages")
+    private String snapshot;
+
+    /** Rows get their ID from the archived row, so saving must not first look the ID up */
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getPartitionMonth() {
+        return partitionMonth;
+    }
+
+    public void setPartitionMonth(Integer partitionMonth) {
+        this.partitionMonth = partitionMonth;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getAssignedHandymanId() {
+        return assignedHandymanId;
+    }
+
+    public void setAssignedHandymanId(Long assignedHandymanId) {
+        this.assignedHandymanId = assignedHandymanId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(String snapshot) {
+        this.snapshot = snapshot;
+    }
+}
@@ -1,9 +1,13 @@
 package com.handyman.oddhandyman.task.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.PartitionKey;
 import java.time.LocalDateTime;
 
 /**
@@ -12,13 +16,38 @@ import java.time.LocalDateTime;
  * A task has a title, description, budget, deadline, and status. It is associated
  * with a customer who created it and may be assigned to a handyman when accepted.
  * Status values are defined in {@link TaskStatus}.
+ * <p>
+ * On Postgres the table is list-partitioned by status into live (PENDING, ASSIGNED) and finished
+ * (COMPLETED, CANCELLED) tasks, so the status is the {@link PartitionKey} updates and deletes match on.
+ * <p>
+ * The bid count, lowest, highest and total amount summarise the task's active bids, so task listings
+ * can show them without reading the bids. They are only written by the bid repository's conditional
+ * updates, which also increment the version.
+ * <p>
+ * A customer may keep bidding sealed until a given time, during which bid amounts are not shown, and
+ * may set an amount at or below which the lowest bid is accepted automatically. The auto-accept
+ * amount is never serialised.
  */
 @Entity
-@Table(name = "tasks")
+@NamedEntityGraph(name = Task.WITH_PARTICIPANTS, attributeNodes = {
+        @NamedAttributeNode("customer"),
+        @NamedAttributeNode("assignedHandyman")
+})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_handyman_status", columnList = "assigned_handyman_id, status"),
+        @Index(name = "idx_tasks_customer_id", columnList = "customer_id, id"),
+        @Index(name = "idx_tasks_customer_deadline", columnList = "customer_id, deadline, id")
+})
 public class Task {
 
+    /** Entity graph fetching the customer and assigned handyman together with the task */
+    public static final String WITH_PARTICIPANTS = "Task.withParticipants";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     @Schema(description = "Unique identifier for the task")
     private Long id;
 
@@ -32,21 +61,74 @@ public class Task {
     @Schema(description = "Physical address where the task needs to be completed" )
     private String address;
 
+    @Column(length = 50)
+    @Schema(description = "Kind of work, lower case, such as plumbing (nullable)", example = "plumbing")
+    private String category;
+
     @Schema(description = "Budget allocated for the task" )
     private Double budget;
 
+    @Schema(description = "Latitude of the task location in decimal degrees (nullable)" )
+    private Double latitude;
+
+    @Schema(description = "Longitude of the task location in decimal degrees (nullable)" )
+    private Double longitude;
+
     @Schema(description = "Deadline for task completion" )
     private LocalDateTime deadline;
 
+    @PartitionKey
     @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
     @Schema(description = "Current status of the task; defaults to PENDING" )
     private TaskStatus status = TaskStatus.PENDING;
 
-    @ManyToOne
+    @Column(nullable = false, updatable = false)
+    @Schema(description = "Timestamp when the task was created")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Schema(description = "Timestamp when the task was completed or cancelled (nullable while live)")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Time until which bid amounts are hidden (nullable for open bidding)")
+    private LocalDateTime sealedUntil;
+
+    @JsonIgnore
+    @Schema(description = "Bid amount at or below which the lowest bid is accepted automatically (nullable)")
+    private Double autoAcceptAmount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Schema(description = "Number of active (pending or accepted) bids on the task", example = "3")
+    private int bidCount;
+
+    // The amounts are left out of the JSON, as they would reveal sealed bids; clients read them
+    // from the bid summary of a TaskResponse, which applies the seal
+    @JsonIgnore
+    @Schema(description = "Lowest active bid amount (null without bids)", example = "250.0")
+    private Double lowestBid;
+
+    @JsonIgnore
+    @Schema(description = "Highest active bid amount (null without bids)", example = "400.0")
+    private Double highestBid;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Schema(description = "Sum of the active bid amounts, from which the average is derived", example = "930.0")
+    private double bidTotal;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Schema(description = "Version of the task, incremented on every change", example = "0")
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "Customer who created the task" )
     private User customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Schema(description = "Handyman assigned to the task (nullable until assigned)" )
     private User assignedHandyman;
 
@@ -106,6 +188,22 @@ public class Task {
         this.status = status;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
     public User getCustomer() {
         return customer;
     }
@@ -114,6 +212,22 @@ public class Task {
         this.customer = customer;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public User getAssignedHandyman() {
         return assignedHandyman;
     }
@@ -121,4 +235,68 @@ public class Task {
     public void setAssignedHandyman(User assignedHandyman) {
         this.assignedHandyman = assignedHandyman;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    public void setBidCount(int bidCount) {
+        this.bidCount = bidCount;
+    }
+
+    public Double getLowestBid() {
+        return lowestBid;
+    }
+
+    public void setLowestBid(Double lowestBid) {
+        this.lowestBid = lowestBid;
+    }
+
+    public Double getHighestBid() {
+        return highestBid;
+    }
+
+    public void setHighestBid(Double highestBid) {
+        this.highestBid = highestBid;
+    }
+
+    public double getBidTotal() {
+        return bidTotal;
+    }
+
+    public void setBidTotal(double bidTotal) {
+        this.bidTotal = bidTotal;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public LocalDateTime getSealedUntil() {
+        return sealedUntil;
+    }
+
+    public void setSealedUntil(LocalDateTime sealedUntil) {
+        this.sealedUntil = sealedUntil;
+    }
+
+    public Double getAutoAcceptAmount() {
+        return autoAcceptAmount;
+    }
+
+    public void setAutoAcceptAmount(Double autoAcceptAmount) {
+        this.autoAcceptAmount = autoAcceptAmount;
+    }
 }
@@ -0,0 +1,107 @@
+package com.handyman.oddhandyman.task.entity;
+
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding one reconciled task counter: the number of tasks in a status, either overall,
+ * for one customer, or for one handyman.
+ * <p>
+ * The table is rewritten on every reconciliation and read back at startup, so task statistics
+ * are available without counting the tasks table first.
+ */
+@Entity
+@Table(name = "task_status_summary")
+public class TaskStatusSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_status_summary_seq")
+    @SequenceGenerator(name = "task_status_summary_seq", sequenceName = "task_status_summary_seq", allocationSize = 50)
+    @Schema(description = "Unique identifier of the counter row")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Schema(description = "Scope of the counter", example = "CUSTOMER")
+    private TaskStatsScope scope;
+
+    @Column(nullable = false)
+    @Schema(description = "ID of the customer or handyman the counter belongs to; 0 for the ALL scope", example = "42")
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Schema(description = "Task status being counted", example = "PENDING")
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    @Schema(description = "Number of tasks in the status", example = "7")
+    private long taskCount;
+
+    @Schema(description = "When the counter was last reconciled with the tasks table")
+    private LocalDateTime reconciledAt;
+
+    public TaskStatusSummary() {}
+
+    public TaskStatusSummary(TaskStatsScope scope, Long ownerId, TaskStatus status, long taskCount,
+                             LocalDateTime reconciledAt) {
+        this.scope = scope;
+        this.ownerId = ownerId;
+        this.status = status;
+        this.taskCount = taskCount;
+        this.reconciledAt = reconciledAt;
+    }
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TaskStatsScope getScope() {
+        return scope;
+    }
+
+    public void setScope(TaskStatsScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(LocalDateTime reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
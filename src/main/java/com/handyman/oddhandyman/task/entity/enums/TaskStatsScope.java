@@ -0,0 +1,15 @@
+package com.handyman.oddhandyman.task.entity.enums;
+
+/**
+ * Scope of a task status counter.
+ * <ul>
+ *     <li>{@link #ALL} — every task in the system.</li>
+ *     <li>{@link #CUSTOMER} — tasks created by one customer.</li>
+ *     <li>{@link #HANDYMAN} — tasks assigned to one handyman.</li>
+ * </ul>
+ */
+public enum TaskStatsScope {
+    ALL,
+    CUSTOMER,
+    HANDYMAN
+}
@@ -9,10 +9,26 @@ package com.handyman.oddhandyman.task.entity.enums;
  *   <li>{@link #COMPLETED} - COMPLETED: Task has been completed successfully.
  *   <li>{@link #CANCELLED} - CANCELLED: Task has been cancelled by the customer or system.
  * </ul>
+ * Allowed transitions: PENDING → ASSIGNED | CANCELLED, ASSIGNED → COMPLETED | CANCELLED.
+ * COMPLETED and CANCELLED are final.
  */
 public enum TaskStatus {
     PENDING,
     ASSIGNED,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Checks whether a task in this status may move to the given status.
+     *
+     * @param target the requested status
+     * @return {@code true} if the transition is allowed
+     */
+    public boolean canTransitionTo(TaskStatus target) {
+        return switch (this) {
+            case PENDING -> target == ASSIGNED || target == CANCELLED;
+            case ASSIGNED -> target == COMPLETED || target == CANCELLED;
+            case COMPLETED, CANCELLED -> false;
+        };
+    }
 }
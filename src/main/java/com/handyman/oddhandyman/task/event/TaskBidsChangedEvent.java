@@ -0,0 +1,20 @@
+package com.handyman.oddhandyman.task.event;
+
+/**
+ * Application event published when the bid summary of a task changes without a status change,
+ * for example when a bid is placed or rejected.
+ * <p>
+ * Only carries the task ID; listeners that hold task snapshots re-read the summary after commit.
+ */
+public class TaskBidsChangedEvent {
+
+    private final Long taskId;
+
+    public TaskBidsChangedEvent(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+}
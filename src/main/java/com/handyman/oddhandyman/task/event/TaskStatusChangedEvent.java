@@ -0,0 +1,45 @@
+package com.handyman.oddhandyman.task.event;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+
+/**
+ * Application event published whenever a task is created or its status changes.
+ * <p>
+ * Carries a {@link TaskResponse} snapshot taken inside the publishing transaction, so listeners
+ * running after commit never touch lazy entity state.
+ */
+public class TaskStatusChangedEvent {
+
+    private final TaskResponse task;
+    private final TaskStatus previousStatus;
+
+    public TaskStatusChangedEvent(TaskResponse task, TaskStatus previousStatus) {
+        this.task = task;
+        this.previousStatus = previousStatus;
+    }
+
+    /**
+     * Creates an event for a task whose status has just been set.
+     *
+     * @param task           the task in its new state
+     * @param previousStatus the status before the change, or {@code null} for a newly created task
+     * @return the event
+     */
+    public static TaskStatusChangedEvent of(Task task, TaskStatus previousStatus) {
+        return new TaskStatusChangedEvent(TaskResponse.from(task), previousStatus);
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public TaskStatus getStatus() {
+        return task.getStatus();
+    }
+}
@@ -0,0 +1,49 @@
+package com.handyman.oddhandyman.task.expiry;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Deadline of a single task, as held by the {@link TaskExpiryEngine}.
+ * <p>
+ * Also used as the projection loaded from the database when the engine is bootstrapped.
+ * Ordered by deadline, then task ID.
+ */
+public class TaskDeadline implements Comparable<TaskDeadline> {
+
+    private static final Comparator<TaskDeadline> ORDER =
+            Comparator.comparing(TaskDeadline::getDeadline).thenComparing(TaskDeadline::getTaskId);
+
+    private final Long taskId;
+    private final LocalDateTime deadline;
+
+    public TaskDeadline(Long taskId, LocalDateTime deadline) {
+        this.taskId = taskId;
+        this.deadline = deadline;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public int compareTo(TaskDeadline other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaskDeadline other)) return false;
+        return taskId.equals(other.taskId) && deadline.equals(other.deadline);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * taskId.hashCode() + deadline.hashCode();
+    }
+}
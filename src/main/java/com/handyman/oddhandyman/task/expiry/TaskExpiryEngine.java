@@ -0,0 +1,189 @@
+package com.handyman.oddhandyman.task.expiry;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.service.TaskService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Background engine that cancels PENDING and ASSIGNED tasks once their deadline has passed.
+ * <p>
+ * Deadlines of all live tasks are kept in a time-ordered in-memory index, so each run only
+ * touches the tasks that are actually due instead of scanning the tasks table. The index is
+ * loaded once the application is ready and then maintained from committed
+ * {@link TaskStatusChangedEvent}s.
+ * <p>
+ * Every {@code tasks.expiry.poll-interval-ms} the due entries are drained in batches of
+ * {@code tasks.expiry.batch-size} and handed to {@link TaskService#expireTasks}, which re-checks
+ * them under a row lock and cancels them in one transaction per batch. A failed batch is put back
+ * and retried on the next run.
+ * <p>
+ * Metrics: {@code tasks.expiry.lag} (time between deadline and cancellation),
+ * {@code tasks.expiry.batch.size} (tasks cancelled per batch) and {@code tasks.expiry.scheduled}
+ * (deadlines currently tracked).
+ */
+@Component
+public class TaskExpiryEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExpiryEngine.class);
+
+    private final TaskService taskService;
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+    private final int batchSize;
+    private final Timer lag;
+    private final DistributionSummary batchSizes;
+
+    /** Tracked deadlines, earliest first */
+    private final ConcurrentSkipListSet<TaskDeadline> deadlines = new ConcurrentSkipListSet<>();
+
+    /** Task ID to its tracked deadline, used to move or drop it */
+    private final Map<Long, TaskDeadline> byTask = new ConcurrentHashMap<>();
+
+    public TaskExpiryEngine(TaskService taskService,
+                            TaskRepository taskRepository,
+                            Clock clock,
+                            MeterRegistry meterRegistry,
+                            @Value("${tasks.expiry.batch-size:200}") int batchSize) {
+        this.taskService = taskService;
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.lag = Timer.builder("tasks.expiry.lag")
+                .description("Time between a task's deadline and its cancellation")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("tasks.expiry.batch.size")
+                .description("Number of tasks cancelled per expiry batch")
+                .register(meterRegistry);
+        Gauge.builder("tasks.expiry.scheduled", byTask, Map::size)
+                .description("Number of task deadlines tracked by the expiry engine")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the deadlines of all PENDING and ASSIGNED tasks once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        taskRepository.findDeadlines(TaskService.EXPIRABLE_STATUSES).forEach(this::schedule);
+    }
+
+    /**
+     * Tracks the deadline of tasks that can still expire and drops all others.
+     *
+     * @param event the committed status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        TaskResponse task = event.getTask();
+        if (TaskService.EXPIRABLE_STATUSES.contains(event.getStatus()) && task.getDeadline() != null) {
+            schedule(new TaskDeadline(task.getId(), task.getDeadline()));
+        } else {
+            unschedule(task.getId());
+        }
+    }
+
+    /**
+     * Starts tracking a task deadline, replacing any previous deadline of the same task.
+     *
+     * @param deadline the task deadline
+     */
+    public synchronized void schedule(TaskDeadline deadline) {
+        TaskDeadline previous = byTask.put(deadline.getTaskId(), deadline);
+        if (previous != null) {
+            deadlines.remove(previous);
+        }
+        deadlines.add(deadline);
+    }
+
+    /**
+     * Stops tracking a task. Unknown IDs are ignored.
+     *
+     * @param taskId the task ID
+     */
+    public synchronized void unschedule(Long taskId) {
+        TaskDeadline previous = byTask.remove(taskId);
+        if (previous != null) {
+            deadlines.remove(previous);
+        }
+    }
+
+    /**
+     * @return the number of tracked deadlines
+     */
+    public int size() {
+        return byTask.size();
+    }
+
+    /**
+     * Cancels every tracked task whose deadline has passed, one batch at a time.
+     *
+     * @return the number of tasks cancelled
+     */
+    @Scheduled(fixedDelayString = "${tasks.expiry.poll-interval-ms:5000}",
+            initialDelayString = "${tasks.expiry.poll-interval-ms:5000}")
+    public int expireDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int cancelled = 0;
+
+        List<TaskDeadline> batch;
+        while (!(batch = takeDue(now)).isEmpty()) {
+            List<TaskResponse> expired;
+            try {
+                expired = taskService.expireTasks(batch.stream().map(TaskDeadline::getTaskId).toList(), now);
+            } catch (RuntimeException ex) {
+                log.warn("Task expiry batch of {} failed, retrying on the next run", batch.size(), ex);
+                batch.forEach(this::scheduleIfAbsent);
+                break;
+            }
+
+            batchSizes.record(expired.size());
+            for (TaskResponse task : expired) {
+                lag.record(Duration.between(task.getDeadline(), now).abs());
+            }
+            cancelled += expired.size();
+        }
+        return cancelled;
+    }
+
+    /**
+     * Removes and returns up to one batch of deadlines at or before {@code now}.
+     */
+    private synchronized List<TaskDeadline> takeDue(LocalDateTime now) {
+        List<TaskDeadline> due = new ArrayList<>();
+        while (due.size() < batchSize && !deadlines.isEmpty() && !deadlines.first().getDeadline().isAfter(now)) {
+            TaskDeadline deadline = deadlines.pollFirst();
+            byTask.remove(deadline.getTaskId(), deadline);
+            due.add(deadline);
+        }
+        return due;
+    }
+
+    /** Puts back a deadline taken for a failed batch unless the task was rescheduled meanwhile */
+    private synchronized void scheduleIfAbsent(TaskDeadline deadline) {
+        if (byTask.putIfAbsent(deadline.getTaskId(), deadline) == null) {
+            deadlines.add(deadline);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.handyman.oddhandyman.task.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handyman.oddhandyman.auth.dto.UserResponse;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a customer's full task history to an output stream as NDJSON or CSV.
+ * <p>
+ * Live tasks are read through {@link TaskRepository#streamResponsesByCustomerId(Long)} and archived
+ * tasks through {@link TaskArchive#streamTasksForCustomer(Long)}, both forward-only cursors that fetch
+ * a few hundred rows at a time. Each row is written as soon as it is read and nothing is collected,
+ * so memory use does not depend on how many tasks the customer has. Live tasks come first, then
+ * archived ones, each in ID order.
+ */
+@Component
+public class TaskExporter {
+
+    /** CSV column names, in the order the values are written */
+    static final String[] CSV_HEADER = {
+            "id", "title", "description", "address", "budget", "deadline", "latitude", "longitude", "status",
+            "customer_id", "customer_name", "customer_email",
+            "assigned_handyman_id", "assigned_handyman_name", "assigned_handyman_email"};
+
+    private final TaskRepository taskRepository;
+    private final TaskArchive taskArchive;
+    private final ObjectMapper objectMapper;
+
+    public TaskExporter(TaskRepository taskRepository, TaskArchive taskArchive, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.taskArchive = taskArchive;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every task of a customer, live and archived, to the output stream.
+     * <p>
+     * The stream is flushed but not closed.
+     *
+     * @param customerId ID of the customer whose tasks are exported
+     * @param format     the file format
+     * @param out        where to write the export
+     * @return the number of tasks written
+     * @throws IOException if writing to the stream fails, for example because the client went away
+     */
+    @Transactional(readOnly = true)
+    public long export(Long customerId, TaskExportFormat format, OutputStream out) throws IOException {
+        RowWriter writer = format == TaskExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        long rows;
+        try (Stream<TaskResponse> live = taskRepository.streamResponsesByCustomerId(customerId)) {
+            rows = writeAll(live, writer);
+        }
+        try (Stream<TaskResponse> archived = taskArchive.streamTasksForCustomer(customerId)) {
+            rows += writeAll(archived, writer);
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private long writeAll(Stream<TaskResponse> tasks, RowWriter writer) throws IOException {
+        long rows = 0;
+        for (Iterator<TaskResponse> it = tasks.iterator(); it.hasNext(); ) {
+            writer.write(it.next());
+            rows++;
+        }
+        return rows;
+    }
+
+    private interface RowWriter {
+
+        void write(TaskResponse task) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /** One JSON object per line, serialized like the API's {@link TaskResponse} */
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(TaskResponse task) throws IOException {
+            objectMapper.writeValue(generator, task);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /** RFC 4180 CSV with a header row and CRLF line endings */
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeLine(CSV_HEADER);
+        }
+
+        @Override
+        public void write(TaskResponse task) throws IOException {
+            UserResponse customer = task.getCustomer();
+            UserResponse handyman = task.getAssignedHandyman();
+            writeLine(new String[]{
+                    value(task.getId()), text(task.getTitle()), text(task.getDescription()), text(task.getAddress()),
+                    value(task.getBudget()), value(task.getDeadline()), value(task.getLatitude()),
+                    value(task.getLongitude()), value(task.getStatus()),
+                    customer == null ? "" : value(customer.getId()),
+                    customer == null ? "" : text(customer.getName()),
+                    customer == null ? "" : text(customer.getEmail()),
+                    handyman == null ? "" : value(handyman.getId()),
+                    handyman == null ? "" : text(handyman.getName()),
+                    handyman == null ? "" : text(handyman.getEmail())});
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(String[] fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(quote(fields[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String value(Object value) {
+            return value == null ? "" : value.toString();
+        }
+
+        /** Free text; a leading formula character is escaped so spreadsheets show it as text */
+        private static String text(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            char first = value.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r'
+                    ? "'" + value
+                    : value;
+        }
+
+        private static String quote(String field) {
+            if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+                return field;
+            }
+            return '"' + field.replace("\"", "\"\"") + '"';
+        }
+    }
+}
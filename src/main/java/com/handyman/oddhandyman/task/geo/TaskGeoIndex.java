@@ -0,0 +1,228 @@
+package com.handyman.oddhandyman.task.geo;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory spatial index of open (PENDING) tasks that have coordinates.
+ * <p>
+ * The globe is divided into a fixed grid of {@code tasks.geo.cell-degrees} sized cells. A radius
+ * search only visits the cells overlapping the search circle's bounding box and computes exact
+ * great-circle distances for the tasks in them, so lookups cost the same regardless of how many
+ * tasks exist outside the searched area.
+ * <p>
+ * The index is loaded from the database once the application is ready and then maintained from
+ * committed {@link TaskStatusChangedEvent}s. It only stores task IDs and coordinates; callers load
+ * the tasks themselves and should {@link #remove} IDs that turn out to be no longer open.
+ * Writes are serialised; searches run lock-free against the concurrent cell maps.
+ */
+@Component
+public class TaskGeoIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final TaskRepository taskRepository;
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+
+    /** Grid cell key to the tasks located in that cell, keyed by task ID */
+    private final Map<Long, Map<Long, TaskLocation>> cells = new ConcurrentHashMap<>();
+
+    /** Task ID to its indexed location, used to find the cell on update and removal */
+    private final Map<Long, TaskLocation> locations = new ConcurrentHashMap<>();
+
+    public TaskGeoIndex(TaskRepository taskRepository,
+                        @Value("${tasks.geo.cell-degrees:0.1}") double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("Invalid Geo Index Cell Size");
+        }
+        this.taskRepository = taskRepository;
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+    }
+
+    /**
+     * Loads the locations of all open tasks once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        taskRepository.findOpenTaskLocations(TaskStatus.PENDING).forEach(this::put);
+    }
+
+    /**
+     * Keeps the index in step with committed task status changes: open tasks with coordinates
+     * are indexed, every other task is removed.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        TaskResponse task = event.getTask();
+        if (event.getStatus() == TaskStatus.PENDING && task.getLatitude() != null && task.getLongitude() != null) {
+            put(new TaskLocation(task.getId(), task.getLatitude(), task.getLongitude()));
+        } else {
+            remove(task.getId());
+        }
+    }
+
+    /**
+     * Adds a task to the index, moving it if it was already indexed at another location.
+     *
+     * @param location the task's location
+     */
+    public synchronized void put(TaskLocation location) {
+        TaskLocation previous = locations.put(location.getTaskId(), location);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        cells.compute(cellOf(location.getLatitude(), location.getLongitude()), (key, cell) -> {
+            Map<Long, TaskLocation> target = cell == null ? new ConcurrentHashMap<>() : cell;
+            target.put(location.getTaskId(), location);
+            return target;
+        });
+    }
+
+    /**
+     * Removes a task from the index. Unknown IDs are ignored.
+     *
+     * @param taskId the task ID
+     */
+    public synchronized void remove(Long taskId) {
+        TaskLocation previous = locations.remove(taskId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    /**
+     * @return the number of indexed tasks
+     */
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * Finds the indexed tasks within a radius of a point, nearest first.
+     *
+     * @param latitude  latitude of the search centre in decimal degrees
+     * @param longitude longitude of the search centre in decimal degrees
+     * @param radiusKm  search radius in kilometres
+     * @param limit     maximum number of tasks to return
+     * @return the nearest tasks with their distance, ordered by distance ascending
+     */
+    public List<Hit> findNearest(double latitude, double longitude, double radiusKm, int limit) {
+        // Max-heap on distance holding the best `limit` hits seen so far
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(Comparator.comparingDouble(Hit::getDistanceKm).reversed());
+
+        double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+        int minLatCell = latIndex(Math.max(-90.0, latitude - latSpan));
+        int maxLatCell = latIndex(Math.min(90.0, latitude + latSpan));
+
+        // Longitude degrees shrink towards the poles; scan the full ring when the circle covers a pole
+        double maxAbsLat = Math.min(90.0, Math.abs(latitude) + latSpan);
+        double cosLat = Math.cos(Math.toRadians(maxAbsLat));
+        double lonSpan = cosLat < 1e-9 ? 180.0 : latSpan / cosLat;
+        int lonCellSpan = lonSpan >= 180.0 ? lonCells : (int) Math.ceil(lonSpan / cellDegrees) + 1;
+        int centreLonCell = lonIndex(longitude);
+        int firstLonCell = lonCellSpan >= lonCells ? 0 : centreLonCell - lonCellSpan;
+        int lastLonCell = lonCellSpan >= lonCells ? lonCells - 1 : centreLonCell + lonCellSpan;
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = firstLonCell; lonCell <= lastLonCell; lonCell++) {
+                Map<Long, TaskLocation> cell = cells.get(cellKey(latCell, Math.floorMod(lonCell, lonCells)));
+                if (cell == null) continue;
+
+                for (TaskLocation location : cell.values()) {
+                    double distance = distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude());
+                    if (distance > radiusKm) continue;
+                    if (nearest.size() < limit) {
+                        nearest.add(new Hit(location.getTaskId(), distance));
+                    } else if (distance < nearest.peek().getDistanceKm()) {
+                        nearest.poll();
+                        nearest.add(new Hit(location.getTaskId(), distance));
+                    }
+                }
+            }
+        }
+
+        List<Hit> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+        return result;
+    }
+
+    /**
+     * Great-circle distance between two points using the haversine formula.
+     *
+     * @return the distance in kilometres
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void removeFromCell(TaskLocation location) {
+        cells.computeIfPresent(cellOf(location.getLatitude(), location.getLongitude()), (key, cell) -> {
+            cell.remove(location.getTaskId(), location);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey(latIndex(latitude), lonIndex(longitude));
+    }
+
+    private long cellKey(int latCell, int lonCell) {
+        return (long) latCell * lonCells + lonCell;
+    }
+
+    private int latIndex(double latitude) {
+        return Math.min(latCells - 1, (int) Math.floor((latitude + 90.0) / cellDegrees));
+    }
+
+    private int lonIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lonCells);
+    }
+
+    /**
+     * A task found by a radius search together with its distance from the search centre.
+     */
+    public static class Hit {
+
+        private final Long taskId;
+        private final double distanceKm;
+
+        public Hit(Long taskId, double distanceKm) {
+            this.taskId = taskId;
+            this.distanceKm = distanceKm;
+        }
+
+        public Long getTaskId() {
+            return taskId;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.handyman.oddhandyman.task.geo;
+
+/**
+ * Coordinates of a single task, as held by the {@link TaskGeoIndex}.
+ * <p>
+ * Also used as the projection loaded from the database when the index is bootstrapped.
+ */
+public class TaskLocation {
+
+    private final Long taskId;
+    private final double latitude;
+    private final double longitude;
+
+    public TaskLocation(Long taskId, Double latitude, Double longitude) {
+        this.taskId = taskId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+}
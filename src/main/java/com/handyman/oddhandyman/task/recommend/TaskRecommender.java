@@ -0,0 +1,303 @@
+package com.handyman.oddhandyman.task.recommend;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.geo.TaskGeoIndex;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.search.TaskTextAnalyzer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranks open (PENDING) tasks for a handyman by how well they suit them.
+ * <p>
+ * Each task is scored from four signals, each between 0 and 1, combined with fixed weights:
+ * <ul>
+ *   <li>skill match - how strongly the handyman's skill terms occur in the task text, with rare
+ *       terms counting more than common ones (weight {@link #SKILL_WEIGHT});
+ *   <li>proximity - distance to the handyman's position when both are known, otherwise the share of
+ *       the handyman's location terms found in the task address (weight {@link #PROXIMITY_WEIGHT});
+ *   <li>budget - higher budgets score higher, saturating around {@link #BUDGET_HALF_SCORE}
+ *       (weight {@link #BUDGET_WEIGHT});
+ *   <li>urgency - deadlines closer to now score higher (weight {@link #URGENCY_WEIGHT}). Tasks whose
+ *       deadline has passed are not recommended.
+ * </ul>
+ * Every open task is kept in memory as a precomputed candidate: a sorted vector of term IDs with
+ * length-normalised weights (title terms count {@link #TITLE_WEIGHT} times), the sorted term IDs of
+ * its address, its coordinates and its budget score. Ranking is a single pass over the candidates
+ * with a handful of binary searches each, so tens of thousands of tasks are ranked in milliseconds.
+ * <p>
+ * The candidates are loaded from the database once the application is ready and then maintained
+ * from committed {@link TaskStatusChangedEvent}s, like the search index. Term IDs are never reused;
+ * the term dictionary grows with the vocabulary of task text. Writes are serialised; rankings read
+ * the concurrent maps without locking.
+ */
+@Component
+public class TaskRecommender {
+
+    static final double SKILL_WEIGHT = 0.5;
+    static final double PROXIMITY_WEIGHT = 0.2;
+    static final double BUDGET_WEIGHT = 0.15;
+    static final double URGENCY_WEIGHT = 0.15;
+    static final int TITLE_WEIGHT = 2;
+
+    /** Distance in kilometres at which the proximity score falls to one half */
+    static final double PROXIMITY_HALF_SCORE_KM = 10.0;
+
+    /** Budget at which the budget score reaches one half */
+    static final double BUDGET_HALF_SCORE = 500.0;
+
+    /** Hours left before the deadline at which the urgency score falls to one half */
+    static final double URGENCY_HALF_SCORE_HOURS = 72.0;
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    /** Term to its ID in the candidate vectors */
+    private final Map<String, Integer> termIds = new ConcurrentHashMap<>();
+
+    /** Term ID to the number of candidates whose text contains it */
+    private final Map<Integer, Integer> documentFrequencies = new ConcurrentHashMap<>();
+
+    /** Task ID to its precomputed candidate */
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+    public TaskRecommender(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Loads all open tasks once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        taskRepository.findOpenTasks(TaskStatus.PENDING).forEach(this::index);
+    }
+
+    /**
+     * Keeps the candidates in step with committed task status changes.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        if (event.getStatus() == TaskStatus.PENDING) {
+            index(event.getTask());
+        } else {
+            remove(event.getTask().getId());
+        }
+    }
+
+    /**
+     * Adds a task to the candidates, replacing any previous entry for the same ID.
+     *
+     * @param task the open task
+     */
+    public synchronized void index(TaskResponse task) {
+        remove(task.getId());
+
+        Map<Integer, Integer> frequencies = new TreeMap<>();
+        TaskTextAnalyzer.analyze(task.getTitle()).forEach(term -> frequencies.merge(termId(term), TITLE_WEIGHT, Integer::sum));
+        TaskTextAnalyzer.analyze(task.getDescription()).forEach(term -> frequencies.merge(termId(term), 1, Integer::sum));
+
+        int[] terms = new int[frequencies.size()];
+        float[] weights = new float[frequencies.size()];
+        double norm = Math.sqrt(frequencies.values().stream().mapToDouble(tf -> (double) tf * tf).sum());
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey();
+            weights[i++] = (float) (entry.getValue() / norm);
+            documentFrequencies.merge(entry.getKey(), 1, Integer::sum);
+        }
+
+        int[] addressTerms = TaskTextAnalyzer.analyze(task.getAddress()).stream()
+                .mapToInt(this::termId).sorted().distinct().toArray();
+        int[] allTerms = Arrays.copyOf(terms, terms.length + addressTerms.length);
+        System.arraycopy(addressTerms, 0, allTerms, terms.length, addressTerms.length);
+        boolean located = task.getLatitude() != null && task.getLongitude() != null;
+        double budget = task.getBudget() == null || task.getBudget() <= 0 ? 0.0
+                : task.getBudget() / (task.getBudget() + BUDGET_HALF_SCORE);
+        long deadline = task.getDeadline() == null ? Long.MAX_VALUE : task.getDeadline().toEpochSecond(ZoneOffset.UTC);
+
+        candidates.put(task.getId(), new Candidate(task.getId(), allTerms, terms.length, weights,
+                located ? task.getLatitude() : Double.NaN, located ? task.getLongitude() : Double.NaN, budget, deadline));
+    }
+
+    /**
+     * Removes a task from the candidates. Unknown IDs are ignored.
+     *
+     * @param taskId the task ID
+     */
+    public synchronized void remove(Long taskId) {
+        Candidate previous = candidates.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        for (int i = 0; i < previous.textTerms; i++) {
+            documentFrequencies.computeIfPresent(previous.terms[i], (k, df) -> df > 1 ? df - 1 : null);
+        }
+    }
+
+    /**
+     * @return the number of candidate tasks
+     */
+    public int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Ranks the open tasks for a handyman and returns the best {@code limit}.
+     *
+     * @param skills    the handyman's skills, free text; may be empty
+     * @param location  the handyman's area of service, free text, or {@code null}
+     * @param latitude  the handyman's latitude in decimal degrees, or {@code null}
+     * @param longitude the handyman's longitude in decimal degrees, or {@code null}
+     * @param limit     maximum number of results
+     * @return recommended tasks ordered by score descending, then ID descending
+     */
+    public List<Hit> recommend(Collection<String> skills, String location, Double latitude, Double longitude, int limit) {
+        if (candidates.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Skill terms weighted by inverse document frequency, normalised to sum to one
+        Map<Integer, Double> skillIdf = new HashMap<>();
+        int documents = candidates.size();
+        for (String skill : skills) {
+            for (String term : TaskTextAnalyzer.analyze(skill)) {
+                Integer id = termIds.get(term);
+                Integer df = id == null ? null : documentFrequencies.get(id);
+                if (df != null) {
+                    skillIdf.put(id, Math.log(1 + (double) documents / df));
+                }
+            }
+        }
+        int[] skillTerms = skillIdf.keySet().stream().mapToInt(Integer::intValue).toArray();
+        double idfTotal = skillIdf.values().stream().mapToDouble(Double::doubleValue).sum();
+        double[] skillWeights = Arrays.stream(skillTerms).mapToDouble(t -> skillIdf.get(t) / idfTotal).toArray();
+
+        List<String> locationWords = TaskTextAnalyzer.analyze(location);
+        int[] locationTerms = locationWords.stream()
+                .map(termIds::get).filter(id -> id != null).mapToInt(Integer::intValue).distinct().toArray();
+        int locationWordCount = (int) locationWords.stream().distinct().count();
+
+        boolean located = latitude != null && longitude != null;
+        long now = LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::getScore).thenComparing(Hit::getTaskId);
+        PriorityQueue<Hit> best = new PriorityQueue<>(ranking);
+        for (Candidate candidate : candidates.values()) {
+            if (candidate.deadline < now) continue;
+
+            double skill = 0;
+            for (int i = 0; i < skillTerms.length; i++) {
+                int at = Arrays.binarySearch(candidate.terms, 0, candidate.textTerms, skillTerms[i]);
+                if (at >= 0) {
+                    skill += skillWeights[i] * candidate.weights[at];
+                }
+            }
+
+            double proximity;
+            if (located && !Double.isNaN(candidate.latitude)) {
+                double distance = TaskGeoIndex.distanceKm(latitude, longitude, candidate.latitude, candidate.longitude);
+                proximity = 1 / (1 + distance / PROXIMITY_HALF_SCORE_KM);
+            } else {
+                int matched = 0;
+                for (int term : locationTerms) {
+                    if (Arrays.binarySearch(candidate.terms, candidate.textTerms, candidate.terms.length, term) >= 0) matched++;
+                }
+                proximity = locationWordCount == 0 ? 0 : (double) matched / locationWordCount;
+            }
+
+            double urgency = candidate.deadline == Long.MAX_VALUE ? 0
+                    : 1 / (1 + (candidate.deadline - now) / 3600.0 / URGENCY_HALF_SCORE_HOURS);
+
+            double score = SKILL_WEIGHT * skill + PROXIMITY_WEIGHT * proximity
+                    + BUDGET_WEIGHT * candidate.budget + URGENCY_WEIGHT * urgency;
+
+            if (best.size() < limit) {
+                best.add(new Hit(candidate.taskId, score));
+            } else {
+                Hit worst = best.peek();
+                if (score > worst.getScore() || score == worst.getScore() && candidate.taskId > worst.getTaskId()) {
+                    best.poll();
+                    best.add(new Hit(candidate.taskId, score));
+                }
+            }
+        }
+
+        List<Hit> result = new ArrayList<>(best);
+        result.sort(ranking.reversed());
+        return result;
+    }
+
+    private int termId(String term) {
+        return termIds.computeIfAbsent(term, k -> termIds.size());
+    }
+
+    /** An open task reduced to what ranking needs; immutable once built */
+    private static final class Candidate {
+
+        private final long taskId;
+        /** Sorted text term IDs followed by sorted address term IDs, in one array for locality */
+        private final int[] terms;
+        private final int textTerms;
+        private final float[] weights;
+        private final double latitude;
+        private final double longitude;
+        private final double budget;
+        private final long deadline;
+
+        private Candidate(long taskId, int[] terms, int textTerms, float[] weights,
+                          double latitude, double longitude, double budget, long deadline) {
+            this.taskId = taskId;
+            this.terms = terms;
+            this.textTerms = textTerms;
+            this.weights = weights;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.budget = budget;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * A recommended task together with its score.
+     */
+    public static class Hit {
+
+        private final Long taskId;
+        private final double score;
+
+        public Hit(Long taskId, double score) {
+            this.taskId = taskId;
+            this.score = score;
+        }
+
+        public Long getTaskId() {
+            return taskId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
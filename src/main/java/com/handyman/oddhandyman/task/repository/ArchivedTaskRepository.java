@@ -0,0 +1,77 @@
+package com.handyman.oddhandyman.task.repository;
+
+import com.handyman.oddhandyman.task.entity.ArchivedTask;
+import com.handyman.oddhandyman.task.stats.TaskStatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for reading and writing {@link ArchivedTask} rows.
+ * <p>
+ * Archived tasks are looked up by their original task ID; the count queries mirror those of
+ * {@link TaskRepository} so task statistics keep covering archived tasks.
+ */
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Retrieves only the version an archived task had, without reading its snapshot.
+     *
+     * @param id the task ID
+     * @return the task version, if the task is archived
+     */
+    @Query("select a.version from ArchivedTask a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Counts archived tasks per status.
+     *
+     * @return one count per status that has archived tasks
+     */
+    @Query("select new com.handyman.oddhandyman.task.stats.TaskStatusCount(a.status, count(a)) from ArchivedTask a group by a.status")
+    List<TaskStatusCount> countGroupedByStatus();
+
+    /**
+     * Counts each customer's archived tasks per status.
+     *
+     * @return one count per customer and status that has archived tasks
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.task.stats.TaskStatusCount(a.customerId, a.status, count(a))
+            from ArchivedTask a
+            where a.customerId is not null
+            group by a.customerId, a.status
+            """)
+    List<TaskStatusCount> countGroupedByCustomerAndStatus();
+
+    /**
+     * Counts each handyman's archived tasks per status.
+     *
+     * @return one count per handyman and status that has archived tasks
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.task.stats.TaskStatusCount(a.assignedHandymanId, a.status, count(a))
+            from ArchivedTask a
+            where a.assignedHandymanId is not null
+            group by a.assignedHandymanId, a.status
+            """)
+    List<TaskStatusCount> countGroupedByHandymanAndStatus();
+
+    /**
+     * Streams the snapshots of a customer's archived tasks, oldest first, read from a forward-only
+     * cursor so memory stays constant. Must be consumed, and closed, inside a transaction.
+     *
+     * @param customerId ID of the customer who created the tasks
+     * @return stream of JSON task snapshots ordered by task ID
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + TaskRepository.EXPORT_FETCH_SIZE))
+    @Query("select a.snapshot from ArchivedTask a where a.customerId = :customerId order by a.id asc")
+    Stream<String> streamSnapshotsByCustomerId(@Param("customerId") Long customerId);
+}
@@ -1,24 +1,94 @@
 package com.handyman.oddhandyman.task.repository;
 
 import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.expiry.TaskDeadline;
+import com.handyman.oddhandyman.task.geo.TaskLocation;
+import com.handyman.oddhandyman.task.stats.TaskStatusCount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for performing CRUD operations on {@link Task} entities.
  * <p>
  * Provides custom query methods for retrieving tasks by customer, status, or assigned handyman.
+ * Listing queries return {@link TaskResponse} projections selected in a single joined query,
+ * so no {@link Task} or {@link User} entities are loaded into the persistence context.
+ * Entity lookups fetch the lazy customer and assigned handyman through the
+ * {@link Task#WITH_PARTICIPANTS} entity graph.
  */
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    /**
+     * Select clause shared by the {@link TaskResponse} projection queries.
+     * The customer and assigned handyman are outer joined, selecting only their public columns.
+     */
+    String TASK_RESPONSE_SELECT = """
+            select new com.handyman.oddhandyman.task.dto.TaskResponse(
+                t.id, t.title, t.description, t.address, t.budget, t.deadline, t.latitude, t.longitude, t.status,
+                c.id, c.name, c.email, h.id, h.name, h.email,
+                t.bidCount, t.lowestBid, t.highestBid, t.bidTotal, t.sealedUntil)
+            from Task t
+            left join t.customer c
+            left join t.assignedHandyman h
+            """;
+
+    /** Rows fetched per round trip by the streaming export queries */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Retrieves a task by ID together with its customer and assigned handyman.
+     *
+     * @param id the task ID
+     * @return the task, if found
+     */
+    @Override
+    @EntityGraph(Task.WITH_PARTICIPANTS)
+    Optional<Task> findById(Long id);
+
+    /**
+     * Retrieves only the version of a task, so conditional requests can be answered without loading it.
+     *
+     * @param id the task ID
+     * @return the task version, if the task exists
+     */
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Checks whether bidding on a task is still sealed for anyone but the customer who created it.
+     *
+     * @param id    the task ID
+     * @param now   the current time
+     * @param email the email of the user asking
+     * @return {@code true} if the task is sealed after {@code now} and was not created by {@code email}
+     */
+    boolean existsByIdAndSealedUntilAfterAndCustomerEmailNot(Long id, LocalDateTime now, String email);
+
     /**
      * Retrieves all tasks created by a specific customer.
      *
      * @param customer the customer who created the tasks
      * @return list of tasks created by the customer
      */
+    @EntityGraph(Task.WITH_PARTICIPANTS)
     List<Task> findByCustomer(User customer);
 
     /**
@@ -29,6 +99,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @param status the task status to filter by
      * @return list of tasks with the specified status
      */
+    @EntityGraph(Task.WITH_PARTICIPANTS)
     List<Task> findByStatus(TaskStatus status);
 
     /**
@@ -40,5 +111,309 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @param status the status of tasks to filter by
      * @return list of tasks assigned to the handyman with the specified status
      */
+    @EntityGraph(Task.WITH_PARTICIPANTS)
     List<Task> findByAssignedHandymanAndStatus(User handyman, TaskStatus status);
+
+    /**
+     * Retrieves all tasks created by a specific customer as {@link TaskResponse} projections.
+     *
+     * @param customer the customer who created the tasks
+     * @return list of task projections created by the customer
+     */
+    @Query(TASK_RESPONSE_SELECT + "where t.customer = :customer")
+    List<TaskResponse> findResponsesByCustomer(@Param("customer") User customer);
+
+    /**
+     * Streams all tasks created by a customer as {@link TaskResponse} projections, oldest first.
+     * <p>
+     * Rows are read from a forward-only cursor {@value #EXPORT_FETCH_SIZE} at a time and no entity
+     * is attached to the persistence context, so memory stays constant however many tasks the
+     * customer has. Must be consumed, and closed, inside a transaction.
+     *
+     * @param customerId ID of the customer who created the tasks
+     * @return stream of task projections ordered by ID ascending
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query(TASK_RESPONSE_SELECT + "where t.customer.id = :customerId order by t.id asc")
+    Stream<TaskResponse> streamResponsesByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Retrieves all tasks with the given status as {@link TaskResponse} projections, newest first.
+     * <p>
+     * Used to load the open task marketplace into the open task cache.
+     *
+     * @param status the task status to filter by (typically PENDING)
+     * @return list of task projections ordered by ID descending
+     */
+    @Query(TASK_RESPONSE_SELECT + "where t.status = :status order by t.id desc")
+    List<TaskResponse> findOpenTasks(@Param("status") TaskStatus status);
+
+    /**
+     * Retrieves the given tasks as {@link TaskResponse} projections, keeping only those in the given status.
+     *
+     * @param ids    the task IDs
+     * @param status the status the tasks must still be in
+     * @return list of task projections, in no particular order
+     */
+    @Query(TASK_RESPONSE_SELECT + "where t.id in :ids and t.status = :status")
+    List<TaskResponse> findResponsesByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                    @Param("status") TaskStatus status);
+
+    /**
+     * Retrieves the coordinates of all tasks with the given status that have a location.
+     * <p>
+     * Used to bootstrap the in-memory task geo index.
+     *
+     * @param status the task status to filter by (typically PENDING)
+     * @return list of task locations
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.task.geo.TaskLocation(t.id, t.latitude, t.longitude)
+            from Task t
+            where t.status = :status and t.latitude is not null and t.longitude is not null
+            """)
+    List<TaskLocation> findOpenTaskLocations(@Param("status") TaskStatus status);
+
+    /**
+     * Moves a task from the expected status to ASSIGNED with the given handyman, as one conditional update.
+     * <p>
+     * This is the compare-and-set step of the task state machine: when several requests race to
+     * assign the same task, the database lets exactly one of them match the expected status.
+     * The version is incremented and the persistence context cleared, so the task must be re-read.
+     *
+     * @param id       the task ID
+     * @param expected the status the task must still be in
+     * @param handyman the handyman to assign
+     * @return 1 if the task was assigned, 0 if its status no longer matched
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.status = com.handyman.oddhandyman.task.entity.enums.TaskStatus.ASSIGNED,
+                t.assignedHandyman = :handyman,
+                t.version = t.version + 1
+            where t.id = :id and t.status = :expected
+            """)
+    int compareAndAssign(@Param("id") Long id,
+                         @Param("expected") TaskStatus expected,
+                         @Param("handyman") User handyman);
+
+    /**
+     * Moves a task from the expected status to a terminal status and stamps when it finished,
+     * as one conditional update.
+     * <p>
+     * The version is incremented and the persistence context cleared, so the task must be re-read.
+     *
+     * @param id         the task ID
+     * @param expected   the status the task must still be in
+     * @param next       the terminal status (COMPLETED or CANCELLED)
+     * @param finishedAt the time the task finished, which starts its archive retention period
+     * @return 1 if the status was changed, 0 if it no longer matched
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.status = :next, t.finishedAt = :finishedAt, t.version = t.version + 1
+            where t.id = :id and t.status = :expected
+            """)
+    int compareAndFinish(@Param("id") Long id,
+                         @Param("expected") TaskStatus expected,
+                         @Param("next") TaskStatus next,
+                         @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * Retrieves the deadlines of all tasks in the given statuses that have one.
+     * <p>
+     * Used to bootstrap the task expiry engine.
+     *
+     * @param statuses the statuses of tasks that can still expire
+     * @return list of task deadlines
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.task.expiry.TaskDeadline(t.id, t.deadline)
+            from Task t
+            where t.status in :statuses and t.deadline is not null
+            """)
+    List<TaskDeadline> findDeadlines(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Locks and retrieves the given tasks that are in one of the given statuses and due at {@code now}.
+     *
+     * @param ids      the task IDs
+     * @param statuses the statuses of tasks that can still expire
+     * @param now      the current time
+     * @return list of overdue tasks, locked for update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids and t.status in :statuses and t.deadline <= :now")
+    List<Task> findOverdueForUpdate(@Param("ids") Collection<Long> ids,
+                                    @Param("statuses") Collection<TaskStatus> statuses,
+                                    @Param("now") LocalDateTime now);
+
+    /**
+     * Locks the given tasks in ID order and returns the IDs of those that exist.
+     * <p>
+     * Bid changes lock the task before its bids, as the conditional task updates of placing and
+     * accepting a bid do, so concurrent bid changes on the same task cannot deadlock.
+     *
+     * @param ids the task IDs
+     * @return the locked task IDs in ascending order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from Task t where t.id in :ids order by t.id")
+    List<Long> lockIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the IDs of finished tasks that are due for archiving, oldest first.
+     * <p>
+     * A task is due once it finished before {@code cutoff}; tasks finished before the finish time
+     * was recorded fall back to their deadline, and tasks with neither are kept.
+     *
+     * @param statuses the terminal statuses (COMPLETED and CANCELLED)
+     * @param cutoff   tasks that finished before this time are due
+     * @param pageable batch size limit
+     * @return list of task IDs in ascending order
+     */
+    @Query("""
+            select t.id from Task t
+            where t.status in :statuses and coalesce(t.finishedAt, t.deadline) < :cutoff
+            order by t.id asc
+            """)
+    List<Long> findArchivableIds(@Param("statuses") Collection<TaskStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    /**
+     * Retrieves the given tasks together with their customer and assigned handyman.
+     *
+     * @param ids the task IDs
+     * @return list of tasks, in no particular order
+     */
+    @EntityGraph(Task.WITH_PARTICIPANTS)
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Counts all tasks per status.
+     *
+     * @return one count per status that has tasks
+     */
+    @Query("select new com.handyman.oddhandyman.task.stats.TaskStatusCount(t.status, count(t)) from Task t group by t.status")
+    List<TaskStatusCount> countGroupedByStatus();
+
+    /**
+     * Counts each customer's tasks per status.
+     *
+     * @return one count per customer and status that has tasks
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.task.stats.TaskStatusCount(t.customer.id, t.status, count(t))
+            from Task t
+            where t.customer is not null
+            group by t.customer.id, t.status
+            """)
+    List<TaskStatusCount> countGroupedByCustomerAndStatus();
+
+    /**
+     * Counts each handyman's assigned tasks per status.
+     *
+     * @return one count per handyman and status that has tasks
+     */
+    @Query("""
+            select new com.handyman.oddhandyman.task.stats.TaskStatusCount(t.assignedHandyman.id, t.status, count(t))
+            from Task t
+            where t.assignedHandyman is not null
+            group by t.assignedHandyman.id, t.status
+            """)
+    List<TaskStatusCount> countGroupedByHandymanAndStatus();
+
+    /**
+     * Retrieves the tasks assigned to a handyman in any of the given statuses, newest first.
+     *
+     * @param handyman the handyman assigned to the tasks
+     * @param statuses the statuses of tasks to include
+     * @return list of task projections ordered by ID descending
+     */
+    @Query(TASK_RESPONSE_SELECT + """
+            where t.assignedHandyman = :handyman and t.status in :statuses
+            order by t.id desc
+            """)
+    List<TaskResponse> findHandymanTasks(@Param("handyman") User handyman,
+                                         @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Retrieves the task feed for a handyman in a single query, newest first.
+     * <p>
+     * The feed contains every task in the {@code open} status together with the tasks
+     * assigned to the handyman in one of the {@code assigned} statuses. Keyset pagination
+     * is applied on the task ID: only tasks with an ID lower than {@code beforeId} are
+     * returned, so deep pages cost the same as the first one.
+     *
+     * @param handyman the handyman requesting the feed
+     * @param open     the status of tasks open to every handyman (typically PENDING)
+     * @param assigned the statuses of tasks that belong to the handyman
+     * @param beforeId exclusive upper bound on the task ID; {@link Long#MAX_VALUE} for the first page
+     * @param pageable page size limit; {@link Pageable#unpaged()} for no limit
+     * @return list of task projections in the handyman's feed, ordered by ID descending
+     */
+    @Query(TASK_RESPONSE_SELECT + """
+            where (t.status = :open or (t.assignedHandyman = :handyman and t.status in :assigned))
+              and t.id < :beforeId
+            order by t.id desc
+            """)
+    List<TaskResponse> findHandymanFeed(@Param("handyman") User handyman,
+                                        @Param("open") TaskStatus open,
+                                        @Param("assigned") Collection<TaskStatus> assigned,
+                                        @Param("beforeId") Long beforeId,
+                                        Pageable pageable);
+
+    /**
+     * Retrieves a page of a customer's tasks, newest first, with keyset pagination on the task ID.
+     *
+     * @param customer the customer who created the tasks
+     * @param beforeId exclusive upper bound on the task ID; {@link Long#MAX_VALUE} for the first page
+     * @param pageable page size limit
+     * @return list of the customer's task projections ordered by ID descending
+     */
+    @Query(TASK_RESPONSE_SELECT + """
+            where t.customer = :customer and t.id < :beforeId
+            order by t.id desc
+            """)
+    List<TaskResponse> findCustomerTasks(@Param("customer") User customer,
+                                         @Param("beforeId") Long beforeId,
+                                         Pageable pageable);
+
+    /**
+     * Retrieves the first page of a customer's tasks ordered by deadline, earliest first.
+     * <p>
+     * Tasks without a deadline cannot take part in the deadline keyset and are excluded.
+     *
+     * @param customer the customer who created the tasks
+     * @param pageable page size limit
+     * @return list of the customer's task projections ordered by deadline, then ID
+     */
+    @Query(TASK_RESPONSE_SELECT + """
+            where t.customer = :customer and t.deadline is not null
+            order by t.deadline asc, t.id asc
+            """)
+    List<TaskResponse> findCustomerTasksByDeadline(@Param("customer") User customer, Pageable pageable);
+
+    /**
+     * Retrieves the page of a customer's tasks that follows the given {@code (deadline, id)} key,
+     * ordered by deadline, earliest first.
+     *
+     * @param customer      the customer who created the tasks
+     * @param afterDeadline deadline of the last task on the previous page
+     * @param afterId       ID of the last task on the previous page
+     * @param pageable      page size limit
+     * @return list of the customer's task projections ordered by deadline, then ID
+     */
+    @Query(TASK_RESPONSE_SELECT + """
+            where t.customer = :customer
+              and (t.deadline > :afterDeadline or (t.deadline = :afterDeadline and t.id > :afterId))
+            order by t.deadline asc, t.id asc
+            """)
+    List<TaskResponse> findCustomerTasksByDeadlineAfter(@Param("customer") User customer,
+                                                        @Param("afterDeadline") LocalDateTime afterDeadline,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.handyman.oddhandyman.task.repository;
+
+import com.handyman.oddhandyman.task.entity.TaskStatusSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for the reconciled task counters stored as {@link TaskStatusSummary} rows.
+ */
+public interface TaskStatusSummaryRepository extends JpaRepository<TaskStatusSummary, Long> {
+}
@@ -0,0 +1,202 @@
+package com.handyman.oddhandyman.task.search;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index over the title and description of open (PENDING) tasks, ranked with BM25.
+ * <p>
+ * Each term maps to a posting list of task IDs and term frequencies. Title terms are counted
+ * {@link #TITLE_WEIGHT} times so a match in the title outranks the same match in the description.
+ * The index is loaded from the database once the application is ready and then maintained
+ * incrementally from committed {@link TaskStatusChangedEvent}s: created tasks are added and tasks
+ * leaving PENDING are removed.
+ * <p>
+ * Writes are serialised; searches read the concurrent posting lists without locking.
+ */
+@Component
+public class TaskSearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int TITLE_WEIGHT = 2;
+
+    private final TaskRepository taskRepository;
+
+    /** Term to posting list (task ID to weighted term frequency) */
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+    /** Task ID to its weighted document length, i.e. the number of indexed term occurrences */
+    private final Map<Long, Integer> documentLengths = new ConcurrentHashMap<>();
+
+    /** Task ID to the distinct terms it was indexed under, used to remove it again */
+    private final Map<Long, String[]> documentTerms = new ConcurrentHashMap<>();
+
+    private volatile long totalLength;
+
+    public TaskSearchIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Indexes all open tasks once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        taskRepository.findOpenTasks(TaskStatus.PENDING)
+                .forEach(t -> index(t.getId(), t.getTitle(), t.getDescription()));
+    }
+
+    /**
+     * Keeps the index in step with committed task status changes.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        TaskResponse task = event.getTask();
+        if (event.getStatus() == TaskStatus.PENDING) {
+            index(task.getId(), task.getTitle(), task.getDescription());
+        } else {
+            remove(task.getId());
+        }
+    }
+
+    /**
+     * Adds a task to the index, replacing any previous entry for the same ID.
+     *
+     * @param taskId      the task ID
+     * @param title       the task title
+     * @param description the task description
+     */
+    public synchronized void index(Long taskId, String title, String description) {
+        remove(taskId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        TaskTextAnalyzer.analyze(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        TaskTextAnalyzer.analyze(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>()).put(taskId, entry.getValue());
+            length += entry.getValue();
+        }
+        documentTerms.put(taskId, frequencies.keySet().toArray(new String[0]));
+        documentLengths.put(taskId, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes a task from the index. Unknown IDs are ignored.
+     *
+     * @param taskId the task ID
+     */
+    public synchronized void remove(Long taskId) {
+        String[] terms = documentTerms.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (k, list) -> {
+                list.remove(taskId);
+                return list.isEmpty() ? null : list;
+            });
+        }
+        Integer length = documentLengths.remove(taskId);
+        totalLength -= length == null ? 0 : length;
+    }
+
+    /**
+     * @return the number of indexed tasks
+     */
+    public int size() {
+        return documentLengths.size();
+    }
+
+    /**
+     * Ranks the indexed tasks against a query with BM25 and returns the best {@code limit} matches.
+     * <p>
+     * A task matches if it contains at least one query term; repeated query terms count once.
+     *
+     * @param query free-text query
+     * @param limit maximum number of results
+     * @return matching tasks ordered by score descending, then ID descending
+     */
+    public List<Hit> search(String query, int limit) {
+        int documents = documentLengths.size();
+        if (documents == 0 || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / documents);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : new LinkedHashSet<>(TaskTextAnalyzer.analyze(query))) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list == null) continue;
+
+            int df = list.size();
+            double idf = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+            list.forEach((taskId, tf) -> {
+                int length = documentLengths.getOrDefault(taskId, 0);
+                double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                scores.merge(taskId, idf * norm, Double::sum);
+            });
+        }
+
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::getScore).thenComparing(Hit::getTaskId);
+        PriorityQueue<Hit> best = new PriorityQueue<>(ranking);
+        scores.forEach((taskId, score) -> {
+            Hit hit = new Hit(taskId, score);
+            if (best.size() < limit) {
+                best.add(hit);
+            } else if (ranking.compare(hit, best.peek()) > 0) {
+                best.poll();
+                best.add(hit);
+            }
+        });
+
+        List<Hit> result = new ArrayList<>(best);
+        result.sort(ranking.reversed());
+        return result;
+    }
+
+    /**
+     * A task matched by a search together with its BM25 score.
+     */
+    public static class Hit {
+
+        private final Long taskId;
+        private final double score;
+
+        public Hit(Long taskId, double score) {
+            this.taskId = taskId;
+            this.score = score;
+        }
+
+        public Long getTaskId() {
+            return taskId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.handyman.oddhandyman.task.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns task text and search queries into index terms.
+ * <p>
+ * Text is lower-cased and split on anything that is not a letter or digit. Common English stop
+ * words are dropped and the remaining tokens are reduced by a light suffix-stripping stemmer, so
+ * "leaking", "leaks" and "leaked" all match "leak".
+ */
+public final class TaskTextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "i", "in",
+            "is", "it", "its", "my", "of", "on", "or", "our", "that", "the", "this", "to", "was",
+            "were", "will", "with");
+
+    private TaskTextAnalyzer() {}
+
+    /**
+     * Splits text into stemmed index terms, keeping duplicates and order.
+     *
+     * @param text the text to analyse; {@code null} yields no terms
+     * @return list of terms
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    terms.add(stem(token));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Strips common English inflection suffixes from a lower-case token.
+     *
+     * @param token the token
+     * @return the stem
+     */
+    static String stem(String token) {
+        int n = token.length();
+        if (n > 4 && token.endsWith("ies")) {
+            return token.substring(0, n - 3) + "y";
+        }
+        if (token.endsWith("sses")) {
+            return token.substring(0, n - 2);
+        }
+        if (n > 5 && token.endsWith("ing")) {
+            return undouble(token.substring(0, n - 3));
+        }
+        if (n > 4 && token.endsWith("ed")) {
+            return undouble(token.substring(0, n - 2));
+        }
+        if (n > 4 && token.endsWith("es") && endsWithSibilant(token.substring(0, n - 2))) {
+            return token.substring(0, n - 2);
+        }
+        if (n > 3 && token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us")) {
+            return token.substring(0, n - 1);
+        }
+        return token;
+    }
+
+    /** "fitting" → "fitt" → "fit"; keeps "ll", "ss" and "zz" which are usually part of the stem */
+    private static String undouble(String stem) {
+        int n = stem.length();
+        if (n > 2 && stem.charAt(n - 1) == stem.charAt(n - 2) && "lsz".indexOf(stem.charAt(n - 1)) < 0) {
+            return stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+
+    private static boolean endsWithSibilant(String stem) {
+        return stem.endsWith("s") || stem.endsWith("x") || stem.endsWith("z")
+                || stem.endsWith("ch") || stem.endsWith("sh");
+    }
+}
@@ -1,9 +1,19 @@
 package com.handyman.oddhandyman.task.service;
 
 import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
+import com.handyman.oddhandyman.task.dto.NearbyTaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
 import com.handyman.oddhandyman.task.dto.TaskRequest;
 import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskSortOrder;
+import com.handyman.oddhandyman.task.dto.TaskStatsResponse;
 import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,6 +23,9 @@ import java.util.List;
  */
 public interface TaskService {
 
+    /** Statuses of tasks that are cancelled once their deadline has passed */
+    List<TaskStatus> EXPIRABLE_STATUSES = List.of(TaskStatus.PENDING, TaskStatus.ASSIGNED);
+
     /**
      * Creates a new task for a customer identified by their email.
      *
@@ -22,6 +35,15 @@ public interface TaskService {
      */
     Task createTask(TaskRequest req, String customerEmail);
 
+    /**
+     * Creates several tasks for a customer identified by their email in one transaction.
+     *
+     * @param requests      the task request payloads
+     * @param customerEmail the email of the customer creating the tasks
+     * @return list of {@link TaskResponse} DTOs for the created tasks, in request order
+     */
+    List<TaskResponse> createTasks(List<TaskRequest> requests, String customerEmail);
+
     /**
      * Retrieves a list of tasks relevant to a specific user.
      * <p>
@@ -33,6 +55,96 @@ public interface TaskService {
      */
     List<TaskResponse> getTasksForUser(User user);
 
+    /**
+     * Retrieves one page of the task feed for a handyman.
+     * <p>
+     * The feed contains all open (PENDING) tasks plus the tasks assigned to or completed by
+     * the handyman, newest first, loaded with a single keyset-paginated query.
+     *
+     * @param handyman the handyman requesting the feed
+     * @param cursor   the cursor returned with the previous page, or {@code null} for the first page
+     * @param size     the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of {@link TaskResponse} DTOs
+     */
+    CursorPage<TaskResponse> getHandymanFeed(User handyman, String cursor, Integer size);
+
+    /**
+     * Retrieves one page of the recommended task feed for a handyman.
+     * <p>
+     * Open (PENDING) tasks are ranked by how well they match the skills and location in the
+     * handyman's profile, their budget and the urgency of their deadline, best first.
+     *
+     * @param handyman  the handyman requesting the feed
+     * @param latitude  the handyman's current latitude, or {@code null} to use the profile location
+     * @param longitude the handyman's current longitude, or {@code null} to use the profile location
+     * @param cursor    the cursor returned with the previous page, or {@code null} for the first page
+     * @param size      the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of ranked {@link TaskResponse} DTOs
+     */
+    CursorPage<TaskResponse> getRecommendedFeed(User handyman, Double latitude, Double longitude,
+                                                String cursor, Integer size);
+
+    /**
+     * Retrieves one page of the tasks relevant to a user using keyset pagination.
+     * <p>
+     * For customers: their own tasks in the requested order.
+     * For handymen: their task feed (see {@link #getHandymanFeed(User, String, Integer)}).
+     *
+     * @param user   the user whose tasks are being retrieved
+     * @param sort   the ordering of the listing
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of {@link TaskResponse} DTOs
+     */
+    CursorPage<TaskResponse> getTaskPage(User user, TaskSortOrder sort, String cursor, Integer size);
+
+    /**
+     * Finds the open tasks nearest to a location, within a radius.
+     *
+     * @param handyman  the handyman searching for work
+     * @param latitude  latitude of the search location in decimal degrees
+     * @param longitude longitude of the search location in decimal degrees
+     * @param radiusKm  the search radius in kilometres, or {@code null} for the default
+     * @param limit     the maximum number of tasks, or {@code null} for the default
+     * @return list of {@link NearbyTaskResponse} DTOs ordered by distance, nearest first
+     */
+    List<NearbyTaskResponse> findNearbyTasks(User handyman, double latitude, double longitude,
+                                             Double radiusKm, Integer limit);
+
+    /**
+     * Searches the title and description of open tasks, best match first.
+     *
+     * @param query  free-text search query
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of ranked {@link TaskResponse} DTOs
+     */
+    CursorPage<TaskResponse> searchTasks(String query, String cursor, Integer size);
+
+    /**
+     * Returns the number of tasks in each status, overall or for one customer or handyman.
+     * <p>
+     * Served from in-memory counters, so the cost does not grow with the number of tasks.
+     *
+     * @param admin      the requesting user; must be an admin
+     * @param customerId restrict the counts to this customer's tasks, or {@code null}
+     * @param handymanId restrict the counts to this handyman's assigned tasks, or {@code null}
+     * @return the {@link TaskStatsResponse} for the requested scope
+     */
+    TaskStatsResponse getTaskStats(User admin, Long customerId, Long handymanId);
+
+    /**
+     * Prepares an export of every task a customer created, live and archived, as NDJSON or CSV.
+     * <p>
+     * The returned body streams the tasks straight from a database cursor when the response is
+     * written, so memory use does not grow with the number of tasks.
+     *
+     * @param customer the customer exporting their tasks
+     * @param format   the file format
+     * @return the response body writing the export
+     */
+    StreamingResponseBody exportTasks(User customer, TaskExportFormat format);
+
     /**
      * Retrieves a task by its unique identifier.
      *
@@ -41,6 +153,14 @@ public interface TaskService {
      */
     Task getTask(Long id);
 
+    /**
+     * Returns the current version of a task without loading it.
+     *
+     * @param id the ID of the task
+     * @return the task version
+     */
+    long getTaskVersion(Long id);
+
     /**
      * Assigns a handyman to a task.
      * <p>
@@ -63,4 +183,14 @@ public interface TaskService {
      */
     Task completeTask(Long taskId, User handyman);
 
+    /**
+     * Cancels the given tasks that are still PENDING or ASSIGNED and whose deadline is at or before {@code now}.
+     * <p>
+     * Tasks that no longer qualify are skipped.
+     *
+     * @param taskIds the IDs of the tasks to expire
+     * @param now     the current time
+     * @return list of {@link TaskResponse} DTOs of the tasks actually cancelled
+     */
+    List<TaskResponse> expireTasks(Collection<Long> taskIds, LocalDateTime now);
 }
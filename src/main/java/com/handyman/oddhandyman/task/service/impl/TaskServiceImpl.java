@@ -1,22 +1,53 @@
 package com.handyman.oddhandyman.task.service.impl;
 
-import com.handyman.oddhandyman.auth.dto.UserResponse;
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.auth.repository.UserRepository;
+import com.handyman.oddhandyman.bid.pricing.BidPriceAnalytics;
+import com.handyman.oddhandyman.common.pagination.CursorCodec;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
 import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.TaskStateConflictException;
 import com.handyman.oddhandyman.exception.UnacceptableOperationException;
 import com.handyman.oddhandyman.exception.UserNotFoundException;
+import com.handyman.oddhandyman.profile.entity.Profile;
+import com.handyman.oddhandyman.profile.repository.ProfileRepository;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
+import com.handyman.oddhandyman.task.cache.OpenTaskCache;
+import com.handyman.oddhandyman.task.dto.BulkTaskRequest;
+import com.handyman.oddhandyman.task.dto.NearbyTaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
 import com.handyman.oddhandyman.task.dto.TaskRequest;
 import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskSortOrder;
+import com.handyman.oddhandyman.task.dto.TaskStatsResponse;
 import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.export.TaskExporter;
+import com.handyman.oddhandyman.task.geo.TaskGeoIndex;
+import com.handyman.oddhandyman.task.recommend.TaskRecommender;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.search.TaskSearchIndex;
 import com.handyman.oddhandyman.task.service.TaskService;
+import com.handyman.oddhandyman.task.stats.TaskStatsAggregator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link TaskService} for managing tasks.
@@ -24,16 +55,55 @@ import java.util.List;
  * Provides operations for creating tasks, assigning handymen, completing tasks,
  * and retrieving tasks for users (customers or handymen).
  * Handles role-based restrictions and enforces business rules.
+ * Status changes follow {@link TaskStatus#canTransitionTo} and are applied as conditional
+ * (compare-and-set) updates, so concurrent requests cannot both move the same task.
+ * Every status change publishes a {@link TaskStatusChangedEvent}, which keeps the
+ * {@link OpenTaskCache} serving the handyman marketplace up to date.
  */
 @Service
 public class TaskServiceImpl implements TaskService {
 
+    /** Statuses of tasks that belong to a handyman's own feed, next to the open tasks */
+    private static final List<TaskStatus> HANDYMAN_OWN_STATUSES = List.of(TaskStatus.ASSIGNED, TaskStatus.COMPLETED);
+
+    /** Radius used by nearby searches when none is given, and the largest radius accepted */
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 10.0;
+    private static final double MAX_NEARBY_RADIUS_KM = 200.0;
+
+    /** Deepest search or recommendation offset served; ranking cost grows with offset + page size */
+    private static final long MAX_RANKED_OFFSET = 10_000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final OpenTaskCache openTaskCache;
+    private final TaskGeoIndex taskGeoIndex;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatsAggregator taskStatsAggregator;
+    private final TaskArchive taskArchive;
+    private final TaskExporter taskExporter;
+    private final TaskRecommender taskRecommender;
+    private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository,
+                           OpenTaskCache openTaskCache, TaskGeoIndex taskGeoIndex,
+                           TaskSearchIndex taskSearchIndex, TaskStatsAggregator taskStatsAggregator,
+                           TaskArchive taskArchive, TaskExporter taskExporter,
+                           TaskRecommender taskRecommender, ProfileRepository profileRepository,
+                           ApplicationEventPublisher eventPublisher, Clock clock) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.openTaskCache = openTaskCache;
+        this.taskGeoIndex = taskGeoIndex;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatsAggregator = taskStatsAggregator;
+        this.taskArchive = taskArchive;
+        this.taskExporter = taskExporter;
+        this.taskRecommender = taskRecommender;
+        this.profileRepository = profileRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     /**
@@ -41,32 +111,98 @@ public class TaskServiceImpl implements TaskService {
      * <p>
      * Only users with role CUSTOMER can create tasks.
      * Sets initial task status to {@link TaskStatus#PENDING}.
+     * Coordinates are optional, but latitude and longitude must be given together. Sealed bidding,
+     * if requested, must end by the deadline.
      *
-     * @param req           the task request payload containing title, description, address, budget, and deadline
+     * @param req           the task request payload containing title, description, address, budget, deadline
+     *                      and optional coordinates
      * @param customerEmail the email of the customer creating the task
      * @return the created {@link Task} entity
      * @throws UserNotFoundException          if no user with the provided email exists
      * @throws UnacceptableOperationException if the user is not a customer
+     * @throws IllegalArgumentException       if only one of latitude and longitude is given, or sealed
+     *                                        bidding ends after the deadline
      */
     @Transactional
     public Task createTask(TaskRequest req, String customerEmail) {
+        User customer = findCustomer(customerEmail);
+        validateRequest(req, "");
+
+        Task saved = taskRepository.save(newTask(req, customer));
+        eventPublisher.publishEvent(TaskStatusChangedEvent.of(saved, null));
+        return saved;
+    }
+
+    /**
+     * Creates several tasks for a customer in one transaction.
+     * <p>
+     * The customer is resolved once and every item is validated before anything is written,
+     * so either all tasks are created or none. Task IDs come from a pooled sequence, which lets
+     * Hibernate send the inserts as JDBC batches ({@code hibernate.jdbc.batch_size}).
+     *
+     * @param requests      the task request payloads
+     * @param customerEmail the email of the customer creating the tasks
+     * @return list of {@link TaskResponse} DTOs for the created tasks, in request order
+     * @throws UserNotFoundException          if no user with the provided email exists
+     * @throws UnacceptableOperationException if the user is not a customer
+     * @throws IllegalArgumentException       if the list is empty or too large, or an item has only one coordinate
+     *                                        or seals bidding past its deadline
+     */
+    @Transactional
+    public List<TaskResponse> createTasks(List<TaskRequest> requests, String customerEmail) {
+        if (requests == null || requests.isEmpty() || requests.size() > BulkTaskRequest.MAX_TASKS) {
+            throw new IllegalArgumentException("Between 1 And " + BulkTaskRequest.MAX_TASKS + " Tasks Are Required");
+        }
+
+        User customer = findCustomer(customerEmail);
+        for (int i = 0; i < requests.size(); i++) {
+            validateRequest(requests.get(i), "Task " + (i + 1) + ": ");
+        }
+
+        List<Task> saved = taskRepository.saveAll(requests.stream().map(req -> newTask(req, customer)).toList());
+
+        List<TaskResponse> created = new ArrayList<>(saved.size());
+        for (Task task : saved) {
+            eventPublisher.publishEvent(TaskStatusChangedEvent.of(task, null));
+            created.add(TaskResponse.from(task));
+        }
+        return created;
+    }
+
+    private User findCustomer(String customerEmail) {
         User customer = userRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new UserNotFoundException("Customer Not Found"));
 
         if (!customer.getRole().name().equals("CUSTOMER")) {
             throw new UnacceptableOperationException("Only Customers Can create Tasks");
         }
+        return customer;
+    }
+
+    private void validateRequest(TaskRequest req, String prefix) {
+        if ((req.getLatitude() == null) != (req.getLongitude() == null)) {
+            throw new IllegalArgumentException(prefix + "Latitude And Longitude Must Be Provided Together");
+        }
+        if (req.getSealedUntil() != null && req.getDeadline() != null && req.getSealedUntil().isAfter(req.getDeadline())) {
+            throw new IllegalArgumentException(prefix + "Sealed Bidding Must End Before The Deadline");
+        }
+    }
 
+    private Task newTask(TaskRequest req, User customer) {
         Task t = new Task();
         t.setTitle(req.getTitle());
         t.setDescription(req.getDescription());
         t.setAddress(req.getAddress());
         t.setBudget(req.getBudget());
         t.setDeadline(req.getDeadline());
+        t.setLatitude(req.getLatitude());
+        t.setLongitude(req.getLongitude());
+        t.setCategory(BidPriceAnalytics.normalizeCategory(req.getCategory()));
+        t.setSealedUntil(req.getSealedUntil());
+        t.setAutoAcceptAmount(req.getAutoAcceptAmount());
         t.setCustomer(customer);
         t.setStatus(TaskStatus.PENDING);
-
-        return taskRepository.save(t);
+        return t;
     }
 
     /**
@@ -74,55 +210,431 @@ public class TaskServiceImpl implements TaskService {
      * <p>
      * For customers: all tasks they created.
      * For handymen: open tasks (PENDING) and tasks assigned or completed for them.
+     * The open tasks are served from the {@link OpenTaskCache}; only the handyman's own
+     * tasks are read from the database. Bid amounts are left out while bidding is sealed.
      *
      * @param user the user whose tasks are being retrieved
      * @return list of {@link TaskResponse} DTOs
      */
     public List<TaskResponse> getTasksForUser(User user) {
-        List<Task> tasks;
         if (user.getRole().name().equals("CUSTOMER")) {
-            tasks = taskRepository.findByCustomer(user);
+            return asSeenNow(taskRepository.findResponsesByCustomer(user));
         } else if (user.getRole().name().equals("HANDYMAN")) {
-            tasks = new ArrayList<>();
-            tasks.addAll(taskRepository.findByStatus(TaskStatus.PENDING));
-            tasks.addAll(taskRepository.findByAssignedHandymanAndStatus(user, TaskStatus.ASSIGNED));
-            tasks.addAll(taskRepository.findByAssignedHandymanAndStatus(user, TaskStatus.COMPLETED));
-        } else {
-            tasks = List.of();
+            return asSeenNow(mergeNewestFirst(openTaskCache.getOpenTasks(),
+                    taskRepository.findHandymanTasks(user, HANDYMAN_OWN_STATUSES)));
+        }
+        return List.of();
+    }
+
+    /**
+     * Merges two task lists that are each ordered by ID descending into one list in the same order.
+     */
+    private List<TaskResponse> mergeNewestFirst(List<TaskResponse> a, List<TaskResponse> b) {
+        List<TaskResponse> merged = new ArrayList<>(a.size() + b.size());
+        int i = 0, j = 0;
+        while (i < a.size() && j < b.size()) {
+            merged.add(a.get(i).getId() > b.get(j).getId() ? a.get(i++) : b.get(j++));
+        }
+        merged.addAll(a.subList(i, a.size()));
+        merged.addAll(b.subList(j, b.size()));
+        return merged;
+    }
+
+    /**
+     * Retrieves one page of the handyman task feed.
+     * <p>
+     * Open (PENDING) tasks and the handyman's own ASSIGNED/COMPLETED tasks are loaded with one
+     * query, ordered by ID descending. One extra row is fetched to detect whether a further page exists.
+     *
+     * @param handyman the handyman requesting the feed
+     * @param cursor   the cursor from the previous page, or {@code null} for the first page
+     * @param size     the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of {@link TaskResponse} DTOs
+     * @throws UnacceptableOperationException if the user is not a handyman
+     * @throws IllegalArgumentException       if the cursor is malformed
+     */
+    public CursorPage<TaskResponse> getHandymanFeed(User handyman, String cursor, Integer size) {
+        if (!handyman.getRole().name().equals("HANDYMAN")) {
+            throw new UnacceptableOperationException("Only Handymen Have A Task Feed");
+        }
+
+        int pageSize = CursorCodec.pageSize(size);
+        Long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : CursorCodec.decodeId(cursor);
+
+        List<TaskResponse> tasks = taskRepository.findHandymanFeed(handyman, TaskStatus.PENDING, HANDYMAN_OWN_STATUSES,
+                beforeId, PageRequest.of(0, pageSize + 1));
+
+        return toPage(tasks, pageSize, last -> CursorCodec.encode(last.getId()));
+    }
+
+    /**
+     * Retrieves one page of the recommended task feed.
+     * <p>
+     * Open tasks are ranked by the in-memory {@link TaskRecommender} from the skills and location in
+     * the handyman's profile; a current position, when given, is used for proximity instead of the
+     * profile location. A handyman without a profile is ranked on budget and deadline alone. Only the
+     * tasks on the requested page are loaded; the cursor holds the offset of the next page.
+     *
+     * @param handyman  the handyman requesting the feed
+     * @param latitude  the handyman's latitude in decimal degrees, or {@code null}
+     * @param longitude the handyman's longitude in decimal degrees, or {@code null}
+     * @param cursor    the cursor from the previous page, or {@code null} for the first page
+     * @param size      the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of ranked {@link TaskResponse} DTOs
+     * @throws UnacceptableOperationException if the user is not a handyman
+     * @throws IllegalArgumentException       if the position is incomplete or out of range, or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getRecommendedFeed(User handyman, Double latitude, Double longitude,
+                                                       String cursor, Integer size) {
+        if (!handyman.getRole().name().equals("HANDYMAN")) {
+            throw new UnacceptableOperationException("Only Handymen Have A Task Feed");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude And Longitude Must Be Provided Together");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("Invalid Location");
+        }
+
+        int pageSize = CursorCodec.pageSize(size);
+        int offset = decodeOffset(cursor);
+
+        Profile profile = profileRepository.findByUser(handyman).orElse(null);
+        List<String> skills = profile == null || profile.getSkills() == null ? List.of() : profile.getSkills();
+        String location = profile == null ? null : profile.getLocation();
+
+        List<Long> ids = taskRecommender.recommend(skills, location, latitude, longitude, offset + pageSize + 1).stream()
+                .map(TaskRecommender.Hit::getTaskId)
+                .toList();
+        return loadRankedPage(ids, offset, pageSize, taskRecommender::remove);
+    }
+
+    /**
+     * Retrieves one page of the tasks relevant to a user.
+     * <p>
+     * Customers page through their own tasks either newest first (keyset on ID) or by
+     * earliest deadline (keyset on deadline, then ID). Handymen receive their task feed,
+     * which is only available newest first.
+     *
+     * @param user   the user whose tasks are being retrieved
+     * @param sort   the ordering of the listing
+     * @param cursor the cursor from the previous page, or {@code null} for the first page
+     * @param size   the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of {@link TaskResponse} DTOs
+     * @throws IllegalArgumentException if the cursor is malformed or the ordering is not supported for the user
+     */
+    public CursorPage<TaskResponse> getTaskPage(User user, TaskSortOrder sort, String cursor, Integer size) {
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        if (user.getRole().name().equals("HANDYMAN")) {
+            if (sort == TaskSortOrder.DEADLINE) {
+                throw new IllegalArgumentException("Deadline Ordering Is Only Available For Customers");
+            }
+            return getHandymanFeed(user, cursor, size);
+        }
+
+        if (!user.getRole().name().equals("CUSTOMER")) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        int pageSize = CursorCodec.pageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        if (sort == TaskSortOrder.DEADLINE) {
+            List<TaskResponse> tasks;
+            if (firstPage) {
+                tasks = taskRepository.findCustomerTasksByDeadline(user, limit);
+            } else {
+                String[] key = CursorCodec.decode(cursor, 2);
+                tasks = taskRepository.findCustomerTasksByDeadlineAfter(user, parseDeadline(key[0]),
+                        parseId(key[1]), limit);
+            }
+            return toPage(tasks, pageSize, last -> CursorCodec.encode(last.getDeadline(), last.getId()));
+        }
+
+        Long beforeId = firstPage ? Long.MAX_VALUE : CursorCodec.decodeId(cursor);
+        List<TaskResponse> tasks = taskRepository.findCustomerTasks(user, beforeId, limit);
+        return toPage(tasks, pageSize, last -> CursorCodec.encode(last.getId()));
+    }
+
+    /**
+     * Finds the open tasks nearest to a location, within a radius.
+     * <p>
+     * Candidates come from the in-memory {@link TaskGeoIndex}; only the nearest {@code limit}
+     * tasks are then loaded by ID. Tasks that are no longer open are dropped from the result
+     * and evicted from the index.
+     *
+     * @param handyman  the handyman searching for work
+     * @param latitude  latitude of the search location in decimal degrees
+     * @param longitude longitude of the search location in decimal degrees
+     * @param radiusKm  the search radius in kilometres, or {@code null} for the default
+     * @param limit     the maximum number of tasks, or {@code null} for the default
+     * @return list of {@link NearbyTaskResponse} DTOs ordered by distance, nearest first
+     * @throws UnacceptableOperationException if the user is not a handyman
+     * @throws IllegalArgumentException       if the location or radius is out of range
+     */
+    public List<NearbyTaskResponse> findNearbyTasks(User handyman, double latitude, double longitude,
+                                                    Double radiusKm, Integer limit) {
+        if (!handyman.getRole().name().equals("HANDYMAN")) {
+            throw new UnacceptableOperationException("Only Handymen Can Search Nearby Tasks");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid Location");
+        }
+        double radius = radiusKm == null ? DEFAULT_NEARBY_RADIUS_KM : radiusKm;
+        if (!(radius > 0 && radius <= MAX_NEARBY_RADIUS_KM)) {
+            throw new IllegalArgumentException("Radius Must Be Between 0 And " + (int) MAX_NEARBY_RADIUS_KM + " Km");
+        }
+
+        List<TaskGeoIndex.Hit> hits = taskGeoIndex.findNearest(latitude, longitude, radius, CursorCodec.pageSize(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> tasks = taskRepository
+                .findResponsesByIdInAndStatus(hits.stream().map(TaskGeoIndex.Hit::getTaskId).toList(), TaskStatus.PENDING)
+                .stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<NearbyTaskResponse> nearby = new ArrayList<>(tasks.size());
+        for (TaskGeoIndex.Hit hit : hits) {
+            TaskResponse task = tasks.get(hit.getTaskId());
+            if (task == null) {
+                taskGeoIndex.remove(hit.getTaskId());
+            } else {
+                nearby.add(new NearbyTaskResponse(task.asSeenAt(now), hit.getDistanceKm()));
+            }
         }
+        return nearby;
+    }
+
+    /**
+     * Searches the title and description of open tasks, best match first.
+     * <p>
+     * Ranking is done by the in-memory {@link TaskSearchIndex} with BM25; only the tasks on the
+     * requested page are loaded from the database. The cursor holds the offset of the next page.
+     * Tasks that are no longer open are dropped from the page and evicted from the index.
+     *
+     * @param query  free-text search query
+     * @param cursor the cursor from the previous page, or {@code null} for the first page
+     * @param size   the requested page size, or {@code null} for the default
+     * @return a {@link CursorPage} of ranked {@link TaskResponse} DTOs
+     * @throws IllegalArgumentException if the query is blank or the cursor is malformed
+     */
+    public CursorPage<TaskResponse> searchTasks(String query, String cursor, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search Query Must Not Be Blank");
+        }
+
+        int pageSize = CursorCodec.pageSize(size);
+        int offset = decodeOffset(cursor);
+
+        List<Long> ids = taskSearchIndex.search(query, offset + pageSize + 1).stream()
+                .map(TaskSearchIndex.Hit::getTaskId)
+                .toList();
+        return loadRankedPage(ids, offset, pageSize, taskSearchIndex::remove);
+    }
+
+    /**
+     * Decodes the offset held by the cursor of a ranked listing.
+     *
+     * @param cursor the cursor from the previous page, or {@code null} for the first page
+     * @return the offset of the requested page
+     * @throws IllegalArgumentException if the cursor is malformed or too deep
+     */
+    private int decodeOffset(String cursor) {
+        long position = cursor == null || cursor.isBlank() ? 0 : CursorCodec.decodeId(cursor);
+        if (position < 0 || position > MAX_RANKED_OFFSET) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+        return (int) position;
+    }
+
+    /**
+     * Loads one page of a ranking computed in memory, keeping the ranked order.
+     * <p>
+     * Only the tasks on the page are loaded. Tasks that are no longer open are dropped from the
+     * page and handed to {@code evict}, so the in-memory ranking forgets them.
+     *
+     * @param ids      ranked task IDs, best first, at most {@code offset + pageSize + 1}
+     * @param offset   the offset of the page
+     * @param pageSize the number of tasks on a page
+     * @param evict    removes a task ID that is no longer open from the ranking
+     * @return the {@link CursorPage}, whose cursor holds the offset of the next page
+     */
+    private CursorPage<TaskResponse> loadRankedPage(List<Long> ids, int offset, int pageSize, Consumer<Long> evict) {
+        if (ids.size() <= offset) {
+            return new CursorPage<>(List.of(), null);
+        }
+        boolean hasMore = ids.size() > offset + pageSize;
+        List<Long> pageIds = ids.subList(offset, Math.min(ids.size(), offset + pageSize));
+
+        Map<Long, TaskResponse> tasks = taskRepository.findResponsesByIdInAndStatus(pageIds, TaskStatus.PENDING)
+                .stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<TaskResponse> page = new ArrayList<>(tasks.size());
+        for (Long id : pageIds) {
+            TaskResponse task = tasks.get(id);
+            if (task == null) {
+                evict.accept(id);
+            } else {
+                page.add(task.asSeenAt(now));
+            }
+        }
+        return new CursorPage<>(page, hasMore ? CursorCodec.encode(offset + pageSize) : null);
+    }
+
+    /**
+     * Trims a keyset query result fetched with one extra row down to the page size
+     * and builds the cursor for the next page from the last task kept. Bid amounts are left out of
+     * the tasks whose bidding is sealed.
+     *
+     * @param tasks    the query result, at most {@code pageSize + 1} rows
+     * @param pageSize the number of tasks to return
+     * @param cursorOf builds the next cursor from the last task on the page
+     * @return the {@link CursorPage} of tasks
+     */
+    private CursorPage<TaskResponse> toPage(List<TaskResponse> tasks, int pageSize,
+                                            Function<TaskResponse, String> cursorOf) {
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskResponse> page = hasMore ? List.copyOf(tasks.subList(0, pageSize)) : tasks;
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)) : null;
+
+        return new CursorPage<>(asSeenNow(page), nextCursor);
+    }
+
+    /**
+     * Applies {@link TaskResponse#asSeenAt} to every task with the current time of the clock.
+     */
+    private List<TaskResponse> asSeenNow(List<TaskResponse> tasks) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return tasks.stream().map(task -> task.asSeenAt(now)).toList();
+    }
+
+    private LocalDateTime parseDeadline(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+    }
+
+    private Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid Cursor");
+        }
+    }
 
-        return tasks.stream().map(this::mapToDto).toList();
+    /**
+     * Returns the number of tasks in each status from the in-memory {@link TaskStatsAggregator}.
+     *
+     * @param admin      the requesting user; must be an admin
+     * @param customerId restrict the counts to this customer's tasks, or {@code null}
+     * @param handymanId restrict the counts to this handyman's assigned tasks, or {@code null}
+     * @return the {@link TaskStatsResponse} for the requested scope
+     * @throws UnacceptableOperationException if the user is not an admin
+     * @throws IllegalArgumentException       if both a customer and a handyman are given
+     */
+    public TaskStatsResponse getTaskStats(User admin, Long customerId, Long handymanId) {
+        if (!admin.getRole().name().equals("ADMIN")) {
+            throw new UnacceptableOperationException("Only Admins Can View Task Statistics");
+        }
+        if (customerId != null && handymanId != null) {
+            throw new IllegalArgumentException("Specify Either A Customer Or A Handyman");
+        }
+
+        TaskStatsScope scope = customerId != null ? TaskStatsScope.CUSTOMER
+                : handymanId != null ? TaskStatsScope.HANDYMAN
+                : TaskStatsScope.ALL;
+        Long ownerId = customerId != null ? customerId : handymanId;
+        return new TaskStatsResponse(scope, ownerId, taskStatsAggregator.getCounts(scope, ownerId));
     }
 
     /**
-     * Retrieves a task by its unique identifier.
+     * Prepares a streaming export of a customer's live and archived tasks.
+     * <p>
+     * The role is checked here, so a refused export fails before any byte is sent; the rows are
+     * written later by {@link TaskExporter} in its own read-only transaction, as the response is sent.
+     *
+     * @param customer the customer exporting their tasks
+     * @param format   the file format
+     * @return the response body writing the export
+     * @throws UnacceptableOperationException if the user is not a customer
+     */
+    public StreamingResponseBody exportTasks(User customer, TaskExportFormat format) {
+        if (!customer.getRole().name().equals("CUSTOMER")) {
+            throw new UnacceptableOperationException("Only Customers Can Export Tasks");
+        }
+        Long customerId = customer.getId();
+        return out -> taskExporter.export(customerId, format, out);
+    }
+
+    /**
+     * Retrieves a task by its unique identifier, falling back to the archive for finished tasks.
      *
      * @param id the ID of the task
-     * @return the {@link Task} entity
+     * @return the {@link Task} entity; detached if the task is archived
      * @throws TaskNotFoundException if the task is not found
      */
     public Task getTask(Long id) {
+        return taskRepository.findById(id)
+                .or(() -> taskArchive.findTask(id))
+                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
+    }
+
+    /**
+     * Returns the current version of a task, reading only its version column.
+     *
+     * @param id the ID of the task
+     * @return the task version
+     * @throws TaskNotFoundException if the task is not found
+     */
+    public long getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .or(() -> taskArchive.findVersion(id))
+                .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
+    }
+
+    /** Archived tasks are finished and can no longer change, so state changes only read the hot table */
+    private Task getLiveTask(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
     }
 
     /**
      * Assigns a handyman to a task and updates its status to {@link TaskStatus#ASSIGNED}.
+     * <p>
+     * The assignment is a single conditional update on the status that was read, so when two
+     * requests race only one succeeds.
      *
      * @param taskId     the ID of the task
      * @param handymanId the ID of the handyman to assign
      * @return the updated {@link Task} entity
-     * @throws TaskNotFoundException if the task does not exist
-     * @throws UserNotFoundException if the handyman does not exist
+     * @throws TaskNotFoundException       if the task does not exist
+     * @throws UserNotFoundException       if the handyman does not exist
+     * @throws TaskStateConflictException  if the task is not open or was changed concurrently
      */
     @Transactional
     public Task assignHandyman(Long taskId, Long handymanId) {
-        Task task = getTask(taskId);
+        Task task = getLiveTask(taskId);
         User handyman = userRepository.findById(handymanId)
                 .orElseThrow(() -> new UserNotFoundException("Handyman Not Found"));
-        task.setAssignedHandyman(handyman);
-        task.setStatus(TaskStatus.ASSIGNED);
-        return taskRepository.save(task);
+
+        TaskStatus previousStatus = task.getStatus();
+        requireTransition(previousStatus, TaskStatus.ASSIGNED);
+        if (taskRepository.compareAndAssign(taskId, previousStatus, handyman) == 0) {
+            throw new TaskStateConflictException("Task Was Modified Concurrently");
+        }
+
+        Task assigned = getLiveTask(taskId);
+        eventPublisher.publishEvent(TaskStatusChangedEvent.of(assigned, previousStatus));
+        return assigned;
     }
 
     /**
@@ -133,52 +645,60 @@ public class TaskServiceImpl implements TaskService {
      * @return the updated {@link Task} entity
      * @throws TaskNotFoundException          if the task does not exist
      * @throws UnacceptableOperationException if the provided handyman is not assigned to the task
+     * @throws TaskStateConflictException     if the task is not assigned or was changed concurrently
      */
     @Transactional
     public Task completeTask(Long taskId, User handyman) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task Not Found"));
 
-        if (!task.getAssignedHandyman().getId().equals(handyman.getId())) {
+        if (task.getAssignedHandyman() == null || !task.getAssignedHandyman().getId().equals(handyman.getId())) {
             throw new UnacceptableOperationException("Only Handyman Can Complete Task");
         }
 
-        task.setStatus(TaskStatus.COMPLETED);
-        return taskRepository.save(task);
+        TaskStatus previousStatus = task.getStatus();
+        requireTransition(previousStatus, TaskStatus.COMPLETED);
+        if (taskRepository.compareAndFinish(taskId, previousStatus, TaskStatus.COMPLETED, LocalDateTime.now()) == 0) {
+            throw new TaskStateConflictException("Task Was Modified Concurrently");
+        }
+
+        Task completed = getLiveTask(taskId);
+        eventPublisher.publishEvent(TaskStatusChangedEvent.of(completed, previousStatus));
+        return completed;
+    }
+
+    private void requireTransition(TaskStatus from, TaskStatus to) {
+        if (!from.canTransitionTo(to)) {
+            throw new TaskStateConflictException("Task Cannot Move From " + from + " To " + to);
+        }
     }
 
     /**
-     * Maps a {@link Task} entity to a {@link TaskResponse} DTO for API responses.
+     * Cancels the given tasks that are still PENDING or ASSIGNED and whose deadline has passed.
+     * <p>
+     * The tasks are re-read under a pessimistic write lock so a concurrent assignment or completion
+     * either wins or waits; the status changes are then flushed as one JDBC batch. A
+     * {@link TaskStatusChangedEvent} is published for every cancelled task.
      *
-     * @param task the task entity to map
-     * @return the {@link TaskResponse} containing task details and associated users
+     * @param taskIds the IDs of the tasks to expire
+     * @param now     the current time
+     * @return list of {@link TaskResponse} DTOs of the tasks actually cancelled
      */
-    private TaskResponse mapToDto(Task task) {
-        TaskResponse dto = new TaskResponse();
-        dto.setId(task.getId());
-        dto.setTitle(task.getTitle());
-        dto.setDescription(task.getDescription());
-        dto.setAddress(task.getAddress());
-        dto.setBudget(task.getBudget());
-        dto.setDeadline(task.getDeadline());
-        dto.setStatus(task.getStatus());
-
-        if (task.getCustomer() != null) {
-            UserResponse c = new UserResponse();
-            c.setId(task.getCustomer().getId());
-            c.setName(task.getCustomer().getName());
-            c.setEmail(task.getCustomer().getEmail());
-            dto.setCustomer(c);
+    @Transactional
+    public List<TaskResponse> expireTasks(Collection<Long> taskIds, LocalDateTime now) {
+        if (taskIds.isEmpty()) {
+            return List.of();
         }
 
-        if (task.getAssignedHandyman() != null) {
-            UserResponse h = new UserResponse();
-            h.setId(task.getAssignedHandyman().getId());
-            h.setName(task.getAssignedHandyman().getName());
-            h.setEmail(task.getAssignedHandyman().getEmail());
-            dto.setAssignedHandyman(h);
+        List<TaskResponse> expired = new ArrayList<>();
+        for (Task task : taskRepository.findOverdueForUpdate(taskIds, EXPIRABLE_STATUSES, now)) {
+            TaskStatus previousStatus = task.getStatus();
+            task.setStatus(TaskStatus.CANCELLED);
+            task.setFinishedAt(now);
+            TaskStatusChangedEvent event = TaskStatusChangedEvent.of(task, previousStatus);
+            eventPublisher.publishEvent(event);
+            expired.add(event.getTask());
         }
-
-        return dto;
+        return expired;
     }
 }
@@ -0,0 +1,245 @@
+package com.handyman.oddhandyman.task.stats;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.TaskStatusSummary;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.ArchivedTaskRepository;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.repository.TaskStatusSummaryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory task counters per status, overall, per customer and per handyman.
+ * <p>
+ * Counters are {@link LongAdder}s moved by every committed {@link TaskStatusChangedEvent}, so
+ * concurrent transitions update them without contention and reads never count the tasks table.
+ * <p>
+ * Every {@code tasks.stats.reconcile-interval-ms} the counters are rebuilt from {@code GROUP BY}
+ * queries over the tasks and task archive tables and written to the {@link TaskStatusSummary}
+ * table, which seeds them at the next startup. Reconciling corrects any drift, such as a transition
+ * committed while the counts were being read.
+ * The corrected amount is recorded as {@code tasks.stats.reconcile.drift}.
+ */
+@Component
+public class TaskStatsAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsAggregator.class);
+
+    /** Owner key of the overall counters, also stored as the owner ID of ALL summary rows */
+    static final long ALL_OWNER = 0L;
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskStatusSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final DistributionSummary drift;
+
+    private volatile Counters counters = new Counters();
+
+    public TaskStatsAggregator(TaskRepository taskRepository,
+                               ArchivedTaskRepository archivedTaskRepository,
+                               TaskStatusSummaryRepository summaryRepository,
+                               PlatformTransactionManager transactionManager,
+                               Clock clock,
+                               MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.drift = DistributionSummary.builder("tasks.stats.reconcile.drift")
+                .description("Total counter correction applied by each task statistics reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Seeds the counters from the summary table once the application has started,
+     * or reconciles straight away if no summary has been stored yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        List<TaskStatusSummary> rows = summaryRepository.findAll();
+        if (rows.isEmpty()) {
+            reconcile();
+            return;
+        }
+
+        Counters loaded = new Counters();
+        rows.forEach(r -> loaded.add(r.getScope(), r.getOwnerId(), r.getStatus(), r.getTaskCount()));
+        counters = loaded;
+    }
+
+    /**
+     * Moves the task from its previous status counters to its new ones.
+     *
+     * @param event the committed status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        TaskStatus previous = event.getPreviousStatus();
+        TaskStatus next = event.getStatus();
+        if (previous == next) {
+            return;
+        }
+
+        TaskResponse task = event.getTask();
+        Counters current = counters;
+        current.move(TaskStatsScope.ALL, ALL_OWNER, previous, next);
+        if (task.getCustomer() != null) {
+            current.move(TaskStatsScope.CUSTOMER, task.getCustomer().getId(), previous, next);
+        }
+        if (task.getAssignedHandyman() != null) {
+            // A handyman is only attached by the PENDING -> ASSIGNED transition, so a PENDING task was not theirs yet
+            TaskStatus handymanPrevious = previous == TaskStatus.PENDING ? null : previous;
+            current.move(TaskStatsScope.HANDYMAN, task.getAssignedHandyman().getId(), handymanPrevious, next);
+        }
+    }
+
+    /**
+     * Returns the task counts of one scope.
+     *
+     * @param scope   the counter scope
+     * @param ownerId the customer or handyman ID; ignored for {@link TaskStatsScope#ALL}
+     * @return the number of tasks in every status, zero for statuses without tasks
+     */
+    public Map<TaskStatus, Long> getCounts(TaskStatsScope scope, Long ownerId) {
+        return counters.snapshot(scope, scope == TaskStatsScope.ALL ? ALL_OWNER : ownerId);
+    }
+
+    /**
+     * Rebuilds the counters from the tasks and task archive tables and stores them in the summary table.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${tasks.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Counters fresh = new Counters();
+        taskRepository.countGroupedByStatus()
+                .forEach(c -> fresh.add(TaskStatsScope.ALL, ALL_OWNER, c.getStatus(), c.getCount()));
+        taskRepository.countGroupedByCustomerAndStatus()
+                .forEach(c -> fresh.add(TaskStatsScope.CUSTOMER, c.getOwnerId(), c.getStatus(), c.getCount()));
+        taskRepository.countGroupedByHandymanAndStatus()
+                .forEach(c -> fresh.add(TaskStatsScope.HANDYMAN, c.getOwnerId(), c.getStatus(), c.getCount()));
+        // Archived tasks still count towards their final status
+        archivedTaskRepository.countGroupedByStatus()
+                .forEach(c -> fresh.add(TaskStatsScope.ALL, ALL_OWNER, c.getStatus(), c.getCount()));
+        archivedTaskRepository.countGroupedByCustomerAndStatus()
+                .forEach(c -> fresh.add(TaskStatsScope.CUSTOMER, c.getOwnerId(), c.getStatus(), c.getCount()));
+        archivedTaskRepository.countGroupedByHandymanAndStatus()
+                .forEach(c -> fresh.add(TaskStatsScope.HANDYMAN, c.getOwnerId(), c.getStatus(), c.getCount()));
+
+        long corrected = counters.distanceTo(fresh);
+        counters = fresh;
+        drift.record(corrected);
+        if (corrected > 0) {
+            log.info("Task statistics corrected by {} during reconciliation", corrected);
+        }
+
+        List<TaskStatusSummary> rows = fresh.toSummaries(LocalDateTime.now(clock));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                summaryRepository.deleteAllInBatch();
+                summaryRepository.saveAll(rows);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Storing {} task statistics rows failed, retrying on the next reconciliation", rows.size(), ex);
+        }
+    }
+
+    /**
+     * One generation of counters, replaced as a whole on every reconciliation.
+     */
+    private static final class Counters {
+
+        private final Map<TaskStatsScope, Map<Long, Map<TaskStatus, LongAdder>>> scopes =
+                new EnumMap<>(TaskStatsScope.class);
+
+        Counters() {
+            for (TaskStatsScope scope : TaskStatsScope.values()) {
+                scopes.put(scope, new ConcurrentHashMap<>());
+            }
+        }
+
+        void add(TaskStatsScope scope, long ownerId, TaskStatus status, long count) {
+            owner(scope, ownerId).get(status).add(count);
+        }
+
+        void move(TaskStatsScope scope, long ownerId, TaskStatus from, TaskStatus to) {
+            Map<TaskStatus, LongAdder> owner = owner(scope, ownerId);
+            if (from != null) {
+                owner.get(from).decrement();
+            }
+            owner.get(to).increment();
+        }
+
+        Map<TaskStatus, Long> snapshot(TaskStatsScope scope, Long ownerId) {
+            Map<TaskStatus, LongAdder> owner = ownerId == null ? null : scopes.get(scope).get(ownerId);
+            Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                counts.put(status, owner == null ? 0L : owner.get(status).sum());
+            }
+            return counts;
+        }
+
+        /** Sum of the absolute differences between every counter here and in {@code other} */
+        long distanceTo(Counters other) {
+            long distance = 0;
+            for (TaskStatsScope scope : TaskStatsScope.values()) {
+                Set<Long> owners = new HashSet<>(scopes.get(scope).keySet());
+                owners.addAll(other.scopes.get(scope).keySet());
+                for (Long ownerId : owners) {
+                    Map<TaskStatus, Long> mine = snapshot(scope, ownerId);
+                    Map<TaskStatus, Long> theirs = other.snapshot(scope, ownerId);
+                    for (TaskStatus status : TaskStatus.values()) {
+                        distance += Math.abs(mine.get(status) - theirs.get(status));
+                    }
+                }
+            }
+            return distance;
+        }
+
+        List<TaskStatusSummary> toSummaries(LocalDateTime reconciledAt) {
+            List<TaskStatusSummary> rows = new ArrayList<>();
+            scopes.forEach((scope, owners) -> owners.forEach((ownerId, counts) -> counts.forEach((status, count) -> {
+                long value = count.sum();
+                if (value != 0) {
+                    rows.add(new TaskStatusSummary(scope, ownerId, status, value, reconciledAt));
+                }
+            })));
+            return rows;
+        }
+
+        private Map<TaskStatus, LongAdder> owner(TaskStatsScope scope, long ownerId) {
+            return scopes.get(scope).computeIfAbsent(ownerId, id -> {
+                Map<TaskStatus, LongAdder> counts = new EnumMap<>(TaskStatus.class);
+                for (TaskStatus status : TaskStatus.values()) {
+                    counts.put(status, new LongAdder());
+                }
+                return counts;
+            });
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.handyman.oddhandyman.task.stats;
+
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+
+/**
+ * Number of tasks in one status, optionally for one customer or handyman.
+ * <p>
+ * Projection of the {@code GROUP BY} queries the {@link TaskStatsAggregator} reconciles against.
+ */
+public class TaskStatusCount {
+
+    private final Long ownerId;
+    private final TaskStatus status;
+    private final long count;
+
+    public TaskStatusCount(TaskStatus status, Long count) {
+        this(null, status, count);
+    }
+
+    public TaskStatusCount(Long ownerId, TaskStatus status, Long count) {
+        this.ownerId = ownerId;
+        this.status = status;
+        this.count = count;
+    }
+
+    /**
+     * @return the customer or handyman ID, or {@code null} for an overall count
+     */
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,13 @@
+-- Keyset indexes for the task feed and listings; see db/migration/postgresql/V1_1__task_list_indexes.sql.
+
+create index idx_tasks_status_id
+   on tasks (status, id);
+
+create index idx_tasks_handyman_status
+   on tasks (assigned_handyman_id, status);
+
+create index idx_tasks_customer_id
+   on tasks (customer_id, id);
+
+create index idx_tasks_customer_deadline
+   on tasks (customer_id, deadline, id);
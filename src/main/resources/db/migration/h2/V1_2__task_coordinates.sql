@@ -0,0 +1,4 @@
+-- Optional task coordinates for the nearby-task search; see db/migration/postgresql/V1_2__task_coordinates.sql.
+
+alter table tasks add column latitude float(53);
+alter table tasks add column longitude float(53);
@@ -0,0 +1,7 @@
+-- Pooled sequence for task IDs; see db/migration/postgresql/V1_3__task_id_sequence.sql.
+
+alter table tasks alter column id drop identity;
+
+create sequence tasks_seq start with 1 increment by 50;
+
+alter sequence tasks_seq restart with (select coalesce(max(id), 0) + 50 from tasks);
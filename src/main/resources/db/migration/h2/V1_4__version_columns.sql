@@ -0,0 +1,4 @@
+-- Version columns of tasks and bids; see db/migration/postgresql/V1_4__version_columns.sql.
+
+alter table tasks add column version bigint default 0 not null;
+alter table bids add column version bigint default 0 not null;
@@ -0,0 +1,13 @@
+-- Reconciled task counts per status; see db/migration/postgresql/V1_5__task_status_summary.sql.
+
+create sequence task_status_summary_seq start with 1 increment by 50;
+
+create table task_status_summary (
+    id bigint not null,
+    owner_id bigint not null,
+    reconciled_at timestamp(6),
+    task_count bigint not null,
+    scope varchar(255) not null check (scope in ('ALL','CUSTOMER','HANDYMAN')),
+    status varchar(255) not null check (status in ('PENDING','ASSIGNED','COMPLETED','CANCELLED')),
+    primary key (id)
+);
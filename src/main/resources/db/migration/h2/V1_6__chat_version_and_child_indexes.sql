@@ -0,0 +1,9 @@
+-- Chat message version and the bid and chat task indexes; see db/migration/postgresql/V1_6__chat_version_and_child_indexes.sql.
+
+alter table chat_messages add column version bigint default 0 not null;
+
+create index idx_bids_task_id
+   on bids (task_id, id);
+
+create index idx_chat_messages_task_id
+   on chat_messages (task_id, id);
@@ -0,0 +1,144 @@
+-- Same as db/migration/postgresql/V1__baseline_schema.sql.
+
+create table bids (
+    amount float(53),
+    created_at timestamp(6),
+    handyman_id bigint,
+    id bigserial not null,
+    task_id bigint,
+    status varchar(255) check (status in ('PENDING','ACCEPTED','REJECTED')),
+    primary key (id)
+);
+
+create table chat_messages (
+    read_by_customer boolean not null,
+    read_by_handyman boolean not null,
+    id bigserial not null,
+    sender_id bigint,
+    task_id bigint,
+    timestamp timestamp(6),
+    message varchar(1000),
+    primary key (id)
+);
+
+create table profile (
+    available boolean not null,
+    profile_complete boolean not null,
+    rating float(53),
+    verified boolean not null,
+    created_at timestamp(6),
+    id bigserial not null,
+    user_id bigint not null unique,
+    cloudinary_folder_uuid varchar(255),
+    location varchar(255),
+    phone_number varchar(255),
+    primary key (id)
+);
+
+create table profile_documents (
+    profile_id bigint not null,
+    document_type varchar(255) not null,
+    url varchar(255),
+    primary key (profile_id, document_type)
+);
+
+create table profile_skills (
+    profile_id bigint not null,
+    skills varchar(255)
+);
+
+create table reviews (
+    rating integer not null,
+    created_at timestamp(6),
+    id bigserial not null,
+    reviewed_handyman_id bigint,
+    reviewer_id bigint,
+    task_id bigint unique,
+    updated_at timestamp(6),
+    comment varchar(2000),
+    primary key (id)
+);
+
+create table tasks (
+    budget float(53),
+    assigned_handyman_id bigint,
+    customer_id bigint,
+    deadline timestamp(6),
+    id bigserial not null,
+    description varchar(1000),
+    address varchar(255),
+    status varchar(255) check (status in ('PENDING','ASSIGNED','COMPLETED','CANCELLED')),
+    title varchar(255),
+    primary key (id)
+);
+
+create table users (
+    verified boolean not null,
+    created_at timestamp(6) with time zone,
+    id bigserial not null,
+    email varchar(255) not null unique,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('CUSTOMER','HANDYMAN','ADMIN')),
+    primary key (id)
+);
+
+alter table if exists bids
+   add constraint FKgy2ax1au8xr8b85eybq9s0v89
+   foreign key (handyman_id)
+   references users;
+
+alter table if exists bids
+   add constraint FKc7hspkj1s2x7p5qv0ek846ahw
+   foreign key (task_id)
+   references tasks;
+
+alter table if exists chat_messages
+   add constraint FKgiqeap8ays4lf684x7m0r2729
+   foreign key (sender_id)
+   references users;
+
+alter table if exists chat_messages
+   add constraint FKe3tn55xm4h4uog1wgawrx873y
+   foreign key (task_id)
+   references tasks;
+
+alter table if exists profile
+   add constraint FKs14jvsf9tqrcnly0afsv0ngwv
+   foreign key (user_id)
+   references users;
+
+alter table if exists profile_documents
+   add constraint FK82n8ea8duesj702kjd1nbj9bp
+   foreign key (profile_id)
+   references profile;
+
+alter table if exists profile_skills
+   add constraint FKncwjq1byfgaqa90r6vb1miclp
+   foreign key (profile_id)
+   references profile;
+
+alter table if exists reviews
+   add constraint FKh35tr7q0dw63ejnj9axv1rcjy
+   foreign key (reviewed_handyman_id)
+   references users;
+
+alter table if exists reviews
+   add constraint FKd1isgfajhtdl8mgg29up6mofi
+   foreign key (reviewer_id)
+   references users;
+
+alter table if exists reviews
+   add constraint FKlnqn3xsr1jynd9tp8yh1vyuyk
+   foreign key (task_id)
+   references tasks;
+
+alter table if exists tasks
+   add constraint FKp7uxlytic8jwxkbl3fyskdx5j
+   foreign key (assigned_handyman_id)
+   references users;
+
+alter table if exists tasks
+   add constraint FKoew37bwy2ifaha60efr67o5i7
+   foreign key (customer_id)
+   references users;
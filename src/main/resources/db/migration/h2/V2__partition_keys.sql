@@ -0,0 +1,19 @@
+-- Columns the Postgres partitioning relies on. H2 has no declarative partitioning, so the tables
+-- themselves stay as they are; see db/migration/postgresql/V2__partition_tasks_and_chat.sql.
+
+alter table tasks add column created_at timestamp(6);
+
+update tasks t
+   set created_at = coalesce(
+           (select min(m.timestamp) from chat_messages m where m.task_id = t.id),
+           localtimestamp);
+
+alter table tasks alter column created_at set not null;
+
+update tasks set status = 'PENDING' where status is null;
+
+alter table tasks alter column status set not null;
+
+update chat_messages set timestamp = localtimestamp where timestamp is null;
+
+alter table chat_messages alter column timestamp set not null;
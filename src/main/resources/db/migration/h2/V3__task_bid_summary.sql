@@ -0,0 +1,14 @@
+-- Summary of the active (PENDING or ACCEPTED) bids on each task; see
+-- db/migration/postgresql/V3__task_bid_summary.sql.
+
+alter table tasks add column bid_count integer default 0 not null;
+alter table tasks add column lowest_bid float(53);
+alter table tasks add column highest_bid float(53);
+alter table tasks add column bid_total float(53) default 0 not null;
+
+update tasks t
+   set bid_count = (select count(*) from bids b where b.task_id = t.id and b.status in ('PENDING', 'ACCEPTED')),
+       lowest_bid = (select min(b.amount) from bids b where b.task_id = t.id and b.status in ('PENDING', 'ACCEPTED')),
+       highest_bid = (select max(b.amount) from bids b where b.task_id = t.id and b.status in ('PENDING', 'ACCEPTED')),
+       bid_total = coalesce((select sum(b.amount) from bids b where b.task_id = t.id and b.status in ('PENDING', 'ACCEPTED')), 0)
+ where exists (select 1 from bids b where b.task_id = t.id and b.status in ('PENDING', 'ACCEPTED'));
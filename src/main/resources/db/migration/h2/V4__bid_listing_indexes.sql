@@ -0,0 +1,7 @@
+-- Keyset indexes for the sorted bid listing; see db/migration/postgresql/V4__bid_listing_indexes.sql.
+
+create index idx_bids_task_status_amount
+   on bids (task_id, status, amount, id);
+
+create index idx_bids_task_status_created_at
+   on bids (task_id, status, created_at, id);
@@ -0,0 +1,4 @@
+-- Sealed bidding and auto-accept settings of a task; see db/migration/postgresql/V5__sealed_bidding.sql.
+
+alter table tasks add column sealed_until timestamp(6);
+alter table tasks add column auto_accept_amount float(53);
@@ -0,0 +1,5 @@
+-- Keyset index for a handyman's bid history; see db/migration/postgresql/V6__handyman_bid_history_index.sql.
+-- H2 has no included columns, so only the key columns are indexed.
+
+create index idx_bids_handyman_created_at
+   on bids (handyman_id, created_at, id);
@@ -0,0 +1,12 @@
+-- Responses stored per Idempotency-Key; see db/migration/postgresql/V7__idempotency_keys.sql.
+
+create table idempotency_keys (
+    id varchar(64) not null,
+    request_hash varchar(64) not null,
+    response character varying,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_idempotency_keys_created_at
+   on idempotency_keys (created_at);
@@ -0,0 +1,3 @@
+-- Optional kind of work of a task; see db/migration/postgresql/V8__task_category.sql.
+
+alter table tasks add column category varchar(50);
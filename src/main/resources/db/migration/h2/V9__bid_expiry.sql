@@ -0,0 +1,28 @@
+-- Bid expiry time and EXPIRED status; see db/migration/postgresql/V9__bid_expiry.sql.
+-- H2 gave the baseline status check a generated name, so the column is replaced instead, which
+-- means dropping and recreating the indexes on it.
+
+alter table bids add column expires_at timestamp(6);
+
+drop index idx_bids_task_status_amount;
+drop index idx_bids_task_status_created_at;
+
+alter table bids add column status_new varchar(255);
+update bids set status_new = status;
+alter table bids drop column status;
+alter table bids alter column status_new rename to status;
+alter table bids add constraint bids_status_check
+   check (status in ('PENDING','ACCEPTED','REJECTED','EXPIRED'));
+
+update bids b
+   set expires_at = (select t.deadline from tasks t where t.id = b.task_id)
+ where b.status = 'PENDING';
+
+create index idx_bids_task_status_amount
+   on bids (task_id, status, amount, id);
+
+create index idx_bids_task_status_created_at
+   on bids (task_id, status, created_at, id);
+
+create index idx_bids_status_expires_at
+   on bids (status, expires_at);
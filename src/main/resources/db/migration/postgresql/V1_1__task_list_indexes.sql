@@ -0,0 +1,14 @@
+-- Composite indexes behind the keyset-paginated task reads: the handyman feed and open-task
+-- listing (status, id), and a customer's tasks by ID or by deadline.
+
+create index idx_tasks_status_id
+   on tasks (status, id);
+
+create index idx_tasks_handyman_status
+   on tasks (assigned_handyman_id, status);
+
+create index idx_tasks_customer_id
+   on tasks (customer_id, id);
+
+create index idx_tasks_customer_deadline
+   on tasks (customer_id, deadline, id);
@@ -0,0 +1,4 @@
+-- Optional task coordinates for the nearby-task search.
+
+alter table tasks add column latitude float(53);
+alter table tasks add column longitude float(53);
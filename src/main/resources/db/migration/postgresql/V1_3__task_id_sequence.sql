@@ -0,0 +1,12 @@
+-- Task IDs come from a pooled sequence instead of an identity column, so bulk task creation can
+-- batch its inserts. The identity default is dropped so nothing draws from the old sequence.
+--
+-- Hibernate's pooled optimizer takes each value it reads as the highest ID of a block of 50, so
+-- the first value must be the highest existing ID plus 50 for the first block to start above it.
+
+alter table tasks alter column id drop default;
+drop sequence if exists tasks_id_seq;
+
+create sequence tasks_seq start with 1 increment by 50;
+
+select setval('tasks_seq', (select coalesce(max(id), 0) + 50 from tasks), false);
@@ -0,0 +1,4 @@
+-- Version columns for the compare-and-set updates of tasks and bids. Existing rows start at 0.
+
+alter table tasks add column version bigint default 0 not null;
+alter table bids add column version bigint default 0 not null;
@@ -0,0 +1,10 @@
+-- Version column for chat messages, and the task indexes the conditional bid and chat reads
+-- compute their list versions from. Existing messages start at version 0.
+
+alter table chat_messages add column version bigint default 0 not null;
+
+create index idx_bids_task_id
+   on bids (task_id, id);
+
+create index idx_chat_messages_task_id
+   on chat_messages (task_id, id);
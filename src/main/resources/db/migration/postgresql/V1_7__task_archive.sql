@@ -0,0 +1,44 @@
+-- Finish time of tasks, and the archive tables finished tasks and their reviews are moved to.
+
+alter table tasks add column finished_at timestamp(6);
+
+create table task_archive (
+    partition_month integer not null,
+    archived_at timestamp(6),
+    assigned_handyman_id bigint,
+    customer_id bigint,
+    finished_at timestamp(6),
+    id bigint not null,
+    version bigint,
+    snapshot text,
+    status varchar(255) check (status in ('PENDING','ASSIGNED','COMPLETED','CANCELLED')),
+    primary key (id)
+);
+
+create table review_archive (
+    partition_month integer not null,
+    archived_at timestamp(6),
+    id bigint not null,
+    reviewed_handyman_id bigint,
+    task_id bigint,
+    snapshot text,
+    primary key (id)
+);
+
+create index idx_task_archive_customer
+   on task_archive (customer_id, id);
+
+create index idx_task_archive_handyman
+   on task_archive (assigned_handyman_id, id);
+
+create index idx_task_archive_partition_month
+   on task_archive (partition_month);
+
+create index idx_review_archive_handyman
+   on review_archive (reviewed_handyman_id, id);
+
+create index idx_review_archive_task
+   on review_archive (task_id);
+
+create index idx_review_archive_partition_month
+   on review_archive (partition_month);
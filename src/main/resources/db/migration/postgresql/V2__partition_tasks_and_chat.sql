@@ -0,0 +1,316 @@
+-- Declarative partitioning of the hot tables and the archive tables.
+--
+-- tasks          LIST (status):   tasks_live (PENDING, ASSIGNED) and tasks_finished (COMPLETED, CANCELLED).
+--                                 Marketplace, expiry and assignment queries filter on status and only
+--                                 touch tasks_live; a status change moves the row between partitions.
+-- chat_messages  RANGE (timestamp): one partition per month plus a default. Reads are bounded below by
+--                                 the task's created_at, so a chat only scans the months since its task.
+-- task_archive,  RANGE (partition_month, yyyymm of the finish time): one partition per month plus a
+-- review_archive                  default, so old months can be detached or dropped as a whole.
+--
+-- The partition key is part of every primary key, as Postgres requires; Hibernate adds it to the
+-- where clause of updates and deletes (@PartitionKey). The primary key of tasks is therefore
+-- (id, status), which neither keeps task IDs unique on its own nor can be referenced by bids,
+-- chat_messages and reviews, which only know the task ID. Both are kept by task_keys, which holds
+-- every task ID once and is what the children reference; see the tasks section.
+--
+-- Each table is rebuilt by renaming the old one, creating the partitioned one and copying the rows.
+
+-- Creates the monthly partitions of a RANGE-partitioned table for the given number of months
+-- starting at first_month, skipping those that already exist. yyyymm_key selects integer yyyymm
+-- bounds instead of timestamp bounds. Used by this migration and by MonthlyPartitionMaintainer.
+create or replace function create_month_partitions(parent text, first_month date, months integer,
+                                                   yyyymm_key boolean default false)
+returns void
+language plpgsql
+as $$
+declare
+    month_start date;
+    partition_name text;
+begin
+    for i in 0 .. months - 1 loop
+        month_start := (date_trunc('month', first_month) + make_interval(months => i))::date;
+        partition_name := parent || '_' || to_char(month_start, 'YYYYMM');
+        if to_regclass(partition_name) is null then
+            if yyyymm_key then
+                execute format('create table %I partition of %I for values from (%s) to (%s)',
+                        partition_name, parent,
+                        to_char(month_start, 'YYYYMM'), to_char(month_start, 'YYYYMM')::integer + 1);
+            else
+                execute format('create table %I partition of %I for values from (%L) to (%L)',
+                        partition_name, parent,
+                        month_start, (month_start + interval '1 month')::date);
+            end if;
+        end if;
+    end loop;
+end
+$$;
+
+-- tasks ----------------------------------------------------------------------------------------
+
+drop index if exists idx_tasks_status_id;
+drop index if exists idx_tasks_handyman_status;
+drop index if exists idx_tasks_customer_id;
+drop index if exists idx_tasks_customer_deadline;
+
+alter table tasks rename to tasks_unpartitioned;
+alter table tasks_unpartitioned rename constraint tasks_pkey to tasks_unpartitioned_pkey;
+
+create table tasks (
+    budget float(53),
+    latitude float(53),
+    longitude float(53),
+    assigned_handyman_id bigint,
+    created_at timestamp(6) not null,
+    customer_id bigint,
+    deadline timestamp(6),
+    finished_at timestamp(6),
+    id bigint not null,
+    version bigint default 0 not null,
+    description varchar(1000),
+    address varchar(255),
+    status varchar(255) not null check (status in ('PENDING','ASSIGNED','COMPLETED','CANCELLED')),
+    title varchar(255),
+    primary key (id, status)
+) partition by list (status);
+
+create table tasks_live partition of tasks for values in ('PENDING', 'ASSIGNED');
+create table tasks_finished partition of tasks for values in ('COMPLETED', 'CANCELLED');
+
+-- Tasks created before created_at existed start at their first chat message, so no message falls
+-- below the lower bound the chat reads use
+insert into tasks (budget, latitude, longitude, assigned_handyman_id, created_at, customer_id, deadline,
+                   finished_at, id, version, description, address, status, title)
+select t.budget, t.latitude, t.longitude, t.assigned_handyman_id,
+       coalesce((select min(m.timestamp) from chat_messages m where m.task_id = t.id), localtimestamp),
+       t.customer_id, t.deadline, t.finished_at, t.id, t.version, t.description, t.address,
+       coalesce(t.status, 'PENDING'), t.title
+  from tasks_unpartitioned t;
+
+-- Cascades to the foreign keys bids, chat_messages and reviews had on the old table, which are
+-- recreated against task_keys below
+drop table tasks_unpartitioned cascade;
+
+-- One row per task ID, kept by triggers on tasks. Its primary key makes task IDs unique across the
+-- partitions, and the children's foreign keys point at it, so a task with bids, messages or reviews
+-- cannot be deleted and a child cannot be written for a task that does not exist. A status change
+-- that moves a task to the other partition runs as a delete and an insert; by the time the after
+-- triggers fire, the moved row exists again, which tells a move apart from a new or deleted task.
+create table task_keys (
+    id bigint not null,
+    primary key (id)
+);
+
+insert into task_keys (id)
+select id from tasks;
+
+create function task_keys_insert() returns trigger
+language plpgsql
+as $$
+begin
+    insert into task_keys (id) values (new.id) on conflict (id) do nothing;
+    if not found and (select count(*) from tasks where id = new.id) > 1 then
+        raise unique_violation using message = format('duplicate task id %s', new.id);
+    end if;
+    return null;
+end
+$$;
+
+create function task_keys_delete() returns trigger
+language plpgsql
+as $$
+begin
+    delete from task_keys k
+     where k.id = old.id
+       and not exists (select 1 from tasks t where t.id = old.id);
+    return null;
+end
+$$;
+
+create function task_keys_update() returns trigger
+language plpgsql
+as $$
+begin
+    raise exception 'task id % cannot change', old.id;
+end
+$$;
+
+create trigger task_keys_insert after insert on tasks
+   for each row execute function task_keys_insert();
+
+create trigger task_keys_delete after delete on tasks
+   for each row execute function task_keys_delete();
+
+create trigger task_keys_update after update of id on tasks
+   for each row when (old.id <> new.id) execute function task_keys_update();
+
+alter table if exists bids
+   add constraint FKc7hspkj1s2x7p5qv0ek846ahw
+   foreign key (task_id)
+   references task_keys;
+
+alter table if exists reviews
+   add constraint FKlnqn3xsr1jynd9tp8yh1vyuyk
+   foreign key (task_id)
+   references task_keys;
+
+create index idx_tasks_status_id
+   on tasks (status, id);
+
+create index idx_tasks_handyman_status
+   on tasks (assigned_handyman_id, status);
+
+create index idx_tasks_customer_id
+   on tasks (customer_id, id);
+
+create index idx_tasks_customer_deadline
+   on tasks (customer_id, deadline, id);
+
+alter table if exists tasks
+   add constraint FKp7uxlytic8jwxkbl3fyskdx5j
+   foreign key (assigned_handyman_id)
+   references users;
+
+alter table if exists tasks
+   add constraint FKoew37bwy2ifaha60efr67o5i7
+   foreign key (customer_id)
+   references users;
+
+-- chat_messages --------------------------------------------------------------------------------
+
+drop index if exists idx_chat_messages_task_id;
+
+alter table chat_messages rename to chat_messages_unpartitioned;
+alter table chat_messages_unpartitioned rename constraint chat_messages_pkey to chat_messages_unpartitioned_pkey;
+
+-- Keeps the bigserial sequence, so IDs continue where the old table left off
+create table chat_messages (
+    read_by_customer boolean not null,
+    read_by_handyman boolean not null,
+    id bigint not null default nextval('chat_messages_id_seq'),
+    sender_id bigint,
+    task_id bigint,
+    timestamp timestamp(6) not null,
+    version bigint default 0 not null,
+    message varchar(1000),
+    primary key (id, timestamp)
+) partition by range (timestamp);
+
+alter sequence chat_messages_id_seq owned by chat_messages.id;
+
+create table chat_messages_default partition of chat_messages default;
+
+-- Every month that holds messages, up to three months ahead
+do $$
+declare
+    first_month date;
+begin
+    select date_trunc('month', coalesce(min(timestamp), localtimestamp))::date
+      into first_month
+      from chat_messages_unpartitioned;
+    perform create_month_partitions('chat_messages', first_month,
+            ((extract(year from localtimestamp) - extract(year from first_month)) * 12
+                + extract(month from localtimestamp) - extract(month from first_month))::integer + 4);
+end
+$$;
+
+insert into chat_messages (read_by_customer, read_by_handyman, id, sender_id, task_id, timestamp, version, message)
+select read_by_customer, read_by_handyman, id, sender_id, task_id,
+       coalesce(timestamp, localtimestamp), version, message
+  from chat_messages_unpartitioned;
+
+drop table chat_messages_unpartitioned;
+
+create index idx_chat_messages_task_id
+   on chat_messages (task_id, id);
+
+alter table if exists chat_messages
+   add constraint FKgiqeap8ays4lf684x7m0r2729
+   foreign key (sender_id)
+   references users;
+
+alter table if exists chat_messages
+   add constraint FKe3tn55xm4h4uog1wgawrx873y
+   foreign key (task_id)
+   references task_keys;
+
+-- task_archive ---------------------------------------------------------------------------------
+
+drop index if exists idx_task_archive_customer;
+drop index if exists idx_task_archive_handyman;
+drop index if exists idx_task_archive_partition_month;
+
+alter table task_archive rename to task_archive_unpartitioned;
+alter table task_archive_unpartitioned rename constraint task_archive_pkey to task_archive_unpartitioned_pkey;
+
+create table task_archive (
+    partition_month integer not null,
+    archived_at timestamp(6),
+    assigned_handyman_id bigint,
+    customer_id bigint,
+    finished_at timestamp(6),
+    id bigint not null,
+    version bigint,
+    snapshot text,
+    status varchar(255) check (status in ('PENDING','ASSIGNED','COMPLETED','CANCELLED')),
+    primary key (id, partition_month)
+) partition by range (partition_month);
+
+create table task_archive_default partition of task_archive default;
+
+select create_month_partitions('task_archive', (date_trunc('month', localtimestamp) - interval '12 months')::date, 16, true);
+
+insert into task_archive (partition_month, archived_at, assigned_handyman_id, customer_id, finished_at, id,
+                          version, snapshot, status)
+select partition_month, archived_at, assigned_handyman_id, customer_id, finished_at, id,
+       version, snapshot, status
+  from task_archive_unpartitioned;
+
+drop table task_archive_unpartitioned;
+
+create index idx_task_archive_customer
+   on task_archive (customer_id, id);
+
+create index idx_task_archive_handyman
+   on task_archive (assigned_handyman_id, id);
+
+create index idx_task_archive_partition_month
+   on task_archive (partition_month);
+
+-- review_archive -------------------------------------------------------------------------------
+
+drop index if exists idx_review_archive_handyman;
+drop index if exists idx_review_archive_task;
+drop index if exists idx_review_archive_partition_month;
+
+alter table review_archive rename to review_archive_unpartitioned;
+alter table review_archive_unpartitioned rename constraint review_archive_pkey to review_archive_unpartitioned_pkey;
+
+create table review_archive (
+    partition_month integer not null,
+    archived_at timestamp(6),
+    id bigint not null,
+    reviewed_handyman_id bigint,
+    task_id bigint,
+    snapshot text,
+    primary key (id, partition_month)
+) partition by range (partition_month);
+
+create table review_archive_default partition of review_archive default;
+
+select create_month_partitions('review_archive', (date_trunc('month', localtimestamp) - interval '12 months')::date, 16, true);
+
+insert into review_archive (partition_month, archived_at, id, reviewed_handyman_id, task_id, snapshot)
+select partition_month, archived_at, id, reviewed_handyman_id, task_id, snapshot
+  from review_archive_unpartitioned;
+
+drop table review_archive_unpartitioned;
+
+create index idx_review_archive_handyman
+   on review_archive (reviewed_handyman_id, id);
+
+create index idx_review_archive_task
+   on review_archive (task_id);
+
+create index idx_review_archive_partition_month
+   on review_archive (partition_month);
@@ -0,0 +1,21 @@
+-- Summary of the active (PENDING or ACCEPTED) bids on each task, so task listings can show the
+-- number of bids and the lowest, highest and average amount without reading the bids.
+-- BidRepository keeps the columns current; existing tasks are filled in from their bids.
+-- Columns added to the partitioned parent are added to every partition.
+
+alter table tasks add column bid_count integer default 0 not null;
+alter table tasks add column lowest_bid float(53);
+alter table tasks add column highest_bid float(53);
+alter table tasks add column bid_total float(53) default 0 not null;
+
+update tasks t
+   set bid_count = s.bid_count,
+       lowest_bid = s.lowest_bid,
+       highest_bid = s.highest_bid,
+       bid_total = s.bid_total
+  from (select task_id, count(*) as bid_count, min(amount) as lowest_bid, max(amount) as highest_bid,
+               coalesce(sum(amount), 0) as bid_total
+          from bids
+         where status in ('PENDING', 'ACCEPTED')
+         group by task_id) s
+ where s.task_id = t.id;
@@ -0,0 +1,9 @@
+-- Keyset indexes for the sorted bid listing (GET /api/bids/task/{taskId}/page): the bids of one task
+-- in one status come straight out of the index in amount or creation order, so a page reads only
+-- its own rows however many bids the task has. The ID breaks ties in the keyset.
+
+create index idx_bids_task_status_amount
+   on bids (task_id, status, amount, id);
+
+create index idx_bids_task_status_created_at
+   on bids (task_id, status, created_at, id);
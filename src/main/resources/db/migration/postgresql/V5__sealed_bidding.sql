@@ -0,0 +1,7 @@
+-- Sealed bidding and auto-accept settings of a task. While sealed_until is in the future bid amounts
+-- are hidden; the lowest pending bid at or below auto_accept_amount is accepted automatically.
+-- Both are optional, so existing tasks keep open, manually accepted bidding.
+-- Columns added to the partitioned parent are added to every partition.
+
+alter table tasks add column sealed_until timestamp(6);
+alter table tasks add column auto_accept_amount float(53);
@@ -0,0 +1,8 @@
+-- Keyset index for a handyman's bid history (GET /api/bids/me): their bids come straight out of the
+-- index newest first, and the included columns answer the bid side of the listing from the index
+-- alone, so a page reads only its own rows however many bids the handyman has placed. The ID breaks
+-- ties in the keyset.
+
+create index idx_bids_handyman_created_at
+   on bids (handyman_id, created_at, id)
+   include (task_id, amount, status);
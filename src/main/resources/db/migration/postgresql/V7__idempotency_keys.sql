@@ -0,0 +1,15 @@
+-- Responses stored per Idempotency-Key, so a retried request gets the first response instead of
+-- creating a duplicate bid, task or chat message. The ID is a SHA-256 hash of the scope, the user
+-- and the key; request_hash tells a retry from a reused key with a different payload. Rows expire
+-- after idempotency.ttl-hours and are deleted by created_at.
+
+create table idempotency_keys (
+    id varchar(64) not null,
+    request_hash varchar(64) not null,
+    response text,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_idempotency_keys_created_at
+   on idempotency_keys (created_at);
@@ -0,0 +1,5 @@
+-- Optional kind of work of a task, stored in lower case, such as 'plumbing'. Accepted bid amounts are
+-- summarised per category and region to suggest prices to customers creating tasks.
+-- Columns added to the partitioned parent are added to every partition.
+
+alter table tasks add column category varchar(50);
@@ -0,0 +1,17 @@
+-- Bids carry the time at which they expire if still pending, at the latest the task deadline, and
+-- a new EXPIRED status. Existing pending bids get their task's deadline, so they expire with it.
+-- The expiry scheduler locks the due pending bids in expires_at order straight from the index.
+
+alter table bids add column expires_at timestamp(6);
+
+alter table bids drop constraint bids_status_check;
+alter table bids add constraint bids_status_check
+   check (status in ('PENDING','ACCEPTED','REJECTED','EXPIRED'));
+
+update bids b
+   set expires_at = t.deadline
+  from tasks t
+ where t.id = b.task_id and b.status = 'PENDING';
+
+create index idx_bids_status_expires_at
+   on bids (status, expires_at);
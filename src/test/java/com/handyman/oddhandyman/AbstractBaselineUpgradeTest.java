@@ -0,0 +1,114 @@
+package com.handyman.oddhandyman;
+
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a database that {@code ddl-auto} created from the entities before migrations existed,
+ * the way production databases are upgraded: Flyway baselines it at V1 and applies everything after.
+ * <p>
+ * Subclasses create the V1 schema with {@link #createBaseline} and its {@code db/baseline-data.sql}
+ * rows before the application context starts, so the context only starts if Hibernate's schema
+ * validation accepts the migrated schema. The test methods are declared here, so the rollback of
+ * {@code @DataJpaTest} is declared here as well.
+ */
+@Transactional
+abstract class AbstractBaselineUpgradeTest {
+
+    @Autowired private Flyway flyway;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private BidRepository bidRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the pre-migration schema of a vendor and fills it with the baseline rows.
+     *
+     * @param connection a connection to the empty database
+     * @param vendor     the migration vendor directory, {@code h2} or {@code postgresql}
+     */
+    static void createBaseline(Connection connection, String vendor) {
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/" + vendor + "/V1__baseline_schema.sql"));
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline-data.sql"));
+    }
+
+    @Test
+    @DisplayName("Should baseline the existing schema at V1 and migrate it to the latest version")
+    void migratesToLatestVersion() {
+        MigrationInfo[] applied = flyway.info().applied();
+        MigrationVersion latest = Arrays.stream(flyway.info().all())
+                .map(MigrationInfo::getVersion)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        assertEquals(CoreMigrationType.BASELINE, applied[0].getType());
+        assertEquals("1", applied[0].getVersion().getVersion());
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(latest, flyway.info().current().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should keep the existing rows and fill in the columns added since")
+    void keepsExistingRows() {
+        Map<String, Task> tasks = taskRepository.findAll().stream()
+                .collect(Collectors.toMap(Task::getTitle, Function.identity()));
+
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.values().stream().allMatch(t -> t.getVersion() == 0));
+        assertEquals(TaskStatus.PENDING, tasks.get("Hang Shelf").getStatus());
+        assertEquals(TaskStatus.COMPLETED, tasks.get("Paint Fence").getStatus());
+        // Tasks get their first chat message as creation time, so the chat's lower bound keeps it
+        assertEquals(LocalDateTime.of(2026, 1, 15, 10, 0), tasks.get("Fix Leak").getCreatedAt());
+
+        List<Bid> bids = bidRepository.findByTask(tasks.get("Fix Leak"));
+        assertEquals(1, bids.size());
+        assertEquals(0, bids.get(0).getVersion());
+        assertEquals(tasks.get("Fix Leak").getDeadline(), bids.get(0).getExpiresAt());
+        assertEquals(1, tasks.get("Fix Leak").getBidCount());
+        assertEquals(100.0, tasks.get("Fix Leak").getLowestBid());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from chat_messages where version = 0", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from reviews", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should hand out task IDs above the existing ones from the task sequence")
+    void newTaskIdsFollowExistingOnes() {
+        long maxId = jdbcTemplate.queryForObject("select max(id) from tasks", Long.class);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setTitle("New Task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            ids.add(taskRepository.saveAndFlush(task).getId());
+        }
+
+        assertTrue(ids.stream().allMatch(id -> id > maxId), ids + " after " + maxId);
+        assertEquals(6, taskRepository.count());
+    }
+}
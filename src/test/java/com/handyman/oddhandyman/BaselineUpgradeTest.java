@@ -0,0 +1,28 @@
+package com.handyman.oddhandyman;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Upgrades a pre-migration H2 database to the latest version; see {@link AbstractBaselineUpgradeTest}.
+ */
+@DataJpaTest(properties = "spring.datasource.url=" + BaselineUpgradeTest.URL)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class BaselineUpgradeTest extends AbstractBaselineUpgradeTest {
+
+    static final String URL = "jdbc:h2:mem:baseline_upgrade;DB_CLOSE_DELAY=-1";
+
+    @BeforeAll
+    static void createBaseline() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            createBaseline(connection, "h2");
+        }
+    }
+}
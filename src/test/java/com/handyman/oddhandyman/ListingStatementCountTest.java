@@ -0,0 +1,147 @@
+package com.handyman.oddhandyman;
+
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.support.StatementCounter;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the statements behind the listing endpoints from the request to the serialised response.
+ * <p>
+ * The repository tests cover the listing queries alone; here every row has its own participants,
+ * so a proxy loaded while mapping or serialising the response would show up as a statement count
+ * that grows with the number of rows. The request joins the test transaction, so the data is
+ * rolled back afterwards.
+ */
+@SpringBootTest(properties = "jwt.secret=listing-test-secret-at-least-32-bytes-long")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ListingStatementCountTest {
+
+    private static final String CUSTOMER = "listing-customer@test.com";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+    private User customer;
+    private Task task;
+    private int users;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManager);
+        customer = user(CUSTOMER, Role.CUSTOMER);
+        task = task(user(null, Role.HANDYMAN));
+    }
+
+    @Test
+    @WithMockUser(username = CUSTOMER)
+    @DisplayName("GET /api/tasks should run the same number of statements for 1 and 10 tasks")
+    void getTasks_StatementsIndependentOfRows() {
+        long one = count("/api/tasks", 1);
+        for (int i = 0; i < 9; i++) {
+            task(user(null, Role.HANDYMAN));
+        }
+
+        assertEquals(one, count("/api/tasks", 10));
+    }
+
+    @Test
+    @WithMockUser(username = CUSTOMER)
+    @DisplayName("GET /api/bids/task/{id} should run the same number of statements for 1 and 10 bids")
+    void listBids_StatementsIndependentOfRows() {
+        bid();
+        long one = count("/api/bids/task/" + task.getId(), 1);
+        for (int i = 0; i < 9; i++) {
+            bid();
+        }
+
+        assertEquals(one, count("/api/bids/task/" + task.getId(), 10));
+    }
+
+    @Test
+    @WithMockUser(username = CUSTOMER)
+    @DisplayName("GET /api/chat/task/{id} should run the same number of statements for 1 and 10 messages")
+    void getMessages_StatementsIndependentOfRows() {
+        message(1);
+        long one = count("/api/chat/task/" + task.getId(), 1);
+        for (int i = 2; i <= 10; i++) {
+            message(i);
+        }
+
+        assertEquals(one, count("/api/chat/task/" + task.getId(), 10));
+    }
+
+    /** Requests the listing and returns the statements it ran, checking it returned {@code rows} items */
+    private long count(String uri, int rows) {
+        return statementCounter.count(() -> {
+            try {
+                mockMvc.perform(get(uri))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(rows));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private User user(String email, Role role) {
+        User user = new User();
+        user.setEmail(email != null ? email : "listing-user" + (++users) + "@test.com");
+        user.setName(user.getEmail());
+        user.setRole(role);
+        user.setPassword("hashed_pass");
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Task task(User handyman) {
+        Task created = new Task();
+        created.setTitle("Listed Task");
+        created.setCustomer(customer);
+        created.setAssignedHandyman(handyman);
+        created.setStatus(TaskStatus.ASSIGNED);
+        entityManager.persist(created);
+        return created;
+    }
+
+    private void bid() {
+        Bid bid = new Bid();
+        bid.setTask(task);
+        bid.setHandyman(user(null, Role.HANDYMAN));
+        bid.setAmount(100.0);
+        bid.setStatus(BidStatus.PENDING);
+        entityManager.persist(bid);
+    }
+
+    private void message(int minute) {
+        ChatMessage message = new ChatMessage();
+        message.setTask(task);
+        message.setSender(user(null, Role.HANDYMAN));
+        message.setMessage("Message " + minute);
+        message.setTimestamp(task.getCreatedAt().plusMinutes(minute));
+        entityManager.persist(message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.handyman.oddhandyman;
+
+import com.handyman.oddhandyman.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Upgrades a pre-migration Postgres database to the latest version, including the rebuild of the
+ * partitioned tables; see {@link AbstractBaselineUpgradeTest}.
+ * <p>
+ * Runs in the schema {@value #SCHEMA} of the {@link PostgresTestDatabase}, which is dropped and
+ * recreated first.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@EnabledIf("com.handyman.oddhandyman.support.PostgresTestDatabase#isAvailable")
+class PostgresBaselineUpgradeTest extends AbstractBaselineUpgradeTest {
+
+    private static final String SCHEMA = "baseline_upgrade";
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, SCHEMA);
+    }
+
+    @BeforeAll
+    static void createBaseline() throws SQLException {
+        PostgresTestDatabase.recreateSchema(SCHEMA);
+        try (Connection connection = PostgresTestDatabase.connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("set search_path to " + SCHEMA);
+            createBaseline(connection, "postgresql");
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.handyman.oddhandyman.bid.auction;
+
+import com.handyman.oddhandyman.bid.dto.BestBidResponse;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.event.BidPlacedEvent;
+import com.handyman.oddhandyman.bid.event.BidsExpiredEvent;
+import com.handyman.oddhandyman.bid.event.BidsRejectedEvent;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.bid.service.BidService;
+import com.handyman.oddhandyman.exception.BidUnacceptableException;
+import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskBidsChangedEvent;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock private BidRepository bidRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private BidService bidService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private AuctionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        engine = new AuctionEngine(bidRepository, taskRepository, bidService, clock, eventPublisher, meterRegistry);
+    }
+
+    private AuctionBid bid(long bidId, long taskId, double amount, LocalDateTime placedAt) {
+        return new AuctionBid(bidId, taskId, 10 + bidId, amount, placedAt, null, null);
+    }
+
+    private AuctionBid bid(long bidId, long taskId, double amount, LocalDateTime sealedUntil, Double autoAcceptAmount) {
+        return new AuctionBid(bidId, taskId, 10 + bidId, amount, NOW.minusMinutes(bidId), sealedUntil, autoAcceptAmount);
+    }
+
+    private TaskResponse task(long id, TaskStatus status) {
+        TaskResponse t = new TaskResponse();
+        t.setId(id);
+        t.setStatus(status);
+        return t;
+    }
+
+    @Nested
+    @DisplayName("Order Book")
+    class OrderBookTests {
+
+        @Test
+        @DisplayName("Positive: Should rank the lowest amount first, then the earliest bid")
+        void best_LowestThenEarliest() {
+            engine.add(bid(1L, 7L, 300.0, NOW.minusMinutes(5)));
+            engine.add(bid(2L, 7L, 250.0, NOW.minusMinutes(1)));
+            engine.add(bid(3L, 7L, 250.0, NOW.minusMinutes(3)));
+
+            BestBidResponse best = engine.getBestBid(7L);
+
+            assertEquals(3, best.getBidCount());
+            assertFalse(best.isSealed());
+            assertEquals(3L, best.getBidId());
+            assertEquals(250.0, best.getAmount());
+            assertEquals(13L, best.getHandymanId());
+        }
+
+        @Test
+        @DisplayName("Positive: Should move to the next best bid once the best one is rejected")
+        void bidsRejected_RemovedFromBook() {
+            engine.add(bid(1L, 7L, 300.0, NOW.minusMinutes(5)));
+            engine.onBidPlaced(new BidPlacedEvent(bid(2L, 7L, 250.0, NOW.minusMinutes(1))));
+
+            engine.onBidsRejected(new BidsRejectedEvent(7L, List.of(2L, 99L)));
+
+            BestBidResponse best = engine.getBestBid(7L);
+            assertEquals(1, best.getBidCount());
+            assertEquals(1L, best.getBidId());
+        }
+
+        @Test
+        @DisplayName("Positive: Should remove expired bids from the book")
+        void bidsExpired_RemovedFromBook() {
+            engine.add(bid(1L, 7L, 300.0, NOW.minusMinutes(5)));
+            engine.add(bid(2L, 7L, 250.0, NOW.minusMinutes(1)));
+
+            engine.onBidsExpired(new BidsExpiredEvent(7L, List.of(2L)));
+
+            BestBidResponse best = engine.getBestBid(7L);
+            assertEquals(1, best.getBidCount());
+            assertEquals(1L, best.getBidId());
+        }
+
+        @Test
+        @DisplayName("Positive: Should drop the book once the task is no longer open")
+        void taskStatusChanged_DropsBook() {
+            engine.add(bid(1L, 7L, 300.0, NOW));
+
+            engine.onTaskStatusChanged(new TaskStatusChangedEvent(task(7L, TaskStatus.PENDING), null));
+            assertEquals(1, engine.size());
+            engine.onTaskStatusChanged(new TaskStatusChangedEvent(task(7L, TaskStatus.ASSIGNED), TaskStatus.PENDING));
+            assertEquals(0, engine.size());
+        }
+
+        @Test
+        @DisplayName("Positive: Should load the pending bids of open tasks on startup")
+        void bootstrap_LoadsBooks() {
+            when(bidRepository.findAuctionBids(BidStatus.PENDING, TaskStatus.PENDING))
+                    .thenReturn(List.of(bid(1L, 7L, 300.0, NOW), bid(2L, 8L, 200.0, NOW)));
+
+            engine.bootstrap();
+
+            assertEquals(2, engine.size());
+            assertEquals(2.0, meterRegistry.get("bids.auction.books").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Positive: Should hide the best bid while bidding is sealed")
+        void sealed_HidesBestBid() {
+            engine.add(bid(1L, 7L, 300.0, NOW.plusHours(1), null));
+
+            BestBidResponse best = engine.getBestBid(7L);
+
+            assertEquals(1, best.getBidCount());
+            assertTrue(best.isSealed());
+            assertNull(best.getBidId());
+            assertNull(best.getAmount());
+        }
+
+        @Test
+        @DisplayName("Positive: Should report no bids for an open task without a book")
+        void noBook_EmptyResponse() {
+            Task task = new Task();
+            task.setId(7L);
+            when(taskRepository.findById(7L)).thenReturn(Optional.of(task));
+
+            BestBidResponse best = engine.getBestBid(7L);
+
+            assertEquals(0, best.getBidCount());
+            assertNull(best.getBidId());
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw when the task does not exist")
+        void noBook_TaskMissing_Fails() {
+            when(taskRepository.findById(9L)).thenReturn(Optional.empty());
+
+            assertThrows(TaskNotFoundException.class, () -> engine.getBestBid(9L));
+        }
+    }
+
+    @Nested
+    @DisplayName("settle() Logic")
+    class SettleTests {
+
+        @Test
+        @DisplayName("Positive: Should accept the best bid once it meets the threshold")
+        void settle_AcceptsBidAtThreshold() {
+            engine.add(bid(1L, 7L, 180.0, null, 150.0));
+            engine.add(bid(2L, 7L, 140.0, null, 150.0));
+
+            assertEquals(1, engine.settle());
+
+            verify(bidService).acceptBid(2L);
+            verify(bidService, never()).acceptBid(1L);
+            assertEquals(1.0, meterRegistry.get("bids.auction.auto_accepted").counter().count());
+            assertEquals(0, engine.settle());
+        }
+
+        @Test
+        @DisplayName("Positive: Should leave bids above the threshold, and tasks without one, to the customer")
+        void settle_IgnoresBidsAboveThreshold() {
+            engine.add(bid(1L, 7L, 180.0, null, 150.0));
+            engine.add(bid(2L, 8L, 10.0, null, null));
+
+            assertEquals(0, engine.settle());
+
+            verifyNoInteractions(bidService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Positive: Should wait for the sealed window to close, then announce it and accept")
+        void settle_SealedWindow() {
+            engine.add(bid(1L, 7L, 120.0, NOW.plusMinutes(30), 150.0));
+
+            assertEquals(0, engine.settle());
+            verifyNoInteractions(bidService, eventPublisher);
+
+            clock.set(NOW.plusMinutes(30).toInstant(ZoneOffset.UTC));
+            assertEquals(1, engine.settle());
+
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskBidsChangedEvent event
+                    && event.getTaskId().equals(7L)));
+            verify(bidService).acceptBid(1L);
+        }
+
+        @Test
+        @DisplayName("Negative: Should drop a bid that was decided meanwhile and try the next best one")
+        void settle_BidNoLongerPending() {
+            engine.add(bid(1L, 7L, 100.0, null, 150.0));
+            engine.add(bid(2L, 7L, 140.0, null, 150.0));
+            when(bidService.acceptBid(1L)).thenThrow(new BidUnacceptableException("Bid Is Not Pending"));
+
+            assertEquals(0, engine.settle());
+            assertEquals(1, engine.settle());
+
+            verify(bidService).acceptBid(2L);
+        }
+
+        @Test
+        @DisplayName("Negative: Should retry on the next run when accepting fails unexpectedly")
+        void settle_Failure_Retried() {
+            engine.add(bid(1L, 7L, 100.0, null, 150.0));
+            when(bidService.acceptBid(1L)).thenThrow(new IllegalStateException("Database Unavailable")).thenReturn(null);
+
+            assertEquals(0, engine.settle());
+            assertEquals(1, engine.settle());
+
+            verify(bidService, times(2)).acceptBid(1L);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    /** Clock whose instant the tests move forward */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
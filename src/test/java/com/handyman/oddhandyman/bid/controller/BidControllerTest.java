@@ -1,39 +1,99 @@
 package com.handyman.oddhandyman.bid.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handyman.oddhandyman.bid.auction.AuctionBid;
+import com.handyman.oddhandyman.bid.auction.AuctionEngine;
+import com.handyman.oddhandyman.bid.dto.BestBidResponse;
 import com.handyman.oddhandyman.bid.dto.BidRequest;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.BidSortOrder;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.ratelimit.BidRateLimiter;
 import com.handyman.oddhandyman.bid.service.BidService;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
+import com.handyman.oddhandyman.common.idempotency.IdempotencyRecordRepository;
+import com.handyman.oddhandyman.common.idempotency.IdempotentRequests;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
+import com.handyman.oddhandyman.exception.BidStateConflictException;
+import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.TooManyRequestsException;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(BidController.class)
+@Import({IdempotentRequests.class, BidControllerTest.Config.class})
 class BidControllerTest {
 
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        Clock clock() {
+            return Clock.systemUTC();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private BidService bidService;
 
+    @MockBean
+    private BidRateLimiter bidRateLimiter;
+
+    @MockBean
+    private AuctionEngine auctionEngine;
+
+    @MockBean
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @SpyBean
+    private IdempotentRequests idempotentRequests;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -42,6 +102,8 @@ class BidControllerTest {
 
     @BeforeEach
     void setUp() {
+        // Mock beans are not reset after tests in nested classes, so stubs and invocations would leak between them
+        reset(bidService, bidRateLimiter, idempotencyRecordRepository, transactionManager, idempotentRequests);
         createdAtTime = LocalDateTime.of(2026, 2, 10, 14, 30);
 
         mockBid = new Bid();
@@ -91,6 +153,73 @@ class BidControllerTest {
                     .andExpect(status().isBadRequest());
         }
 
+        @Test
+        @WithMockUser(username = "handyman1@email.com")
+        @DisplayName("Negative: Should return 429 with Retry-After without placing the bid when rate limited")
+        void placeBid_RateLimited() throws Exception {
+            BidRequest req = new BidRequest();
+            req.setTaskId(1L);
+            req.setAmount(150.0);
+
+            doThrow(new TooManyRequestsException("Too Many Bids On This Task", 42))
+                    .when(bidRateLimiter).admit("handyman1@email.com", 1L);
+
+            mockMvc.perform(post("/api/bids")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "42"))
+                    .andExpect(content().string("Too Many Bids On This Task"));
+
+            verify(bidService, never()).placeBid(any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = "handyman1@email.com")
+        @DisplayName("Negative: Should return 429 for a new Idempotency-Key before any idempotency lookup")
+        void placeBid_RateLimitedWithKey_NoLookup() throws Exception {
+            BidRequest req = new BidRequest();
+            req.setTaskId(1L);
+            req.setAmount(150.0);
+
+            doThrow(new TooManyRequestsException("Too Many Bids On This Task", 42))
+                    .when(bidRateLimiter).admit("handyman1@email.com", 1L);
+
+            mockMvc.perform(post("/api/bids")
+                            .with(csrf())
+                            .header(IdempotentRequests.HEADER, "fresh-key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isTooManyRequests());
+
+            verifyNoInteractions(idempotencyRecordRepository, transactionManager, bidService);
+        }
+
+        @Test
+        @WithMockUser(username = "handyman1@email.com")
+        @DisplayName("Positive: Should replay the stored bid for a repeated Idempotency-Key without placing another")
+        void placeBid_IdempotencyKeyReplayed() throws Exception {
+            BidRequest req = new BidRequest();
+            req.setTaskId(1L);
+            req.setAmount(150.0);
+
+            doReturn(true).when(idempotentRequests).isKnownReplay("bids", "handyman1@email.com", "retry-1");
+            doReturn(mockBid).when(idempotentRequests).execute(eq("bids"), eq("handyman1@email.com"),
+                    eq("retry-1"), any(BidRequest.class), eq(Bid.class), any());
+
+            mockMvc.perform(post("/api/bids")
+                            .with(csrf())
+                            .header(IdempotentRequests.HEADER, "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(mockBid.getId()));
+
+            verify(bidService, never()).placeBid(any(), any());
+            verify(bidRateLimiter, never()).admit(any(), any());
+        }
+
         @Test
         @DisplayName("Negative: Should return 401 when unauthorized")
         void placeBid_Unauthorized() throws Exception {
@@ -135,6 +264,16 @@ class BidControllerTest {
                     .andExpect(status().isOk());
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Negative: Should return 409 when the bid is no longer pending")
+        void rejectBid_NotPending() throws Exception {
+            when(bidService.rejectBid(1L)).thenThrow(new BidStateConflictException("Bid Cannot Move From ACCEPTED To REJECTED"));
+
+            mockMvc.perform(put("/api/bids/1/reject").with(csrf()))
+                    .andExpect(status().isConflict());
+        }
+
         @Test
         @DisplayName("Negative: Should return 401 when unauthorized")
         void rejectBid_Unauthorized() throws Exception {
@@ -152,11 +291,153 @@ class BidControllerTest {
         @WithMockUser
         @DisplayName("Positive: Should return list of bids")
         void listBids_Success() throws Exception {
-            when(bidService.listBidsForTask(1L)).thenReturn(Collections.singletonList(mockBid));
+            when(bidService.getBidListVersion(1L)).thenReturn(new CollectionVersion(2L, 1L, 1L, 0L));
+            when(bidService.listBidsForTask(1L, "user")).thenReturn(Collections.singletonList(mockBid));
 
             mockMvc.perform(get("/api/bids/task/1"))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"bids-1-2-1-1-0\""))
                     .andExpect(jsonPath("$[0].id").value(1L));
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Positive: Should return 304 without loading bids when the ETag still matches")
+        void listBids_NotModified() throws Exception {
+            when(bidService.getBidListVersion(1L)).thenReturn(new CollectionVersion(2L, 1L, 1L, 0L));
+
+            mockMvc.perform(get("/api/bids/task/1").header("If-None-Match", "W/\"bids-1-2-1-1-0\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verify(bidService, never()).listBidsForTask(1L, "user");
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Positive: Should return the bids again once a bid has changed")
+        void listBids_Changed_ReturnsBody() throws Exception {
+            when(bidService.getBidListVersion(1L)).thenReturn(new CollectionVersion(2L, 1L, 1L, 1L));
+            when(bidService.listBidsForTask(1L, "user")).thenReturn(Collections.singletonList(mockBid));
+
+            mockMvc.perform(get("/api/bids/task/1").header("If-None-Match", "W/\"bids-1-2-1-1-0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(1L));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Positive: Should tag a listing without amounts apart, so it is not revalidated once unsealed")
+        void listBids_Sealed_OwnETag() throws Exception {
+            when(bidService.hidesBidAmounts(1L, "user")).thenReturn(true);
+            when(bidService.getBidListVersion(1L)).thenReturn(new CollectionVersion(2L, 1L, 1L, 0L));
+            when(bidService.listBidsForTask(1L, "user")).thenReturn(Collections.singletonList(mockBid));
+
+            mockMvc.perform(get("/api/bids/task/1").header("If-None-Match", "W/\"bids-1-2-1-1-0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"sealed-bids-1-2-1-1-0\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/bids/task/{taskId}/page - Sorted Bid Page")
+    class BidPageTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Positive: Should return a page of bid projections in the requested order")
+        void getBidPage_Success() throws Exception {
+            BidResponse bid = new BidResponse(1L, 150.0, 1L, 5L, "Bob", "handy@man.com", BidStatus.PENDING, createdAtTime);
+            when(bidService.getBidPage(1L, BidStatus.PENDING, BidSortOrder.HIGHEST_AMOUNT, null, 10, "user"))
+                    .thenReturn(new CursorPage<>(List.of(bid), "next"));
+
+            mockMvc.perform(get("/api/bids/task/1/page").param("sort", "HIGHEST_AMOUNT").param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(1L))
+                    .andExpect(jsonPath("$.items[0].taskId").value(1L))
+                    .andExpect(jsonPath("$.items[0].handyman.name").value("Bob"))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.hasMore").value(true));
+        }
+
+        @Test
+        @DisplayName("Negative: Should return 401 when unauthorized")
+        void getBidPage_Unauthorized() throws Exception {
+            mockMvc.perform(get("/api/bids/task/1/page"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/bids/task/{taskId}/best - Best Bid")
+    class BestBidTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Positive: Should return the best bid from the order book")
+        void getBestBid_Success() throws Exception {
+            AuctionBid best = new AuctionBid(3L, 1L, 5L, 120.0, createdAtTime, null, null);
+            when(auctionEngine.getBestBid(1L)).thenReturn(BestBidResponse.of(1L, 4, null, best, createdAtTime));
+
+            mockMvc.perform(get("/api/bids/task/1/best"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bidCount").value(4))
+                    .andExpect(jsonPath("$.sealed").value(false))
+                    .andExpect(jsonPath("$.bidId").value(3L))
+                    .andExpect(jsonPath("$.amount").value(120.0));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Positive: Should hide the best bid while bidding is sealed")
+        void getBestBid_Sealed() throws Exception {
+            AuctionBid best = new AuctionBid(3L, 1L, 5L, 120.0, createdAtTime, createdAtTime.plusDays(1), null);
+            when(auctionEngine.getBestBid(1L))
+                    .thenReturn(BestBidResponse.of(1L, 4, createdAtTime.plusDays(1), best, createdAtTime));
+
+            mockMvc.perform(get("/api/bids/task/1/best"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bidCount").value(4))
+                    .andExpect(jsonPath("$.sealed").value(true))
+                    .andExpect(jsonPath("$.amount").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Negative: Should return 404 when the task does not exist")
+        void getBestBid_NotFound() throws Exception {
+            when(auctionEngine.getBestBid(9L)).thenThrow(new TaskNotFoundException("Task Not Found"));
+
+            mockMvc.perform(get("/api/bids/task/9/best"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/bids/me - My Bids")
+    class MyBidsTests {
+
+        @Test
+        @WithMockUser(username = "handyman1@email.com")
+        @DisplayName("Positive: Should return a page of the handyman's bids with their task titles")
+        void getMyBids_Success() throws Exception {
+            HandymanBidResponse bid = new HandymanBidResponse(1L, 150.0, BidStatus.PENDING, createdAtTime,
+                    7L, "Fix Roof", TaskStatus.PENDING);
+            when(bidService.getHandymanBids("handyman1@email.com", "abc", 5))
+                    .thenReturn(new CursorPage<>(List.of(bid), null));
+
+            mockMvc.perform(get("/api/bids/me").param("cursor", "abc").param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(1L))
+                    .andExpect(jsonPath("$.items[0].taskTitle").value("Fix Roof"))
+                    .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        @Test
+        @DisplayName("Negative: Should return 401 when unauthorized")
+        void getMyBids_Unauthorized() throws Exception {
+            mockMvc.perform(get("/api/bids/me"))
+                    .andExpect(status().isUnauthorized());
+        }
     }
 }
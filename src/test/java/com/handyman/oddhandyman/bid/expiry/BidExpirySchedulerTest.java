@@ -0,0 +1,85 @@
+package com.handyman.oddhandyman.bid.expiry;
+
+import com.handyman.oddhandyman.bid.service.BidService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidExpirySchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock private BidService bidService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BidExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+        scheduler = new BidExpiryScheduler(bidService, clock, meterRegistry, 2);
+    }
+
+    @Nested
+    @DisplayName("expireDue() Logic")
+    class ExpireDueTests {
+
+        @Test
+        @DisplayName("Positive: Should expire full batches until one comes back short")
+        void expireDue_DrainsInBatches() {
+            when(bidService.expireBids(NOW, 2)).thenReturn(2, 2, 1);
+
+            assertEquals(5, scheduler.expireDue());
+
+            verify(bidService, times(3)).expireBids(NOW, 2);
+            assertEquals(5.0, meterRegistry.get("bids.expired").counter().count());
+        }
+
+        @Test
+        @DisplayName("Positive: Should stop after one query when no bid is due")
+        void expireDue_NothingDue() {
+            when(bidService.expireBids(NOW, 2)).thenReturn(0);
+
+            assertEquals(0, scheduler.expireDue());
+
+            verify(bidService).expireBids(NOW, 2);
+            assertEquals(0.0, meterRegistry.get("bids.expired").counter().count());
+        }
+
+        @Test
+        @DisplayName("Negative: Should keep what was expired and retry on the next run when a batch fails")
+        void expireDue_Failure_Retried() {
+            when(bidService.expireBids(NOW, 2))
+                    .thenReturn(2)
+                    .thenThrow(new IllegalStateException("Database Unavailable"))
+                    .thenReturn(1);
+
+            assertEquals(2, scheduler.expireDue());
+            assertEquals(1, scheduler.expireDue());
+
+            assertEquals(3.0, meterRegistry.get("bids.expired").counter().count());
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a batch size below one")
+        void invalidBatchSize_Fails() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BidExpiryScheduler(bidService, Clock.systemUTC(), meterRegistry, 0));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.handyman.oddhandyman.bid.pricing;
+
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionResponse;
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionScope;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.event.BidAcceptedEvent;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidPriceAnalyticsTest {
+
+    // Two points in the same 1 degree region, and one in another
+    private static final double LAT = -24.51;
+    private static final double LON = 28.71;
+    private static final double NEAR_LAT = -24.62;
+    private static final double NEAR_LON = 28.93;
+    private static final double FAR_LAT = -33.92;
+    private static final double FAR_LON = 18.42;
+
+    @Mock private BidRepository bidRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BidPriceAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        analytics = new BidPriceAnalytics(bidRepository, meterRegistry, 1.0, 3);
+    }
+
+    private void accept(String category, Double latitude, Double longitude, double... amounts) {
+        for (double amount : amounts) {
+            analytics.onBidAccepted(new BidAcceptedEvent(new AcceptedPrice(amount, category, latitude, longitude)));
+        }
+    }
+
+    @Nested
+    @DisplayName("suggest() Logic")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Positive: Should suggest from the same category in the same region")
+        void suggest_CategoryRegion() {
+            accept("Plumbing", LAT, LON, 100.0, 200.0, 300.0, 400.0);
+            accept("plumbing", FAR_LAT, FAR_LON, 1000.0, 1000.0, 1000.0);
+
+            PriceSuggestionResponse suggestion = analytics.suggest(" PLUMBING ", NEAR_LAT, NEAR_LON);
+
+            assertEquals(PriceSuggestionScope.CATEGORY_REGION, suggestion.getScope());
+            assertEquals(4, suggestion.getSampleCount());
+            assertEquals(100.0, suggestion.getP25());
+            assertEquals(200.0, suggestion.getP50());
+            assertEquals(400.0, suggestion.getP90());
+        }
+
+        @Test
+        @DisplayName("Positive: Should fall back to the category, then the region, then all tasks")
+        void suggest_FallsBack() {
+            accept("plumbing", FAR_LAT, FAR_LON, 500.0, 500.0, 500.0);
+            accept("electrical", LAT, LON, 80.0, 80.0, 80.0);
+            accept(null, null, null, 10.0);
+
+            assertEquals(PriceSuggestionScope.CATEGORY, analytics.suggest("plumbing", LAT, LON).getScope());
+            assertEquals(500.0, analytics.suggest("plumbing", LAT, LON).getP50());
+            assertEquals(PriceSuggestionScope.REGION, analytics.suggest("painting", LAT, LON).getScope());
+            assertEquals(80.0, analytics.suggest("painting", LAT, LON).getP50());
+
+            PriceSuggestionResponse all = analytics.suggest(null, null, null);
+            assertEquals(PriceSuggestionScope.ALL, all.getScope());
+            assertEquals(7, all.getSampleCount());
+            assertEquals(80.0, all.getP50());
+            assertEquals(500.0, all.getP90());
+        }
+
+        @Test
+        @DisplayName("Positive: Should leave out the percentiles until enough bids were accepted")
+        void suggest_TooFewSamples() {
+            accept("plumbing", LAT, LON, 150.0, 250.0);
+
+            PriceSuggestionResponse suggestion = analytics.suggest("plumbing", LAT, LON);
+
+            assertNull(suggestion.getScope());
+            assertEquals(2, suggestion.getSampleCount());
+            assertNull(suggestion.getP50());
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a latitude without a longitude")
+        void suggest_HalfCoordinates_Fails() {
+            assertThrows(IllegalArgumentException.class, () -> analytics.suggest("plumbing", LAT, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Summaries")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("Positive: Should keep one summary per category and region, per category, per region and overall")
+        void record_UpdatesEveryScope() {
+            accept("plumbing", LAT, LON, 100.0);
+            accept("plumbing", NEAR_LAT, NEAR_LON, 120.0);
+            accept("electrical", null, null, 90.0);
+
+            // plumbing+region, plumbing, region, electrical, all
+            assertEquals(5, analytics.size());
+            assertEquals(5.0, meterRegistry.get("bids.pricing.sketches").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Positive: Should load the accepted bids on startup, keeping acceptances committed meanwhile")
+        void bootstrap_MergesLoadedAmounts() {
+            accept("plumbing", LAT, LON, 400.0);
+            when(bidRepository.findAcceptedPrices(BidStatus.ACCEPTED)).thenReturn(List.of(
+                    new AcceptedPrice(100.0, "plumbing", LAT, LON),
+                    new AcceptedPrice(200.0, "Plumbing", LAT, LON),
+                    new AcceptedPrice(null, "plumbing", LAT, LON)));
+
+            analytics.bootstrap();
+
+            PriceSuggestionResponse suggestion = analytics.suggest("plumbing", LAT, LON);
+            assertEquals(PriceSuggestionScope.CATEGORY_REGION, suggestion.getScope());
+            assertEquals(3, suggestion.getSampleCount());
+            assertEquals(200.0, suggestion.getP50());
+        }
+
+        @Test
+        @DisplayName("Positive: Should normalise categories to trimmed lower case")
+        void normalizeCategory() {
+            assertEquals("plumbing", BidPriceAnalytics.normalizeCategory("  Plumbing "));
+            assertNull(BidPriceAnalytics.normalizeCategory("   "));
+            assertNull(BidPriceAnalytics.normalizeCategory(null));
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject an invalid region size")
+        void invalidRegionSize_Fails() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BidPriceAnalytics(bidRepository, meterRegistry, 0, 3));
+        }
+    }
+}
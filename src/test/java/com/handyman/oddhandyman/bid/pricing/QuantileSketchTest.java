@@ -0,0 +1,99 @@
+package com.handyman.oddhandyman.bid.pricing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    /** Allowed rank error of the default sketch, as a fraction of the values seen */
+    private static final double RANK_ERROR = 0.02;
+
+    private static List<Double> shuffled(int n, long seed) {
+        List<Double> values = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            values.add((double) i);
+        }
+        Collections.shuffle(values, new Random(seed));
+        return values;
+    }
+
+    @Test
+    @DisplayName("Positive: Should estimate quantiles within the rank error")
+    void quantile_WithinRankError() {
+        QuantileSketch sketch = new QuantileSketch();
+        int n = 100_000;
+        shuffled(n, 42).forEach(sketch::update);
+
+        assertEquals(n, sketch.count());
+        for (double q : new double[]{0.1, 0.25, 0.5, 0.9, 0.99}) {
+            assertEquals(q * n, sketch.quantile(q), RANK_ERROR * n, "quantile " + q);
+        }
+        assertEquals(1.0, sketch.quantile(0));
+        assertEquals(n, sketch.quantile(1));
+    }
+
+    @Test
+    @DisplayName("Positive: Should hold a bounded number of values however many are added")
+    void retained_Bounded() {
+        QuantileSketch sketch = new QuantileSketch();
+        shuffled(10_000, 1).forEach(sketch::update);
+        int afterTenThousand = sketch.retained();
+        shuffled(200_000, 2).forEach(sketch::update);
+
+        assertTrue(afterTenThousand <= 3 * QuantileSketch.DEFAULT_K + 64, "retained " + afterTenThousand);
+        assertTrue(sketch.retained() <= 3 * QuantileSketch.DEFAULT_K + 64, "retained " + sketch.retained());
+    }
+
+    @Test
+    @DisplayName("Positive: Should be exact while fewer values than its capacity have been added")
+    void quantile_SmallStream_Exact() {
+        QuantileSketch sketch = new QuantileSketch();
+        List.of(300.0, 100.0, 200.0, 400.0).forEach(sketch::update);
+
+        assertEquals(200.0, sketch.quantile(0.5));
+        assertEquals(100.0, sketch.quantile(0.25));
+        assertEquals(400.0, sketch.quantile(0.9));
+    }
+
+    @Test
+    @DisplayName("Positive: Should merge into a sketch of both streams")
+    void merge_CombinesStreams() {
+        QuantileSketch low = new QuantileSketch();
+        QuantileSketch high = new QuantileSketch();
+        int n = 50_000;
+        shuffled(n, 3).forEach(low::update);
+        shuffled(n, 4).forEach(v -> high.update(v + n));
+
+        low.merge(high);
+
+        assertEquals(2L * n, low.count());
+        assertEquals(n, low.quantile(0.5), RANK_ERROR * 2 * n);
+        assertEquals(1.8 * n, low.quantile(0.9), RANK_ERROR * 2 * n);
+        assertEquals(2.0 * n, low.quantile(1));
+        assertEquals(n, high.count());
+    }
+
+    @Test
+    @DisplayName("Negative: Should return NaN while empty and ignore NaN values")
+    void empty_NaN() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.update(Double.NaN);
+
+        assertEquals(0, sketch.count());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    @DisplayName("Negative: Should reject quantiles outside 0 and 1, and too small sketches")
+    void invalidArguments_Fail() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch().quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(4));
+    }
+}
@@ -0,0 +1,77 @@
+package com.handyman.oddhandyman.bid.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the throughput of {@link BidRateLimiter} with several threads admitting bids at once,
+ * both for many distinct handymen and with every thread hammering the same handyman and task.
+ * <p>
+ * Disabled by default; run with {@code mvn test -Dbenchmarks=true -Dtest=BidRateLimiterBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class BidRateLimiterBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 500_000;
+    private static final int HANDYMEN = 50_000;
+
+    @Test
+    @DisplayName("Benchmark: admitting bids from 8 threads")
+    void benchmark() throws Exception {
+        run("distinct handymen", false);
+        run("distinct handymen", false);
+        run("one hot handyman", true);
+    }
+
+    private void run(String label, boolean hot) throws Exception {
+        BidRateLimiter limiter = new BidRateLimiter(Clock.systemUTC(), new SimpleMeterRegistry(),
+                10, 10, 2, 1, 100_000);
+        LongAdder rejected = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        int handyman = hot ? 0 : (thread * CALLS_PER_THREAD + i) % HANDYMEN;
+                        try {
+                            limiter.admit("handyman" + handyman + "@test.com", (long) (i % 100));
+                        } catch (RuntimeException e) {
+                            rejected.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            long calls = (long) THREADS * CALLS_PER_THREAD;
+            System.out.printf("threads=%d %-18s %,.0f admissions/s (%.0f ns/call), rejected=%d%n",
+                    THREADS, label, calls / seconds, seconds * 1e9 / calls, rejected.sum());
+            assertTrue(rejected.sum() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
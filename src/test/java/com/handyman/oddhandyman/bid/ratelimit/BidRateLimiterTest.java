@@ -0,0 +1,135 @@
+package com.handyman.oddhandyman.bid.ratelimit;
+
+import com.handyman.oddhandyman.common.ratelimit.TokenBuckets;
+import com.handyman.oddhandyman.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidRateLimiterTest {
+
+    private static final String HANDYMAN = "handy@man.com";
+
+    @Mock private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BidRateLimiter limiter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = 1_000_000L;
+        lenient().when(clock.millis()).thenAnswer(invocation -> now);
+        // 3 bids at once and one more every 10 s overall; 2 at once and one more per minute on a task
+        limiter = new BidRateLimiter(clock, meterRegistry, 3, 6, 2, 1, 1000);
+    }
+
+    private double rejections(String limit) {
+        return meterRegistry.get("bids.rate_limited").tag("limit", limit).counter().count();
+    }
+
+    @Nested
+    @DisplayName("admit() Logic")
+    class AdmitTests {
+
+        @Test
+        @DisplayName("Positive: Should admit a burst on one task, then one bid per refill interval")
+        void admit_PerTaskBurstThenRefill() {
+            limiter.admit(HANDYMAN, 1L);
+            limiter.admit(HANDYMAN, 1L);
+
+            TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () -> limiter.admit(HANDYMAN, 1L));
+            assertEquals("Too Many Bids On This Task", ex.getMessage());
+            assertEquals(60, ex.getRetryAfterSeconds());
+            assertEquals(1, rejections("task"));
+
+            now += 60_000;
+            assertDoesNotThrow(() -> limiter.admit(HANDYMAN, 1L));
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a handyman over the overall limit across tasks")
+        void admit_HandymanLimitAcrossTasks() {
+            limiter.admit(HANDYMAN, 1L);
+            limiter.admit(HANDYMAN, 2L);
+            limiter.admit(HANDYMAN, 3L);
+
+            TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () -> limiter.admit(HANDYMAN, 4L));
+            assertEquals("Too Many Bids", ex.getMessage());
+            assertEquals(10, ex.getRetryAfterSeconds());
+            assertEquals(1, rejections("handyman"));
+
+            assertDoesNotThrow(() -> limiter.admit("other@man.com", 4L));
+            now += 10_000;
+            assertDoesNotThrow(() -> limiter.admit(HANDYMAN, 4L));
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenBuckets Logic")
+    class TokenBucketTests {
+
+        @Test
+        @DisplayName("Positive: Should never hand out more tokens than the burst under contention")
+        void tryAcquire_Concurrent() throws Exception {
+            TokenBuckets buckets = new TokenBuckets(100, 1, 1000, clock);
+            AtomicInteger admitted = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(pool.submit(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            if (buckets.tryAcquire("key") == 0) admitted.incrementAndGet();
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            assertEquals(100, admitted.get());
+        }
+
+        @Test
+        @DisplayName("Negative: Should keep at most the configured number of buckets, dropping the least recently used")
+        void tryAcquire_BoundedKeys() {
+            TokenBuckets buckets = new TokenBuckets(1, 1, 16, clock);
+            for (int i = 0; i < 1000; i++) {
+                buckets.tryAcquire("key-" + i);
+            }
+
+            assertTrue(buckets.size() <= 16);
+            assertEquals(0, buckets.tryAcquire("key-0"));
+            assertTrue(buckets.tryAcquire("key-0") > 0);
+        }
+
+        @Test
+        @DisplayName("Negative: Should refuse limits that admit nothing")
+        void constructor_InvalidLimits() {
+            assertThrows(IllegalArgumentException.class, () -> new TokenBuckets(0, 1, 1000, clock));
+            assertThrows(IllegalArgumentException.class, () -> new TokenBuckets(1, 0, 1000, clock));
+        }
+    }
+}
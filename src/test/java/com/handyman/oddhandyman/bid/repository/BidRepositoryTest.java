@@ -2,18 +2,28 @@ package com.handyman.oddhandyman.bid.repository;
 
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.bid.auction.AuctionBid;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.expiry.ExpiringBid;
+import com.handyman.oddhandyman.bid.pricing.AcceptedPrice;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.support.StatementCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -116,4 +126,386 @@ class BidRepositoryTest {
         // Then
         assertTrue(results.isEmpty());
     }
+
+    @Test
+    @DisplayName("Should fetch task and handymen of listed bids in the same statement")
+    void findByTask_FetchesTaskAndHandymenWithoutExtraQueries() {
+        for (int i = 0; i < 3; i++) {
+            User bidder = new User();
+            bidder.setEmail("bidder" + i + "@man.com");
+            bidder.setName("Bidder " + i);
+            bidder.setPassword("encoded_pass");
+            bidder.setRole(Role.HANDYMAN);
+            entityManager.persist(bidder);
+
+            Bid bid = new Bid();
+            bid.setTask(task);
+            bid.setHandyman(bidder);
+            bid.setAmount(100.0 + i);
+            bid.setStatus(BidStatus.PENDING);
+            entityManager.persist(bid);
+        }
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        long statements = counter.count(() -> bidRepository.findByTask(task).forEach(b -> {
+            assertNotNull(b.getHandyman().getName());
+            assertEquals("Fix Roof", b.getTask().getTitle());
+        }));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("Should change the bid list version when a bid is added or updated, in one statement")
+    void findListVersionByTaskId_TracksChanges() {
+        CollectionVersion empty = bidRepository.findListVersionByTaskId(task.getId()).orElseThrow();
+        assertEquals(0, empty.getCount());
+
+        Bid bid = new Bid();
+        bid.setTask(task);
+        bid.setHandyman(handyman);
+        bid.setAmount(100.0);
+        bid.setStatus(BidStatus.PENDING);
+        entityManager.persist(bid);
+        entityManager.flush();
+
+        String added = bidRepository.findListVersionByTaskId(task.getId()).orElseThrow().toETag("bids", task.getId());
+        assertNotEquals(empty.toETag("bids", task.getId()), added);
+
+        bid.setStatus(BidStatus.REJECTED);
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+        String[] updated = new String[1];
+        long statements = counter.count(() -> updated[0] = bidRepository.findListVersionByTaskId(task.getId())
+                .orElseThrow().toETag("bids", task.getId()));
+
+        assertEquals(1, statements);
+        assertNotEquals(added, updated[0]);
+        assertTrue(bidRepository.findListVersionByTaskId(-1L).isEmpty());
+    }
+
+    private Bid bid(double amount, BidStatus status) {
+        Bid bid = new Bid();
+        bid.setTask(task);
+        bid.setHandyman(handyman);
+        bid.setAmount(amount);
+        bid.setStatus(status);
+        entityManager.persist(bid);
+        return bid;
+    }
+
+    @Test
+    @DisplayName("Should add bid amounts to the summary of an open task and bump its version")
+    void addToTaskSummary_UpdatesOpenTask() {
+        long version = task.getVersion();
+
+        assertEquals(1, bidRepository.addToTaskSummary(task.getId(), 300.0));
+        assertEquals(1, bidRepository.addToTaskSummary(task.getId(), 100.0));
+        assertEquals(1, bidRepository.addToTaskSummary(task.getId(), 200.0));
+
+        Task updated = entityManager.find(Task.class, task.getId());
+        assertEquals(3, updated.getBidCount());
+        assertEquals(100.0, updated.getLowestBid());
+        assertEquals(300.0, updated.getHighestBid());
+        assertEquals(600.0, updated.getBidTotal());
+        assertEquals(version + 3, updated.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not touch the summary of a task that is no longer open")
+    void addToTaskSummary_TaskNotPending_NoMatch() {
+        task.setStatus(TaskStatus.ASSIGNED);
+        entityManager.flush();
+
+        assertEquals(0, bidRepository.addToTaskSummary(task.getId(), 300.0));
+        assertEquals(0, bidRepository.addToTaskSummary(-1L, 300.0));
+
+        Task unchanged = entityManager.find(Task.class, task.getId());
+        assertEquals(0, unchanged.getBidCount());
+        assertNull(unchanged.getLowestBid());
+    }
+
+    @Test
+    @DisplayName("Should recompute the summary from pending and accepted bids only")
+    void refreshTaskSummary_CountsActiveBids() {
+        bid(100.0, BidStatus.REJECTED);
+        bid(200.0, BidStatus.PENDING);
+        bid(400.0, BidStatus.ACCEPTED);
+
+        assertEquals(1, bidRepository.refreshTaskSummary(task.getId()));
+
+        Task refreshed = entityManager.find(Task.class, task.getId());
+        assertEquals(2, refreshed.getBidCount());
+        assertEquals(200.0, refreshed.getLowestBid());
+        assertEquals(400.0, refreshed.getHighestBid());
+        assertEquals(600.0, refreshed.getBidTotal());
+    }
+
+    @Test
+    @DisplayName("Should reset the summary when no active bids remain")
+    void refreshTaskSummary_NoActiveBids_Resets() {
+        bidRepository.addToTaskSummary(task.getId(), 300.0);
+        Bid rejected = bid(300.0, BidStatus.PENDING);
+        rejected.setStatus(BidStatus.REJECTED);
+
+        bidRepository.refreshTaskSummary(task.getId());
+
+        Task refreshed = entityManager.find(Task.class, task.getId());
+        assertEquals(0, refreshed.getBidCount());
+        assertNull(refreshed.getLowestBid());
+        assertNull(refreshed.getHighestBid());
+        assertEquals(0.0, refreshed.getBidTotal());
+    }
+
+    @Test
+    @DisplayName("Should reject the other pending bids of a task with a single update")
+    void transitionStatus_RejectsCompetingBidsInOneStatement() {
+        Bid accepted = bid(100.0, BidStatus.ACCEPTED);
+        Bid first = bid(200.0, BidStatus.PENDING);
+        Bid second = bid(300.0, BidStatus.PENDING);
+        Bid earlier = bid(400.0, BidStatus.REJECTED);
+        entityManager.flush();
+        long version = first.getVersion();
+
+        List<Long> ids = bidRepository.lockIdsByTaskIdAndStatus(task.getId(), BidStatus.PENDING, accepted.getId());
+        assertEquals(List.of(first.getId(), second.getId()), ids);
+
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+        int[] updated = new int[1];
+        long statements = counter.count(() ->
+                updated[0] = bidRepository.transitionStatus(ids, BidStatus.PENDING, BidStatus.REJECTED));
+
+        assertEquals(1, statements);
+        assertEquals(2, updated[0]);
+        Bid rejected = entityManager.find(Bid.class, first.getId());
+        assertEquals(BidStatus.REJECTED, rejected.getStatus());
+        assertEquals(version + 1, rejected.getVersion());
+        assertEquals(BidStatus.REJECTED, entityManager.find(Bid.class, second.getId()).getStatus());
+        assertEquals(BidStatus.ACCEPTED, entityManager.find(Bid.class, accepted.getId()).getStatus());
+        assertEquals(earlier.getVersion(), entityManager.find(Bid.class, earlier.getId()).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should leave bids that are no longer in the expected status alone")
+    void transitionStatus_SkipsBidsInOtherStatus() {
+        Bid accepted = bid(100.0, BidStatus.ACCEPTED);
+        entityManager.flush();
+
+        assertEquals(0, bidRepository.transitionStatus(List.of(accepted.getId()), BidStatus.PENDING, BidStatus.REJECTED));
+        assertEquals(BidStatus.ACCEPTED, entityManager.find(Bid.class, accepted.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should recompute the summaries of several tasks with one update")
+    void refreshTaskSummaries_UpdatesAllTasks() {
+        Task other = new Task();
+        other.setTitle("Paint Fence");
+        other.setDescription("Two coats");
+        other.setStatus(TaskStatus.PENDING);
+        entityManager.persist(other);
+        bid(200.0, BidStatus.PENDING);
+        bid(300.0, BidStatus.EXPIRED);
+        Bid otherBid = bid(150.0, BidStatus.PENDING);
+        otherBid.setTask(other);
+        entityManager.flush();
+
+        assertEquals(2, bidRepository.refreshTaskSummaries(List.of(task.getId(), other.getId())));
+
+        Task refreshed = entityManager.find(Task.class, task.getId());
+        assertEquals(1, refreshed.getBidCount());
+        assertEquals(200.0, refreshed.getHighestBid());
+        assertEquals(150.0, entityManager.find(Task.class, other.getId()).getLowestBid());
+    }
+
+    @Test
+    @DisplayName("Should find the pending bids past their expiry time, soonest first")
+    void findExpired_ReturnsDueBidsInExpiryOrder() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Bid later = bid(100.0, BidStatus.PENDING);
+        later.setExpiresAt(now);
+        Bid sooner = bid(200.0, BidStatus.PENDING);
+        sooner.setExpiresAt(now.minusHours(1));
+        Bid notDue = bid(300.0, BidStatus.PENDING);
+        notDue.setExpiresAt(now.plusMinutes(1));
+        Bid open = bid(400.0, BidStatus.PENDING);
+        Bid rejected = bid(500.0, BidStatus.REJECTED);
+        rejected.setExpiresAt(now.minusHours(2));
+        entityManager.flush();
+
+        List<ExpiringBid> due = bidRepository.findExpired(BidStatus.PENDING, now, PageRequest.of(0, 10));
+
+        assertEquals(List.of(sooner.getId(), later.getId()), due.stream().map(ExpiringBid::getBidId).toList());
+        assertEquals(task.getId(), due.get(0).getTaskId());
+        assertEquals(1, bidRepository.findExpired(BidStatus.PENDING, now, PageRequest.of(0, 1)).size());
+    }
+
+    @Test
+    @DisplayName("Should lock only the given bids that are still pending and expired, in ID order")
+    void lockExpired_ReturnsStillDueBidsInIdOrder() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Bid first = bid(100.0, BidStatus.PENDING);
+        first.setExpiresAt(now);
+        Bid second = bid(200.0, BidStatus.PENDING);
+        second.setExpiresAt(now.minusHours(1));
+        Bid accepted = bid(300.0, BidStatus.ACCEPTED);
+        accepted.setExpiresAt(now.minusHours(1));
+        Bid notGiven = bid(400.0, BidStatus.PENDING);
+        notGiven.setExpiresAt(now.minusHours(1));
+        entityManager.flush();
+
+        List<ExpiringBid> locked = bidRepository.lockExpired(
+                List.of(second.getId(), accepted.getId(), first.getId()), BidStatus.PENDING, now);
+
+        assertEquals(List.of(first.getId(), second.getId()), locked.stream().map(ExpiringBid::getBidId).toList());
+    }
+
+    private List<Long> ids(List<BidResponse> bids) {
+        return bids.stream().map(BidResponse::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Should page a task's bids in a status by amount in both directions, with a single statement per page")
+    void findTaskBidsByAmount_PagesWithKeyset() {
+        Bid b300 = bid(300.0, BidStatus.PENDING);
+        Bid b100 = bid(100.0, BidStatus.PENDING);
+        Bid b200a = bid(200.0, BidStatus.PENDING);
+        Bid b200b = bid(200.0, BidStatus.PENDING);
+        bid(50.0, BidStatus.REJECTED);
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        List<BidResponse> first = new ArrayList<>();
+        long statements = counter.count(() ->
+                first.addAll(bidRepository.findTaskBidsByLowestAmount(task.getId(), BidStatus.PENDING, PageRequest.of(0, 2))));
+
+        assertEquals(1, statements);
+        assertEquals(List.of(b100.getId(), b200a.getId()), ids(first));
+        assertEquals("Bob Builder", first.get(0).getHandyman().getName());
+        assertEquals(task.getId(), first.get(0).getTaskId());
+        assertEquals(List.of(b200b.getId(), b300.getId()), ids(bidRepository.findTaskBidsByLowestAmountAfter(
+                task.getId(), BidStatus.PENDING, 200.0, b200a.getId(), PageRequest.of(0, 2))));
+
+        assertEquals(List.of(b300.getId(), b200b.getId()), ids(bidRepository.findTaskBidsByHighestAmount(
+                task.getId(), BidStatus.PENDING, PageRequest.of(0, 2))));
+        assertEquals(List.of(b200a.getId(), b100.getId()), ids(bidRepository.findTaskBidsByHighestAmountBefore(
+                task.getId(), BidStatus.PENDING, 200.0, b200b.getId(), PageRequest.of(0, 2))));
+    }
+
+    @Test
+    @DisplayName("Should page a task's bids in a status newest first")
+    void findNewestTaskBids_PagesWithKeyset() {
+        LocalDateTime base = LocalDateTime.of(2026, 2, 10, 14, 0);
+        Bid oldest = bid(100.0, BidStatus.PENDING);
+        oldest.setCreatedAt(base);
+        Bid middle = bid(200.0, BidStatus.PENDING);
+        middle.setCreatedAt(base.plusMinutes(5));
+        Bid newest = bid(150.0, BidStatus.PENDING);
+        newest.setCreatedAt(base.plusMinutes(10));
+        bid(120.0, BidStatus.ACCEPTED).setCreatedAt(base.plusMinutes(20));
+        entityManager.flush();
+
+        assertEquals(List.of(newest.getId(), middle.getId()), ids(bidRepository.findNewestTaskBids(
+                task.getId(), BidStatus.PENDING, PageRequest.of(0, 2))));
+        assertEquals(List.of(oldest.getId()), ids(bidRepository.findNewestTaskBidsBefore(
+                task.getId(), BidStatus.PENDING, middle.getCreatedAt(), middle.getId(), PageRequest.of(0, 2))));
+    }
+
+    @Test
+    @DisplayName("Should load the pending bids of open tasks with their task's auction terms")
+    void findAuctionBids_ReturnsPendingBidsOfOpenTasks() {
+        LocalDateTime sealedUntil = LocalDateTime.of(2026, 3, 1, 12, 0);
+        task.setSealedUntil(sealedUntil);
+        task.setAutoAcceptAmount(150.0);
+        Task assigned = new Task();
+        assigned.setTitle("Assigned");
+        assigned.setStatus(TaskStatus.ASSIGNED);
+        entityManager.persist(assigned);
+
+        Bid pending = new Bid();
+        pending.setTask(task);
+        pending.setHandyman(handyman);
+        pending.setAmount(120.0);
+        entityManager.persist(pending);
+        Bid rejected = new Bid();
+        rejected.setTask(task);
+        rejected.setHandyman(handyman);
+        rejected.setAmount(100.0);
+        rejected.setStatus(BidStatus.REJECTED);
+        entityManager.persist(rejected);
+        Bid onAssignedTask = new Bid();
+        onAssignedTask.setTask(assigned);
+        onAssignedTask.setHandyman(handyman);
+        onAssignedTask.setAmount(90.0);
+        entityManager.persist(onAssignedTask);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AuctionBid> bids = bidRepository.findAuctionBids(BidStatus.PENDING, TaskStatus.PENDING);
+
+        assertEquals(1, bids.size());
+        AuctionBid bid = bids.get(0);
+        assertEquals(pending.getId(), bid.getBidId());
+        assertEquals(task.getId(), bid.getTaskId());
+        assertEquals(handyman.getId(), bid.getHandymanId());
+        assertEquals(120.0, bid.getAmount());
+        assertEquals(sealedUntil, bid.getSealedUntil());
+        assertEquals(150.0, bid.getAutoAcceptAmount());
+    }
+
+    @Test
+    @DisplayName("Should load the accepted amounts with their task's category and location")
+    void findAcceptedPrices_ReturnsAcceptedAmounts() {
+        task.setCategory("plumbing");
+        task.setLatitude(-24.51);
+        task.setLongitude(28.71);
+        bid(180.0, BidStatus.ACCEPTED);
+        bid(150.0, BidStatus.REJECTED);
+        bid(120.0, BidStatus.PENDING);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AcceptedPrice> prices = bidRepository.findAcceptedPrices(BidStatus.ACCEPTED);
+
+        assertEquals(1, prices.size());
+        AcceptedPrice price = prices.get(0);
+        assertEquals(180.0, price.getAmount());
+        assertEquals("plumbing", price.getCategory());
+        assertEquals(-24.51, price.getLatitude());
+        assertEquals(28.71, price.getLongitude());
+    }
+
+    @Test
+    @DisplayName("Should page a handyman's bids newest first with their task's title, in a single statement")
+    void findHandymanBids_PagesWithKeyset() {
+        User otherHandyman = new User();
+        otherHandyman.setEmail("other@man.com");
+        otherHandyman.setName("Other");
+        otherHandyman.setPassword("encoded_pass");
+        otherHandyman.setRole(Role.HANDYMAN);
+        entityManager.persist(otherHandyman);
+
+        LocalDateTime base = LocalDateTime.of(2026, 2, 10, 14, 0);
+        Bid oldest = bid(100.0, BidStatus.REJECTED);
+        oldest.setCreatedAt(base);
+        Bid middle = bid(200.0, BidStatus.PENDING);
+        middle.setCreatedAt(base.plusMinutes(5));
+        Bid newest = bid(150.0, BidStatus.ACCEPTED);
+        newest.setCreatedAt(base.plusMinutes(10));
+        Bid theirs = bid(120.0, BidStatus.PENDING);
+        theirs.setHandyman(otherHandyman);
+        theirs.setCreatedAt(base.plusMinutes(20));
+        entityManager.flush();
+        entityManager.clear();
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        List<HandymanBidResponse> first = new ArrayList<>();
+        long statements = counter.count(() ->
+                first.addAll(bidRepository.findHandymanBids(handyman.getId(), PageRequest.of(0, 2))));
+
+        assertEquals(1, statements);
+        assertEquals(List.of(newest.getId(), middle.getId()), first.stream().map(HandymanBidResponse::getId).toList());
+        assertEquals("Fix Roof", first.get(0).getTaskTitle());
+        assertEquals(TaskStatus.PENDING, first.get(0).getTaskStatus());
+        assertEquals(BidStatus.ACCEPTED, first.get(0).getStatus());
+        assertEquals(List.of(oldest.getId()), bidRepository.findHandymanBidsBefore(handyman.getId(),
+                middle.getCreatedAt(), middle.getId(), PageRequest.of(0, 2)).stream().map(HandymanBidResponse::getId).toList());
+    }
 }
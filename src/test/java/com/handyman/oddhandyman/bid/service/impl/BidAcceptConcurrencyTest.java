@@ -0,0 +1,117 @@
+package com.handyman.oddhandyman.bid.service.impl;
+
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.auth.repository.UserRepository;
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.bid.service.BidService;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Accepts every bid on one task at the same time and checks that exactly one acceptance wins.
+ */
+@SpringBootTest(properties = "jwt.secret=concurrency-test-secret-at-least-32-bytes-long")
+@ActiveProfiles("test")
+class BidAcceptConcurrencyTest {
+
+    private static final int BIDDERS = 8;
+
+    @Autowired private BidService bidService;
+    @Autowired private BidRepository bidRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Task task;
+
+    @AfterEach
+    void tearDown() {
+        bidRepository.deleteAll(bidRepository.findByTask(task));
+        taskRepository.deleteById(task.getId());
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("Should assign the task to exactly one bidder when all bids are accepted concurrently")
+    void acceptBid_Concurrently_OnlyOneWins() throws Exception {
+        User customer = saveUser("race-customer@test.com", Role.CUSTOMER);
+        task = new Task();
+        task.setTitle("Contended Task");
+        task.setCustomer(customer);
+        task.setStatus(TaskStatus.PENDING);
+        task = taskRepository.save(task);
+
+        List<Long> bidIds = new ArrayList<>();
+        for (int i = 0; i < BIDDERS; i++) {
+            Bid bid = new Bid();
+            bid.setTask(task);
+            bid.setHandyman(saveUser("race-handyman" + i + "@test.com", Role.HANDYMAN));
+            bid.setAmount(100.0 + i);
+            bid.setStatus(BidStatus.PENDING);
+            bidIds.add(bidRepository.save(bid).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(BIDDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (Long bidId : bidIds) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bidService.acceptBid(bidId);
+                    return true;
+                } catch (RuntimeException e) {
+                    // Losers see a state conflict, or a lock error if the database detects the race first
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int winners = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) winners++;
+        }
+        executor.shutdown();
+
+        assertEquals(1, winners);
+        Task assigned = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.ASSIGNED, assigned.getStatus());
+
+        List<Bid> bids = bidRepository.findByTask(task);
+        List<Bid> accepted = bids.stream().filter(b -> b.getStatus() == BidStatus.ACCEPTED).toList();
+        assertEquals(1, accepted.size());
+        assertEquals(accepted.get(0).getHandyman().getId(), assigned.getAssignedHandyman().getId());
+        assertEquals(BIDDERS - 1, bids.stream().filter(b -> b.getStatus() == BidStatus.REJECTED).count());
+    }
+
+    private User saveUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setRole(role);
+        user.setPassword("hashed_pass");
+        users.add(userRepository.save(user));
+        return user;
+    }
+}
@@ -1,25 +1,52 @@
 package com.handyman.oddhandyman.bid.service.impl;
 
+import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.auth.repository.UserRepository;
 import com.handyman.oddhandyman.bid.dto.BidRequest;
+import com.handyman.oddhandyman.bid.dto.BidResponse;
+import com.handyman.oddhandyman.bid.dto.BidSortOrder;
+import com.handyman.oddhandyman.bid.dto.HandymanBidResponse;
 import com.handyman.oddhandyman.bid.entity.Bid;
 import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.bid.event.BidAcceptedEvent;
+import com.handyman.oddhandyman.bid.event.BidPlacedEvent;
+import com.handyman.oddhandyman.bid.event.BidsExpiredEvent;
+import com.handyman.oddhandyman.bid.event.BidsRejectedEvent;
+import com.handyman.oddhandyman.bid.expiry.ExpiringBid;
 import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.common.pagination.CursorCodec;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
+import com.handyman.oddhandyman.exception.BidNotFoundException;
+import com.handyman.oddhandyman.exception.BidStateConflictException;
 import com.handyman.oddhandyman.exception.BidUnacceptableException;
+import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.TaskStateConflictException;
+import com.handyman.oddhandyman.exception.UnacceptableOperationException;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskBidsChangedEvent;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
-import java.util.Arrays;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,9 +59,14 @@ class BidServiceImplTest {
     @Mock private BidRepository bidRepository;
     @Mock private TaskRepository taskRepository;
     @Mock private UserRepository userRepository;
+    @Mock private TaskArchive taskArchive;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private Clock clock = Clock.fixed(Instant.parse("2026-02-10T12:00:00Z"), ZoneOffset.UTC);
 
     @InjectMocks private BidServiceImpl bidService;
 
+    private static final String VIEWER = "other@handy.com";
+
     private User mockHandyman;
     private Task mockTask;
     private Bid mockBid;
@@ -55,6 +87,14 @@ class BidServiceImplTest {
         mockBid.setStatus(BidStatus.PENDING);
     }
 
+    /** Seals bidding on the task until after the clock's current time, for a customer other than the viewer */
+    private void sealTask() {
+        User customer = new User();
+        customer.setEmail("client@test.com");
+        mockTask.setCustomer(customer);
+        mockTask.setSealedUntil(LocalDateTime.now(clock).plusHours(1));
+    }
+
     @Nested
     @DisplayName("placeBid() Tests")
     class PlaceBidTests {
@@ -66,6 +106,7 @@ class BidServiceImplTest {
             req.setAmount(250.0);
 
             when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(mockHandyman));
+            when(bidRepository.addToTaskSummary(100L, 250.0)).thenReturn(1);
             when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
             when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -74,6 +115,31 @@ class BidServiceImplTest {
             assertNotNull(result);
             assertEquals(BidStatus.PENDING, result.getStatus());
             verify(bidRepository).save(any(Bid.class));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskBidsChangedEvent event
+                    && event.getTaskId().equals(100L)));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidPlacedEvent event
+                    && event.getBid().getTaskId().equals(100L) && event.getBid().getAmount().equals(250.0)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should expire the bid at the requested time, capped at the task deadline")
+        void placeBid_ExpiresAt() {
+            LocalDateTime deadline = LocalDateTime.of(2026, 3, 10, 12, 0);
+            mockTask.setDeadline(deadline);
+            BidRequest req = new BidRequest();
+            req.setTaskId(100L);
+            req.setAmount(250.0);
+
+            when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(mockHandyman));
+            when(bidRepository.addToTaskSummary(100L, 250.0)).thenReturn(1);
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            assertEquals(deadline, bidService.placeBid(req, "handy@man.com").getExpiresAt());
+            req.setExpiresAt(deadline.minusDays(2));
+            assertEquals(deadline.minusDays(2), bidService.placeBid(req, "handy@man.com").getExpiresAt());
+            req.setExpiresAt(deadline.plusDays(2));
+            assertEquals(deadline, bidService.placeBid(req, "handy@man.com").getExpiresAt());
         }
 
         @Test
@@ -83,13 +149,29 @@ class BidServiceImplTest {
             req.setTaskId(100L); // <--- This must match the when(...) below
             req.setAmount(500.0);
 
-            mockTask.setStatus(TaskStatus.ASSIGNED);
             when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(mockHandyman));
-            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(bidRepository.addToTaskSummary(100L, 500.0)).thenReturn(0);
+            when(taskRepository.existsById(100L)).thenReturn(true);
 
             assertThrows(BidUnacceptableException.class, () ->
                     bidService.placeBid(req , "handy@man.com")
             );
+            verify(bidRepository, never()).save(any(Bid.class));
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw TaskNotFoundException if the task does not exist")
+        void placeBid_TaskMissing_Fails() {
+            BidRequest req = new BidRequest();
+            req.setTaskId(100L);
+            req.setAmount(500.0);
+
+            when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(mockHandyman));
+            when(bidRepository.addToTaskSummary(100L, 500.0)).thenReturn(0);
+            when(taskRepository.existsById(100L)).thenReturn(false);
+
+            assertThrows(TaskNotFoundException.class, () -> bidService.placeBid(req, "handy@man.com"));
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -97,27 +179,99 @@ class BidServiceImplTest {
     @DisplayName("acceptBid() Tests")
     class AcceptBidTests {
         @Test
-        @DisplayName("Positive: Accepting a bid should update task and reject others")
+        @DisplayName("Positive: Accepting a bid should update task and reject others in one update")
         void acceptBid_Success() {
-            // Set up a second bid that should be rejected
-            Bid otherBid = new Bid();
-            otherBid.setId(2L);
-            otherBid.setStatus(BidStatus.PENDING);
-
+            mockBid.setAmount(180.0);
+            mockBid.setExpiresAt(LocalDateTime.now(clock).plusMinutes(1));
+            mockTask.setCategory("plumbing");
             when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
-            when(bidRepository.findByTaskAndStatus(mockTask, BidStatus.PENDING))
-                    .thenReturn(Arrays.asList(mockBid, otherBid));
+            when(taskRepository.compareAndAssign(100L, TaskStatus.PENDING, mockHandyman)).thenAnswer(invocation -> {
+                mockTask.setStatus(TaskStatus.ASSIGNED);
+                mockTask.setAssignedHandyman(mockHandyman);
+                return 1;
+            });
+            when(bidRepository.lockIdsByTaskIdAndStatus(100L, BidStatus.PENDING, 1L)).thenReturn(List.of(2L, 3L));
+            when(bidRepository.transitionStatus(List.of(2L, 3L), BidStatus.PENDING, BidStatus.REJECTED)).thenReturn(2);
 
             Bid result = bidService.acceptBid(1L);
 
             // Assertions
             assertEquals(BidStatus.ACCEPTED, result.getStatus());
-            assertEquals(BidStatus.REJECTED, otherBid.getStatus());
             assertEquals(TaskStatus.ASSIGNED, mockTask.getStatus());
             assertEquals(mockHandyman, mockTask.getAssignedHandyman());
 
-            verify(bidRepository, atLeast(2)).save(any(Bid.class));
-            verify(taskRepository).save(mockTask);
+            verify(bidRepository, times(1)).save(any(Bid.class));
+            verify(bidRepository).transitionStatus(List.of(2L, 3L), BidStatus.PENDING, BidStatus.REJECTED);
+            verify(bidRepository).refreshTaskSummary(100L);
+            verify(taskRepository, never()).save(any(Task.class));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskStatusChangedEvent event
+                    && event.getPreviousStatus() == TaskStatus.PENDING
+                    && event.getStatus() == TaskStatus.ASSIGNED));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidsRejectedEvent event
+                    && event.getTaskId().equals(100L)
+                    && event.getBidIds().equals(List.of(2L, 3L))));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidAcceptedEvent event
+                    && event.getPrice().getAmount().equals(180.0)
+                    && "plumbing".equals(event.getPrice().getCategory())));
+        }
+
+        @Test
+        @DisplayName("Positive: Accepting the only bid should not issue a reject update or event")
+        void acceptBid_NoCompetingBids() {
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+            when(taskRepository.compareAndAssign(100L, TaskStatus.PENDING, mockHandyman)).thenReturn(1);
+            when(bidRepository.lockIdsByTaskIdAndStatus(100L, BidStatus.PENDING, 1L)).thenReturn(List.of());
+
+            bidService.acceptBid(1L);
+
+            verify(bidRepository, never()).transitionStatus(any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any(BidsRejectedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Negative: Should fail when another acceptance assigned the task first")
+        void acceptBid_ConcurrentAssignment_Fails() {
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+            when(taskRepository.compareAndAssign(100L, TaskStatus.PENDING, mockHandyman)).thenReturn(0);
+
+            assertThrows(TaskStateConflictException.class, () -> bidService.acceptBid(1L));
+
+            assertEquals(BidStatus.PENDING, mockBid.getStatus());
+            verify(bidRepository, never()).save(any(Bid.class));
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Negative: Should fail without updating when the task is already assigned")
+        void acceptBid_TaskAlreadyAssigned_Fails() {
+            mockTask.setStatus(TaskStatus.ASSIGNED);
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+
+            assertThrows(TaskStateConflictException.class, () -> bidService.acceptBid(1L));
+
+            verify(taskRepository, never()).compareAndAssign(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Negative: Should fail when the bid expired, even before the expiry job ran")
+        void acceptBid_BidExpired_Fails() {
+            mockBid.setExpiresAt(LocalDateTime.now(clock));
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+
+            assertThrows(BidUnacceptableException.class, () -> bidService.acceptBid(1L));
+
+            verify(taskRepository, never()).compareAndAssign(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Negative: Should fail when the bid is no longer pending")
+        void acceptBid_BidNotPending_Fails() {
+            mockBid.setStatus(BidStatus.REJECTED);
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+
+            assertThrows(BidUnacceptableException.class, () -> bidService.acceptBid(1L));
+
+            verify(taskRepository, never()).compareAndAssign(any(), any(), any());
         }
     }
 
@@ -125,15 +279,319 @@ class BidServiceImplTest {
     @DisplayName("rejectBid() Tests")
     class RejectBidTests {
         @Test
-        @DisplayName("Positive: Should update status to REJECTED")
+        @DisplayName("Positive: Should lock the task, then update status to REJECTED")
         void rejectBid_Success() {
+            when(bidRepository.findTaskIdById(1L)).thenReturn(Optional.of(100L));
             when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
             when(bidRepository.save(any(Bid.class))).thenReturn(mockBid);
 
             Bid result = bidService.rejectBid(1L);
 
             assertEquals(BidStatus.REJECTED, result.getStatus());
-            verify(bidRepository).save(mockBid);
+            InOrder inOrder = inOrder(taskRepository, bidRepository);
+            inOrder.verify(taskRepository).lockIds(List.of(100L));
+            inOrder.verify(bidRepository).findById(1L);
+            inOrder.verify(bidRepository).save(mockBid);
+            inOrder.verify(bidRepository).refreshTaskSummary(100L);
+            verify(eventPublisher).publishEvent(any(TaskBidsChangedEvent.class));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidsRejectedEvent event
+                    && event.getTaskId().equals(100L) && event.getBidIds().equals(List.of(1L))));
+        }
+
+        @Test
+        @DisplayName("Negative: Should refuse to reject an accepted bid")
+        void rejectBid_Accepted() {
+            mockBid.setStatus(BidStatus.ACCEPTED);
+            when(bidRepository.findTaskIdById(1L)).thenReturn(Optional.of(100L));
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+
+            assertThrows(BidStateConflictException.class, () -> bidService.rejectBid(1L));
+
+            assertEquals(BidStatus.ACCEPTED, mockBid.getStatus());
+            verify(bidRepository, never()).save(any(Bid.class));
+            verify(bidRepository, never()).refreshTaskSummary(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Negative: Should refuse to reject a bid twice")
+        void rejectBid_AlreadyRejected() {
+            mockBid.setStatus(BidStatus.REJECTED);
+            when(bidRepository.findTaskIdById(1L)).thenReturn(Optional.of(100L));
+            when(bidRepository.findById(1L)).thenReturn(Optional.of(mockBid));
+
+            assertThrows(BidStateConflictException.class, () -> bidService.rejectBid(1L));
+
+            verify(bidRepository, never()).save(any(Bid.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw when the bid does not exist")
+        void rejectBid_NotFound() {
+            when(bidRepository.findTaskIdById(1L)).thenReturn(Optional.empty());
+
+            assertThrows(BidNotFoundException.class, () -> bidService.rejectBid(1L));
+            verify(taskRepository, never()).lockIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("expireBids() Tests")
+    class ExpireBidsTests {
+
+        private final LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        @Test
+        @DisplayName("Positive: Should lock the tasks, then expire the batch in one update and refresh every affected task once")
+        void expireBids_Success() {
+            List<ExpiringBid> due = List.of(new ExpiringBid(1L, 100L), new ExpiringBid(2L, 200L), new ExpiringBid(3L, 100L));
+            when(bidRepository.findExpired(BidStatus.PENDING, now, PageRequest.of(0, 50))).thenReturn(due);
+            when(bidRepository.lockExpired(List.of(1L, 2L, 3L), BidStatus.PENDING, now)).thenReturn(due);
+            when(bidRepository.transitionStatus(List.of(1L, 2L, 3L), BidStatus.PENDING, BidStatus.EXPIRED))
+                    .thenReturn(3);
+
+            assertEquals(3, bidService.expireBids(now, 50));
+
+            InOrder inOrder = inOrder(taskRepository, bidRepository);
+            inOrder.verify(taskRepository).lockIds(List.of(100L, 200L));
+            inOrder.verify(bidRepository).lockExpired(List.of(1L, 2L, 3L), BidStatus.PENDING, now);
+
+            verify(bidRepository).refreshTaskSummaries(argThat(ids -> ids.size() == 2
+                    && ids.containsAll(List.of(100L, 200L))));
+            verify(bidRepository, never()).save(any(Bid.class));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidsExpiredEvent event
+                    && event.getTaskId().equals(100L) && event.getBidIds().equals(List.of(1L, 3L))));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidsExpiredEvent event
+                    && event.getTaskId().equals(200L) && event.getBidIds().equals(List.of(2L))));
+            verify(eventPublisher, times(2)).publishEvent(any(TaskBidsChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Positive: Should do nothing when no bid is due")
+        void expireBids_NoneDue() {
+            when(bidRepository.findExpired(BidStatus.PENDING, now, PageRequest.of(0, 50))).thenReturn(List.of());
+
+            assertEquals(0, bidService.expireBids(now, 50));
+
+            verify(taskRepository, never()).lockIds(any());
+            verify(bidRepository, never()).transitionStatus(any(), any(), any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Positive: Should leave out bids accepted or rejected before they were locked")
+        void expireBids_ChangedMeanwhile() {
+            when(bidRepository.findExpired(BidStatus.PENDING, now, PageRequest.of(0, 50)))
+                    .thenReturn(List.of(new ExpiringBid(1L, 100L), new ExpiringBid(2L, 100L)));
+            when(bidRepository.lockExpired(List.of(1L, 2L), BidStatus.PENDING, now))
+                    .thenReturn(List.of(new ExpiringBid(2L, 100L)));
+            when(bidRepository.transitionStatus(List.of(2L), BidStatus.PENDING, BidStatus.EXPIRED)).thenReturn(1);
+
+            assertEquals(1, bidService.expireBids(now, 50));
+
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof BidsExpiredEvent event
+                    && event.getBidIds().equals(List.of(2L))));
+        }
+    }
+
+    @Nested
+    @DisplayName("listBidsForTask() Tests")
+    class ListBidsTests {
+        @Test
+        @DisplayName("Positive: Should list the bids of a live task without consulting the archive")
+        void listBids_Live() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(bidRepository.findByTask(mockTask)).thenReturn(List.of(mockBid));
+
+            assertEquals(List.of(mockBid), bidService.listBidsForTask(100L, VIEWER));
+            verifyNoInteractions(taskArchive);
+        }
+
+        @Test
+        @DisplayName("Positive: Should fall back to the archive for a finished task")
+        void listBids_Archived() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findBids(100L)).thenReturn(Optional.of(List.of(mockBid)));
+
+            assertEquals(List.of(mockBid), bidService.listBidsForTask(100L, VIEWER));
+            verify(bidRepository, never()).findByTask(any());
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw when the task is neither live nor archived")
+        void listBids_Missing_Fails() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findBids(100L)).thenReturn(Optional.empty());
+
+            assertThrows(TaskNotFoundException.class, () -> bidService.listBidsForTask(100L, VIEWER));
+        }
+
+        @Test
+        @DisplayName("Positive: Should list sealed bids without their amounts, leaving the entities untouched")
+        void listBids_Sealed_HidesAmounts() {
+            sealTask();
+            mockBid.setAmount(150.0);
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(bidRepository.findByTask(mockTask)).thenReturn(List.of(mockBid));
+
+            List<Bid> bids = bidService.listBidsForTask(100L, VIEWER);
+
+            assertEquals(1, bids.size());
+            assertEquals(mockBid.getId(), bids.get(0).getId());
+            assertNull(bids.get(0).getAmount());
+            assertEquals(150.0, mockBid.getAmount());
+        }
+
+        @Test
+        @DisplayName("Positive: Should show the task's customer the amounts of sealed bids")
+        void listBids_Sealed_Owner() {
+            sealTask();
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(bidRepository.findByTask(mockTask)).thenReturn(List.of(mockBid));
+
+            assertEquals(List.of(mockBid), bidService.listBidsForTask(100L, "client@test.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("getBidPage() Tests")
+    class BidPageTests {
+
+        private BidResponse response(long id, double amount) {
+            return new BidResponse(id, amount, 100L, 5L, "Bob", "handy@man.com", BidStatus.PENDING,
+                    LocalDateTime.of(2026, 2, 10, 14, 30));
+        }
+
+        @Test
+        @DisplayName("Positive: Should return a full page with a cursor on the last bid's amount and ID")
+        void getBidPage_HasMore() {
+            when(bidRepository.findTaskBidsByLowestAmount(100L, BidStatus.PENDING, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(response(1L, 100.0), response(2L, 150.0), response(3L, 200.0)));
+
+            CursorPage<BidResponse> page = bidService.getBidPage(100L, BidStatus.PENDING, BidSortOrder.LOWEST_AMOUNT, null, 2, VIEWER);
+
+            assertEquals(2, page.getItems().size());
+            assertTrue(page.isHasMore());
+            assertArrayEquals(new String[]{"150.0", "2"}, CursorCodec.decode(page.getNextCursor(), 2));
+            verify(taskRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("Positive: Should continue after the cursor key in the requested order")
+        void getBidPage_NextPage() {
+            String cursor = CursorCodec.encode(150.0, 2L);
+            when(bidRepository.findTaskBidsByHighestAmountBefore(100L, BidStatus.PENDING, 150.0, 2L, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(response(1L, 100.0)));
+
+            CursorPage<BidResponse> page = bidService.getBidPage(100L, BidStatus.PENDING, BidSortOrder.HIGHEST_AMOUNT, cursor, 2, VIEWER);
+
+            assertEquals(1, page.getItems().size());
+            assertFalse(page.isHasMore());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw when the task does not exist")
+        void getBidPage_TaskMissing_Fails() {
+            when(bidRepository.findNewestTaskBids(100L, BidStatus.PENDING, PageRequest.of(0, 21))).thenReturn(List.of());
+            when(taskRepository.existsById(100L)).thenReturn(false);
+
+            assertThrows(TaskNotFoundException.class,
+                    () -> bidService.getBidPage(100L, BidStatus.PENDING, BidSortOrder.NEWEST, null, null, VIEWER));
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a malformed cursor")
+        void getBidPage_InvalidCursor_Fails() {
+            String cursor = CursorCodec.encode("cheap", 2L);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> bidService.getBidPage(100L, BidStatus.PENDING, BidSortOrder.LOWEST_AMOUNT, cursor, null, VIEWER));
+        }
+
+        @Test
+        @DisplayName("Negative: Should refuse to order sealed bids by amount")
+        void getBidPage_Sealed_AmountSort_Fails() {
+            when(taskRepository.existsByIdAndSealedUntilAfterAndCustomerEmailNot(100L, LocalDateTime.now(clock), VIEWER))
+                    .thenReturn(true);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> bidService.getBidPage(100L, BidStatus.PENDING, BidSortOrder.HIGHEST_AMOUNT, null, 2, VIEWER));
+            verifyNoInteractions(bidRepository);
+        }
+
+        @Test
+        @DisplayName("Positive: Should list sealed bids newest first without their amounts")
+        void getBidPage_Sealed_HidesAmounts() {
+            when(taskRepository.existsByIdAndSealedUntilAfterAndCustomerEmailNot(100L, LocalDateTime.now(clock), VIEWER))
+                    .thenReturn(true);
+            when(bidRepository.findNewestTaskBids(100L, BidStatus.PENDING, PageRequest.of(0, 2)))
+                    .thenReturn(List.of(response(2L, 150.0), response(1L, 100.0)));
+
+            CursorPage<BidResponse> page = bidService.getBidPage(100L, BidStatus.PENDING, BidSortOrder.NEWEST, null, 1, VIEWER);
+
+            assertNull(page.getItems().get(0).getAmount());
+            assertEquals(2L, page.getItems().get(0).getId());
+            assertArrayEquals(new String[]{"2026-02-10T14:30", "2"}, CursorCodec.decode(page.getNextCursor(), 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("getHandymanBids() Tests")
+    class HandymanBidsTests {
+
+        private final LocalDateTime base = LocalDateTime.of(2026, 2, 10, 14, 0);
+
+        private HandymanBidResponse response(long id, int minute) {
+            return new HandymanBidResponse(id, 100.0, BidStatus.PENDING, base.plusMinutes(minute),
+                    100L, "Fix Roof", TaskStatus.PENDING);
+        }
+
+        @BeforeEach
+        void setUpHandyman() {
+            mockHandyman.setId(5L);
+            mockHandyman.setRole(Role.HANDYMAN);
+        }
+
+        @Test
+        @DisplayName("Positive: Should return a full page with a cursor on the last bid's creation time and ID")
+        void getHandymanBids_HasMore() {
+            when(userRepository.findByEmail("handy@man.com")).thenReturn(Optional.of(mockHandyman));
+            when(bidRepository.findHandymanBids(5L, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(response(3L, 30), response(2L, 20), response(1L, 10)));
+
+            CursorPage<HandymanBidResponse> page = bidService.getHandymanBids("handy@man.com", null, 2);
+
+            assertEquals(2, page.getItems().size());
+            assertTrue(page.isHasMore());
+            assertArrayEquals(new String[]{base.plusMinutes(20).toString(), "2"},
+                    CursorCodec.decode(page.getNextCursor(), 2));
+        }
+
+        @Test
+        @DisplayName("Positive: Should continue before the cursor key")
+        void getHandymanBids_NextPage() {
+            String cursor = CursorCodec.encode(base.plusMinutes(20), 2L);
+            when(userRepository.findByEmail("handy@man.com")).thenReturn(Optional.of(mockHandyman));
+            when(bidRepository.findHandymanBidsBefore(5L, base.plusMinutes(20), 2L, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(response(1L, 10)));
+
+            CursorPage<HandymanBidResponse> page = bidService.getHandymanBids("handy@man.com", cursor, 2);
+
+            assertEquals(1, page.getItems().size());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject users who are not handymen")
+        void getHandymanBids_Customer_Fails() {
+            mockHandyman.setRole(Role.CUSTOMER);
+            when(userRepository.findByEmail("handy@man.com")).thenReturn(Optional.of(mockHandyman));
+
+            assertThrows(UnacceptableOperationException.class,
+                    () -> bidService.getHandymanBids("handy@man.com", null, null));
+            verifyNoInteractions(bidRepository);
         }
     }
 }
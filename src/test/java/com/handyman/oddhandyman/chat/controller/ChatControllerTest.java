@@ -6,6 +6,8 @@ import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.chat.dto.ChatMessageRequest;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
 import com.handyman.oddhandyman.chat.service.ChatService;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
+import com.handyman.oddhandyman.common.idempotency.IdempotentRequests;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +23,9 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -42,6 +46,9 @@ class ChatControllerTest {
     @MockBean
     private ChatService chatService;
 
+    @MockBean
+    private IdempotentRequests idempotentRequests;
+
     private ChatMessage fullMockMessage;
     private Task mockTask;
     private User mockSender;
@@ -73,6 +80,9 @@ class ChatControllerTest {
         fullMockMessage.setTimestamp(LocalDateTime.of(2026, 2, 10, 14, 30));
         fullMockMessage.setReadByCustomer(true);
         fullMockMessage.setReadByHandyman(false);
+
+        when(idempotentRequests.execute(any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
     }
 
     @Nested
@@ -164,4 +174,34 @@ class ChatControllerTest {
             verify(chatService).markMessagesAsRead(100L, TEST_EMAIL);
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/chat/task/{taskId}")
+    class GetMessagesTests {
+
+        @Test
+        @WithMockUser(username = TEST_EMAIL)
+        @DisplayName("Positive: Should return messages with an ETag")
+        void getMessages_Success() throws Exception {
+            when(chatService.getMessageListVersion(100L)).thenReturn(new CollectionVersion(0L, 1L, 500L, 0L));
+            when(chatService.getMessagesForTask(100L)).thenReturn(List.of(fullMockMessage));
+
+            mockMvc.perform(get("/api/chat/task/100"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"chat-100-0-1-500-0\""))
+                    .andExpect(jsonPath("$[0].message").value("Hello, is this still available?"));
+        }
+
+        @Test
+        @WithMockUser(username = TEST_EMAIL)
+        @DisplayName("Positive: Should return 304 without loading messages when the ETag still matches")
+        void getMessages_NotModified() throws Exception {
+            when(chatService.getMessageListVersion(100L)).thenReturn(new CollectionVersion(0L, 1L, 500L, 0L));
+
+            mockMvc.perform(get("/api/chat/task/100").header("If-None-Match", "W/\"chat-100-0-1-500-0\""))
+                    .andExpect(status().isNotModified());
+
+            verify(chatService, never()).getMessagesForTask(anyLong());
+        }
+    }
 }
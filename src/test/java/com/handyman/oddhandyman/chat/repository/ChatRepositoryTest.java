@@ -3,8 +3,10 @@ package com.handyman.oddhandyman.chat.repository;
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.support.StatementCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -120,11 +122,74 @@ class ChatRepositoryTest {
         entityManager.flush();
 
         // When
-        List<ChatMessage> results = chatRepository.findByTaskOrderByTimestampAsc(task);
+        List<ChatMessage> results = chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(task, task.getCreatedAt());
 
         // Then
         assertEquals(2, results.size());
         assertEquals("First", results.get(0).getMessage());
         assertEquals("Second", results.get(1).getMessage());
     }
+
+    @Test
+    @DisplayName("Should leave out messages older than the lower bound")
+    void findByTask_SkipsMessagesBeforeSince() {
+        ChatMessage old = new ChatMessage();
+        old.setTask(task);
+        old.setSender(customer);
+        old.setMessage("Old");
+        old.setTimestamp(task.getCreatedAt().minusDays(40));
+        entityManager.persist(old);
+
+        ChatMessage recent = new ChatMessage();
+        recent.setTask(task);
+        recent.setSender(handyman);
+        recent.setMessage("Recent");
+        entityManager.persist(recent);
+        entityManager.flush();
+
+        List<ChatMessage> results = chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(task, task.getCreatedAt());
+
+        assertEquals(1, results.size());
+        assertEquals("Recent", results.get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should fetch senders of task messages in the same statement")
+    void findByTask_FetchesSendersWithoutExtraQueries() {
+        for (User sender : List.of(customer, handyman, customer)) {
+            ChatMessage msg = new ChatMessage();
+            msg.setTask(task);
+            msg.setSender(sender);
+            msg.setMessage("Hello from " + sender.getName());
+            entityManager.persist(msg);
+        }
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        long statements = counter.count(() -> chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(task, task.getCreatedAt()).forEach(m -> {
+            assertNotNull(m.getSender().getName());
+            assertEquals("John Customer", m.getTask().getCustomer().getName());
+        }));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("Should change the chat version when a message is read")
+    void findListVersionByTaskId_ChangesWhenMessageRead() {
+        ChatMessage msg = new ChatMessage();
+        msg.setTask(task);
+        msg.setSender(customer);
+        msg.setMessage("Ping");
+        entityManager.persist(msg);
+        entityManager.flush();
+
+        String before = chatRepository.findListVersionByTaskId(task.getId()).orElseThrow().toETag("chat", task.getId());
+
+        msg.setReadByHandyman(true);
+        entityManager.flush();
+
+        CollectionVersion after = chatRepository.findListVersionByTaskId(task.getId()).orElseThrow();
+        assertEquals(1, after.getCount());
+        assertNotEquals(before, after.toETag("chat", task.getId()));
+    }
 }
@@ -6,7 +6,9 @@ import com.handyman.oddhandyman.auth.repository.UserRepository;
 import com.handyman.oddhandyman.chat.dto.ChatMessageRequest;
 import com.handyman.oddhandyman.chat.entity.ChatMessage;
 import com.handyman.oddhandyman.chat.repository.ChatRepository;
+import com.handyman.oddhandyman.common.etag.CollectionVersion;
 import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,7 @@ class ChatServiceImplTest {
     @Mock private ChatRepository chatRepository;
     @Mock private TaskRepository taskRepository;
     @Mock private UserRepository userRepository;
+    @Mock private TaskArchive taskArchive;
 
     @InjectMocks private ChatServiceImpl chatService;
 
@@ -106,7 +109,7 @@ class ChatServiceImplTest {
 
             when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
             when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
-            when(chatRepository.findByTaskOrderByTimestampAsc(mockTask)).thenReturn(List.of(msg));
+            when(chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(mockTask, mockTask.getCreatedAt())).thenReturn(List.of(msg));
 
             chatService.markMessagesAsRead(100L, "customer@test.com");
 
@@ -145,5 +148,20 @@ class ChatServiceImplTest {
 
             assertThrows(TaskNotFoundException.class, () -> chatService.getMessagesForTask(999L));
         }
+
+        @Test
+        @DisplayName("Positive: Read the messages and chat version of an archived task from the archive")
+        void getMessages_ArchivedTask() {
+            ChatMessage message = new ChatMessage();
+            message.setId(7L);
+            CollectionVersion version = new CollectionVersion(3L, 1L, 7L, 0L);
+            when(taskRepository.findById(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findMessages(100L)).thenReturn(Optional.of(List.of(message)));
+            when(chatRepository.findListVersionByTaskId(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findMessageListVersion(100L)).thenReturn(Optional.of(version));
+
+            assertEquals(List.of(message), chatService.getMessagesForTask(100L));
+            assertSame(version, chatService.getMessageListVersion(100L));
+        }
     }
 }
@@ -0,0 +1,200 @@
+package com.handyman.oddhandyman.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handyman.oddhandyman.bid.dto.BidRequest;
+import com.handyman.oddhandyman.exception.IdempotencyConflictException;
+import com.handyman.oddhandyman.exception.UnacceptableOperationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class IdempotentRequestsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    @Autowired private IdempotencyRecordRepository repository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TestEntityManager entityManager;
+
+    private final AtomicInteger runs = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private IdempotentRequests idempotentRequests;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotentRequests = newInstance(NOW);
+    }
+
+    private BidRequest request(double amount) {
+        BidRequest req = new BidRequest();
+        req.setTaskId(7L);
+        req.setAmount(amount);
+        return req;
+    }
+
+    private BidRequest place(IdempotentRequests requests, String principal, String key, BidRequest req) {
+        return requests.execute("bids", principal, key, req, BidRequest.class, () -> {
+            runs.incrementAndGet();
+            return req;
+        });
+    }
+
+    private IdempotentRequests newInstance(LocalDateTime now) {
+        return new IdempotentRequests(repository, transactionManager, objectMapper,
+                Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), meterRegistry, 24, 100);
+    }
+
+    @Test
+    @DisplayName("Positive: Should run the request as usual without a key")
+    void noKey_RunsEveryTime() {
+        place(idempotentRequests, "handy@test.com", null, request(150.0));
+        place(idempotentRequests, "handy@test.com", null, request(150.0));
+
+        assertEquals(2, runs.get());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    @DisplayName("Positive: Should store the first response and replay it for the same key")
+    void sameKey_Replayed() {
+        BidRequest first = place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+        BidRequest second = place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+
+        assertEquals(1, runs.get());
+        assertEquals(first.getAmount(), second.getAmount());
+        assertEquals(1, repository.count());
+        assertEquals(1.0, meterRegistry.get("idempotency.replays").tag("scope", "bids").counter().count());
+    }
+
+    @Test
+    @DisplayName("Positive: Should return the action's own result to the first request")
+    void firstRequest_ReturnsActionResult() {
+        BidRequest req = request(150.0);
+
+        assertSame(req, place(idempotentRequests, "handy@test.com", "retry-1", req));
+        assertTrue(idempotentRequests.isKnownReplay("bids", "handy@test.com", "retry-1"));
+    }
+
+    @Test
+    @DisplayName("Positive: Should report a key as a known replay only while its record is held in memory")
+    void isKnownReplay_FromMemoryOnly() {
+        assertFalse(idempotentRequests.isKnownReplay("bids", "handy@test.com", "retry-1"));
+        place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+
+        assertTrue(idempotentRequests.isKnownReplay("bids", "handy@test.com", "retry-1"));
+        assertFalse(idempotentRequests.isKnownReplay("bids", "other@test.com", "retry-1"));
+        assertFalse(idempotentRequests.isKnownReplay("bids", "handy@test.com", null));
+        // Stored, but not held by this instance, so it is not known without a query
+        assertFalse(newInstance(NOW).isKnownReplay("bids", "handy@test.com", "retry-1"));
+    }
+
+    @Test
+    @DisplayName("Positive: Should replay from the table once the response is no longer held in memory")
+    void sameKey_ReplayedFromTable() {
+        place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+        entityManager.clear();
+
+        BidRequest replayed = place(newInstance(NOW.plusHours(1)), "handy@test.com", "retry-1", request(150.0));
+
+        assertEquals(1, runs.get());
+        assertEquals(150.0, replayed.getAmount());
+    }
+
+    @Test
+    @DisplayName("Positive: Should keep keys apart per user")
+    void sameKey_OtherUser_Runs() {
+        place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+        place(idempotentRequests, "other@test.com", "retry-1", request(150.0));
+
+        assertEquals(2, runs.get());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    @DisplayName("Positive: Should run the request again once the stored response has expired")
+    void expiredKey_Runs() {
+        place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+        entityManager.clear();
+
+        place(newInstance(NOW.plusHours(25)), "handy@test.com", "retry-1", request(175.0));
+
+        assertEquals(2, runs.get());
+        assertEquals(1, repository.count());
+        assertEquals(NOW.plusHours(25), repository.findAll().get(0).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Positive: Should delete expired responses from the table and from memory")
+    void purge_DeletesExpired() {
+        place(idempotentRequests, "handy@test.com", "old", request(150.0));
+        place(newInstance(NOW.plusHours(30)), "handy@test.com", "new", request(150.0));
+        entityManager.clear();
+
+        assertEquals(1, newInstance(NOW.plusHours(30)).purge());
+
+        assertEquals(1, repository.count());
+        assertEquals(0, idempotentRequests.purge());
+    }
+
+    @Test
+    @DisplayName("Positive: Should not store a response when the request fails")
+    void failedRequest_NotStored() {
+        assertThrows(IllegalStateException.class, () -> idempotentRequests.execute("bids", "handy@test.com",
+                "retry-1", request(150.0), BidRequest.class, () -> {
+                    throw new IllegalStateException("Database Unavailable");
+                }));
+
+        place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("Negative: Should reject a key reused for a different request")
+    void sameKey_DifferentRequest_Fails() {
+        place(idempotentRequests, "handy@test.com", "retry-1", request(150.0));
+
+        assertThrows(UnacceptableOperationException.class,
+                () -> place(idempotentRequests, "handy@test.com", "retry-1", request(175.0)));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("Negative: Should reject a retry while the first request is still running")
+    void sameKey_InProgress_Fails() {
+        assertThrows(IdempotencyConflictException.class, () -> idempotentRequests.execute("bids",
+                "handy@test.com", "retry-1", request(150.0), BidRequest.class,
+                () -> place(idempotentRequests, "handy@test.com", "retry-1", request(150.0))));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    @DisplayName("Negative: Should reject blank and overlong keys")
+    void invalidKey_Fails() {
+        assertThrows(IllegalArgumentException.class,
+                () -> place(idempotentRequests, "handy@test.com", " ", request(150.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> place(idempotentRequests, "handy@test.com", "k".repeat(256), request(150.0)));
+        assertEquals(0, runs.get());
+    }
+}
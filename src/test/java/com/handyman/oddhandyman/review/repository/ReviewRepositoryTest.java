@@ -5,6 +5,7 @@ import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.review.entity.Review;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.support.StatementCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -127,4 +128,40 @@ class ReviewRepositoryTest {
         // Then
         assertTrue(results.isEmpty());
     }
+
+    @Test
+    @DisplayName("Should fetch reviewers and tasks of a handyman's reviews in the same statement")
+    void findByReviewedHandymanId_FetchesParticipantsWithoutExtraQueries() {
+        for (int i = 0; i < 3; i++) {
+            User reviewer = new User();
+            reviewer.setEmail("reviewer" + i + "@test.com");
+            reviewer.setName("Reviewer " + i);
+            reviewer.setRole(Role.CUSTOMER);
+            reviewer.setPassword("pass");
+            entityManager.persist(reviewer);
+
+            Task reviewedTask = new Task();
+            reviewedTask.setTitle("Task " + i);
+            reviewedTask.setCustomer(reviewer);
+            reviewedTask.setAssignedHandyman(handyman);
+            reviewedTask.setStatus(TaskStatus.COMPLETED);
+            entityManager.persist(reviewedTask);
+
+            Review review = new Review();
+            review.setTask(reviewedTask);
+            review.setReviewer(reviewer);
+            review.setReviewedHandyman(handyman);
+            review.setRating(4);
+            entityManager.persist(review);
+        }
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        long statements = counter.count(() -> reviewRepository.findByReviewedHandymanId(handyman.getId())
+                .forEach(r -> {
+                    assertNotNull(r.getReviewer().getName());
+                    assertNotNull(r.getTask().getTitle());
+                }));
+
+        assertEquals(1, statements);
+    }
 }
@@ -7,6 +7,7 @@ import com.handyman.oddhandyman.review.dto.ReviewRequest;
 import com.handyman.oddhandyman.review.dto.ReviewResponse;
 import com.handyman.oddhandyman.review.entity.Review;
 import com.handyman.oddhandyman.review.repository.ReviewRepository;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
@@ -33,6 +34,7 @@ class ReviewServiceImplTest {
     @Mock private ReviewRepository reviewRepo;
     @Mock private TaskRepository taskRepo;
     @Mock private UserRepository userRepo;
+    @Mock private TaskArchive taskArchive;
 
     @InjectMocks private ReviewServiceImpl reviewService;
 
@@ -141,5 +143,36 @@ class ReviewServiceImplTest {
             assertEquals("John Customer", results.get(0).getReviewerName());
             assertEquals("Bob Handyman", results.get(0).getReviewedHandymanName());
         }
+
+        @Test
+        @DisplayName("Positive: Should read the reviews of an archived task from the archive")
+        void getReviewsForTask_Archived() {
+            Review review = new Review();
+            review.setId(1L);
+            review.setReviewer(mockCustomer);
+            review.setReviewedHandyman(mockHandyman);
+
+            when(reviewRepo.findByTaskId(100L)).thenReturn(List.of());
+            when(taskArchive.findReviewsForTask(100L)).thenReturn(List.of(review));
+
+            List<ReviewResponse> results = reviewService.getReviewsForTask(100L);
+
+            assertEquals(1, results.size());
+            assertEquals("Bob Handyman", results.get(0).getReviewedHandymanName());
+        }
+
+        @Test
+        @DisplayName("Positive: Should list a handyman's live reviews followed by archived ones")
+        void getReviewsForUser_IncludesArchived() {
+            Review live = new Review();
+            live.setId(2L);
+            Review archived = new Review();
+            archived.setId(1L);
+
+            when(reviewRepo.findByReviewedHandymanId(2L)).thenReturn(List.of(live));
+            when(taskArchive.findReviewsForHandyman(2L)).thenReturn(List.of(archived));
+
+            assertEquals(List.of(live, archived), reviewService.getReviewsForUser(2L));
+        }
     }
 }
@@ -0,0 +1,87 @@
+package com.handyman.oddhandyman.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test helper providing the Postgres server for the tests of the Postgres migrations and query plans.
+ * <p>
+ * By default a Testcontainers container is started once and shared by every test class. Setting
+ * {@code -Dpostgres.url=...} (with {@code postgres.username} and {@code postgres.password}) uses that
+ * server instead, for machines without Docker. Each test class works in a schema of its own, which it
+ * drops and recreates, so it can be run against a shared scratch database.
+ */
+public final class PostgresTestDatabase {
+
+    private static final String IMAGE = "postgres:15-alpine";
+
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresTestDatabase() {
+    }
+
+    /**
+     * Condition for {@code @EnabledIf}: the tests need a configured server or Docker to start one.
+     */
+    public static boolean isAvailable() {
+        return System.getProperty("postgres.url") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    /**
+     * Points the test datasource at the given schema of the server.
+     */
+    public static void register(DynamicPropertyRegistry registry, String schema) {
+        registry.add("spring.datasource.url", () -> url() + (url().contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        registry.add("spring.datasource.username", PostgresTestDatabase::username);
+        registry.add("spring.datasource.password", PostgresTestDatabase::password);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    /**
+     * Drops the schema with everything in it and creates it empty.
+     */
+    public static void recreateSchema(String schema) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("drop schema if exists " + schema + " cascade");
+            statement.execute("create schema " + schema);
+        }
+    }
+
+    /**
+     * @return a new connection to the server, with the default search path
+     */
+    public static Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), username(), password());
+    }
+
+    private static String url() {
+        String url = System.getProperty("postgres.url");
+        return url != null ? url : container().getJdbcUrl();
+    }
+
+    private static String username() {
+        return System.getProperty("postgres.url") != null
+                ? System.getProperty("postgres.username", "postgres")
+                : container().getUsername();
+    }
+
+    private static String password() {
+        return System.getProperty("postgres.url") != null
+                ? System.getProperty("postgres.password", "")
+                : container().getPassword();
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>(IMAGE);
+            container.start();
+        }
+        return container;
+    }
+}
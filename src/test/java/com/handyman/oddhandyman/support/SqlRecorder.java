@@ -0,0 +1,43 @@
+package com.handyman.oddhandyman.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test helper recording the SQL Hibernate generates, so a test can run it again (for example
+ * under {@code EXPLAIN}) exactly as a repository method issued it.
+ * <p>
+ * Registered with {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlRecorder implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public static void clear() {
+        statements.clear();
+    }
+
+    /**
+     * @param prefix statement keyword to look for, such as {@code select} or {@code update}
+     * @return the most recent statement starting with the prefix
+     */
+    public static String last(String prefix) {
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).stripLeading().toLowerCase().startsWith(prefix)) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("No " + prefix + " statement recorded");
+    }
+}
@@ -0,0 +1,40 @@
+package com.handyman.oddhandyman.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Test helper counting the JDBC statements Hibernate prepares while running a piece of code.
+ * <p>
+ * Used by repository tests to assert that associations are fetched through entity graphs
+ * or batch fetching rather than one query per row (N+1).
+ */
+public final class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Flushes pending changes, clears the persistence context so nothing is served from
+     * the first-level cache, then runs the action and returns the number of statements it prepared.
+     *
+     * @param action the code to measure
+     * @return number of JDBC statements prepared by the action
+     */
+    public long count(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
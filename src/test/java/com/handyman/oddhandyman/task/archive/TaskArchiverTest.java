@@ -0,0 +1,207 @@
+package com.handyman.oddhandyman.task.archive;
+
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.repository.BidRepository;
+import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.chat.repository.ChatRepository;
+import com.handyman.oddhandyman.review.entity.Review;
+import com.handyman.oddhandyman.review.repository.ReviewRepository;
+import com.handyman.oddhandyman.task.entity.ArchivedTask;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.ArchivedTaskRepository;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TaskArchive.class, TaskArchiver.class, TaskArchiverTest.Config.class})
+@TestPropertySource(properties = "tasks.archive.batch-size=2")
+class TaskArchiverTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired private TaskArchiver taskArchiver;
+    @Autowired private TaskArchive taskArchive;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private BidRepository bidRepository;
+    @Autowired private ChatRepository chatRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private ArchivedTaskRepository archivedTaskRepository;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private TestEntityManager entityManager;
+
+    private User customer;
+    private User handyman;
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setEmail("client@test.com");
+        customer.setName("John Client");
+        customer.setRole(Role.CUSTOMER);
+        customer.setPassword("hashed_pass");
+        entityManager.persist(customer);
+
+        handyman = new User();
+        handyman.setEmail("handy@test.com");
+        handyman.setName("Bob Fixer");
+        handyman.setRole(Role.HANDYMAN);
+        handyman.setPassword("hashed_pass");
+        entityManager.persist(handyman);
+    }
+
+    private Task task(String title, TaskStatus status, LocalDateTime finishedAt) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCustomer(customer);
+        task.setAssignedHandyman(status == TaskStatus.PENDING ? null : handyman);
+        task.setStatus(status);
+        task.setDeadline(NOW.minusDays(60));
+        task.setFinishedAt(finishedAt);
+        return entityManager.persist(task);
+    }
+
+    private Task completedWithHistory(LocalDateTime finishedAt) {
+        Task task = task("Fix Roof", TaskStatus.COMPLETED, finishedAt);
+
+        Bid bid = new Bid();
+        bid.setTask(task);
+        bid.setHandyman(handyman);
+        bid.setAmount(120.0);
+        entityManager.persist(bid);
+        task.setBidCount(1);
+        task.setLowestBid(120.0);
+        task.setHighestBid(120.0);
+        task.setBidTotal(120.0);
+
+        ChatMessage message = new ChatMessage();
+        message.setTask(task);
+        message.setSender(customer);
+        message.setMessage("Thanks, all done");
+        entityManager.persist(message);
+
+        Review review = new Review();
+        review.setTask(task);
+        review.setReviewer(customer);
+        review.setReviewedHandyman(handyman);
+        review.setRating(5);
+        entityManager.persist(review);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should move a finished task with its bids, chat and review to the archive")
+    void archiveDue_MovesTaskAndChildren() {
+        Task task = completedWithHistory(LocalDateTime.of(2026, 2, 1, 9, 0));
+        entityManager.flush();
+        String bidsETag = bidRepository.findListVersionByTaskId(task.getId()).orElseThrow().toETag("bids", task.getId());
+        entityManager.clear();
+
+        assertEquals(1, taskArchiver.archiveDue());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(taskRepository.findById(task.getId()).isEmpty());
+        assertTrue(bidRepository.findByTaskIdIn(List.of(task.getId())).isEmpty());
+        assertTrue(chatRepository.findByTaskIdIn(List.of(task.getId())).isEmpty());
+        assertFalse(reviewRepository.existsByTaskId(task.getId()));
+
+        ArchivedTask row = archivedTaskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(202602, row.getPartitionMonth());
+        assertEquals(customer.getId(), row.getCustomerId());
+        assertEquals(handyman.getId(), row.getAssignedHandymanId());
+        assertFalse(row.getSnapshot().contains("hashed_pass"));
+
+        Task archived = taskArchive.findTask(task.getId()).orElseThrow();
+        assertEquals("Fix Roof", archived.getTitle());
+        assertEquals(TaskStatus.COMPLETED, archived.getStatus());
+        assertEquals("John Client", archived.getCustomer().getName());
+        assertEquals(120.0, archived.getLowestBid());
+        assertEquals(120.0, archived.getBidTotal());
+
+        List<Bid> bids = taskArchive.findBids(task.getId()).orElseThrow();
+        assertEquals(1, bids.size());
+        assertEquals(120.0, bids.get(0).getAmount());
+        assertEquals("Bob Fixer", bids.get(0).getHandyman().getName());
+        assertEquals(task.getId(), bids.get(0).getTask().getId());
+        assertEquals(bidsETag, taskArchive.findBidListVersion(task.getId()).orElseThrow().toETag("bids", task.getId()));
+
+        assertEquals("Thanks, all done", taskArchive.findMessages(task.getId()).orElseThrow().get(0).getMessage());
+        assertEquals(5, taskArchive.findReviewsForHandyman(handyman.getId()).get(0).getRating());
+        assertEquals(task.getId(), taskArchive.findReviewsForTask(task.getId()).get(0).getTask().getId());
+    }
+
+    @Test
+    @DisplayName("Should keep live tasks and tasks still within their retention period")
+    void archiveDue_KeepsLiveAndRecentTasks() {
+        Task recent = task("Recent", TaskStatus.COMPLETED, NOW.minusDays(1));
+        Task live = task("Live", TaskStatus.PENDING, null);
+        Task legacy = task("Legacy", TaskStatus.CANCELLED, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, taskArchiver.archiveDue());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(taskRepository.findById(recent.getId()).isPresent());
+        assertTrue(taskRepository.findById(live.getId()).isPresent());
+        // Without a finish time the deadline decides
+        assertTrue(taskRepository.findById(legacy.getId()).isEmpty());
+        assertEquals(TaskStatus.CANCELLED, taskArchive.findTask(legacy.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should archive in several batches when more tasks are due than fit in one")
+    void archiveDue_MultipleBatches() {
+        for (int i = 0; i < 5; i++) {
+            task("Old " + i, TaskStatus.CANCELLED, NOW.minusDays(90));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long batchesBefore = meterRegistry.get("tasks.archive.batch.size").summary().count();
+
+        assertEquals(5, taskArchiver.archiveDue());
+        assertEquals(5, archivedTaskRepository.count());
+        assertEquals(3, meterRegistry.get("tasks.archive.batch.size").summary().count() - batchesBefore);
+    }
+}
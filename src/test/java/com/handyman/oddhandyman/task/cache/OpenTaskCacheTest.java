@@ -0,0 +1,155 @@
+package com.handyman.oddhandyman.task.cache;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.dto.BidSummary;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskBidsChangedEvent;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OpenTaskCacheTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OpenTaskCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OpenTaskCache(taskRepository, meterRegistry, 3);
+    }
+
+    private TaskResponse task(long id, TaskStatus status) {
+        TaskResponse t = new TaskResponse();
+        t.setId(id);
+        t.setStatus(status);
+        return t;
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("getOpenTasks() Logic")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Positive: Should load from the database once and serve later reads from memory")
+        void getOpenTasks_LoadsOnce() {
+            when(taskRepository.findOpenTasks(TaskStatus.PENDING))
+                    .thenReturn(List.of(task(2L, TaskStatus.PENDING), task(1L, TaskStatus.PENDING)));
+
+            cache.getOpenTasks();
+            List<TaskResponse> results = cache.getOpenTasks();
+
+            assertEquals(List.of(2L, 1L), results.stream().map(TaskResponse::getId).toList());
+            verify(taskRepository, times(1)).findOpenTasks(TaskStatus.PENDING);
+            assertEquals(1, gets("hit"));
+            assertEquals(1, gets("miss"));
+            assertEquals(2, meterRegistry.get("cache.size").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Negative: Should not cache an open set larger than the bound")
+        void getOpenTasks_OverCapacity_NotCached() {
+            when(taskRepository.findOpenTasks(TaskStatus.PENDING)).thenReturn(List.of(
+                    task(4L, TaskStatus.PENDING), task(3L, TaskStatus.PENDING),
+                    task(2L, TaskStatus.PENDING), task(1L, TaskStatus.PENDING)));
+
+            assertEquals(4, cache.getOpenTasks().size());
+            assertEquals(4, cache.getOpenTasks().size());
+
+            verify(taskRepository, times(2)).findOpenTasks(TaskStatus.PENDING);
+            assertEquals(2, gets("miss"));
+        }
+    }
+
+    @Nested
+    @DisplayName("onTaskStatusChanged() Logic")
+    class IncrementalUpdateTests {
+
+        @BeforeEach
+        void load() {
+            when(taskRepository.findOpenTasks(TaskStatus.PENDING)).thenReturn(List.of(task(1L, TaskStatus.PENDING)));
+            cache.getOpenTasks();
+        }
+
+        @Test
+        @DisplayName("Positive: Should add created tasks and drop assigned tasks without reloading")
+        void statusChanges_AppliedInPlace() {
+            cache.onTaskStatusChanged(new TaskStatusChangedEvent(task(5L, TaskStatus.PENDING), null));
+            cache.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.ASSIGNED), TaskStatus.PENDING));
+
+            List<TaskResponse> results = cache.getOpenTasks();
+
+            assertEquals(List.of(5L), results.stream().map(TaskResponse::getId).toList());
+            verify(taskRepository, times(1)).findOpenTasks(TaskStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Negative: Should fall back to the database once the bound is exceeded")
+        void statusChanges_OverCapacity_Invalidates() {
+            cache.onTaskStatusChanged(new TaskStatusChangedEvent(task(2L, TaskStatus.PENDING), null));
+            cache.onTaskStatusChanged(new TaskStatusChangedEvent(task(3L, TaskStatus.PENDING), null));
+            cache.onTaskStatusChanged(new TaskStatusChangedEvent(task(4L, TaskStatus.PENDING), null));
+
+            cache.getOpenTasks();
+
+            verify(taskRepository, times(2)).findOpenTasks(TaskStatus.PENDING);
+        }
+    }
+
+    @Nested
+    @DisplayName("onTaskBidsChanged() Logic")
+    class BidSummaryTests {
+
+        @BeforeEach
+        void load() {
+            when(taskRepository.findOpenTasks(TaskStatus.PENDING)).thenReturn(List.of(task(1L, TaskStatus.PENDING)));
+            cache.getOpenTasks();
+        }
+
+        @Test
+        @DisplayName("Positive: Should re-read a cached task to pick up its new bid summary")
+        void bidsChanged_RefreshesTask() {
+            TaskResponse bidOn = task(1L, TaskStatus.PENDING);
+            bidOn.setBids(BidSummary.of(2, 100.0, 300.0, 400.0));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(1L), TaskStatus.PENDING)).thenReturn(List.of(bidOn));
+
+            cache.onTaskBidsChanged(new TaskBidsChangedEvent(1L));
+
+            BidSummary bids = cache.getOpenTasks().get(0).getBids();
+            assertEquals(2, bids.getCount());
+            assertEquals(200.0, bids.getAverage());
+            verify(taskRepository, times(1)).findOpenTasks(TaskStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Negative: Should ignore tasks it does not hold and drop tasks that are no longer open")
+        void bidsChanged_UnknownOrClosed() {
+            cache.onTaskBidsChanged(new TaskBidsChangedEvent(7L));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(1L), TaskStatus.PENDING)).thenReturn(List.of());
+
+            cache.onTaskBidsChanged(new TaskBidsChangedEvent(1L));
+
+            assertTrue(cache.getOpenTasks().isEmpty());
+            verify(taskRepository, never()).findResponsesByIdInAndStatus(List.of(7L), TaskStatus.PENDING);
+        }
+    }
+}
@@ -4,9 +4,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.auth.service.UserService;
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionResponse;
+import com.handyman.oddhandyman.bid.dto.PriceSuggestionScope;
+import com.handyman.oddhandyman.bid.pricing.BidPriceAnalytics;
+import com.handyman.oddhandyman.common.idempotency.IdempotentRequests;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
+import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.UnacceptableOperationException;
+import com.handyman.oddhandyman.task.dto.BulkTaskRequest;
+import com.handyman.oddhandyman.task.dto.NearbyTaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
 import com.handyman.oddhandyman.task.dto.TaskRequest;
 import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskSortOrder;
+import com.handyman.oddhandyman.task.dto.TaskStatsResponse;
 import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
 import com.handyman.oddhandyman.task.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,9 +32,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -44,6 +63,12 @@ class TaskControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private IdempotentRequests idempotentRequests;
+
+    @MockBean
+    private BidPriceAnalytics bidPriceAnalytics;
+
     private Task fullTask;
     private User mockCustomer;
     private User mockHandyman;
@@ -77,6 +102,9 @@ class TaskControllerTest {
         fullTask.setDeadline(fixedDeadline);
         fullTask.setStatus(TaskStatus.PENDING);
         fullTask.setCustomer(mockCustomer);
+
+        when(idempotentRequests.execute(any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
     }
 
     @Nested
@@ -122,6 +150,56 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/tasks/bulk")
+    class BulkCreateTests {
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should create all tasks and return them in order")
+        void createTasks_Success() throws Exception {
+            TaskRequest item = new TaskRequest();
+            item.setTitle("Fix leaking faucet");
+            item.setDescription("The kitchen faucet is leaking");
+            item.setAddress("123 Main Street");
+            item.setBudget(150.0);
+            item.setDeadline(fixedDeadline);
+            BulkTaskRequest req = new BulkTaskRequest();
+            req.setTasks(List.of(item, item));
+
+            TaskResponse first = new TaskResponse();
+            first.setId(100L);
+            TaskResponse second = new TaskResponse();
+            second.setId(101L);
+            when(taskService.createTasks(anyList(), eq(CUSTOMER_EMAIL))).thenReturn(List.of(first, second));
+
+            mockMvc.perform(post("/api/tasks/bulk")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(100L))
+                    .andExpect(jsonPath("$[1].id").value(101L));
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Negative: Should return 400 when an item is invalid")
+        void createTasks_InvalidItem_Fails() throws Exception {
+            TaskRequest invalid = new TaskRequest();
+            invalid.setTitle("Test");
+            BulkTaskRequest req = new BulkTaskRequest();
+            req.setTasks(List.of(invalid));
+
+            mockMvc.perform(post("/api/tasks/bulk")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(taskService);
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/tasks - List Tasks")
     class GetTasksTests {
@@ -144,6 +222,166 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/tasks/page - Paginated Tasks")
+    class TaskPageTests {
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should default to NEWEST ordering")
+        void getTaskPage_DefaultSort() throws Exception {
+            when(userService.findByEmail(CUSTOMER_EMAIL)).thenReturn(mockCustomer);
+            when(taskService.getTaskPage(mockCustomer, TaskSortOrder.NEWEST, null, null))
+                    .thenReturn(new CursorPage<>(List.of(), null));
+
+            mockMvc.perform(get("/api/tasks/page"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items").isEmpty())
+                    .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should pass DEADLINE ordering and cursor through")
+        void getTaskPage_DeadlineSort() throws Exception {
+            TaskResponse res = new TaskResponse();
+            res.setId(100L);
+
+            when(userService.findByEmail(CUSTOMER_EMAIL)).thenReturn(mockCustomer);
+            when(taskService.getTaskPage(mockCustomer, TaskSortOrder.DEADLINE, "abc", 5))
+                    .thenReturn(new CursorPage<>(List.of(res), "next"));
+
+            mockMvc.perform(get("/api/tasks/page")
+                            .param("sort", "DEADLINE")
+                            .param("cursor", "abc")
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(100L))
+                    .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks/feed - Handyman Feed")
+    class FeedTests {
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Positive: Should pass cursor and size through and return the page")
+        void getFeed_Success() throws Exception {
+            TaskResponse res = new TaskResponse();
+            res.setId(100L);
+            res.setTitle("Fix leaking faucet");
+
+            when(userService.findByEmail(HANDYMAN_EMAIL)).thenReturn(mockHandyman);
+            when(taskService.getHandymanFeed(mockHandyman, "abc", 10))
+                    .thenReturn(new CursorPage<>(List.of(res), "next"));
+
+            mockMvc.perform(get("/api/tasks/feed").param("cursor", "abc").param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(100L))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.hasMore").value(true));
+        }
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Positive: Should serve the recommended feed with the given position")
+        void getFeed_Recommended() throws Exception {
+            TaskResponse res = new TaskResponse();
+            res.setId(100L);
+
+            when(userService.findByEmail(HANDYMAN_EMAIL)).thenReturn(mockHandyman);
+            when(taskService.getRecommendedFeed(mockHandyman, -33.9, 18.4, null, null))
+                    .thenReturn(new CursorPage<>(List.of(res), null));
+
+            mockMvc.perform(get("/api/tasks/feed").param("mode", "RECOMMENDED").param("lat", "-33.9").param("lon", "18.4"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(100L))
+                    .andExpect(jsonPath("$.hasMore").value(false));
+            verify(taskService, never()).getHandymanFeed(any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Negative: Should return 400 for a malformed cursor")
+        void getFeed_InvalidCursor_Fails() throws Exception {
+            when(userService.findByEmail(HANDYMAN_EMAIL)).thenReturn(mockHandyman);
+            when(taskService.getHandymanFeed(eq(mockHandyman), eq("bad"), any()))
+                    .thenThrow(new IllegalArgumentException("Invalid Cursor"));
+
+            mockMvc.perform(get("/api/tasks/feed").param("cursor", "bad"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks/search")
+    class SearchTests {
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Positive: Should return the ranked page of matching tasks")
+        void search_Success() throws Exception {
+            TaskResponse res = new TaskResponse();
+            res.setId(100L);
+            when(taskService.searchTasks("leaking faucet", null, null))
+                    .thenReturn(new CursorPage<>(List.of(res), null));
+
+            mockMvc.perform(get("/api/tasks/search").param("q", "leaking faucet"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(100L))
+                    .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Negative: Should return 400 for a blank query")
+        void search_BlankQuery_Fails() throws Exception {
+            when(taskService.searchTasks(eq(" "), any(), any()))
+                    .thenThrow(new IllegalArgumentException("Search Query Must Not Be Blank"));
+
+            mockMvc.perform(get("/api/tasks/search").param("q", " "))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks/nearby")
+    class NearbyTests {
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Positive: Should return nearby tasks with their distance")
+        void getNearby_Success() throws Exception {
+            TaskResponse res = new TaskResponse();
+            res.setId(100L);
+
+            when(userService.findByEmail(HANDYMAN_EMAIL)).thenReturn(mockHandyman);
+            when(taskService.findNearbyTasks(mockHandyman, -24.5, 28.7, 5.0, null))
+                    .thenReturn(List.of(new NearbyTaskResponse(res, 1.25)));
+
+            mockMvc.perform(get("/api/tasks/nearby")
+                            .param("lat", "-24.5").param("lon", "28.7").param("radiusKm", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].task.id").value(100L))
+                    .andExpect(jsonPath("$[0].distanceKm").value(1.25));
+        }
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Negative: Should return 400 for an out-of-range radius")
+        void getNearby_InvalidRadius_Fails() throws Exception {
+            when(userService.findByEmail(HANDYMAN_EMAIL)).thenReturn(mockHandyman);
+            when(taskService.findNearbyTasks(any(), anyDouble(), anyDouble(), eq(500.0), any()))
+                    .thenThrow(new IllegalArgumentException("Radius Must Be Between 0 And 200 Km"));
+
+            mockMvc.perform(get("/api/tasks/nearby")
+                            .param("lat", "-24.5").param("lon", "28.7").param("radiusKm", "500"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/tasks/{id}/complete")
     class CompleteTaskTests {
@@ -191,4 +429,177 @@ class TaskControllerTest {
                     .andExpect(jsonPath("$.assignedHandyman.id").value(2L));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/tasks/{id} - Conditional Get")
+    class GetTaskTests {
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should return the task with a version ETag")
+        void getTask_Success() throws Exception {
+            when(taskService.getTaskVersion(100L)).thenReturn(3L);
+            when(taskService.getTask(100L)).thenReturn(fullTask);
+
+            mockMvc.perform(get("/api/tasks/100"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"task-100-3\""))
+                    .andExpect(header().string("Cache-Control", "no-cache, private"))
+                    .andExpect(jsonPath("$.title").value("Fix leaking faucet"));
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should leave the bid amounts out of the task, as they may be sealed")
+        void getTask_OmitsBidAmounts() throws Exception {
+            fullTask.setBidCount(2);
+            fullTask.setLowestBid(100.0);
+            fullTask.setHighestBid(300.0);
+            fullTask.setBidTotal(400.0);
+            when(taskService.getTaskVersion(100L)).thenReturn(3L);
+            when(taskService.getTask(100L)).thenReturn(fullTask);
+
+            mockMvc.perform(get("/api/tasks/100"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.bidCount").value(2))
+                    .andExpect(jsonPath("$.lowestBid").doesNotExist())
+                    .andExpect(jsonPath("$.highestBid").doesNotExist())
+                    .andExpect(jsonPath("$.bidTotal").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should return 304 without loading the task when the version is unchanged")
+        void getTask_NotModified() throws Exception {
+            when(taskService.getTaskVersion(100L)).thenReturn(3L);
+
+            mockMvc.perform(get("/api/tasks/100").header("If-None-Match", "W/\"task-100-3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "W/\"task-100-3\""));
+
+            verify(taskService, never()).getTask(anyLong());
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Negative: Should return 404 for an unknown task")
+        void getTask_NotFound() throws Exception {
+            when(taskService.getTaskVersion(999L)).thenThrow(new TaskNotFoundException("Task Not Found"));
+
+            mockMvc.perform(get("/api/tasks/999"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks/stats - Task Statistics")
+    class StatsTests {
+
+        private static final String ADMIN_EMAIL = "admin@example.com";
+
+        @Test
+        @WithMockUser(username = ADMIN_EMAIL)
+        @DisplayName("Positive: Should return the counts for the requested customer")
+        void getStats_Success() throws Exception {
+            User admin = new User();
+            admin.setEmail(ADMIN_EMAIL);
+            admin.setRole(Role.ADMIN);
+            Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+            counts.put(TaskStatus.PENDING, 2L);
+            counts.put(TaskStatus.COMPLETED, 1L);
+
+            when(userService.findByEmail(ADMIN_EMAIL)).thenReturn(admin);
+            when(taskService.getTaskStats(admin, 1L, null))
+                    .thenReturn(new TaskStatsResponse(TaskStatsScope.CUSTOMER, 1L, counts));
+
+            mockMvc.perform(get("/api/tasks/stats").param("customerId", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.scope").value("CUSTOMER"))
+                    .andExpect(jsonPath("$.counts.PENDING").value(2))
+                    .andExpect(jsonPath("$.total").value(3));
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Negative: Should return 422 for non-admin users")
+        void getStats_NotAdmin_Fails() throws Exception {
+            when(userService.findByEmail(CUSTOMER_EMAIL)).thenReturn(mockCustomer);
+            when(taskService.getTaskStats(mockCustomer, null, null))
+                    .thenThrow(new UnacceptableOperationException("Only Admins Can View Task Statistics"));
+
+            mockMvc.perform(get("/api/tasks/stats"))
+                    .andExpect(status().isUnprocessableEntity());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks/price-suggestion - Price Suggestion")
+    class PriceSuggestionTests {
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should return the percentiles of similar accepted bids")
+        void getPriceSuggestion_Success() throws Exception {
+            when(bidPriceAnalytics.suggest("plumbing", -24.5, 28.7))
+                    .thenReturn(new PriceSuggestionResponse(PriceSuggestionScope.CATEGORY_REGION, 12, 120.0, 180.0, 320.0));
+
+            mockMvc.perform(get("/api/tasks/price-suggestion")
+                            .param("category", "plumbing")
+                            .param("latitude", "-24.5")
+                            .param("longitude", "28.7"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.scope").value("CATEGORY_REGION"))
+                    .andExpect(jsonPath("$.sampleCount").value(12))
+                    .andExpect(jsonPath("$.p25").value(120.0))
+                    .andExpect(jsonPath("$.p50").value(180.0))
+                    .andExpect(jsonPath("$.p90").value(320.0));
+        }
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Negative: Should return 400 when only one coordinate is given")
+        void getPriceSuggestion_HalfCoordinates_Fails() throws Exception {
+            when(bidPriceAnalytics.suggest(null, -24.5, null))
+                    .thenThrow(new IllegalArgumentException("Latitude And Longitude Must Be Provided Together"));
+
+            mockMvc.perform(get("/api/tasks/price-suggestion").param("latitude", "-24.5"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks/export - Task Export")
+    class ExportTests {
+
+        @Test
+        @WithMockUser(username = CUSTOMER_EMAIL)
+        @DisplayName("Positive: Should stream the export as an attachment in the requested format")
+        void exportTasks_Csv() throws Exception {
+            when(userService.findByEmail(CUSTOMER_EMAIL)).thenReturn(mockCustomer);
+            when(taskService.exportTasks(mockCustomer, TaskExportFormat.CSV))
+                    .thenReturn(out -> out.write("id,title\r\n1,Fix Sink\r\n".getBytes(StandardCharsets.UTF_8)));
+
+            MvcResult result = mockMvc.perform(get("/api/tasks/export").param("format", "CSV"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                    .andExpect(content().string("id,title\r\n1,Fix Sink\r\n"));
+        }
+
+        @Test
+        @WithMockUser(username = HANDYMAN_EMAIL)
+        @DisplayName("Negative: Should return 422 for non-customers")
+        void exportTasks_NotCustomer_Fails() throws Exception {
+            when(userService.findByEmail(HANDYMAN_EMAIL)).thenReturn(mockHandyman);
+            when(taskService.exportTasks(mockHandyman, TaskExportFormat.NDJSON))
+                    .thenThrow(new UnacceptableOperationException("Only Customers Can Export Tasks"));
+
+            mockMvc.perform(get("/api/tasks/export"))
+                    .andExpect(status().isUnprocessableEntity());
+        }
+    }
 }
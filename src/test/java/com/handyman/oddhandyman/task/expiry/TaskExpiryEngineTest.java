@@ -0,0 +1,143 @@
+package com.handyman.oddhandyman.task.expiry;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExpiryEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock private TaskService taskService;
+    @Mock private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskExpiryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+        engine = new TaskExpiryEngine(taskService, taskRepository, clock, meterRegistry, 2);
+    }
+
+    private TaskResponse expired(long id, LocalDateTime deadline) {
+        TaskResponse t = new TaskResponse();
+        t.setId(id);
+        t.setDeadline(deadline);
+        t.setStatus(TaskStatus.CANCELLED);
+        return t;
+    }
+
+    @Nested
+    @DisplayName("expireDue() Logic")
+    class ExpireDueTests {
+
+        @Test
+        @DisplayName("Positive: Should expire only due tasks, earliest first, in batches")
+        void expireDue_DrainsDueInBatches() {
+            engine.schedule(new TaskDeadline(1L, NOW.minusMinutes(30)));
+            engine.schedule(new TaskDeadline(2L, NOW.minusMinutes(10)));
+            engine.schedule(new TaskDeadline(3L, NOW));
+            engine.schedule(new TaskDeadline(4L, NOW.plusMinutes(1)));
+            when(taskService.expireTasks(List.of(1L, 2L), NOW))
+                    .thenReturn(List.of(expired(1L, NOW.minusMinutes(30)), expired(2L, NOW.minusMinutes(10))));
+            when(taskService.expireTasks(List.of(3L), NOW)).thenReturn(List.of(expired(3L, NOW)));
+
+            int cancelled = engine.expireDue();
+
+            assertEquals(3, cancelled);
+            assertEquals(1, engine.size());
+            assertEquals(2, meterRegistry.get("tasks.expiry.batch.size").summary().count());
+            assertEquals(3, meterRegistry.get("tasks.expiry.lag").timer().count());
+            assertEquals(30, meterRegistry.get("tasks.expiry.lag").timer().max(TimeUnit.MINUTES), 0.001);
+        }
+
+        @Test
+        @DisplayName("Positive: Should do nothing when no deadline has passed")
+        void expireDue_NothingDue() {
+            engine.schedule(new TaskDeadline(1L, NOW.plusDays(1)));
+
+            assertEquals(0, engine.expireDue());
+            verifyNoInteractions(taskService);
+        }
+
+        @Test
+        @DisplayName("Negative: Should keep a failed batch for the next run")
+        void expireDue_Failure_Retried() {
+            engine.schedule(new TaskDeadline(1L, NOW.minusMinutes(1)));
+            when(taskService.expireTasks(any(), any())).thenThrow(new IllegalStateException("db down"));
+
+            assertEquals(0, engine.expireDue());
+            assertEquals(1, engine.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Deadline Tracking")
+    class TrackingTests {
+
+        private TaskResponse task(long id, TaskStatus status, LocalDateTime deadline) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            t.setStatus(status);
+            t.setDeadline(deadline);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should load deadlines of live tasks on startup")
+        void bootstrap_LoadsDeadlines() {
+            when(taskRepository.findDeadlines(TaskService.EXPIRABLE_STATUSES))
+                    .thenReturn(List.of(new TaskDeadline(1L, NOW), new TaskDeadline(2L, NOW.plusDays(2))));
+
+            engine.bootstrap();
+
+            assertEquals(2, engine.size());
+        }
+
+        @Test
+        @DisplayName("Positive: Should move a rescheduled deadline and drop completed tasks")
+        void statusChanges_Applied() {
+            engine.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.PENDING, NOW.minusDays(1)), null));
+            engine.onTaskStatusChanged(new TaskStatusChangedEvent(
+                    task(1L, TaskStatus.ASSIGNED, NOW.plusDays(1)), TaskStatus.PENDING));
+            assertEquals(1, engine.size());
+            assertEquals(0, engine.expireDue());
+
+            engine.onTaskStatusChanged(new TaskStatusChangedEvent(
+                    task(1L, TaskStatus.COMPLETED, NOW.plusDays(1)), TaskStatus.ASSIGNED));
+            assertEquals(0, engine.size());
+        }
+
+        @Test
+        @DisplayName("Negative: Should ignore tasks without a deadline")
+        void statusChanges_NoDeadline_Ignored() {
+            engine.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.PENDING, null), null));
+
+            assertEquals(0, engine.size());
+        }
+    }
+}
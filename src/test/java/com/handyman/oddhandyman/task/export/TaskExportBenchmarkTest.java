@@ -0,0 +1,151 @@
+package com.handyman.oddhandyman.task.export;
+
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the heap retained while streaming a customer's tasks through {@link TaskExporter} with
+ * loading them as a list, for a growing number of tasks.
+ * <p>
+ * H2 runs in the test JVM, so it is opened with {@code LAZY_QUERY_EXECUTION} to stream results
+ * instead of buffering them on the same heap, as a database server would.
+ * <p>
+ * Disabled by default; run with {@code mvn test -Dbenchmarks=true -Dtest=TaskExportBenchmarkTest}.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:export-benchmark;LAZY_QUERY_EXECUTION=1;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TaskExporter.class, TaskArchive.class})
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TaskExportBenchmarkTest {
+
+    private static final int[] TASK_COUNTS = {10_000, 25_000, 50_000};
+    private static final int SAMPLE_EVERY_ROWS = 2_500;
+    private static final long MB = 1024 * 1024;
+
+    @Autowired private TaskExporter taskExporter;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    @DisplayName("Benchmark: streaming export keeps the heap flat as the task count grows")
+    void benchmark() throws Exception {
+        User customer = new User();
+        customer.setEmail("export@test.com");
+        customer.setName("Export Customer");
+        customer.setRole(Role.CUSTOMER);
+        customer.setPassword("pass");
+        entityManager.persist(customer);
+
+        long[] streamed = new long[TASK_COUNTS.length];
+        long[] listed = new long[TASK_COUNTS.length];
+        int created = 0;
+        for (int i = 0; i < TASK_COUNTS.length; i++) {
+            for (; created < TASK_COUNTS[i]; created++) {
+                Task task = new Task();
+                task.setTitle("Task " + created);
+                task.setDescription("Replace the cracked tile in bathroom " + created + " and regrout the wall");
+                task.setAddress(created + " Main Street, Cape Town");
+                task.setBudget(100.0 + created % 400);
+                task.setDeadline(LocalDateTime.of(2026, 6, 1, 9, 0).plusMinutes(created));
+                task.setCustomer(customer);
+                task.setStatus(TaskStatus.PENDING);
+                entityManager.persist(task);
+                if (created % 1_000 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            streamed[i] = streamedRetained(customer.getId(), TASK_COUNTS[i]);
+            listed[i] = listedRetained(customer);
+            System.out.printf("%,7d tasks: streaming export retains %,6d KB, loading a list retains %,7d KB%n",
+                    TASK_COUNTS[i], streamed[i] / 1024, listed[i] / 1024);
+        }
+
+        int last = TASK_COUNTS.length - 1;
+        assertTrue(streamed[last] - streamed[0] < 8 * MB,
+                "Streaming export heap grew by " + (streamed[last] - streamed[0]) / 1024 + " KB");
+        assertTrue(listed[last] > 2 * listed[0], "Loading a list should grow with the task count");
+        assertTrue(streamed[last] < listed[last]);
+    }
+
+    /** Largest heap, after collection, held above the starting point while the export runs */
+    private long streamedRetained(Long customerId, int expectedRows) throws Exception {
+        long baseline = usedAfterGc();
+        SamplingOutputStream out = new SamplingOutputStream(baseline);
+        assertEquals(expectedRows, taskExporter.export(customerId, TaskExportFormat.NDJSON, out));
+        assertEquals(expectedRows, out.rows);
+        return out.peak;
+    }
+
+    /** Heap, after collection, held by the customer's tasks loaded as one list */
+    private long listedRetained(User customer) {
+        long baseline = usedAfterGc();
+        List<TaskResponse> tasks = taskRepository.findResponsesByCustomer(customer);
+        long retained = usedAfterGc() - baseline;
+        assertFalse(tasks.isEmpty());
+        return retained;
+    }
+
+    private long usedAfterGc() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /** Discards the export, sampling the retained heap every few thousand lines */
+    private class SamplingOutputStream extends OutputStream {
+
+        private final long baseline;
+        private long rows;
+        private long peak;
+
+        SamplingOutputStream(long baseline) {
+            this.baseline = baseline;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n' && ++rows % SAMPLE_EVERY_ROWS == 0) {
+                peak = Math.max(peak, usedAfterGc() - baseline);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
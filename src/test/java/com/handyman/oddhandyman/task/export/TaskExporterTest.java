@@ -0,0 +1,147 @@
+package com.handyman.oddhandyman.task.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
+import com.handyman.oddhandyman.task.archive.TaskArchiver;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TaskExporter.class, TaskArchive.class, TaskArchiver.class, TaskExporterTest.Config.class})
+class TaskExporterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired private TaskExporter taskExporter;
+    @Autowired private TaskArchiver taskArchiver;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TestEntityManager entityManager;
+
+    private User customer;
+    private User handyman;
+
+    @BeforeEach
+    void setUp() {
+        customer = user("client@test.com", "John Client", Role.CUSTOMER);
+        handyman = user("handy@test.com", "Bob Fixer", Role.HANDYMAN);
+    }
+
+    private User user(String email, String name, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(name);
+        user.setRole(role);
+        user.setPassword("hashed_pass");
+        return entityManager.persist(user);
+    }
+
+    private Task task(User owner, String title, String description, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCustomer(owner);
+        task.setAssignedHandyman(status == TaskStatus.PENDING ? null : handyman);
+        task.setStatus(status);
+        task.setBudget(150.0);
+        task.setDeadline(NOW.plusDays(3));
+        return entityManager.persist(task);
+    }
+
+    private String export(TaskExportFormat format, long expectedRows) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(expectedRows, taskExporter.export(customer.getId(), format, out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON task per line, live tasks first, then archived ones")
+    void export_Ndjson_IncludesArchivedTasks() throws Exception {
+        Task archived = task(customer, "Old Roof", null, TaskStatus.COMPLETED);
+        archived.setFinishedAt(NOW.minusDays(90));
+        Task live = task(customer, "Fix Sink", "Kitchen", TaskStatus.ASSIGNED);
+        task(user("other@test.com", "Other", Role.CUSTOMER), "Not Mine", null, TaskStatus.PENDING);
+        entityManager.flush();
+        assertEquals(1, taskArchiver.archiveDue());
+
+        List<String> lines = export(TaskExportFormat.NDJSON, 2).lines().toList();
+
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(live.getId(), first.get("id").asLong());
+        assertEquals("Fix Sink", first.get("title").asText());
+        assertEquals("ASSIGNED", first.get("status").asText());
+        assertEquals("Bob Fixer", first.get("assignedHandyman").get("name").asText());
+        assertEquals("2026-03-18T12:00:00", first.get("deadline").asText());
+
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(archived.getId(), second.get("id").asLong());
+        assertEquals("COMPLETED", second.get("status").asText());
+        assertEquals("John Client", second.get("customer").get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote fields with separators, quotes and formulas")
+    void export_Csv_QuotesFields() throws Exception {
+        task(customer, "Fix \"Sink\", Tap", "Line one\nLine two", TaskStatus.PENDING);
+        task(customer, "=HYPERLINK(\"x\")", null, TaskStatus.PENDING);
+
+        String[] lines = export(TaskExportFormat.CSV, 2).split("\r\n");
+
+        assertEquals(String.join(",", TaskExporter.CSV_HEADER), lines[0]);
+        assertTrue(lines[1].contains(",\"Fix \"\"Sink\"\", Tap\",\"Line one\nLine two\",,150.0,2026-03-18T12:00,"), lines[1]);
+        assertTrue(lines[1].endsWith(",PENDING," + customer.getId() + ",John Client,client@test.com,,,"), lines[1]);
+        assertTrue(lines[2].contains(",\"'=HYPERLINK(\"\"x\"\")\","), lines[2]);
+    }
+
+    @Test
+    @DisplayName("Should write only the header when the customer has no tasks")
+    void export_Csv_NoTasks() throws Exception {
+        assertEquals(String.join(",", TaskExporter.CSV_HEADER) + "\r\n", export(TaskExportFormat.CSV, 0));
+        assertEquals("", export(TaskExportFormat.NDJSON, 0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.handyman.oddhandyman.task.geo;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskGeoIndexTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    private TaskGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskGeoIndex(taskRepository, 0.1);
+    }
+
+    private List<Long> ids(List<TaskGeoIndex.Hit> hits) {
+        return hits.stream().map(TaskGeoIndex.Hit::getTaskId).toList();
+    }
+
+    @Nested
+    @DisplayName("findNearest() Logic")
+    class FindNearestTests {
+
+        @Test
+        @DisplayName("Positive: Should return tasks within the radius ordered by distance")
+        void findNearest_OrderedByDistance() {
+            index.put(new TaskLocation(1L, -24.60, 28.70));   // ~11 km south
+            index.put(new TaskLocation(2L, -24.51, 28.70));   // ~1 km south
+            index.put(new TaskLocation(3L, -25.50, 28.70));   // ~110 km south
+            index.put(new TaskLocation(4L, -24.50, 28.75));   // ~5 km east
+
+            List<TaskGeoIndex.Hit> hits = index.findNearest(-24.50, 28.70, 20, 10);
+
+            assertEquals(List.of(2L, 4L, 1L), ids(hits));
+            assertEquals(1.11, hits.get(0).getDistanceKm(), 0.01);
+        }
+
+        @Test
+        @DisplayName("Positive: Should keep only the nearest tasks up to the limit")
+        void findNearest_Limit() {
+            for (long i = 1; i <= 5; i++) {
+                index.put(new TaskLocation(i, -24.50 + i * 0.01, 28.70));
+            }
+
+            assertEquals(List.of(1L, 2L), ids(index.findNearest(-24.50, 28.70, 50, 2)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should find tasks across the antimeridian")
+        void findNearest_AcrossDateLine() {
+            index.put(new TaskLocation(1L, 0.0, -179.99));
+
+            assertEquals(List.of(1L), ids(index.findNearest(0.0, 179.99, 5, 10)));
+        }
+
+        @Test
+        @DisplayName("Negative: Should not return moved or removed tasks at their old location")
+        void findNearest_MovedAndRemoved() {
+            index.put(new TaskLocation(1L, -24.50, 28.70));
+            index.put(new TaskLocation(2L, -24.50, 28.70));
+            index.put(new TaskLocation(1L, 10.0, 10.0));
+            index.remove(2L);
+
+            assertTrue(index.findNearest(-24.50, 28.70, 5, 10).isEmpty());
+            assertEquals(1, index.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Maintenance")
+    class MaintenanceTests {
+
+        private TaskResponse task(long id, TaskStatus status, Double lat, Double lon) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            t.setStatus(status);
+            t.setLatitude(lat);
+            t.setLongitude(lon);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should load open task locations on startup")
+        void bootstrap_LoadsOpenTasks() {
+            when(taskRepository.findOpenTaskLocations(TaskStatus.PENDING))
+                    .thenReturn(List.of(new TaskLocation(1L, -24.5, 28.7), new TaskLocation(2L, 51.5, -0.1)));
+
+            index.bootstrap();
+
+            assertEquals(2, index.size());
+        }
+
+        @Test
+        @DisplayName("Positive: Should index created tasks and drop them once assigned")
+        void statusChanges_Applied() {
+            index.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.PENDING, -24.5, 28.7), null));
+            assertEquals(List.of(1L), ids(index.findNearest(-24.5, 28.7, 1, 10)));
+
+            index.onTaskStatusChanged(new TaskStatusChangedEvent(
+                    task(1L, TaskStatus.ASSIGNED, -24.5, 28.7), TaskStatus.PENDING));
+            assertEquals(0, index.size());
+        }
+
+        @Test
+        @DisplayName("Negative: Should ignore tasks without coordinates")
+        void statusChanges_NoCoordinates_Ignored() {
+            index.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.PENDING, null, null), null));
+
+            assertEquals(0, index.size());
+        }
+    }
+}
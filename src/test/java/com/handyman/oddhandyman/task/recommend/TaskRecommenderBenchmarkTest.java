@@ -0,0 +1,87 @@
+package com.handyman.oddhandyman.task.recommend;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures how long {@link TaskRecommender} takes to rank a large open marketplace.
+ * <p>
+ * Disabled by default; run with {@code mvn test -Dbenchmarks=true -Dtest=TaskRecommenderBenchmarkTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TaskRecommenderBenchmarkTest {
+
+    private static final int TASKS = 100_000;
+    private static final int ITERATIONS = 50;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 12, 0);
+    private static final String[] WORDS = {
+            "fix", "leaking", "faucet", "paint", "bedroom", "garden", "hedge", "mow", "lawn", "tile",
+            "grout", "roof", "gutter", "door", "hinge", "window", "replace", "install", "shelf", "socket",
+            "light", "fence", "gate", "drain", "blocked", "toilet", "geyser", "ceiling", "crack", "wall",
+            "plumbing", "electrical", "carpentry", "pipe", "wiring", "cabinet", "deck", "paving", "brick", "plaster"};
+    private static final String[] SUBURBS = {
+            "Gardens", "Observatory", "Woodstock", "Claremont", "Rondebosch", "Sea Point", "Bellville", "Durbanville"};
+
+    @Test
+    @DisplayName("Benchmark: ranking 100k open tasks for a handyman")
+    void benchmark() {
+        Random random = new Random(42);
+        TaskRecommender recommender = new TaskRecommender(mock(TaskRepository.class),
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        for (int i = 0; i < TASKS; i++) {
+            TaskResponse task = new TaskResponse();
+            task.setId((long) i);
+            task.setTitle(sentence(random, 4));
+            task.setDescription(sentence(random, 30));
+            task.setAddress(random.nextInt(200) + " Main Road, " + SUBURBS[random.nextInt(SUBURBS.length)] + ", Cape Town");
+            task.setBudget(50.0 + random.nextInt(2000));
+            task.setDeadline(NOW.plusHours(1 + random.nextInt(24 * 30)));
+            if (random.nextBoolean()) {
+                task.setLatitude(-34.1 + random.nextDouble() * 0.4);
+                task.setLongitude(18.3 + random.nextDouble() * 0.5);
+            }
+            task.setStatus(TaskStatus.PENDING);
+            recommender.index(task);
+        }
+
+        List<String> skills = List.of("Plumbing", "Geyser installation", "Blocked drains");
+        report("profile location", () -> recommender.recommend(skills, "Claremont, Cape Town", null, null, 20));
+        report("current position", () -> recommender.recommend(skills, null, -33.98, 18.47, 20));
+
+        assertEquals(20, recommender.recommend(skills, null, null, null, 20).size());
+    }
+
+    private void report(String label, Runnable ranking) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            ranking.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            ranking.run();
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+        System.out.printf("tasks=%d %-16s recommended top 20: %.3f ms/ranking%n", TASKS, label, millis);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
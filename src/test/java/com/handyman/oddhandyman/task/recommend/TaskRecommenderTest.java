@@ -0,0 +1,159 @@
+package com.handyman.oddhandyman.task.recommend;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskRecommenderTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    @Mock private TaskRepository taskRepository;
+
+    private TaskRecommender recommender;
+
+    @BeforeEach
+    void setUp() {
+        recommender = new TaskRecommender(taskRepository, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    private TaskResponse task(long id, String title, String description) {
+        TaskResponse t = new TaskResponse();
+        t.setId(id);
+        t.setTitle(title);
+        t.setDescription(description);
+        t.setStatus(TaskStatus.PENDING);
+        return t;
+    }
+
+    private List<Long> ids(List<TaskRecommender.Hit> hits) {
+        return hits.stream().map(TaskRecommender.Hit::getTaskId).toList();
+    }
+
+    @Nested
+    @DisplayName("recommend() Logic")
+    class RecommendTests {
+
+        @Test
+        @DisplayName("Positive: Should rank tasks matching the handyman's skills first")
+        void recommend_SkillMatchFirst() {
+            recommender.index(task(1L, "Paint bedroom", "Two coats on the walls"));
+            recommender.index(task(2L, "Fix leaking pipe", "Plumbing under the kitchen sink"));
+            recommender.index(task(3L, "Mow lawn", "Front garden"));
+
+            assertEquals(List.of(2L, 3L, 1L), ids(recommender.recommend(List.of("Plumbing", "Pipes"), null, null, null, 10)));
+            assertEquals(List.of(1L, 3L, 2L), ids(recommender.recommend(List.of("Painting"), null, null, null, 10)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should prefer nearby tasks by coordinates, or by address when no position is given")
+        void recommend_Proximity() {
+            TaskResponse near = task(1L, "Fix gate", null);
+            near.setAddress("12 Long Street, Cape Town");
+            near.setLatitude(-33.92);
+            near.setLongitude(18.42);
+            TaskResponse far = task(2L, "Fix gate", null);
+            far.setAddress("5 Main Road, Johannesburg");
+            far.setLatitude(-26.20);
+            far.setLongitude(28.04);
+            recommender.index(near);
+            recommender.index(far);
+
+            assertEquals(List.of(1L, 2L), ids(recommender.recommend(List.of(), null, -33.93, 18.42, 10)));
+            assertEquals(List.of(2L, 1L), ids(recommender.recommend(List.of(), null, -26.21, 28.05, 10)));
+            assertEquals(List.of(2L, 1L), ids(recommender.recommend(List.of(), "Johannesburg, South Africa", null, null, 10)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should prefer higher budgets and closer deadlines, and skip overdue tasks")
+        void recommend_BudgetAndUrgency() {
+            TaskResponse cheap = task(1L, "Fix gate", null);
+            cheap.setBudget(100.0);
+            TaskResponse generous = task(2L, "Fix gate", null);
+            generous.setBudget(900.0);
+            TaskResponse urgent = task(3L, "Fix gate", null);
+            urgent.setBudget(100.0);
+            urgent.setDeadline(NOW.plusDays(10));
+            TaskResponse overdue = task(4L, "Fix gate", null);
+            overdue.setBudget(900.0);
+            overdue.setDeadline(NOW.minusHours(1));
+            List.of(cheap, generous, urgent, overdue).forEach(recommender::index);
+
+            assertEquals(List.of(2L, 3L, 1L), ids(recommender.recommend(List.of(), null, null, null, 10)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should honour the limit and break ties by newest task")
+        void recommend_LimitAndTies() {
+            recommender.index(task(1L, "Fix gate", null));
+            recommender.index(task(2L, "Fix gate", null));
+            recommender.index(task(3L, "Fix gate", null));
+
+            assertEquals(List.of(3L, 2L), ids(recommender.recommend(List.of("gates"), null, null, null, 2)));
+        }
+
+        @Test
+        @DisplayName("Negative: Should return nothing when there are no candidates or no room")
+        void recommend_Empty() {
+            assertTrue(recommender.recommend(List.of("Plumbing"), null, null, null, 10).isEmpty());
+            recommender.index(task(1L, "Fix gate", null));
+            assertTrue(recommender.recommend(List.of("Plumbing"), null, null, null, 0).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Candidate Maintenance")
+    class MaintenanceTests {
+
+        @Test
+        @DisplayName("Positive: Should load open tasks on startup")
+        void bootstrap_IndexesOpenTasks() {
+            when(taskRepository.findOpenTasks(TaskStatus.PENDING)).thenReturn(List.of(task(1L, "Fix gate", null)));
+
+            recommender.bootstrap();
+
+            assertEquals(List.of(1L), ids(recommender.recommend(List.of(), null, null, null, 10)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should add created tasks and remove them once assigned")
+        void statusChanges_Applied() {
+            TaskResponse task = task(1L, "Fix gate", "Hinge is broken");
+            recommender.onTaskStatusChanged(new TaskStatusChangedEvent(task, null));
+            assertEquals(1, recommender.size());
+
+            task.setStatus(TaskStatus.ASSIGNED);
+            recommender.onTaskStatusChanged(new TaskStatusChangedEvent(task, TaskStatus.PENDING));
+            assertEquals(0, recommender.size());
+            assertTrue(recommender.recommend(List.of("hinge"), null, null, null, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Positive: Should replace the terms of a re-indexed task")
+        void index_Replaces() {
+            recommender.index(task(1L, "Fix gate", null));
+            recommender.index(task(2L, "Mow lawn", null));
+            recommender.index(task(1L, "Paint fence", null));
+
+            assertEquals(List.of(1L, 2L), ids(recommender.recommend(List.of("fence painting"), null, null, null, 10)));
+            assertEquals(List.of(2L, 1L), ids(recommender.recommend(List.of("gate"), null, null, null, 10)));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.handyman.oddhandyman.task.repository;
+
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.chat.entity.ChatMessage;
+import com.handyman.oddhandyman.chat.repository.ChatRepository;
+import com.handyman.oddhandyman.support.PostgresTestDatabase;
+import com.handyman.oddhandyman.support.SqlRecorder;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks against a real Postgres database that the task and chat queries only scan the partitions
+ * they need. Each repository method is run once to record the SQL Hibernate generates, which is then
+ * prepared and explained with the same parameters.
+ * <p>
+ * Flyway migrates the schema {@value #SCHEMA} of the {@link PostgresTestDatabase}, which is recreated
+ * for every run.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.handyman.oddhandyman.support.SqlRecorder")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@EnabledIf("com.handyman.oddhandyman.support.PostgresTestDatabase#isAvailable")
+class PartitionPruningTest {
+
+    private static final String SCHEMA = "partition_pruning";
+    private static final DateTimeFormatter YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ChatRepository chatRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User customer;
+    private Task task;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, SCHEMA);
+    }
+
+    @BeforeAll
+    static void createSchema() throws SQLException {
+        PostgresTestDatabase.recreateSchema(SCHEMA);
+    }
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setEmail("pruning@test.com");
+        customer.setName("Pruning Customer");
+        customer.setRole(Role.CUSTOMER);
+        customer.setPassword("pass");
+        entityManager.persist(customer);
+
+        task = new Task();
+        task.setTitle("Fix Leak");
+        task.setCustomer(customer);
+        task.setStatus(TaskStatus.PENDING);
+        entityManager.persist(task);
+        entityManager.flush();
+        SqlRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("Open task reads scan only the live tasks partition")
+    void findOpenTasks_ScansLivePartition() {
+        taskRepository.findOpenTasks(TaskStatus.PENDING);
+
+        String plan = explain(SqlRecorder.last("select"), "'PENDING'");
+
+        assertTrue(plan.contains("tasks_live"), plan);
+        assertFalse(plan.contains("tasks_finished"), plan);
+    }
+
+    @Test
+    @DisplayName("Archiving reads scan only the finished tasks partition")
+    void findArchivableIds_ScansFinishedPartition() {
+        taskRepository.findArchivableIds(List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED),
+                LocalDateTime.now(), PageRequest.of(0, 10));
+
+        String plan = explain(SqlRecorder.last("select"), "'COMPLETED'", "'CANCELLED'", "'" + LocalDateTime.now() + "'", "0", "10");
+
+        assertTrue(plan.contains("tasks_finished"), plan);
+        assertFalse(plan.contains("tasks_live"), plan);
+    }
+
+    @Test
+    @DisplayName("Status changes match on the current status, so only its partition is searched")
+    void statusChange_UpdatesByPartitionKey() {
+        Task loaded = taskRepository.findById(task.getId()).orElseThrow();
+        loaded.setStatus(TaskStatus.CANCELLED);
+        entityManager.flush();
+
+        String update = SqlRecorder.last("update");
+        assertTrue(update.contains("status=?"), update.substring(update.indexOf("where")));
+        entityManager.clear();
+        assertEquals(TaskStatus.CANCELLED, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+
+        taskRepository.compareAndFinish(task.getId(), TaskStatus.PENDING, TaskStatus.COMPLETED, LocalDateTime.now());
+        String plan = explain(SqlRecorder.last("update"), "'COMPLETED'", "'" + LocalDateTime.now() + "'", task.getId().toString(), "'PENDING'");
+        assertTrue(plan.contains("tasks_live"), plan);
+        assertFalse(plan.contains("tasks_finished"), plan);
+    }
+
+    @Test
+    @DisplayName("Chat reads skip the months before the task was created")
+    void findChat_SkipsEarlierMonths() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDate lastMonth = thisMonth.minusMonths(1);
+        jdbcTemplate.queryForList("select create_month_partitions('chat_messages', ?, 2)", lastMonth);
+
+        ChatMessage message = new ChatMessage();
+        message.setTask(task);
+        message.setSender(customer);
+        message.setMessage("Hello");
+        entityManager.persist(message);
+        entityManager.flush();
+        SqlRecorder.clear();
+
+        assertEquals(1, chatRepository.findByTaskAndTimestampGreaterThanEqualOrderByTimestampAsc(task, task.getCreatedAt()).size());
+
+        String plan = explain(SqlRecorder.last("select"), task.getId().toString(), "'" + task.getCreatedAt() + "'");
+        assertTrue(plan.contains("chat_messages_" + thisMonth.format(YYYYMM)), plan);
+        assertFalse(plan.contains("chat_messages_" + lastMonth.format(YYYYMM)), plan);
+    }
+
+    /**
+     * Prepares the statement with numbered parameters and returns the plan of executing it with
+     * the given SQL literals, which Postgres plans with the values known, as it does for the first
+     * executions of a JDBC prepared statement.
+     */
+    private String explain(String sql, String... literals) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        assertEquals(literals.length, parameter, sql);
+
+        jdbcTemplate.execute("prepare pruning_check as " + numbered);
+        try {
+            return String.join("\n", jdbcTemplate.queryForList(
+                    "explain (costs off) execute pruning_check(" + String.join(", ", literals) + ")", String.class));
+        } finally {
+            jdbcTemplate.execute("deallocate pruning_check");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.handyman.oddhandyman.task.repository;
+
+import com.handyman.oddhandyman.bid.entity.Bid;
+import com.handyman.oddhandyman.bid.entity.enums.BidStatus;
+import com.handyman.oddhandyman.support.PostgresTestDatabase;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks on Postgres that {@code task_keys} keeps the integrity the partitioned {@code tasks} table
+ * cannot keep itself: task IDs stay unique across the partitions, and bids, chat messages and
+ * reviews keep referencing an existing task while it moves between partitions.
+ * <p>
+ * Runs in the schema {@value #SCHEMA} of the {@link PostgresTestDatabase}, which Flyway migrates.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@EnabledIf("com.handyman.oddhandyman.support.PostgresTestDatabase#isAvailable")
+class TaskKeysTest {
+
+    private static final String SCHEMA = "task_keys";
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Task task;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, SCHEMA);
+    }
+
+    @BeforeAll
+    static void createSchema() throws SQLException {
+        PostgresTestDatabase.recreateSchema(SCHEMA);
+    }
+
+    @BeforeEach
+    void setUp() {
+        task = new Task();
+        task.setTitle("Fix Leak");
+        task.setStatus(TaskStatus.PENDING);
+        entityManager.persist(task);
+
+        Bid bid = new Bid();
+        bid.setTask(task);
+        bid.setAmount(100.0);
+        bid.setStatus(BidStatus.PENDING);
+        entityManager.persist(bid);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Moving a task to the finished partition keeps its key and its bids")
+    void statusChange_KeepsKey() {
+        Task loaded = taskRepository.findById(task.getId()).orElseThrow();
+        loaded.setStatus(TaskStatus.COMPLETED);
+        entityManager.flush();
+
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from tasks_finished where id = ?", Integer.class, task.getId()));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from task_keys where id = ?", Integer.class, task.getId()));
+    }
+
+    @Test
+    @DisplayName("A task ID already used in the other partition is rejected")
+    void duplicateId_Rejected() {
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(
+                "insert into tasks (id, created_at, status) values (?, localtimestamp, 'COMPLETED')", task.getId()));
+    }
+
+    @Test
+    @DisplayName("A task with bids cannot be deleted")
+    void deleteWithBids_Rejected() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("delete from tasks where id = ?", task.getId()));
+    }
+
+    @Test
+    @DisplayName("A bid for a task that does not exist is rejected")
+    void bidForMissingTask_Rejected() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "insert into bids (amount, task_id, status) values (100, ?, 'PENDING')", task.getId() + 1000));
+    }
+
+    @Test
+    @DisplayName("Deleting a task without children removes its key")
+    void delete_RemovesKey() {
+        jdbcTemplate.update("delete from bids where task_id = ?", task.getId());
+        jdbcTemplate.update("delete from tasks where id = ?", task.getId());
+
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from task_keys where id = ?", Integer.class, task.getId()));
+    }
+}
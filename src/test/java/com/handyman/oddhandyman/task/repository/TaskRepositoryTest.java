@@ -2,16 +2,22 @@ package com.handyman.oddhandyman.task.repository;
 
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.support.StatementCounter;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
 import com.handyman.oddhandyman.task.entity.Task;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.stats.TaskStatusCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -107,4 +113,336 @@ class TaskRepositoryTest {
         List<Task> results = taskRepository.findByStatus(TaskStatus.COMPLETED);
         assertTrue(results.isEmpty());
     }
+
+    @Test
+    @DisplayName("Should return open tasks and the handyman's own tasks in one keyset-paginated feed")
+    void findHandymanFeed_ReturnsOpenAndOwnTasks() {
+        User otherHandyman = new User();
+        otherHandyman.setEmail("other@test.com");
+        otherHandyman.setName("Other Fixer");
+        otherHandyman.setRole(Role.HANDYMAN);
+        otherHandyman.setPassword("hashed_pass");
+        entityManager.persist(otherHandyman);
+
+        Task open = new Task();
+        open.setTitle("Open");
+        open.setStatus(TaskStatus.PENDING);
+        entityManager.persist(open);
+
+        Task mine = new Task();
+        mine.setTitle("Mine");
+        mine.setAssignedHandyman(handyman);
+        mine.setStatus(TaskStatus.ASSIGNED);
+        entityManager.persist(mine);
+
+        Task theirs = new Task();
+        theirs.setTitle("Theirs");
+        theirs.setAssignedHandyman(otherHandyman);
+        theirs.setStatus(TaskStatus.ASSIGNED);
+        entityManager.persist(theirs);
+
+        Task cancelled = new Task();
+        cancelled.setTitle("Cancelled");
+        cancelled.setAssignedHandyman(handyman);
+        cancelled.setStatus(TaskStatus.CANCELLED);
+        entityManager.persist(cancelled);
+        entityManager.flush();
+
+        List<TaskStatus> own = List.of(TaskStatus.ASSIGNED, TaskStatus.COMPLETED);
+
+        List<TaskResponse> firstPage = taskRepository.findHandymanFeed(handyman, TaskStatus.PENDING, own,
+                Long.MAX_VALUE, PageRequest.of(0, 1));
+        assertEquals(1, firstPage.size());
+        assertEquals("Mine", firstPage.get(0).getTitle());
+
+        List<TaskResponse> secondPage = taskRepository.findHandymanFeed(handyman, TaskStatus.PENDING, own,
+                firstPage.get(0).getId(), PageRequest.of(0, 1));
+        assertEquals(1, secondPage.size());
+        assertEquals("Open", secondPage.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Should page a customer's tasks by (deadline, id) using the previous page's last key")
+    void findCustomerTasksByDeadlineAfter_ReturnsNextPage() {
+        LocalDateTime deadline = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        Task early = new Task();
+        early.setTitle("Early");
+        early.setCustomer(customer);
+        early.setDeadline(deadline);
+        entityManager.persist(early);
+
+        Task sameDeadline = new Task();
+        sameDeadline.setTitle("Same Deadline");
+        sameDeadline.setCustomer(customer);
+        sameDeadline.setDeadline(deadline);
+        entityManager.persist(sameDeadline);
+
+        Task late = new Task();
+        late.setTitle("Late");
+        late.setCustomer(customer);
+        late.setDeadline(deadline.plusDays(1));
+        entityManager.persist(late);
+        entityManager.flush();
+
+        List<TaskResponse> firstPage = taskRepository.findCustomerTasksByDeadline(customer, PageRequest.of(0, 1));
+        assertEquals("Early", firstPage.get(0).getTitle());
+
+        List<TaskResponse> nextPage = taskRepository.findCustomerTasksByDeadlineAfter(
+                customer, deadline, firstPage.get(0).getId(), PageRequest.of(0, 5));
+        assertEquals(List.of("Same Deadline", "Late"), nextPage.stream().map(TaskResponse::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Should project tasks with customer and handyman columns from a single joined query")
+    void findResponsesByCustomer_ProjectsUserColumns() {
+        Task assigned = new Task();
+        assigned.setTitle("Assigned");
+        assigned.setCustomer(customer);
+        assigned.setAssignedHandyman(handyman);
+        assigned.setStatus(TaskStatus.ASSIGNED);
+        entityManager.persist(assigned);
+
+        Task open = new Task();
+        open.setTitle("Open");
+        open.setCustomer(customer);
+        open.setStatus(TaskStatus.PENDING);
+        open.setBidCount(2);
+        open.setLowestBid(100.0);
+        open.setHighestBid(300.0);
+        open.setBidTotal(400.0);
+        entityManager.persist(open);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskResponse> results = taskRepository.findResponsesByCustomer(customer);
+
+        assertEquals(2, results.size());
+        TaskResponse assignedResponse = results.stream()
+                .filter(r -> r.getTitle().equals("Assigned")).findFirst().orElseThrow();
+        assertEquals("John Client", assignedResponse.getCustomer().getName());
+        assertEquals("handy@test.com", assignedResponse.getAssignedHandyman().getEmail());
+
+        TaskResponse openResponse = results.stream()
+                .filter(r -> r.getTitle().equals("Open")).findFirst().orElseThrow();
+        assertEquals(customer.getId(), openResponse.getCustomer().getId());
+        assertNull(openResponse.getAssignedHandyman());
+        assertEquals(2, openResponse.getBids().getCount());
+        assertEquals(100.0, openResponse.getBids().getLowest());
+        assertEquals(200.0, openResponse.getBids().getAverage());
+        assertEquals(0, assignedResponse.getBids().getCount());
+        assertNull(assignedResponse.getBids().getAverage());
+    }
+
+    @Test
+    @DisplayName("Should fetch customers and handymen of listed tasks in the same statement")
+    void findByStatus_FetchesParticipantsWithoutExtraQueries() {
+        for (int i = 0; i < 3; i++) {
+            User owner = new User();
+            owner.setEmail("owner" + i + "@test.com");
+            owner.setName("Owner " + i);
+            owner.setRole(Role.CUSTOMER);
+            owner.setPassword("hashed_pass");
+            entityManager.persist(owner);
+
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setCustomer(owner);
+            task.setStatus(TaskStatus.PENDING);
+            entityManager.persist(task);
+        }
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        long statements = counter.count(() -> taskRepository.findByStatus(TaskStatus.PENDING)
+                .forEach(t -> assertNotNull(t.getCustomer().getName())));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("Should insert many tasks with batched statements")
+    void saveAll_BatchesInserts() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Task task = new Task();
+            task.setTitle("Bulk " + i);
+            task.setCustomer(customer);
+            task.setStatus(TaskStatus.PENDING);
+            tasks.add(task);
+        }
+        StatementCounter counter = new StatementCounter(entityManager.getEntityManager());
+
+        long statements = counter.count(() -> {
+            taskRepository.saveAll(tasks);
+            entityManager.flush();
+        });
+
+        // One pooled sequence call plus one batched insert, instead of 30 single-row inserts
+        assertTrue(statements <= 3, "expected batched inserts but got " + statements + " statements");
+        assertEquals(30, taskRepository.findByCustomer(customer).size());
+    }
+
+    @Test
+    @DisplayName("Should lock only the requested tasks that are still live and overdue")
+    void findOverdueForUpdate_ReturnsOnlyExpirable() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        Task overdue = new Task();
+        overdue.setTitle("Overdue");
+        overdue.setCustomer(customer);
+        overdue.setDeadline(now.minusHours(1));
+        overdue.setStatus(TaskStatus.ASSIGNED);
+        entityManager.persist(overdue);
+
+        Task notDue = new Task();
+        notDue.setTitle("Not Due");
+        notDue.setCustomer(customer);
+        notDue.setDeadline(now.plusHours(1));
+        notDue.setStatus(TaskStatus.PENDING);
+        entityManager.persist(notDue);
+
+        Task completed = new Task();
+        completed.setTitle("Completed");
+        completed.setCustomer(customer);
+        completed.setDeadline(now.minusHours(1));
+        completed.setStatus(TaskStatus.COMPLETED);
+        entityManager.persist(completed);
+        entityManager.flush();
+
+        List<Task> results = taskRepository.findOverdueForUpdate(
+                List.of(overdue.getId(), notDue.getId(), completed.getId()),
+                List.of(TaskStatus.PENDING, TaskStatus.ASSIGNED), now);
+
+        assertEquals(List.of("Overdue"), results.stream().map(Task::getTitle).toList());
+        assertEquals(2, taskRepository.findDeadlines(List.of(TaskStatus.PENDING, TaskStatus.ASSIGNED)).size());
+    }
+
+    @Test
+    @DisplayName("Should lock the existing tasks of the given IDs in ID order")
+    void lockIds_ReturnsExistingInOrder() {
+        Task first = new Task();
+        first.setTitle("First");
+        first.setCustomer(customer);
+        first.setStatus(TaskStatus.PENDING);
+        entityManager.persist(first);
+
+        Task second = new Task();
+        second.setTitle("Second");
+        second.setCustomer(customer);
+        second.setStatus(TaskStatus.COMPLETED);
+        entityManager.persist(second);
+        entityManager.flush();
+
+        List<Long> locked = taskRepository.lockIds(List.of(second.getId(), first.getId(), second.getId() + 1000));
+
+        assertEquals(List.of(first.getId(), second.getId()), locked);
+    }
+
+    @Test
+    @DisplayName("Should count tasks per status overall, per customer and per handyman")
+    void countGrouped_ReturnsCountsPerOwnerAndStatus() {
+        Task open = new Task();
+        open.setTitle("Open");
+        open.setCustomer(customer);
+        open.setStatus(TaskStatus.PENDING);
+        entityManager.persist(open);
+
+        for (int i = 0; i < 2; i++) {
+            Task assigned = new Task();
+            assigned.setTitle("Assigned " + i);
+            assigned.setCustomer(customer);
+            assigned.setAssignedHandyman(handyman);
+            assigned.setStatus(TaskStatus.ASSIGNED);
+            entityManager.persist(assigned);
+        }
+        entityManager.flush();
+
+        List<TaskStatusCount> byStatus = taskRepository.countGroupedByStatus();
+        assertEquals(2, byStatus.size());
+        assertEquals(2L, byStatus.stream().filter(c -> c.getStatus() == TaskStatus.ASSIGNED)
+                .findFirst().orElseThrow().getCount());
+
+        List<TaskStatusCount> byCustomer = taskRepository.countGroupedByCustomerAndStatus();
+        assertEquals(2, byCustomer.size());
+        assertTrue(byCustomer.stream().allMatch(c -> c.getOwnerId().equals(customer.getId())));
+
+        List<TaskStatusCount> byHandyman = taskRepository.countGroupedByHandymanAndStatus();
+        assertEquals(1, byHandyman.size());
+        assertEquals(handyman.getId(), byHandyman.get(0).getOwnerId());
+        assertEquals(2L, byHandyman.get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("Should update a task whose status, the partition key, changes")
+    void save_StatusChange_MatchesPreviousStatus() {
+        Task task = new Task();
+        task.setTitle("Move Me");
+        task.setCustomer(customer);
+        task.setStatus(TaskStatus.PENDING);
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+
+        Task loaded = taskRepository.findById(task.getId()).orElseThrow();
+        loaded.setStatus(TaskStatus.ASSIGNED);
+        loaded.setAssignedHandyman(handyman);
+        entityManager.flush();
+        entityManager.clear();
+
+        Task reloaded = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.ASSIGNED, reloaded.getStatus());
+        assertEquals(1L, reloaded.getVersion());
+        assertNotNull(reloaded.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should hide the projected bid amounts of a task only while its bidding is sealed")
+    void findResponsesByCustomer_SealedTaskHidesBidAmounts() {
+        LocalDateTime sealedUntil = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Task sealed = new Task();
+        sealed.setTitle("Sealed");
+        sealed.setCustomer(customer);
+        sealed.setStatus(TaskStatus.PENDING);
+        sealed.setSealedUntil(sealedUntil);
+        sealed.setBidCount(2);
+        sealed.setLowestBid(100.0);
+        sealed.setHighestBid(300.0);
+        sealed.setBidTotal(400.0);
+        entityManager.persist(sealed);
+        entityManager.flush();
+        entityManager.clear();
+
+        TaskResponse response = taskRepository.findResponsesByCustomer(customer).stream()
+                .filter(r -> r.getTitle().equals("Sealed")).findFirst().orElseThrow();
+
+        TaskResponse whileSealed = response.asSeenAt(sealedUntil.minusMinutes(1));
+        assertEquals(2, whileSealed.getBids().getCount());
+        assertNull(whileSealed.getBids().getLowest());
+        assertNull(whileSealed.getBids().getAverage());
+        assertEquals(sealedUntil, whileSealed.getSealedUntil());
+        // The projection itself is left untouched, as it may be cached and shown again once unsealed
+        assertEquals(100.0, response.getBids().getLowest());
+        TaskResponse unsealed = response.asSeenAt(sealedUntil);
+        assertSame(response, unsealed);
+        assertEquals(200.0, unsealed.getBids().getAverage());
+    }
+
+    @Test
+    @DisplayName("Should report a task as sealed only before its seal ends and only to users other than its customer")
+    void existsSealedForOthers() {
+        LocalDateTime sealedUntil = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Task sealed = new Task();
+        sealed.setTitle("Sealed");
+        sealed.setCustomer(customer);
+        sealed.setStatus(TaskStatus.PENDING);
+        sealed.setSealedUntil(sealedUntil);
+        entityManager.persist(sealed);
+        entityManager.flush();
+
+        Long id = sealed.getId();
+        LocalDateTime before = sealedUntil.minusMinutes(1);
+        assertTrue(taskRepository.existsByIdAndSealedUntilAfterAndCustomerEmailNot(id, before, "other@test.com"));
+        assertFalse(taskRepository.existsByIdAndSealedUntilAfterAndCustomerEmailNot(id, before, customer.getEmail()));
+        assertFalse(taskRepository.existsByIdAndSealedUntilAfterAndCustomerEmailNot(id, sealedUntil, "other@test.com"));
+    }
 }
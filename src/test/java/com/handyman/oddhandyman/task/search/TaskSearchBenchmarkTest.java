@@ -0,0 +1,114 @@
+package com.handyman.oddhandyman.task.search;
+
+import com.handyman.oddhandyman.auth.entity.Role;
+import com.handyman.oddhandyman.auth.entity.User;
+import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares {@link TaskSearchIndex} against a {@code LIKE} scan of the tasks table.
+ * <p>
+ * Disabled by default; run with {@code mvn test -Dbenchmarks=true -Dtest=TaskSearchBenchmarkTest}.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TaskSearchBenchmarkTest {
+
+    private static final int TASKS = 20_000;
+    private static final int ITERATIONS = 50;
+    private static final int RARE_TERMS = 1_000;
+    private static final String[] WORDS = {
+            "fix", "leaking", "faucet", "paint", "bedroom", "garden", "hedge", "mow", "lawn", "tile",
+            "grout", "roof", "gutter", "door", "hinge", "window", "replace", "install", "shelf", "socket",
+            "light", "fence", "gate", "drain", "blocked", "toilet", "geyser", "ceiling", "crack", "wall"};
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Benchmark: inverted index vs LIKE scan")
+    void benchmark() {
+        User customer = new User();
+        customer.setEmail("bench@test.com");
+        customer.setName("Bench Customer");
+        customer.setRole(Role.CUSTOMER);
+        customer.setPassword("pass");
+        entityManager.persist(customer);
+
+        Random random = new Random(42);
+        TaskSearchIndex index = new TaskSearchIndex(taskRepository);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle(sentence(random, 3));
+            task.setDescription(sentence(random, 40) + " unit" + random.nextInt(RARE_TERMS));
+            task.setCustomer(customer);
+            task.setStatus(TaskStatus.PENDING);
+            entityManager.persist(task);
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        index.bootstrap();
+
+        // Selective term (~TASKS / RARE_TERMS matches): the LIKE scan still reads every row
+        report("selective", "unit417", index);
+        // Common term (most tasks match): worst case for the index, which scores every posting
+        report("common", "geyser", index);
+
+        assertFalse(index.search("unit417", 20).isEmpty());
+    }
+
+    private void report(String label, String term, TaskSearchIndex index) {
+        long likeNanos = time(() -> entityManager.getEntityManager()
+                .createQuery("select t.id from Task t where t.status = :status and "
+                        + "(lower(t.title) like :term or lower(t.description) like :term)", Long.class)
+                .setParameter("status", TaskStatus.PENDING)
+                .setParameter("term", "%" + term + "%")
+                .getResultList());
+        long indexNanos = time(() -> index.search(term, 20));
+
+        System.out.printf("tasks=%d %-9s LIKE scan: %.3f ms/query  inverted index (BM25 top 20): %.3f ms/query%n",
+                TASKS, label, likeNanos / 1e6 / ITERATIONS, indexNanos / 1e6 / ITERATIONS);
+    }
+
+    private static long time(Supplier<List<?>> query) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
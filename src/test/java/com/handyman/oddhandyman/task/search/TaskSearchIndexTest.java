@@ -0,0 +1,142 @@
+package com.handyman.oddhandyman.task.search;
+
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock private TaskRepository taskRepository;
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex(taskRepository);
+    }
+
+    private List<Long> ids(List<TaskSearchIndex.Hit> hits) {
+        return hits.stream().map(TaskSearchIndex.Hit::getTaskId).toList();
+    }
+
+    @Nested
+    @DisplayName("TaskTextAnalyzer Logic")
+    class AnalyzerTests {
+
+        @Test
+        @DisplayName("Positive: Should lower-case, drop stop words and stem tokens")
+        void analyze_StemsTokens() {
+            assertEquals(List.of("fix", "leak", "tap", "kitchen"),
+                    TaskTextAnalyzer.analyze("Fixing the LEAKING taps in my kitchen!"));
+        }
+
+        @Test
+        @DisplayName("Positive: Should reduce inflections to a common stem")
+        void stem_CommonInflections() {
+            assertEquals("leak", TaskTextAnalyzer.stem("leaked"));
+            assertEquals("box", TaskTextAnalyzer.stem("boxes"));
+            assertEquals("battery", TaskTextAnalyzer.stem("batteries"));
+            assertEquals("fit", TaskTextAnalyzer.stem("fitting"));
+            assertEquals("install", TaskTextAnalyzer.stem("installed"));
+            assertEquals("glass", TaskTextAnalyzer.stem("glass"));
+        }
+
+        @Test
+        @DisplayName("Negative: Should return no terms for null or punctuation-only text")
+        void analyze_Empty() {
+            assertTrue(TaskTextAnalyzer.analyze(null).isEmpty());
+            assertTrue(TaskTextAnalyzer.analyze("  -- !! ").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("search() Logic")
+    class SearchTests {
+
+        @BeforeEach
+        void indexTasks() {
+            index.index(1L, "Fix leaking faucet", "The kitchen faucet is leaking and needs repair");
+            index.index(2L, "Paint bedroom", "Two coats of paint, the faucet in the bathroom also drips");
+            index.index(3L, "Garden cleanup", "Mow the lawn and trim the hedges");
+        }
+
+        @Test
+        @DisplayName("Positive: Should rank title matches above description-only matches")
+        void search_RanksTitleMatchesFirst() {
+            assertEquals(List.of(1L, 2L), ids(index.search("faucet", 10)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should match stemmed query terms and honour the limit")
+        void search_StemmedAndLimited() {
+            assertEquals(List.of(3L), ids(index.search("trimming hedge", 10)));
+            assertEquals(1, index.search("faucets", 1).size());
+        }
+
+        @Test
+        @DisplayName("Negative: Should return nothing for unknown or stop-word-only queries")
+        void search_NoMatch() {
+            assertTrue(index.search("plumbing", 10).isEmpty());
+            assertTrue(index.search("the and of", 10).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Maintenance")
+    class MaintenanceTests {
+
+        private TaskResponse task(long id, TaskStatus status) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            t.setTitle("Fix gate");
+            t.setDescription("Hinge is broken");
+            t.setStatus(status);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should index open tasks on startup")
+        void bootstrap_IndexesOpenTasks() {
+            when(taskRepository.findOpenTasks(TaskStatus.PENDING)).thenReturn(List.of(task(1L, TaskStatus.PENDING)));
+
+            index.bootstrap();
+
+            assertEquals(List.of(1L), ids(index.search("hinge", 10)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should add created tasks and remove them once assigned")
+        void statusChanges_Applied() {
+            index.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.PENDING), null));
+            assertEquals(1, index.size());
+
+            index.onTaskStatusChanged(new TaskStatusChangedEvent(task(1L, TaskStatus.ASSIGNED), TaskStatus.PENDING));
+            assertEquals(0, index.size());
+            assertTrue(index.search("gate", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Positive: Should replace the terms of a re-indexed task")
+        void index_Replaces() {
+            index.index(1L, "Fix gate", null);
+            index.index(1L, "Paint fence", null);
+
+            assertTrue(index.search("gate", 10).isEmpty());
+            assertEquals(List.of(1L), ids(index.search("fence", 10)));
+        }
+    }
+}
@@ -3,12 +3,32 @@ package com.handyman.oddhandyman.task.service.impl;
 import com.handyman.oddhandyman.auth.entity.Role;
 import com.handyman.oddhandyman.auth.entity.User;
 import com.handyman.oddhandyman.auth.repository.UserRepository;
+import com.handyman.oddhandyman.common.pagination.CursorCodec;
+import com.handyman.oddhandyman.common.pagination.CursorPage;
+import com.handyman.oddhandyman.exception.TaskNotFoundException;
+import com.handyman.oddhandyman.exception.TaskStateConflictException;
 import com.handyman.oddhandyman.exception.UnacceptableOperationException;
+import com.handyman.oddhandyman.profile.entity.Profile;
+import com.handyman.oddhandyman.profile.repository.ProfileRepository;
+import com.handyman.oddhandyman.task.archive.TaskArchive;
+import com.handyman.oddhandyman.task.cache.OpenTaskCache;
+import com.handyman.oddhandyman.task.dto.BidSummary;
+import com.handyman.oddhandyman.task.dto.NearbyTaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskExportFormat;
 import com.handyman.oddhandyman.task.dto.TaskRequest;
 import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.dto.TaskSortOrder;
+import com.handyman.oddhandyman.task.dto.TaskStatsResponse;
 import com.handyman.oddhandyman.task.entity.Task;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
 import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.export.TaskExporter;
+import com.handyman.oddhandyman.task.geo.TaskGeoIndex;
+import com.handyman.oddhandyman.task.recommend.TaskRecommender;
 import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.search.TaskSearchIndex;
+import com.handyman.oddhandyman.task.stats.TaskStatsAggregator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,10 +36,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +60,16 @@ class TaskServiceImplTest {
 
     @Mock private TaskRepository taskRepository;
     @Mock private UserRepository userRepository;
+    @Mock private OpenTaskCache openTaskCache;
+    @Mock private TaskGeoIndex taskGeoIndex;
+    @Mock private TaskSearchIndex taskSearchIndex;
+    @Mock private TaskStatsAggregator taskStatsAggregator;
+    @Mock private TaskArchive taskArchive;
+    @Mock private TaskExporter taskExporter;
+    @Mock private TaskRecommender taskRecommender;
+    @Mock private ProfileRepository profileRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private Clock clock = Clock.fixed(Instant.parse("2026-02-10T12:00:00Z"), ZoneOffset.UTC);
 
     @InjectMocks private TaskServiceImpl taskService;
 
@@ -79,6 +118,8 @@ class TaskServiceImplTest {
             assertEquals(TaskStatus.PENDING, result.getStatus());
             assertEquals(mockCustomer, result.getCustomer());
             verify(taskRepository).save(any(Task.class));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskStatusChangedEvent event
+                    && event.getPreviousStatus() == null && event.getStatus() == TaskStatus.PENDING));
         }
 
         @Test
@@ -88,6 +129,224 @@ class TaskServiceImplTest {
 
             assertThrows(UnacceptableOperationException.class, () ->
                     taskService.createTask(taskRequest, "handy@test.com"));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a latitude without a longitude")
+        void createTask_PartialCoordinates_Fails() {
+            taskRequest.setLatitude(-24.5);
+            when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
+
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.createTask(taskRequest, "customer@test.com"));
+            verify(taskRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Positive: Should store the category in lower case")
+        void createTask_Category() {
+            taskRequest.setCategory("  Plumbing ");
+            when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            Task result = taskService.createTask(taskRequest, "customer@test.com");
+
+            assertEquals("plumbing", result.getCategory());
+        }
+
+        @Test
+        @DisplayName("Positive: Should keep the sealed-bid window and auto-accept amount")
+        void createTask_AuctionTerms() {
+            taskRequest.setSealedUntil(taskRequest.getDeadline().minusHours(12));
+            taskRequest.setAutoAcceptAmount(120.0);
+            when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
+            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+            Task result = taskService.createTask(taskRequest, "customer@test.com");
+
+            assertEquals(taskRequest.getSealedUntil(), result.getSealedUntil());
+            assertEquals(120.0, result.getAutoAcceptAmount());
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject sealed bidding that ends after the deadline")
+        void createTask_SealedPastDeadline_Fails() {
+            taskRequest.setSealedUntil(taskRequest.getDeadline().plusHours(1));
+            when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+                    taskService.createTask(taskRequest, "customer@test.com"));
+            assertEquals("Sealed Bidding Must End Before The Deadline", ex.getMessage());
+            verify(taskRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("createTasks() Logic")
+    class CreateTasksTests {
+
+        private TaskRequest request(String title) {
+            TaskRequest req = new TaskRequest();
+            req.setTitle(title);
+            req.setBudget(100.0);
+            return req;
+        }
+
+        @Test
+        @DisplayName("Positive: Should resolve the customer once and save all tasks in one call")
+        void createTasks_Success() {
+            when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
+            when(taskRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+            List<TaskResponse> results = taskService.createTasks(
+                    List.of(request("Fix Door"), request("Paint Wall"), request("Clean Gutter")), "customer@test.com");
+
+            assertEquals(List.of("Fix Door", "Paint Wall", "Clean Gutter"),
+                    results.stream().map(TaskResponse::getTitle).toList());
+            assertTrue(results.stream().allMatch(r -> r.getStatus() == TaskStatus.PENDING
+                    && r.getCustomer().getId().equals(1L)));
+            verify(userRepository, times(1)).findByEmail("customer@test.com");
+            verify(taskRepository, times(1)).saveAll(anyList());
+            verify(taskRepository, never()).save(any());
+            verify(eventPublisher, times(3)).publishEvent(any(TaskStatusChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Negative: Should save nothing when any item is invalid")
+        void createTasks_InvalidItem_Fails() {
+            TaskRequest invalid = request("Paint Wall");
+            invalid.setLongitude(28.7);
+            when(userRepository.findByEmail("customer@test.com")).thenReturn(Optional.of(mockCustomer));
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+                    taskService.createTasks(List.of(request("Fix Door"), invalid), "customer@test.com"));
+
+            assertTrue(ex.getMessage().startsWith("Task 2: "));
+            verify(taskRepository, never()).saveAll(anyList());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject an empty list")
+        void createTasks_Empty_Fails() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.createTasks(List.of(), "customer@test.com"));
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("expireTasks() Logic")
+    class ExpireTasksTests {
+
+        @Test
+        @DisplayName("Positive: Should cancel overdue tasks and publish their status change")
+        void expireTasks_CancelsOverdue() {
+            LocalDateTime now = LocalDateTime.now();
+            mockTask.setDeadline(now.minusHours(1));
+            when(taskRepository.findOverdueForUpdate(List.of(100L, 101L), List.of(TaskStatus.PENDING, TaskStatus.ASSIGNED), now))
+                    .thenReturn(List.of(mockTask));
+
+            List<TaskResponse> expired = taskService.expireTasks(List.of(100L, 101L), now);
+
+            assertEquals(List.of(100L), expired.stream().map(TaskResponse::getId).toList());
+            assertEquals(TaskStatus.CANCELLED, mockTask.getStatus());
+            assertEquals(now, mockTask.getFinishedAt());
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskStatusChangedEvent event
+                    && event.getPreviousStatus() == TaskStatus.PENDING && event.getStatus() == TaskStatus.CANCELLED));
+        }
+
+        @Test
+        @DisplayName("Negative: Should not query for an empty batch")
+        void expireTasks_Empty() {
+            assertTrue(taskService.expireTasks(List.of(), LocalDateTime.now()).isEmpty());
+            verifyNoInteractions(taskRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchTasks() Logic")
+    class SearchTests {
+
+        private TaskResponse responseWithId(long id) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should return the ranked page in score order with a cursor to the next page")
+        void search_FirstPage_HasMore() {
+            when(taskSearchIndex.search("leak", 3)).thenReturn(List.of(
+                    new TaskSearchIndex.Hit(5L, 3.0), new TaskSearchIndex.Hit(9L, 2.0), new TaskSearchIndex.Hit(1L, 1.0)));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(5L, 9L), TaskStatus.PENDING))
+                    .thenReturn(List.of(responseWithId(9L), responseWithId(5L)));
+
+            CursorPage<TaskResponse> page = taskService.searchTasks("leak", null, 2);
+
+            assertEquals(List.of(5L, 9L), page.getItems().stream().map(TaskResponse::getId).toList());
+            assertEquals(CursorCodec.encode(2), page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Positive: Should skip to the cursor offset and evict tasks that are no longer open")
+        void search_NextPage_EvictsStale() {
+            when(taskSearchIndex.search("leak", 5)).thenReturn(List.of(
+                    new TaskSearchIndex.Hit(5L, 3.0), new TaskSearchIndex.Hit(9L, 2.0), new TaskSearchIndex.Hit(1L, 1.0)));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(1L), TaskStatus.PENDING)).thenReturn(List.of());
+
+            CursorPage<TaskResponse> page = taskService.searchTasks("leak", CursorCodec.encode(2), 2);
+
+            assertTrue(page.getItems().isEmpty());
+            assertNull(page.getNextCursor());
+            verify(taskSearchIndex).remove(1L);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a blank query")
+        void search_BlankQuery_Fails() {
+            assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("  ", null, null));
+            verifyNoInteractions(taskSearchIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("findNearbyTasks() Logic")
+    class NearbyTests {
+
+        @Test
+        @DisplayName("Positive: Should return open tasks in index order and evict tasks no longer open")
+        void findNearby_Success() {
+            TaskResponse near = new TaskResponse();
+            near.setId(1L);
+            TaskResponse far = new TaskResponse();
+            far.setId(3L);
+            when(taskGeoIndex.findNearest(-24.5, 28.7, 10.0, 20)).thenReturn(List.of(
+                    new TaskGeoIndex.Hit(1L, 0.5), new TaskGeoIndex.Hit(2L, 1.0), new TaskGeoIndex.Hit(3L, 4.0)));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(1L, 2L, 3L), TaskStatus.PENDING))
+                    .thenReturn(List.of(far, near));
+
+            List<NearbyTaskResponse> results = taskService.findNearbyTasks(mockHandyman, -24.5, 28.7, null, null);
+
+            assertEquals(List.of(1L, 3L), results.stream().map(r -> r.getTask().getId()).toList());
+            assertEquals(4.0, results.get(1).getDistanceKm());
+            verify(taskGeoIndex).remove(2L);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a radius above the maximum")
+        void findNearby_RadiusTooLarge_Fails() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.findNearbyTasks(mockHandyman, -24.5, 28.7, 500.0, null));
+            verifyNoInteractions(taskGeoIndex);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject customers")
+        void findNearby_Customer_Fails() {
+            assertThrows(UnacceptableOperationException.class, () ->
+                    taskService.findNearbyTasks(mockCustomer, -24.5, 28.7, null, null));
         }
     }
 
@@ -98,27 +357,344 @@ class TaskServiceImplTest {
         @Test
         @DisplayName("Positive: Should return only owned tasks for CUSTOMER")
         void getTasks_Customer() {
-            when(taskRepository.findByCustomer(mockCustomer)).thenReturn(List.of(mockTask));
+            TaskResponse owned = new TaskResponse();
+            owned.setId(100L);
+            when(taskRepository.findResponsesByCustomer(mockCustomer)).thenReturn(List.of(owned));
 
             List<TaskResponse> results = taskService.getTasksForUser(mockCustomer);
 
             assertEquals(1, results.size());
-            verify(taskRepository, times(1)).findByCustomer(mockCustomer);
+            verify(taskRepository, times(1)).findResponsesByCustomer(mockCustomer);
+            verify(taskRepository, never()).findByCustomer(any());
             verify(taskRepository, never()).findByStatus(any());
         }
 
         @Test
-        @DisplayName("Positive: Should return available, assigned, and completed tasks for HANDYMAN")
+        @DisplayName("Positive: Should merge cached open tasks with own assigned and completed tasks for HANDYMAN")
         void getTasks_Handyman() {
-            when(taskRepository.findByStatus(TaskStatus.PENDING)).thenReturn(List.of(mockTask));
-            when(taskRepository.findByAssignedHandymanAndStatus(eq(mockHandyman), any()))
+            when(openTaskCache.getOpenTasks()).thenReturn(List.of(responseWithId(9L), responseWithId(4L)));
+            when(taskRepository.findHandymanTasks(mockHandyman, List.of(TaskStatus.ASSIGNED, TaskStatus.COMPLETED)))
+                    .thenReturn(List.of(responseWithId(7L), responseWithId(2L)));
+
+            List<TaskResponse> results = taskService.getTasksForUser(mockHandyman);
+
+            assertEquals(List.of(9L, 7L, 4L, 2L), results.stream().map(TaskResponse::getId).toList());
+            verify(taskRepository, never()).findOpenTasks(any());
+            verify(taskRepository, never()).findByStatus(any());
+            verify(taskRepository, never()).findByAssignedHandymanAndStatus(any(), any());
+        }
+
+        @Test
+        @DisplayName("Positive: Should show only the bid count of tasks sealed at the clock's current time")
+        void getTasks_SealedTask_HidesBidAmounts() {
+            LocalDateTime now = LocalDateTime.now(clock);
+            TaskResponse sealed = responseWithId(9L);
+            sealed.setSealedUntil(now.plusMinutes(1));
+            sealed.setBids(BidSummary.of(2, 100.0, 300.0, 400.0));
+            TaskResponse unsealed = responseWithId(4L);
+            unsealed.setSealedUntil(now);
+            unsealed.setBids(BidSummary.of(1, 150.0, 150.0, 150.0));
+            when(openTaskCache.getOpenTasks()).thenReturn(List.of(sealed, unsealed));
+            when(taskRepository.findHandymanTasks(mockHandyman, List.of(TaskStatus.ASSIGNED, TaskStatus.COMPLETED)))
                     .thenReturn(List.of());
 
             List<TaskResponse> results = taskService.getTasksForUser(mockHandyman);
 
-            assertNotNull(results);
-            verify(taskRepository).findByStatus(TaskStatus.PENDING);
-            verify(taskRepository, atLeastOnce()).findByAssignedHandymanAndStatus(any(), any());
+            assertEquals(2, results.get(0).getBids().getCount());
+            assertNull(results.get(0).getBids().getLowest());
+            assertEquals(150.0, results.get(1).getBids().getLowest());
+            // The cached response keeps its amounts for when the seal ends
+            assertEquals(100.0, sealed.getBids().getLowest());
+        }
+
+        private TaskResponse responseWithId(long id) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            return t;
+        }
+    }
+
+    @Nested
+    @DisplayName("getHandymanFeed() Logic")
+    class HandymanFeedTests {
+
+        private TaskResponse taskWithId(long id) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            t.setStatus(TaskStatus.PENDING);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should return a full page and a cursor pointing at the last task")
+        void getFeed_FirstPage_HasMore() {
+            when(taskRepository.findHandymanFeed(eq(mockHandyman), eq(TaskStatus.PENDING), any(),
+                    eq(Long.MAX_VALUE), eq(Pageable.ofSize(3))))
+                    .thenReturn(List.of(taskWithId(30L), taskWithId(20L), taskWithId(10L)));
+
+            CursorPage<TaskResponse> page = taskService.getHandymanFeed(mockHandyman, null, 2);
+
+            assertEquals(2, page.getItems().size());
+            assertTrue(page.isHasMore());
+            assertEquals(20L, CursorCodec.decodeId(page.getNextCursor()));
+        }
+
+        @Test
+        @DisplayName("Positive: Should continue after the cursor and report the last page")
+        void getFeed_NextPage_LastPage() {
+            when(taskRepository.findHandymanFeed(eq(mockHandyman), eq(TaskStatus.PENDING), any(),
+                    eq(20L), any(Pageable.class)))
+                    .thenReturn(List.of(taskWithId(10L)));
+
+            CursorPage<TaskResponse> page = taskService.getHandymanFeed(mockHandyman, CursorCodec.encode(20L), 2);
+
+            assertEquals(1, page.getItems().size());
+            assertFalse(page.isHasMore());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a malformed cursor")
+        void getFeed_InvalidCursor_Fails() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.getHandymanFeed(mockHandyman, "not-a-cursor!", 10));
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject customers")
+        void getFeed_Customer_Fails() {
+            assertThrows(UnacceptableOperationException.class, () ->
+                    taskService.getHandymanFeed(mockCustomer, null, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("getTaskPage() Logic")
+    class TaskPageTests {
+
+        private TaskResponse taskDue(long id, LocalDateTime deadline) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            t.setDeadline(deadline);
+            t.setStatus(TaskStatus.PENDING);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should page a CUSTOMER's tasks by deadline and encode the deadline in the cursor")
+        void getPage_CustomerByDeadline() {
+            LocalDateTime first = LocalDateTime.of(2026, 3, 1, 9, 0);
+            LocalDateTime second = LocalDateTime.of(2026, 3, 2, 9, 0);
+            when(taskRepository.findCustomerTasksByDeadline(eq(mockCustomer), any(Pageable.class)))
+                    .thenReturn(List.of(taskDue(7L, first), taskDue(3L, second)));
+
+            CursorPage<TaskResponse> page = taskService.getTaskPage(mockCustomer, TaskSortOrder.DEADLINE, null, 1);
+
+            assertEquals(1, page.getItems().size());
+            assertArrayEquals(new String[]{first.toString(), "7"}, CursorCodec.decode(page.getNextCursor(), 2));
+        }
+
+        @Test
+        @DisplayName("Positive: Should continue after the (deadline, id) key from the cursor")
+        void getPage_CustomerByDeadline_NextPage() {
+            LocalDateTime deadline = LocalDateTime.of(2026, 3, 1, 9, 0);
+            when(taskRepository.findCustomerTasksByDeadlineAfter(eq(mockCustomer), eq(deadline), eq(7L), any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            CursorPage<TaskResponse> page = taskService.getTaskPage(mockCustomer, TaskSortOrder.DEADLINE,
+                    CursorCodec.encode(deadline, 7L), 5);
+
+            assertTrue(page.getItems().isEmpty());
+            assertFalse(page.isHasMore());
+        }
+
+        @Test
+        @DisplayName("Positive: Should page a CUSTOMER's tasks newest first by default")
+        void getPage_CustomerNewest() {
+            when(taskRepository.findCustomerTasks(eq(mockCustomer), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(List.of(new TaskResponse()));
+
+            CursorPage<TaskResponse> page = taskService.getTaskPage(mockCustomer, TaskSortOrder.NEWEST, null, null);
+
+            assertEquals(1, page.getItems().size());
+            assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a NEWEST cursor when paging by DEADLINE")
+        void getPage_MismatchedCursor_Fails() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.getTaskPage(mockCustomer, TaskSortOrder.DEADLINE, CursorCodec.encode(5L), 5));
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject deadline ordering for a HANDYMAN")
+        void getPage_HandymanByDeadline_Fails() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.getTaskPage(mockHandyman, TaskSortOrder.DEADLINE, null, 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("getTask() Logic")
+    class GetTaskTests {
+
+        @Test
+        @DisplayName("Positive: Should read a live task without consulting the archive")
+        void getTask_Live() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+
+            assertSame(mockTask, taskService.getTask(100L));
+            verifyNoInteractions(taskArchive);
+        }
+
+        @Test
+        @DisplayName("Positive: Should fall back to the archive for a finished task")
+        void getTask_Archived() {
+            mockTask.setStatus(TaskStatus.COMPLETED);
+            when(taskRepository.findById(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findTask(100L)).thenReturn(Optional.of(mockTask));
+            when(taskRepository.findVersionById(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findVersion(100L)).thenReturn(Optional.of(4L));
+
+            assertSame(mockTask, taskService.getTask(100L));
+            assertEquals(4L, taskService.getTaskVersion(100L));
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw when the task is neither live nor archived")
+        void getTask_Missing_Fails() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.empty());
+            when(taskArchive.findTask(100L)).thenReturn(Optional.empty());
+
+            assertThrows(TaskNotFoundException.class, () -> taskService.getTask(100L));
+        }
+
+        @Test
+        @DisplayName("Negative: Should not assign an archived task")
+        void assignHandyman_Archived_Fails() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.empty());
+
+            assertThrows(TaskNotFoundException.class, () -> taskService.assignHandyman(100L, 2L));
+            verifyNoInteractions(taskArchive);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTaskStats() Logic")
+    class StatsTests {
+
+        @Test
+        @DisplayName("Positive: Should serve handyman counts from the aggregator")
+        void getTaskStats_Handyman() {
+            User admin = new User();
+            admin.setRole(Role.ADMIN);
+            when(taskStatsAggregator.getCounts(TaskStatsScope.HANDYMAN, 2L))
+                    .thenReturn(Map.of(TaskStatus.ASSIGNED, 2L, TaskStatus.COMPLETED, 3L));
+
+            TaskStatsResponse result = taskService.getTaskStats(admin, null, 2L);
+
+            assertEquals(TaskStatsScope.HANDYMAN, result.getScope());
+            assertEquals(2L, result.getOwnerId());
+            assertEquals(5L, result.getTotal());
+            verifyNoInteractions(taskRepository);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject non-admin users")
+        void getTaskStats_NotAdmin_Fails() {
+            assertThrows(UnacceptableOperationException.class, () ->
+                    taskService.getTaskStats(mockCustomer, null, null));
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject a customer and a handyman together")
+        void getTaskStats_TwoScopes_Fails() {
+            User admin = new User();
+            admin.setRole(Role.ADMIN);
+
+            assertThrows(IllegalArgumentException.class, () -> taskService.getTaskStats(admin, 1L, 2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("getRecommendedFeed() Logic")
+    class RecommendedFeedTests {
+
+        private TaskResponse responseWithId(long id) {
+            TaskResponse t = new TaskResponse();
+            t.setId(id);
+            return t;
+        }
+
+        @Test
+        @DisplayName("Positive: Should rank with the profile's skills and location and page in ranked order")
+        void recommended_UsesProfile() {
+            Profile profile = new Profile(mockHandyman);
+            profile.setSkills(List.of("Plumbing"));
+            profile.setLocation("Cape Town");
+            when(profileRepository.findByUser(mockHandyman)).thenReturn(Optional.of(profile));
+            when(taskRecommender.recommend(List.of("Plumbing"), "Cape Town", null, null, 3)).thenReturn(List.of(
+                    new TaskRecommender.Hit(5L, 0.9), new TaskRecommender.Hit(9L, 0.5), new TaskRecommender.Hit(1L, 0.1)));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(5L, 9L), TaskStatus.PENDING))
+                    .thenReturn(List.of(responseWithId(9L), responseWithId(5L)));
+
+            CursorPage<TaskResponse> page = taskService.getRecommendedFeed(mockHandyman, null, null, null, 2);
+
+            assertEquals(List.of(5L, 9L), page.getItems().stream().map(TaskResponse::getId).toList());
+            assertEquals(CursorCodec.encode(2), page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Positive: Should rank a handyman without a profile and evict tasks that are no longer open")
+        void recommended_NoProfile_EvictsStale() {
+            when(profileRepository.findByUser(mockHandyman)).thenReturn(Optional.empty());
+            when(taskRecommender.recommend(List.of(), null, -33.9, 18.4, 11))
+                    .thenReturn(List.of(new TaskRecommender.Hit(5L, 0.9)));
+            when(taskRepository.findResponsesByIdInAndStatus(List.of(5L), TaskStatus.PENDING)).thenReturn(List.of());
+
+            CursorPage<TaskResponse> page = taskService.getRecommendedFeed(mockHandyman, -33.9, 18.4, null, 10);
+
+            assertTrue(page.getItems().isEmpty());
+            assertNull(page.getNextCursor());
+            verify(taskRecommender).remove(5L);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject customers and incomplete positions")
+        void recommended_Invalid_Fails() {
+            assertThrows(UnacceptableOperationException.class, () ->
+                    taskService.getRecommendedFeed(mockCustomer, null, null, null, null));
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.getRecommendedFeed(mockHandyman, -33.9, null, null, null));
+            assertThrows(IllegalArgumentException.class, () ->
+                    taskService.getRecommendedFeed(mockHandyman, 91.0, 18.4, null, null));
+            verifyNoInteractions(taskRecommender);
+        }
+    }
+
+    @Nested
+    @DisplayName("exportTasks() Logic")
+    class ExportTests {
+
+        @Test
+        @DisplayName("Positive: Should write the customer's tasks through the exporter when the body is written")
+        void exportTasks_Customer() throws Exception {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            StreamingResponseBody body = taskService.exportTasks(mockCustomer, TaskExportFormat.CSV);
+            verifyNoInteractions(taskExporter);
+            body.writeTo(out);
+
+            verify(taskExporter).export(1L, TaskExportFormat.CSV, out);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject non-customers before anything is written")
+        void exportTasks_Handyman_Fails() {
+            assertThrows(UnacceptableOperationException.class, () ->
+                    taskService.exportTasks(mockHandyman, TaskExportFormat.NDJSON));
+            verifyNoInteractions(taskExporter);
         }
     }
 
@@ -131,24 +707,75 @@ class TaskServiceImplTest {
         void assignHandyman_Success() {
             when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
             when(userRepository.findById(2L)).thenReturn(Optional.of(mockHandyman));
-            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+            when(taskRepository.compareAndAssign(100L, TaskStatus.PENDING, mockHandyman)).thenAnswer(i -> {
+                mockTask.setStatus(TaskStatus.ASSIGNED);
+                mockTask.setAssignedHandyman(mockHandyman);
+                return 1;
+            });
 
             Task result = taskService.assignHandyman(100L, 2L);
 
             assertEquals(TaskStatus.ASSIGNED, result.getStatus());
             assertEquals(mockHandyman, result.getAssignedHandyman());
+            verify(taskRepository, never()).save(any(Task.class));
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskStatusChangedEvent event
+                    && event.getPreviousStatus() == TaskStatus.PENDING && event.getStatus() == TaskStatus.ASSIGNED));
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw conflict when the task changed between read and update")
+        void assignHandyman_ConcurrentUpdate_Fails() {
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(mockHandyman));
+            when(taskRepository.compareAndAssign(100L, TaskStatus.PENDING, mockHandyman)).thenReturn(0);
+
+            assertThrows(TaskStateConflictException.class, () -> taskService.assignHandyman(100L, 2L));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Negative: Should reject transitions out of a final status")
+        void assignHandyman_CancelledTask_Fails() {
+            mockTask.setStatus(TaskStatus.CANCELLED);
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(mockHandyman));
+
+            assertThrows(TaskStateConflictException.class, () -> taskService.assignHandyman(100L, 2L));
+            verify(taskRepository, never()).compareAndAssign(any(), any(), any());
         }
 
         @Test
         @DisplayName("Positive: Should transition to COMPLETED when correct handyman completes it")
         void completeTask_Success() {
             mockTask.setAssignedHandyman(mockHandyman);
+            mockTask.setStatus(TaskStatus.ASSIGNED);
             when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
-            when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+            when(taskRepository.compareAndFinish(eq(100L), eq(TaskStatus.ASSIGNED), eq(TaskStatus.COMPLETED), any()))
+                    .thenAnswer(i -> {
+                        mockTask.setStatus(TaskStatus.COMPLETED);
+                        mockTask.setFinishedAt(i.getArgument(3));
+                        return 1;
+                    });
 
             Task result = taskService.completeTask(100L, mockHandyman);
 
             assertEquals(TaskStatus.COMPLETED, result.getStatus());
+            assertNotNull(result.getFinishedAt());
+            verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof TaskStatusChangedEvent event
+                    && event.getPreviousStatus() == TaskStatus.ASSIGNED && event.getStatus() == TaskStatus.COMPLETED));
+        }
+
+        @Test
+        @DisplayName("Negative: Should throw conflict if the task was cancelled before completion")
+        void completeTask_ConcurrentCancel_Fails() {
+            mockTask.setAssignedHandyman(mockHandyman);
+            mockTask.setStatus(TaskStatus.ASSIGNED);
+            when(taskRepository.findById(100L)).thenReturn(Optional.of(mockTask));
+            when(taskRepository.compareAndFinish(eq(100L), eq(TaskStatus.ASSIGNED), eq(TaskStatus.COMPLETED), any()))
+                    .thenReturn(0);
+
+            assertThrows(TaskStateConflictException.class, () -> taskService.completeTask(100L, mockHandyman));
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -162,6 +789,7 @@ class TaskServiceImplTest {
 
             assertThrows(UnacceptableOperationException.class, () ->
                     taskService.completeTask(100L, wrongHandyman));
+            verifyNoInteractions(eventPublisher);
         }
     }
 }
@@ -0,0 +1,188 @@
+package com.handyman.oddhandyman.task.stats;
+
+import com.handyman.oddhandyman.auth.dto.UserResponse;
+import com.handyman.oddhandyman.task.dto.TaskResponse;
+import com.handyman.oddhandyman.task.entity.TaskStatusSummary;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatsScope;
+import com.handyman.oddhandyman.task.entity.enums.TaskStatus;
+import com.handyman.oddhandyman.task.event.TaskStatusChangedEvent;
+import com.handyman.oddhandyman.task.repository.ArchivedTaskRepository;
+import com.handyman.oddhandyman.task.repository.TaskRepository;
+import com.handyman.oddhandyman.task.repository.TaskStatusSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsAggregatorTest {
+
+    private static final long CUSTOMER_ID = 1L;
+    private static final long HANDYMAN_ID = 2L;
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private ArchivedTaskRepository archivedTaskRepository;
+    @Mock private TaskStatusSummaryRepository summaryRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+        aggregator = new TaskStatsAggregator(taskRepository, archivedTaskRepository, summaryRepository, transactionManager, clock, meterRegistry);
+    }
+
+    private TaskStatusChangedEvent event(long id, TaskStatus previous, TaskStatus status, Long handymanId) {
+        TaskResponse t = new TaskResponse();
+        t.setId(id);
+        t.setStatus(status);
+        t.setCustomer(user(CUSTOMER_ID));
+        if (handymanId != null) {
+            t.setAssignedHandyman(user(handymanId));
+        }
+        return new TaskStatusChangedEvent(t, previous);
+    }
+
+    private UserResponse user(long id) {
+        UserResponse user = new UserResponse();
+        user.setId(id);
+        return user;
+    }
+
+    private long count(TaskStatsScope scope, Long ownerId, TaskStatus status) {
+        return aggregator.getCounts(scope, ownerId).get(status);
+    }
+
+    @Nested
+    @DisplayName("Incremental Counting")
+    class TrackingTests {
+
+        @Test
+        @DisplayName("Positive: Should move a task through the overall, customer and handyman counters")
+        void onTaskStatusChanged_FollowsLifecycle() {
+            aggregator.onTaskStatusChanged(event(10L, null, TaskStatus.PENDING, null));
+            assertEquals(1, count(TaskStatsScope.ALL, null, TaskStatus.PENDING));
+            assertEquals(1, count(TaskStatsScope.CUSTOMER, CUSTOMER_ID, TaskStatus.PENDING));
+
+            aggregator.onTaskStatusChanged(event(10L, TaskStatus.PENDING, TaskStatus.ASSIGNED, HANDYMAN_ID));
+            assertEquals(0, count(TaskStatsScope.ALL, null, TaskStatus.PENDING));
+            assertEquals(1, count(TaskStatsScope.CUSTOMER, CUSTOMER_ID, TaskStatus.ASSIGNED));
+            assertEquals(0, count(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.PENDING));
+            assertEquals(1, count(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.ASSIGNED));
+
+            aggregator.onTaskStatusChanged(event(10L, TaskStatus.ASSIGNED, TaskStatus.COMPLETED, HANDYMAN_ID));
+            assertEquals(0, count(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.ASSIGNED));
+            assertEquals(1, count(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.COMPLETED));
+            assertEquals(1, count(TaskStatsScope.ALL, null, TaskStatus.COMPLETED));
+        }
+
+        @Test
+        @DisplayName("Positive: Should return zero counts for unknown owners")
+        void getCounts_UnknownOwner_ReturnsZeros() {
+            assertTrue(aggregator.getCounts(TaskStatsScope.CUSTOMER, 99L).values().stream().allMatch(c -> c == 0));
+            assertEquals(TaskStatus.values().length, aggregator.getCounts(TaskStatsScope.CUSTOMER, 99L).size());
+        }
+
+        @Test
+        @DisplayName("Positive: Should not lose updates from concurrent transitions")
+        void onTaskStatusChanged_Concurrent_CountsExactly() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < 4000; i++) {
+                long id = i;
+                executor.submit(() -> aggregator.onTaskStatusChanged(event(id, null, TaskStatus.PENDING, null)));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            assertEquals(4000, count(TaskStatsScope.ALL, null, TaskStatus.PENDING));
+            assertEquals(4000, count(TaskStatsScope.CUSTOMER, CUSTOMER_ID, TaskStatus.PENDING));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Positive: Should replace drifted counters with database counts and store them")
+        @SuppressWarnings("unchecked")
+        void reconcile_CorrectsDriftAndStoresSummary() {
+            aggregator.onTaskStatusChanged(event(10L, null, TaskStatus.PENDING, null));
+            when(taskRepository.countGroupedByStatus()).thenReturn(List.of(
+                    new TaskStatusCount(TaskStatus.PENDING, 3L)));
+            when(taskRepository.countGroupedByCustomerAndStatus()).thenReturn(List.of(
+                    new TaskStatusCount(CUSTOMER_ID, TaskStatus.PENDING, 3L)));
+            when(taskRepository.countGroupedByHandymanAndStatus()).thenReturn(List.of());
+
+            aggregator.reconcile();
+
+            assertEquals(3, count(TaskStatsScope.ALL, null, TaskStatus.PENDING));
+            assertEquals(3, count(TaskStatsScope.CUSTOMER, CUSTOMER_ID, TaskStatus.PENDING));
+            assertEquals(4.0, meterRegistry.get("tasks.stats.reconcile.drift").summary().totalAmount());
+            verify(summaryRepository).deleteAllInBatch();
+            verify(summaryRepository).saveAll(argThat((List<TaskStatusSummary> rows) -> rows.size() == 2
+                    && rows.stream().allMatch(r -> r.getTaskCount() == 3)));
+        }
+
+        @Test
+        @DisplayName("Positive: Should keep counting archived tasks towards their final status")
+        void reconcile_AddsArchivedTasks() {
+            when(taskRepository.countGroupedByStatus()).thenReturn(List.of(
+                    new TaskStatusCount(TaskStatus.COMPLETED, 2L)));
+            when(archivedTaskRepository.countGroupedByStatus()).thenReturn(List.of(
+                    new TaskStatusCount(TaskStatus.COMPLETED, 5L)));
+            when(archivedTaskRepository.countGroupedByHandymanAndStatus()).thenReturn(List.of(
+                    new TaskStatusCount(HANDYMAN_ID, TaskStatus.COMPLETED, 5L)));
+
+            aggregator.reconcile();
+
+            assertEquals(7, count(TaskStatsScope.ALL, null, TaskStatus.COMPLETED));
+            assertEquals(5, count(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.COMPLETED));
+        }
+
+        @Test
+        @DisplayName("Positive: Should seed counters from stored summaries without counting tasks")
+        void bootstrap_FromSummary() {
+            when(summaryRepository.findAll()).thenReturn(List.of(
+                    new TaskStatusSummary(TaskStatsScope.ALL, 0L, TaskStatus.COMPLETED, 7, null),
+                    new TaskStatusSummary(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.COMPLETED, 4, null)));
+
+            aggregator.bootstrap();
+
+            assertEquals(7, count(TaskStatsScope.ALL, null, TaskStatus.COMPLETED));
+            assertEquals(4, count(TaskStatsScope.HANDYMAN, HANDYMAN_ID, TaskStatus.COMPLETED));
+            verifyNoInteractions(taskRepository);
+        }
+
+        @Test
+        @DisplayName("Positive: Should reconcile at startup when no summary is stored")
+        void bootstrap_EmptySummary_Reconciles() {
+            when(summaryRepository.findAll()).thenReturn(List.of());
+
+            aggregator.bootstrap();
+
+            verify(taskRepository).countGroupedByStatus();
+            verify(summaryRepository).saveAll(anyList());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+-- Rows of a database created by ddl-auto before migrations existed, loaded on top of V1 by the
+-- baseline upgrade tests. IDs come from the identity columns, as they did in production.
+
+insert into users (verified, created_at, email, name, password, role)
+values (true, current_timestamp, 'customer@baseline.com', 'Baseline Customer', 'encoded_pass', 'CUSTOMER');
+
+insert into users (verified, created_at, email, name, password, role)
+values (true, current_timestamp, 'handyman@baseline.com', 'Baseline Handyman', 'encoded_pass', 'HANDYMAN');
+
+insert into tasks (budget, customer_id, deadline, description, address, status, title)
+select 120.0, id, timestamp '2026-02-01 12:00:00', 'Kitchen tap drips', 'Main St 1', 'PENDING', 'Fix Leak'
+  from users where email = 'customer@baseline.com';
+
+insert into tasks (budget, customer_id, assigned_handyman_id, description, status, title)
+select 80.0, c.id, h.id, 'Two coats', 'COMPLETED', 'Paint Fence'
+  from users c, users h where c.email = 'customer@baseline.com' and h.email = 'handyman@baseline.com';
+
+insert into tasks (budget, customer_id, title)
+select 50.0, id, 'Hang Shelf'
+  from users where email = 'customer@baseline.com';
+
+insert into bids (amount, created_at, handyman_id, task_id, status)
+select 100.0, timestamp '2026-01-15 09:00:00', h.id, t.id, 'PENDING'
+  from users h, tasks t where h.email = 'handyman@baseline.com' and t.title = 'Fix Leak';
+
+insert into chat_messages (read_by_customer, read_by_handyman, sender_id, task_id, timestamp, message)
+select false, true, h.id, t.id, timestamp '2026-01-15 10:00:00', 'I can come tomorrow'
+  from users h, tasks t where h.email = 'handyman@baseline.com' and t.title = 'Fix Leak';
+
+insert into reviews (rating, created_at, reviewed_handyman_id, reviewer_id, task_id, comment)
+select 5, timestamp '2026-01-20 18:00:00', h.id, c.id, t.id, 'Quick and tidy'
+  from users h, users c, tasks t
+ where h.email = 'handyman@baseline.com' and c.email = 'customer@baseline.com' and t.title = 'Paint Fence';